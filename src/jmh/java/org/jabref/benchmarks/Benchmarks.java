@@ -3,7 +3,13 @@ package org.jabref.benchmarks;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -11,30 +17,48 @@ import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.exporter.TemplateExporter;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
+import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.openoffice.style.JStyle;
+import org.jabref.logic.openoffice.style.OOProcess;
+import org.jabref.logic.openoffice.style.StyleLoader;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.openoffice.style.Citation;
+import org.jabref.model.openoffice.style.CitationGroup;
+import org.jabref.model.openoffice.style.CitationGroupId;
+import org.jabref.model.openoffice.style.CitationGroups;
+import org.jabref.model.openoffice.style.CitationType;
+import org.jabref.model.openoffice.style.OODataModel;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -49,6 +73,16 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private String longLatexConversionString;
+    private String longUnicodeConversionString;
+    private String longHtmlConversionString;
+    private TemplateExporter htmlExporter;
+    private JournalAbbreviationRepository abbreviationRepository;
+    private Path exportFile;
+    private BibEntry changedEntry;
+    private int fieldChanges;
+    private Map<Field, String> entryFields;
+    private JStyle authorYearStyle;
 
     @Setup
     public void init() throws Exception {
@@ -68,10 +102,38 @@ public class Benchmarks {
         }
 
         bibtexString = getOutputWriter().toString();
+        changedEntry = database.getEntries().getFirst();
+        entryFields = Map.copyOf(changedEntry.getFieldMap());
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        // Long field values resembling abstracts, which are what cleanups and exports spend most of their time on
+        StringBuilder longLatex = new StringBuilder();
+        StringBuilder longUnicode = new StringBuilder();
+        StringBuilder longHtml = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            longLatex.append("We study the M{\\\"{o}}bius function of the {\\'{E}}cole normale sup{\\'{e}}rieure ")
+                     .append("and prove that $\\alpha \\leq \\beta$ holds for all $n \\geq 2$. ")
+                     .append("Stra{\\ss}e, Universit{\\\"{a}}t G{\\\"{o}}ttingen, \\textbf{bold} and \\emph{emphasized} text. ");
+            longUnicode.append("We study the Möbius function of the École normale supérieure ")
+                       .append("and prove that α ≤ β holds for all n ≥ 2. ")
+                       .append("Straße, Universität Göttingen, naïve café – “quoted” text. ");
+            longHtml.append("<p>We study the M&ouml;bius function of the &Eacute;cole normale sup&eacute;rieure ")
+                    .append("and prove that &alpha; &le; &beta; holds for all <i>n</i> &#8805; 2.</p> ")
+                    .append("<p>Stra&szlig;e, Universit&auml;t G&ouml;ttingen, x<sup>2</sup> &amp; y<sub>i</sub>.</p> ");
+        }
+        longLatexConversionString = longLatex.toString();
+        longUnicodeConversionString = longUnicode.toString();
+        longHtmlConversionString = longHtml.toString();
+
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        htmlExporter = new TemplateExporter("HTML", "html", "html", null, StandardFileType.HTML, preferences.getLayoutFormatterPreferences(), SaveOrder.getDefaultSaveOrder());
+        abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        exportFile = Files.createTempFile("jabref-benchmark", ".html");
+        exportFile.toFile().deleteOnExit();
+        authorYearStyle = new JStyle(StyleLoader.DEFAULT_AUTHORYEAR_STYLE_PATH, preferences.getLayoutFormatterPreferences(), abbreviationRepository);
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -99,6 +161,12 @@ public class Benchmarks {
         return getOutputWriter().toString();
     }
 
+    @Benchmark
+    public long htmlExport() throws Exception {
+        htmlExporter.export(new BibDatabaseContext(database, new MetaData()), exportFile, database.getEntries(), List.of(), abbreviationRepository);
+        return Files.size(exportFile);
+    }
+
     @Benchmark
     public List<BibEntry> search() {
         // TODO: Create Benchmark for LuceneSearch
@@ -111,6 +179,81 @@ public class Benchmarks {
         return List.of();
     }
 
+    /**
+     * Measures posting a field change to the listeners of the entry and the database.
+     */
+    @Benchmark
+    public Object fieldChangeDispatch() {
+        fieldChanges++;
+        return changedEntry.setField(StandardField.NOTE, (fieldChanges % 2) == 0 ? "even" : "odd");
+    }
+
+    /**
+     * Creates a library of 1000 entries. Run with <code>-prof gc</code> to see the memory allocated per entry.
+     */
+    @Benchmark
+    public BibDatabase createDatabase() {
+        BibDatabase newDatabase = new BibDatabase();
+        List<BibEntry> entries = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new BibEntry()
+                    .withCitationKey("id" + i)
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA")
+                    .withField(StandardField.YEAR, "2024"));
+        }
+        newDatabase.insertEntries(entries);
+        return newDatabase;
+    }
+
+    /**
+     * Creates an entry with the fields of another one. The field values are shared and nothing besides the entry is
+     * allocated, so with <code>-prof gc</code>, <code>gc.alloc.rate.norm</code> is the heap an entry needs in addition
+     * to its values.
+     */
+    @Benchmark
+    public BibEntry entryFootprint() {
+        return new BibEntry(StandardEntryType.Article).withFields(entryFields);
+    }
+
+    /**
+     * Inserts 1000 entries like the one of {@link #entryFootprint()} into a library. The library observes each of its
+     * entries, so with <code>-prof gc</code>, the difference to {@link #entryFootprint()} is the heap a library needs
+     * per entry.
+     */
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public BibDatabase entryInDatabaseFootprint() {
+        List<BibEntry> entries = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withFields(entryFields));
+        }
+        return new BibDatabase(entries);
+    }
+
+    /**
+     * Produces the author-year markers of a document with 300 citation groups citing three entries each, as done on
+     * each refresh of a LibreOffice document.
+     */
+    @Benchmark
+    public CitationGroups produceCitationMarkers() {
+        // The citation groups are changed by the processing and thus created for each run, as they are read from the document
+        Map<CitationGroupId, CitationGroup> groups = new LinkedHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            CitationGroupId groupId = new CitationGroupId("group" + i);
+            List<Citation> citations = List.of(
+                    new Citation("id" + i),
+                    new Citation("id" + ((i * 7) % 1000)),
+                    new Citation("id" + ((i * 13) % 1000)));
+            groups.put(groupId, new CitationGroup(OODataModel.JabRef60, groupId, CitationType.AUTHORYEAR_PAR, citations, Optional.empty()));
+        }
+        CitationGroups citationGroups = new CitationGroups(groups);
+        citationGroups.setGlobalOrder(List.copyOf(groups.keySet()));
+
+        OOProcess.produceCitationMarkers(citationGroups, List.of(database), authorYearStyle);
+        return citationGroups;
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -122,6 +265,18 @@ public class Benchmarks {
         return f.format(latexConversionString);
     }
 
+    @Benchmark
+    public String longLatexToUnicodeConversion() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        return f.format(longLatexConversionString);
+    }
+
+    @Benchmark
+    public String unicodeToLatexConversion() {
+        UnicodeToLatexFormatter f = new UnicodeToLatexFormatter();
+        return f.format(longUnicodeConversionString);
+    }
+
     @Benchmark
     public String latexToHTMLConversion() {
         HTMLChars f = new HTMLChars();
@@ -134,6 +289,12 @@ public class Benchmarks {
         return f.format(htmlConversionString);
     }
 
+    @Benchmark
+    public String longHtmlToLatexConversion() {
+        HtmlToLatexFormatter f = new HtmlToLatexFormatter();
+        return f.format(longHtmlConversionString);
+    }
+
     @Benchmark
     public boolean keywordGroupContains() {
         KeywordGroup group = new WordKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "testkeyword", false, ',', false);
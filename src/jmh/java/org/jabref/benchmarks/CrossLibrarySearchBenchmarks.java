@@ -0,0 +1,133 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.CrossLibrarySearcher;
+import org.jabref.logic.search.LuceneManager;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchQuery;
+import org.jabref.model.search.SearchResults;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the global search in several open libraries. {@link #searchOneAfterAnother()} searches the libraries one
+ * after another, {@link #searchConcurrently()} searches them concurrently, and {@link #searchUntilFirstResults()} is the
+ * time until the matches of the first library can be shown.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CrossLibrarySearchBenchmarks {
+
+    private static final List<String> WORDS = List.of(
+            "learning", "neural", "network", "graph", "quantum", "semantic", "retrieval", "bibliography",
+            "analysis", "distributed", "systems", "evolution", "protein", "language", "model", "optimization");
+
+    @Param({"1", "5", "15"})
+    public int numberOfLibraries;
+
+    @Param({"10000"})
+    public int entriesPerLibrary;
+
+    private Path directory;
+    private final Map<BibDatabaseContext, LuceneManager> libraries = new LinkedHashMap<>();
+    private final CrossLibrarySearcher crossLibrarySearcher = new CrossLibrarySearcher();
+    private SearchQuery query;
+
+    @Setup
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("jabref-benchmark");
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
+
+        Random random = new Random(42);
+        for (int library = 0; library < numberOfLibraries; library++) {
+            List<BibEntry> entries = new ArrayList<>(entriesPerLibrary);
+            for (int i = 0; i < entriesPerLibrary; i++) {
+                entries.add(new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("key" + library + "-" + i)
+                        .withField(StandardField.AUTHOR, "Author " + i + " and Coauthor " + random.nextInt(1000))
+                        .withField(StandardField.TITLE, randomWords(random, 8))
+                        .withField(StandardField.ABSTRACT, randomWords(random, 60))
+                        .withField(StandardField.YEAR, String.valueOf(1950 + random.nextInt(75))));
+            }
+            BibDatabaseContext databaseContext = spy(new BibDatabaseContext());
+            when(databaseContext.getFulltextIndexPath()).thenReturn(directory.resolve("library" + library));
+            databaseContext.getDatabase().insertEntries(entries);
+            libraries.put(databaseContext, new LuceneManager(databaseContext, new CurrentThreadTaskExecutor(), filePreferences));
+        }
+        query = new SearchQuery("neural network", EnumSet.noneOf(SearchFlags.class));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        libraries.values().forEach(LuceneManager::closeAndWait);
+        libraries.clear();
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    private static String randomWords(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return words.toString();
+    }
+
+    @Benchmark
+    public SearchResults searchOneAfterAnother() {
+        SearchResults searchResults = new SearchResults();
+        for (LuceneManager luceneManager : libraries.values()) {
+            searchResults.mergeSearchResults(luceneManager.searchWithoutStoringResults(query, () -> false));
+        }
+        return searchResults;
+    }
+
+    @Benchmark
+    public SearchResults searchConcurrently() {
+        return crossLibrarySearcher.search(libraries, query, libraryResults -> {
+        }, () -> false);
+    }
+
+    @Benchmark
+    public SearchResults searchUntilFirstResults() {
+        // The remaining searches are cancelled as soon as the results of the first library are handed over
+        AtomicBoolean hasResults = new AtomicBoolean();
+        return crossLibrarySearcher.search(libraries, query, libraryResults -> hasResults.set(true), hasResults::get);
+    }
+}
@@ -0,0 +1,149 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.indexing.DocumentReader;
+import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
+import org.jabref.logic.search.retrieval.LuceneSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFieldConstants;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchQuery;
+import org.jabref.model.search.SearchResult;
+import org.jabref.model.search.SearchResults;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.FSDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures a full-text search matching 20,000 pages of 1,000 linked files. {@link #search()} is the time until the
+ * results are shown in the main table, {@link #searchAndHighlight()} additionally highlights the matches in the files
+ * of one entry, as shown by the entry editor. The highlights are cached after the first invocation. Run with
+ * {@code -prof gc} to compare the memory allocated per search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FulltextSearchBenchmarks {
+
+    private static final int NUMBER_OF_FILES = 1_000;
+    private static final int PAGES_PER_FILE = 20;
+    private static final int WORDS_PER_PAGE = 500;
+    private static final List<String> WORDS = List.of(
+            "learning", "neural", "network", "graph", "quantum", "semantic", "retrieval", "bibliography",
+            "analysis", "distributed", "systems", "evolution", "protein", "language", "model", "optimization");
+
+    private Path directory;
+    private BibDatabaseContext databaseContext;
+    private BibFieldsIndexer bibFieldsIndexer;
+    private ReadOnlyLinkedFilesIndexer linkedFilesIndexer;
+    private LuceneSearcher luceneSearcher;
+    private SearchQuery query;
+    private BibEntry highlightedEntry;
+
+    @Setup
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("jabref-benchmark");
+        Path indexDirectory = Files.createDirectory(directory.resolve("index"));
+        // The modification time of the indexed pages is read from this file
+        Path file = Files.createFile(directory.resolve("paper.pdf"));
+
+        Random random = new Random(42);
+        List<BibEntry> entries = new ArrayList<>(NUMBER_OF_FILES);
+        DocumentReader documentReader = new DocumentReader();
+        IndexWriterConfig config = new IndexWriterConfig(SearchFieldConstants.LINKED_FILES_ANALYZER);
+        try (IndexWriter indexWriter = new IndexWriter(FSDirectory.open(indexDirectory), config)) {
+            for (int i = 0; i < NUMBER_OF_FILES; i++) {
+                String fileLink = "paper" + i + ".pdf";
+                entries.add(new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("key" + i)
+                        .withField(StandardField.TITLE, randomWords(random, 8))
+                        .withFiles(List.of(new LinkedFile("", fileLink, StandardFileType.PDF.getName()))));
+
+                List<DocumentReader.PageText> pages = new ArrayList<>(PAGES_PER_FILE);
+                for (int page = 1; page <= PAGES_PER_FILE; page++) {
+                    pages.add(new DocumentReader.PageText(page, randomWords(random, WORDS_PER_PAGE), ""));
+                }
+                indexWriter.addDocuments(documentReader.toDocuments(fileLink, file, pages));
+            }
+        }
+
+        databaseContext = spy(new BibDatabaseContext());
+        when(databaseContext.getFulltextIndexPath()).thenReturn(indexDirectory);
+        databaseContext.getDatabase().insertEntries(entries);
+        highlightedEntry = entries.getFirst();
+
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
+
+        bibFieldsIndexer = new BibFieldsIndexer(databaseContext);
+        bibFieldsIndexer.updateOnStart(mock(BackgroundTask.class));
+        linkedFilesIndexer = new ReadOnlyLinkedFilesIndexer(databaseContext);
+        luceneSearcher = new LuceneSearcher(databaseContext, bibFieldsIndexer, linkedFilesIndexer, filePreferences);
+        query = new SearchQuery("neural network", EnumSet.of(SearchFlags.FULLTEXT));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        bibFieldsIndexer.closeAndWait();
+        linkedFilesIndexer.closeAndWait();
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    private static String randomWords(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return words.toString();
+    }
+
+    @Benchmark
+    public SearchResults search() {
+        return luceneSearcher.search(query, () -> false);
+    }
+
+    @Benchmark
+    public int searchAndHighlight() {
+        SearchResults searchResults = luceneSearcher.search(query, () -> false);
+        int highlights = 0;
+        for (List<SearchResult> resultsOfFile : searchResults.getFileSearchResultsForEntry(highlightedEntry).values()) {
+            for (SearchResult searchResult : resultsOfFile) {
+                highlights += searchResult.getContentResultStringsHtml().size();
+            }
+        }
+        return highlights;
+    }
+}
@@ -0,0 +1,141 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.LibrarySnapshot;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.os.OS;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+
+import com.airhacks.afterburner.injection.Injector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures saving a parsed library of 100,000 entries. {@link #prepare()} is the part of a save holding the lock of the
+ * library, {@link #save()} is the complete save to a file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LibraryWriteBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+    private static final List<String> WORDS = List.of(
+            "learning", "neural", "network", "graph", "quantum", "semantic", "retrieval", "bibliography",
+            "analysis", "distributed", "systems", "evolution", "protein", "language", "model", "optimization");
+
+    /**
+     * Whether all entries are written from scratch or unchanged entries are written as they were read
+     */
+    @Param({"false", "true"})
+    public boolean reformatFile;
+
+    private BibDatabaseContext databaseContext;
+    private SelfContainedSaveConfiguration saveConfiguration;
+    private FieldPreferences fieldPreferences;
+    private CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private BibEntryTypesManager entryTypesManager;
+    private Path file;
+
+    @Setup
+    public void init() throws IOException {
+        saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, reformatFile);
+        fieldPreferences = new FieldPreferences(true, List.of(), List.of());
+        citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class);
+        when(citationKeyPatternPreferences.getKeyPatterns()).thenReturn(GlobalCitationKeyPatterns.fromPattern("[auth][year]"));
+        entryTypesManager = new BibEntryTypesManager();
+
+        Random random = new Random(42);
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            int year = 1950 + random.nextInt(75);
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Author " + i + " and Coauthor " + random.nextInt(1000))
+                    .withField(StandardField.TITLE, randomWords(random, 8))
+                    .withField(StandardField.JOURNAL, "Journal of " + randomWords(random, 2))
+                    .withField(StandardField.ABSTRACT, randomWords(random, 60))
+                    .withField(StandardField.YEAR, String.valueOf(year));
+            entry.setChanged(true);
+            database.insertEntry(entry);
+        }
+
+        // Parse the written library to get entries with a parsed serialization, as when saving a library read from disk
+        StringWriter stringWriter = new StringWriter();
+        new BibtexDatabaseWriter(new BibWriter(stringWriter, OS.NEWLINE), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .saveDatabase(new BibDatabaseContext(database));
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        ParserResult result = new BibtexParser(preferences.getImportFormatPreferences()).parse(new StringReader(stringWriter.toString()));
+        databaseContext = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+
+        file = Files.createTempFile("jabref-benchmark", ".bib");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static String randomWords(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return words.toString();
+    }
+
+    private BibtexDatabaseWriter createDatabaseWriter(BibWriter bibWriter) {
+        return new BibtexDatabaseWriter(bibWriter, saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+    }
+
+    @Benchmark
+    public LibrarySnapshot prepare() {
+        return createDatabaseWriter(new BibWriter(new StringWriter(), OS.NEWLINE)).prepare(databaseContext);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
+            BibtexDatabaseWriter databaseWriter = createDatabaseWriter(new BibWriter(fileWriter, OS.NEWLINE));
+            databaseWriter.write(databaseWriter.prepare(databaseContext));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.search.indexing.BibFieldsIndexSchema;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchQuery;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the {@link BibFieldsIndexSchema schemas} of the bib fields index on a library of 100,000 entries. The
+ * statistics of the index built with each schema are printed during the setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LuceneIndexBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+    private static final List<String> WORDS = List.of(
+            "learning", "neural", "network", "graph", "quantum", "semantic", "retrieval", "bibliography",
+            "analysis", "distributed", "systems", "evolution", "protein", "language", "model", "optimization");
+    private static final List<String> NAMES = List.of(
+            "Smith", "Müller", "Garcia", "Nguyen", "Kowalski", "Rossi", "Tanaka", "Okafor", "Johansson", "Dubois");
+
+    @Param({"DEFAULT", "COMPACT"})
+    public String schemaName;
+
+    private BibFieldsIndexSchema schema;
+    private BibDatabaseContext databaseContext;
+    private BibFieldsIndexer searchIndexer;
+    private List<SearchQuery> queries;
+
+    @Setup
+    public void init() throws IOException {
+        schema = switch (schemaName) {
+            case "COMPACT" ->
+                    BibFieldsIndexSchema.COMPACT;
+            default ->
+                    BibFieldsIndexSchema.DEFAULT;
+        };
+
+        Random random = new Random(42);
+        List<BibEntry> entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            String firstAuthor = NAMES.get(random.nextInt(NAMES.size()));
+            String secondAuthor = NAMES.get(random.nextInt(NAMES.size()));
+            int year = 1950 + random.nextInt(75);
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey(firstAuthor + year + i)
+                    .withField(StandardField.AUTHOR, firstAuthor + ", Anne and " + secondAuthor + ", Bert")
+                    .withField(StandardField.TITLE, randomWords(random, 8))
+                    .withField(StandardField.JOURNAL, "Journal of " + randomWords(random, 2))
+                    .withField(StandardField.ABSTRACT, randomWords(random, 60))
+                    .withField(StandardField.KEYWORDS, randomWords(random, 3))
+                    .withField(StandardField.YEAR, String.valueOf(year))
+                    .withField(StandardField.PAGES, (i % 300) + "--" + ((i % 300) + 12))
+                    .withField(StandardField.DOI, "10.1000/jabref." + i));
+        }
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(entries);
+
+        searchIndexer = buildIndex();
+        System.out.println();
+        System.out.println("Index statistics for schema " + schemaName + ":");
+        System.out.println(searchIndexer.getStatistics());
+
+        queries = List.of(
+                new SearchQuery("smi", EnumSet.noneOf(SearchFlags.class)),
+                new SearchQuery("neural network", EnumSet.noneOf(SearchFlags.class)),
+                new SearchQuery("author:garcia AND year:1999", EnumSet.noneOf(SearchFlags.class)),
+                new SearchQuery("title:\"quantum graph\"", EnumSet.noneOf(SearchFlags.class)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        searchIndexer.closeAndWait();
+    }
+
+    private BibFieldsIndexer buildIndex() {
+        BibFieldsIndexer indexer = new BibFieldsIndexer(databaseContext, schema);
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        return indexer;
+    }
+
+    private static String randomWords(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return words.toString();
+    }
+
+    /**
+     * Builds the index, including writing the index files when closing it
+     */
+    @Benchmark
+    public void index() {
+        buildIndex().closeAndWait();
+    }
+
+    @Benchmark
+    public int search() throws IOException {
+        SearcherManager searcherManager = searchIndexer.getSearcherManager();
+        IndexSearcher indexSearcher = searcherManager.acquire();
+        try {
+            int matches = 0;
+            for (SearchQuery query : queries) {
+                matches += indexSearcher.count(searchIndexer.getQuery(query));
+            }
+            return matches;
+        } finally {
+            searcherManager.release(indexSearcher);
+        }
+    }
+}
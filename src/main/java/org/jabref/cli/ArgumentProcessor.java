@@ -7,8 +7,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.prefs.BackingStoreException;
@@ -22,11 +24,10 @@ import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
-import org.jabref.logic.exporter.EmbeddedBibFilePdfExporter;
 import org.jabref.logic.exporter.Exporter;
 import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.exporter.PdfMetadataWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
-import org.jabref.logic.exporter.XmpPdfExporter;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportException;
 import org.jabref.logic.importer.ImportFormatPreferences;
@@ -53,6 +54,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.search.SearchQuery;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.DummyFileUpdateMonitor;
@@ -60,6 +62,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.common.base.Throwables;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +78,8 @@ public class ArgumentProcessor {
     private final CliPreferences cliPreferences;
     private final FileUpdateMonitor fileUpdateMonitor;
     private final BibEntryTypesManager entryTypesManager;
+    private final Path workingDirectory;
+    private final @Nullable LibraryCache libraryCache;
 
     private boolean guiNeeded;
     private final List<UiCommand> uiCommands = new ArrayList<>();
@@ -91,11 +96,30 @@ public class ArgumentProcessor {
                              FileUpdateMonitor fileUpdateMonitor,
                              BibEntryTypesManager entryTypesManager)
             throws org.apache.commons.cli.ParseException {
+        this(args, startupMode, cliPreferences, fileUpdateMonitor, entryTypesManager, Path.of("").toAbsolutePath(), null);
+    }
+
+    /**
+     * Used by the {@link JabKitDaemon}, which runs the commands of clients started in other directories.
+     *
+     * @param workingDirectory the directory relative paths given in the arguments are resolved against
+     * @param libraryCache     the libraries kept loaded between commands, null if each command loads them itself
+     */
+    public ArgumentProcessor(String[] args,
+                             Mode startupMode,
+                             CliPreferences cliPreferences,
+                             FileUpdateMonitor fileUpdateMonitor,
+                             BibEntryTypesManager entryTypesManager,
+                             Path workingDirectory,
+                             @Nullable LibraryCache libraryCache)
+            throws org.apache.commons.cli.ParseException {
         this.cli = new CliOptions(args);
         this.startupMode = startupMode;
         this.cliPreferences = cliPreferences;
         this.fileUpdateMonitor = fileUpdateMonitor;
         this.entryTypesManager = entryTypesManager;
+        this.workingDirectory = workingDirectory;
+        this.libraryCache = libraryCache;
     }
 
     /**
@@ -142,9 +166,9 @@ public class ArgumentProcessor {
             }
         } else {
             if (OS.WINDOWS) {
-                file = Path.of(address);
+                file = workingDirectory.resolve(address);
             } else {
-                file = Path.of(address.replace("~", System.getProperty("user.home")));
+                file = workingDirectory.resolve(address.replace("~", System.getProperty("user.home")));
             }
         }
 
@@ -246,12 +270,12 @@ public class ArgumentProcessor {
             if (!loaded.isEmpty()) {
                 writeMetadataToPdf(loaded,
                         cli.getWriteMetadataToPdf(),
+                        workingDirectory,
                         cliPreferences.getXmpPreferences(),
                         cliPreferences.getFilePreferences(),
                         cliPreferences.getLibraryPreferences().getDefaultBibDatabaseMode(),
                         cliPreferences.getCustomEntryTypesRepository(),
                         cliPreferences.getFieldPreferences(),
-                        Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
                         cli.isWriteXmpToPdf() || cli.isWriteMetadataToPdf(),
                         cli.isEmbedBibFileInPdf() || cli.isWriteMetadataToPdf());
             }
@@ -268,7 +292,7 @@ public class ArgumentProcessor {
 
         if (cli.isPreferencesExport()) {
             try {
-                cliPreferences.exportPreferences(Path.of(cli.getPreferencesExport()));
+                cliPreferences.exportPreferences(workingDirectory.resolve(cli.getPreferencesExport()));
             } catch (JabRefException ex) {
                 LOGGER.error("Cannot export preferences", ex);
             }
@@ -293,12 +317,12 @@ public class ArgumentProcessor {
 
     private static void writeMetadataToPdf(List<ParserResult> loaded,
                                     String filesAndCiteKeys,
+                                    Path workingDirectory,
                                     XmpPreferences xmpPreferences,
                                     FilePreferences filePreferences,
                                     BibDatabaseMode databaseMode,
                                     BibEntryTypesManager entryTypesManager,
                                     FieldPreferences fieldPreferences,
-                                    JournalAbbreviationRepository abbreviationRepository,
                                     boolean writeXMP,
                                     boolean embeddBibfile) {
         if (loaded.isEmpty()) {
@@ -308,92 +332,71 @@ public class ArgumentProcessor {
         ParserResult pr = loaded.getLast();
         BibDatabaseContext databaseContext = pr.getDatabaseContext();
 
-        XmpPdfExporter xmpPdfExporter = new XmpPdfExporter(xmpPreferences);
-        EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter = new EmbeddedBibFilePdfExporter(databaseMode, entryTypesManager, fieldPreferences);
-
+        // All entries linking to a file are written in one go, so that each file is loaded and saved only once
+        Map<Path, List<BibEntry>> entriesByFile = new LinkedHashMap<>();
         if ("all".equals(filesAndCiteKeys)) {
             for (BibEntry entry : databaseContext.getEntries()) {
-                writeMetadataToPDFsOfEntry(
+                addLinkedPdfsOfEntry(
+                        entriesByFile,
                         databaseContext,
                         entry.getCitationKey().orElse("<no cite key defined>"),
                         entry,
-                        filePreferences,
-                        xmpPdfExporter,
-                        embeddedBibFilePdfExporter,
-                        abbreviationRepository,
-                        writeXMP,
-                        embeddBibfile);
+                        filePreferences);
             }
-            return;
-        }
-
-        List<String> citeKeys = new ArrayList<>();
-        List<String> pdfs = new ArrayList<>();
-        for (String fileOrCiteKey : filesAndCiteKeys.split(",")) {
-            if (fileOrCiteKey.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
-                pdfs.add(fileOrCiteKey);
-            } else {
-                citeKeys.add(fileOrCiteKey);
+        } else {
+            List<String> citeKeys = new ArrayList<>();
+            List<String> pdfs = new ArrayList<>();
+            for (String fileOrCiteKey : filesAndCiteKeys.split(",")) {
+                if (fileOrCiteKey.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+                    pdfs.add(fileOrCiteKey);
+                } else {
+                    citeKeys.add(fileOrCiteKey);
+                }
             }
+
+            addLinkedPdfsByCitekey(entriesByFile, databaseContext, citeKeys, filePreferences);
+            addLinkedPdfsByFileNames(entriesByFile, databaseContext, pdfs, filePreferences, workingDirectory);
         }
 
-        writeMetadataToPdfByCitekey(
-                databaseContext,
-                citeKeys,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
-                writeXMP,
-                embeddBibfile);
-        writeMetadataToPdfByFileNames(
+        PdfMetadataWriter metadataWriter = new PdfMetadataWriter(xmpPreferences, databaseMode, entryTypesManager, fieldPreferences, writeXMP, embeddBibfile);
+        PdfMetadataWriter.Summary summary = metadataWriter.writeAll(
+                entriesByFile,
                 databaseContext,
-                pdfs,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
-                writeXMP,
-                embeddBibfile);
+                PdfMetadataWriter.DEFAULT_PARALLELISM,
+                processed -> {
+                },
+                () -> false);
+
+        summary.failed().forEach((file, exception) ->
+                System.err.printf("Failed writing metadata to %s: %s%n", file, exception.getMessage()));
+        System.out.printf("Finished writing metadata to %d PDF files (%d written, %d already up to date, %d errors).%n",
+                entriesByFile.size(), summary.written(), summary.upToDate(), summary.failed().size());
     }
 
-    private static void writeMetadataToPDFsOfEntry(BibDatabaseContext databaseContext,
-                                            String citeKey,
-                                            BibEntry entry,
-                                            FilePreferences filePreferences,
-                                            XmpPdfExporter xmpPdfExporter,
-                                            EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                            JournalAbbreviationRepository abbreviationRepository,
-                                            boolean writeXMP,
-                                            boolean embedBibfile) {
-        try {
-            if (writeXMP) {
-                if (xmpPdfExporter.exportToAllFilesOfEntry(databaseContext, filePreferences, entry, List.of(entry), abbreviationRepository)) {
-                    System.out.printf("Successfully written XMP metadata on at least one linked file of %s%n", citeKey);
-                } else {
-                    System.err.printf("Cannot write XMP metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.%n", citeKey);
-                }
-            }
-            if (embedBibfile) {
-                if (embeddedBibFilePdfExporter.exportToAllFilesOfEntry(databaseContext, filePreferences, entry, List.of(entry), abbreviationRepository)) {
-                    System.out.printf("Successfully embedded metadata on at least one linked file of %s%n", citeKey);
-                } else {
-                    System.out.printf("Cannot embed metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.%n", citeKey);
-                }
-            }
-        } catch (Exception e) {
-            LOGGER.error("Failed writing metadata on a linked file of {}.", citeKey);
+    private static void addLinkedPdfsOfEntry(Map<Path, List<BibEntry>> entriesByFile,
+                                             BibDatabaseContext databaseContext,
+                                             String citeKey,
+                                             BibEntry entry,
+                                             FilePreferences filePreferences) {
+        List<Path> files = entry.getFiles().stream()
+                                .map(file -> file.findIn(databaseContext, filePreferences))
+                                .flatMap(Optional::stream)
+                                .filter(FileUtil::isPDFFile)
+                                .filter(Files::exists)
+                                .toList();
+        if (files.isEmpty()) {
+            System.err.printf("Cannot write metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.%n", citeKey);
+            return;
+        }
+        for (Path file : files) {
+            entriesByFile.computeIfAbsent(file.toAbsolutePath().normalize(), key -> new ArrayList<>()).add(entry);
         }
     }
 
-    private static void writeMetadataToPdfByCitekey(BibDatabaseContext databaseContext,
-                                             List<String> citeKeys,
-                                             FilePreferences filePreferences,
-                                             XmpPdfExporter xmpPdfExporter,
-                                             EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                             JournalAbbreviationRepository abbreviationRepository,
-                                             boolean writeXMP,
-                                             boolean embeddBibfile) {
+    private static void addLinkedPdfsByCitekey(Map<Path, List<BibEntry>> entriesByFile,
+                                               BibDatabaseContext databaseContext,
+                                               List<String> citeKeys,
+                                               FilePreferences filePreferences) {
         for (String citeKey : citeKeys) {
             List<BibEntry> bibEntryList = databaseContext.getDatabase().getEntriesByCitationKey(citeKey);
             if (bibEntryList.isEmpty()) {
@@ -401,47 +404,42 @@ public class ArgumentProcessor {
                 continue;
             }
             for (BibEntry entry : bibEntryList) {
-                writeMetadataToPDFsOfEntry(databaseContext, citeKey, entry, filePreferences, xmpPdfExporter, embeddedBibFilePdfExporter, abbreviationRepository, writeXMP, embeddBibfile);
+                addLinkedPdfsOfEntry(entriesByFile, databaseContext, citeKey, entry, filePreferences);
             }
         }
     }
 
-    private static void writeMetadataToPdfByFileNames(BibDatabaseContext databaseContext,
-                                               List<String> pdfs,
-                                               FilePreferences filePreferences,
-                                               XmpPdfExporter xmpPdfExporter,
-                                               EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                               JournalAbbreviationRepository abbreviationRepository,
-                                               boolean writeXMP,
-                                               boolean embeddBibfile) {
+    private static void addLinkedPdfsByFileNames(Map<Path, List<BibEntry>> entriesByFile,
+                                                 BibDatabaseContext databaseContext,
+                                                 List<String> pdfs,
+                                                 FilePreferences filePreferences,
+                                                 Path workingDirectory) {
+        List<Path> fileDirectories = databaseContext.getFileDirectories(filePreferences);
         for (String fileName : pdfs) {
             Path filePath = Path.of(fileName);
             if (!filePath.isAbsolute()) {
-                filePath = FileUtil.find(fileName, databaseContext.getFileDirectories(filePreferences)).orElse(FileUtil.find(fileName, List.of(Path.of("").toAbsolutePath())).orElse(filePath));
+                filePath = FileUtil.find(fileName, fileDirectories).orElse(FileUtil.find(fileName, List.of(workingDirectory)).orElse(workingDirectory.resolve(fileName)));
             }
-            if (Files.exists(filePath)) {
-                try {
-                    if (writeXMP) {
-                        if (xmpPdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                            System.out.printf("Successfully written XMP metadata of at least one entry to %s%n", fileName);
-                        } else {
-                            System.out.printf("File %s is not linked to any entry in database.%n", fileName);
-                        }
-                    }
-                    if (embeddBibfile) {
-                        if (embeddedBibFilePdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                            System.out.printf("Successfully embedded XMP metadata of at least one entry to %s%n", fileName);
-                        } else {
-                            System.out.printf("File %s is not linked to any entry in database.%n", fileName);
+            if (!Files.exists(filePath)) {
+                LOGGER.error("Skipped - PDF {} does not exist", fileName);
+                continue;
+            }
+            boolean linked = false;
+            for (BibEntry entry : databaseContext.getEntries()) {
+                for (LinkedFile linkedFile : entry.getFiles()) {
+                    Optional<Path> linkedFilePath = linkedFile.findIn(fileDirectories);
+                    try {
+                        if (linkedFilePath.isPresent() && Files.exists(linkedFilePath.get()) && Files.isSameFile(linkedFilePath.get(), filePath)) {
+                            entriesByFile.computeIfAbsent(filePath.toAbsolutePath().normalize(), key -> new ArrayList<>()).add(entry);
+                            linked = true;
                         }
+                    } catch (IOException e) {
+                        LOGGER.error("Error accessing file '{}'.", fileName);
                     }
-                } catch (IOException e) {
-                    LOGGER.error("Error accessing file '{}'.", fileName);
-                } catch (Exception e) {
-                    LOGGER.error("Error writing entry to {}.", fileName);
                 }
-            } else {
-                LOGGER.error("Skipped - PDF {} does not exist", fileName);
+            }
+            if (!linked) {
+                System.out.printf("File %s is not linked to any entry in database.%n", fileName);
             }
         }
     }
@@ -458,8 +456,13 @@ public class ArgumentProcessor {
 
         List<BibEntry> matches;
         try {
-            // extract current thread task executor from luceneManager
-            matches = new DatabaseSearcher(query, databaseContext, new CurrentThreadTaskExecutor(), cliPreferences.getFilePreferences()).getMatches();
+            Optional<List<BibEntry>> cachedMatches = libraryCache == null ? Optional.empty() : libraryCache.search(pr, query);
+            if (cachedMatches.isPresent()) {
+                matches = cachedMatches.get();
+            } else {
+                // extract current thread task executor from luceneManager
+                matches = new DatabaseSearcher(query, databaseContext, new CurrentThreadTaskExecutor(), cliPreferences.getFilePreferences()).getMatches();
+            }
         } catch (IOException e) {
             LOGGER.error("Error occurred when searching", e);
             return false;
@@ -500,7 +503,7 @@ public class ArgumentProcessor {
                         System.out.println(Localization.lang("Exporting %0", data[1]));
                         exporter.get().export(
                                 databaseContext,
-                                Path.of(data[1]),
+                                workingDirectory.resolve(data[1]),
                                 matches,
                                 Collections.emptyList(),
                                 Injector.instantiateModelOrService(JournalAbbreviationRepository.class));
@@ -531,6 +534,20 @@ public class ArgumentProcessor {
         }
     }
 
+    /**
+     * Loads a library from the {@link LibraryCache}, if there is one. Regenerating the citation keys changes the
+     * entries, thus the library is parsed again then, so that the cached library stays unchanged.
+     */
+    private ParserResult loadLibrary(Path file) throws IOException {
+        if ((libraryCache != null) && !cli.isGenerateCitationKeys()) {
+            return libraryCache.load(file);
+        }
+        return OpenDatabase.loadDatabase(
+                file,
+                cliPreferences.getImportFormatPreferences(),
+                fileUpdateMonitor);
+    }
+
     /**
      * @return List of opened files (could be .bib, but also other formats). May also contain error results.
      */
@@ -547,10 +564,7 @@ public class ArgumentProcessor {
                 ParserResult pr = new ParserResult();
                 if (bibExtension) {
                     try {
-                        pr = OpenDatabase.loadDatabase(
-                                Path.of(aLeftOver),
-                                cliPreferences.getImportFormatPreferences(),
-                                fileUpdateMonitor);
+                        pr = loadLibrary(workingDirectory.resolve(aLeftOver));
                         // In contrast to org.jabref.gui.LibraryTab.onDatabaseLoadingSucceed, we do not execute OpenDatabaseAction.performPostOpenActions(result, dialogService);
                     } catch (IOException ex) {
                         pr = ParserResult.fromError(ex);
@@ -598,7 +612,7 @@ public class ArgumentProcessor {
     private boolean generateAux(List<ParserResult> loaded, String[] data) {
         if (data.length == 2) {
             ParserResult pr = loaded.getFirst();
-            AuxCommandLine acl = new AuxCommandLine(data[0], pr.getDatabase());
+            AuxCommandLine acl = new AuxCommandLine(workingDirectory.resolve(data[0]).toString(), pr.getDatabase());
             BibDatabase newBase = acl.perform();
 
             boolean notSavedMsg = false;
@@ -622,7 +636,7 @@ public class ArgumentProcessor {
     private void saveDatabase(BibDatabase newBase, String subName) {
         try {
             System.out.println(Localization.lang("Saving") + ": " + subName);
-            try (AtomicFileWriter fileWriter = new AtomicFileWriter(Path.of(subName), StandardCharsets.UTF_8)) {
+            try (AtomicFileWriter fileWriter = new AtomicFileWriter(workingDirectory.resolve(subName), StandardCharsets.UTF_8)) {
                 BibWriter bibWriter = new BibWriter(fileWriter, OS.NEWLINE);
                 SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
                         .withReformatOnSave(cliPreferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
@@ -677,7 +691,7 @@ public class ArgumentProcessor {
                 try {
                     exporter.get().export(
                             parserResult.getDatabaseContext(),
-                            Path.of(data[0]),
+                            workingDirectory.resolve(data[0]),
                             parserResult.getDatabaseContext().getDatabase().getEntries(),
                             fileDirForDatabase,
                             Injector.instantiateModelOrService(JournalAbbreviationRepository.class));
@@ -690,7 +704,7 @@ public class ArgumentProcessor {
 
     private void importPreferences() {
         try {
-            cliPreferences.importPreferences(Path.of(cli.getPreferencesImport()));
+            cliPreferences.importPreferences(workingDirectory.resolve(cli.getPreferencesImport()));
             Injector.setModelOrService(BibEntryTypesManager.class, cliPreferences.getCustomEntryTypesRepository());
         } catch (JabRefException ex) {
             LOGGER.error("Cannot import preferences", ex);
@@ -0,0 +1,64 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.citationstyle.CitationStyleCatalog;
+
+/**
+ * Writes the {@link CitationStyleCatalog} of the citation styles that come with JabRef.
+ * Dependent styles whose parent is not available are left out.
+ */
+public class CitationStyleCatalogGenerator {
+
+    public static void main(String[] args) throws IOException {
+        boolean verbose = (args.length == 1) && ("--verbose".equals(args[0]));
+
+        Path stylesDirectory = Path.of("src", "main", "resources", "csl-styles");
+        if (!Files.exists(stylesDirectory)) {
+            System.out.println("Path " + stylesDirectory.toAbsolutePath() + " does not exist");
+            System.exit(0);
+        }
+        Path catalogFile = Path.of("build", "resources", "main", "csl-styles", CitationStyleCatalog.FILE_NAME);
+
+        List<CitationStyleCatalog.Entry> entries = new ArrayList<>();
+        try (Stream<Path> stream = Files.find(stylesDirectory, 2, (file, attributes) -> attributes.isRegularFile() && file.toString().endsWith(".csl"))) {
+            for (Path styleFile : stream.sorted(Comparator.naturalOrder()).toList()) {
+                String filePath = stylesDirectory.relativize(styleFile).toString().replace('\\', '/');
+                Optional<CitationStyleCatalog.Entry> entry = CitationStyleCatalog.parseEntry(filePath, Files.readString(styleFile));
+                if (entry.isPresent()) {
+                    entries.add(entry.get());
+                } else if (verbose) {
+                    System.out.println("Skipping " + filePath);
+                }
+            }
+        }
+
+        Set<String> independentStyles = entries.stream()
+                                               .filter(entry -> entry.independentParent().isEmpty())
+                                               .map(CitationStyleCatalog.Entry::filePath)
+                                               .collect(Collectors.toSet());
+        List<CitationStyleCatalog.Entry> usableEntries = entries.stream()
+                                                                .filter(entry -> entry.independentParent().map(independentStyles::contains).orElse(true))
+                                                                .toList();
+        if (verbose) {
+            System.out.println("Skipping " + (entries.size() - usableEntries.size()) + " dependent styles without parent");
+        }
+
+        Files.createDirectories(catalogFile.getParent());
+        try (Writer writer = Files.newBufferedWriter(catalogFile, StandardCharsets.UTF_8)) {
+            new CitationStyleCatalog(usableEntries).write(writer);
+        }
+        System.out.println("Wrote " + usableEntries.size() + " citation styles to " + catalogFile);
+    }
+}
@@ -61,6 +61,10 @@ public class CliOptions {
         return commandLine.hasOption("nogui");
     }
 
+    public boolean isDaemon() {
+        return commandLine.hasOption("daemon");
+    }
+
     public boolean isPreferencesExport() {
         return commandLine.hasOption("prexp");
     }
@@ -185,6 +189,7 @@ public class CliOptions {
         options.addOption("b", "blank", false, Localization.lang("Do not open any files at startup"));
         options.addOption("v", "version", false, Localization.lang("Display version"));
         options.addOption(null, "debug", false, Localization.lang("Show debug level messages"));
+        options.addOption(null, "daemon", false, Localization.lang("Keep running and process the command line calls passed on by other calls"));
 
         options.addOption(Option
                 .builder("i")
@@ -0,0 +1,74 @@
+package org.jabref.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Replaces {@link System#out} and {@link System#err} of a {@link JabKitDaemon}, so that the output of each command
+ * can be sent back to the client which sent the command. Commands run concurrently, thus the output is collected per
+ * thread. Only the thread running a command writes to its output. Threads of shared pools are not tied to a command,
+ * their output goes to the original streams.
+ */
+class DaemonOutput {
+
+    private record Capture(ByteArrayOutputStream out, ByteArrayOutputStream err) {
+    }
+
+    private final ThreadLocal<Capture> capture = new ThreadLocal<>();
+
+    /**
+     * Output written by threads not running a command still reaches the original streams.
+     */
+    void install() {
+        System.setOut(new PrintStream(route(System.out, Capture::out), true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(route(System.err, Capture::err), true, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs the given command on the current thread.
+     *
+     * @return the standard output and the error output of the command
+     */
+    String[] collect(Runnable command) {
+        Capture commandCapture = new Capture(new ByteArrayOutputStream(), new ByteArrayOutputStream());
+        capture.set(commandCapture);
+        try {
+            command.run();
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            capture.remove();
+        }
+        return new String[] {
+                commandCapture.out().toString(StandardCharsets.UTF_8),
+                commandCapture.err().toString(StandardCharsets.UTF_8)};
+    }
+
+    private OutputStream route(OutputStream original, Function<Capture, OutputStream> select) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                target().write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                target().write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                original.flush();
+            }
+
+            private OutputStream target() {
+                Capture commandCapture = capture.get();
+                return commandCapture == null ? original : select.apply(commandCapture);
+            }
+        };
+    }
+}
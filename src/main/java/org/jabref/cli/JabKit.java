@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
@@ -74,8 +75,10 @@ public class JabKit {
         try {
             Injector.setModelOrService(BuildInfo.class, new BuildInfo());
 
+            boolean runAsDaemon = isDaemon(args);
+
             // Early exit in case another instance is already running
-            if (!handleMultipleAppInstances(args, preferences.getRemotePreferences())) {
+            if (!runAsDaemon && !handleMultipleAppInstances(args, preferences.getRemotePreferences())) {
                 systemExit();
             }
 
@@ -93,6 +96,11 @@ public class JabKit {
             try {
                 Injector.setModelOrService(FileUpdateMonitor.class, fileUpdateMonitor);
 
+                if (runAsDaemon) {
+                    new JabKitDaemon(preferences, fileUpdateMonitor, entryTypesManager).run(preferences.getRemotePreferences().getPort());
+                    return List.of();
+                }
+
                 // Process arguments
                 ArgumentProcessor argumentProcessor = new ArgumentProcessor(
                         args,
@@ -183,6 +191,15 @@ public class JabKit {
                     // There is already a server out there, avoid showing log "Passing arguments" while no arguments are provided.
                     LOGGER.warn("This JabRef instance is already running. Please switch to that instance.");
                 } else {
+                    // A JabKit daemon runs the command and sends back its output
+                    Optional<String[]> output = remoteClient.sendCliCommand(Path.of("").toAbsolutePath(), args);
+                    if (output.isPresent()) {
+                        System.out.print(output.get()[0]);
+                        System.err.print(output.get()[1]);
+                        LOGGER.debug("Arguments processed by running JabKit daemon.");
+                        return false;
+                    }
+
                     // We are not alone, there is already a server out there, send command line arguments to other instance
                     LOGGER.debug("Passing arguments passed on to running JabRef...");
                     if (remoteClient.sendCommandLineArguments(args)) {
@@ -202,6 +219,14 @@ public class JabKit {
         return true;
     }
 
+    private static boolean isDaemon(String[] args) {
+        try {
+            return new CliOptions(args).isDaemon();
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+
     private static void configureProxy(ProxyPreferences proxyPreferences) {
         ProxyRegisterer.register(proxyPreferences);
         if (proxyPreferences.shouldUseProxy() && proxyPreferences.shouldUseAuthentication()) {
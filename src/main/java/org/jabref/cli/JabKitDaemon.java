@@ -0,0 +1,98 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.remote.server.RemoteListenerServer;
+import org.jabref.logic.remote.server.RemoteMessageHandler;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.apache.commons.cli.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Keeps JabKit running and processes the command line calls other JabKit calls pass to it using the remote protocol.
+///
+/// The calls skip starting the JVM and loading the preferences and journal abbreviations.
+/// The libraries the commands open are kept parsed and indexed in a {@link LibraryCache}.
+/// Each client connection is handled on its own virtual thread, so that clients do not wait for each other.
+public class JabKitDaemon implements RemoteMessageHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JabKitDaemon.class);
+
+    private final CliPreferences preferences;
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final BibEntryTypesManager entryTypesManager;
+    private final LibraryCache libraryCache;
+    private final DaemonOutput output = new DaemonOutput();
+
+    public JabKitDaemon(CliPreferences preferences, FileUpdateMonitor fileUpdateMonitor, BibEntryTypesManager entryTypesManager) {
+        this.preferences = preferences;
+        this.fileUpdateMonitor = fileUpdateMonitor;
+        this.entryTypesManager = entryTypesManager;
+        this.libraryCache = new LibraryCache(preferences.getImportFormatPreferences(), preferences.getFilePreferences(), fileUpdateMonitor);
+    }
+
+    /**
+     * Listens on the given port until the process is ended.
+     */
+    public void run(int port) throws IOException {
+        output.install();
+        try (ExecutorService connectionExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            RemoteListenerServer server = new RemoteListenerServer(this, port, connectionExecutor);
+            LOGGER.info("JabKit daemon listening on port {}", port);
+            server.run();
+        } finally {
+            libraryCache.close();
+        }
+    }
+
+    /**
+     * Rejects arguments sent the way a running JabRef receives them. These messages do not carry the working directory
+     * of the client, so relative paths would be resolved against the one of the daemon.
+     */
+    @Override
+    public void handleCommandLineArguments(String[] message) {
+        LOGGER.error("Ignoring command {}: the JabKit daemon only runs commands sent together with their working directory", String.join(" ", message));
+    }
+
+    @Override
+    public Optional<String[]> handleCliCommand(Path workingDirectory, String[] args) {
+        return Optional.of(output.collect(() -> runCommand(workingDirectory, args)));
+    }
+
+    private void runCommand(Path workingDirectory, String[] args) {
+        LOGGER.debug("Running command {} in {}", String.join(" ", args), workingDirectory);
+        try {
+            // The preferences are shared by all commands running concurrently
+            CliOptions cliOptions = new CliOptions(args);
+            if (cliOptions.isPreferencesImport() || cliOptions.isPreferencesReset()) {
+                System.err.println(Localization.lang("Preferences cannot be imported or reset while the JabKit daemon is running."));
+                return;
+            }
+            ArgumentProcessor argumentProcessor = new ArgumentProcessor(
+                    args,
+                    ArgumentProcessor.Mode.INITIAL_START,
+                    preferences,
+                    fileUpdateMonitor,
+                    entryTypesManager,
+                    workingDirectory,
+                    libraryCache);
+            argumentProcessor.processArguments();
+        } catch (ParseException e) {
+            LOGGER.debug("Problem parsing arguments", e);
+            System.err.println(Localization.lang("Error") + ": " + e.getLocalizedMessage());
+            CliOptions.printUsage(preferences);
+        } catch (RuntimeException e) {
+            // One failing command must not stop the daemon
+            LOGGER.error("Unexpected exception", e);
+            System.err.println(Localization.lang("Error") + ": " + e.getLocalizedMessage());
+        }
+    }
+}
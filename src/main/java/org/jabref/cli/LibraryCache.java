@@ -0,0 +1,162 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.search.DatabaseSearcher;
+import org.jabref.logic.search.LuceneManager;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchQuery;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the libraries opened by the commands of a {@link JabKitDaemon} parsed, together with their search index. Thus,
+ * further commands on the same library neither parse nor index it again. A library is parsed again as soon as its
+ * file changed.
+ * <p>
+ * A library is parsed by the first command needing it; commands on other libraries do not wait for that. Libraries not
+ * used for {@link #MAXIMUM_IDLE_TIME} and the least recently used ones beyond {@link #MAXIMUM_LIBRARIES} are dropped,
+ * and their search index is closed.
+ * <p>
+ * All commands share the cached libraries. Thus, commands must not change them.
+ */
+public class LibraryCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private static final int MAXIMUM_LIBRARIES = 16;
+    private static final Duration MAXIMUM_IDLE_TIME = Duration.ofHours(1);
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FilePreferences filePreferences;
+    private final FileUpdateMonitor fileUpdateMonitor;
+
+    private final Cache<Path, CachedLibrary> libraries;
+
+    public LibraryCache(ImportFormatPreferences importFormatPreferences, FilePreferences filePreferences, FileUpdateMonitor fileUpdateMonitor) {
+        this(importFormatPreferences, filePreferences, fileUpdateMonitor, MAXIMUM_LIBRARIES);
+    }
+
+    LibraryCache(ImportFormatPreferences importFormatPreferences, FilePreferences filePreferences, FileUpdateMonitor fileUpdateMonitor, int maximumLibraries) {
+        this.importFormatPreferences = importFormatPreferences;
+        this.filePreferences = filePreferences;
+        this.fileUpdateMonitor = fileUpdateMonitor;
+        this.libraries = CacheBuilder.newBuilder()
+                                     .maximumSize(maximumLibraries)
+                                     .expireAfterAccess(MAXIMUM_IDLE_TIME)
+                                     .removalListener((RemovalNotification<Path, CachedLibrary> removed) -> removed.getValue().close())
+                                     .build();
+    }
+
+    /**
+     * Returns the parsed library, parsing it only if it was not parsed before or its file changed since.
+     */
+    public ParserResult load(Path file) throws IOException {
+        Path path = file.toAbsolutePath().normalize();
+        CachedLibrary cached = libraries.getIfPresent(path);
+        if ((cached != null) && !cached.isCurrent(Files.readAttributes(path, BasicFileAttributes.class))) {
+            LOGGER.debug("Library {} changed, parsing it again", path);
+            libraries.asMap().remove(path, cached);
+        }
+
+        // Only commands on the same library wait for the parsing
+        try {
+            return libraries.get(path, () -> parse(path)).parserResult;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    private CachedLibrary parse(Path path) throws IOException {
+        // The attributes are read before parsing, so that a change while parsing leads to parsing again
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        ParserResult parserResult = OpenDatabase.loadDatabase(path, importFormatPreferences, fileUpdateMonitor);
+        return new CachedLibrary(attributes.lastModifiedTime(), attributes.size(), parserResult);
+    }
+
+    /**
+     * Searches a library returned by {@link #load(Path)} using its kept search index.
+     *
+     * @return the matches in the order they appear in the library, empty if the library is not cached (anymore)
+     */
+    public Optional<List<BibEntry>> search(ParserResult library, SearchQuery query) {
+        return libraries.asMap().values().stream()
+                        .filter(cached -> cached.parserResult == library)
+                        .findFirst()
+                        .flatMap(cached -> cached.search(query));
+    }
+
+    @Override
+    public void close() {
+        libraries.invalidateAll();
+        libraries.cleanUp();
+    }
+
+    private class CachedLibrary {
+        private final FileTime lastModified;
+        private final long size;
+        private final ParserResult parserResult;
+        private final BibDatabaseContext databaseContext;
+
+        // Created on the first search, as most commands do not search
+        private LuceneManager luceneManager;
+        private boolean closed;
+
+        CachedLibrary(FileTime lastModified, long size, ParserResult parserResult) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.parserResult = parserResult;
+            this.databaseContext = parserResult.getDatabaseContext();
+        }
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && (size == attributes.size());
+        }
+
+        /**
+         * @return empty if the library has been dropped from the cache in the meantime
+         */
+        synchronized Optional<List<BibEntry>> search(SearchQuery query) {
+            if (closed) {
+                return Optional.empty();
+            }
+            if (luceneManager == null) {
+                luceneManager = new LuceneManager(databaseContext, new CurrentThreadTaskExecutor(), filePreferences);
+            }
+            return Optional.of(new DatabaseSearcher(query, databaseContext, luceneManager).getMatches());
+        }
+
+        synchronized void close() {
+            closed = true;
+            if (luceneManager != null) {
+                luceneManager.closeAndWait();
+                luceneManager = null;
+            }
+        }
+    }
+}
@@ -7,8 +7,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.swing.undo.UndoManager;
 
@@ -78,6 +80,7 @@ import org.jabref.logic.pdf.FileAnnotationCache;
 import org.jabref.logic.search.LuceneManager;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.FieldChange;
@@ -91,6 +94,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
@@ -121,6 +125,7 @@ public class LibraryTab extends Tab {
     private enum PanelMode { MAIN_TABLE, MAIN_TABLE_AND_ENTRY_EDITOR }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
+    private static final int ANNOTATION_PREFETCH_RADIUS = 2;
     private final LibraryTabContainer tabContainer;
     private final CountingUndoManager undoManager;
     private final DialogService dialogService;
@@ -130,6 +135,8 @@ public class LibraryTab extends Tab {
     private final BibEntryTypesManager entryTypesManager;
     private final BooleanProperty changedProperty = new SimpleBooleanProperty(false);
     private final BooleanProperty nonUndoableChangeProperty = new SimpleBooleanProperty(false);
+    // Counts the changes of the library, so that changes made while the library is written can be detected
+    private final AtomicLong changeCount = new AtomicLong();
 
     private BibDatabaseContext bibDatabaseContext;
     private MainTableDataModel tableModel;
@@ -245,7 +252,8 @@ public class LibraryTab extends Tab {
         setupMainPanel();
         setupAutoCompletion();
 
-        this.getDatabase().registerListener(new IndexUpdateListener());
+        // Keeps scheduling the index updates off the thread changing the library, the changes arrive in order
+        this.getDatabase().registerListener(new IndexUpdateListener(), HeadlessExecutorService.INSTANCE);
         this.getDatabase().registerListener(new EntriesRemovedListener());
 
         // ensure that at each addition of a new entry, the entry is added to the groups interface
@@ -484,9 +492,17 @@ public class LibraryTab extends Tab {
 
     @Subscribe
     public void listen(BibDatabaseContextChangedEvent event) {
+        changeCount.incrementAndGet();
         this.changedProperty.setValue(true);
     }
 
+    /**
+     * Returns the number of changes made to the library since the tab has been opened
+     */
+    public long getChangeCount() {
+        return changeCount.get();
+    }
+
     /**
      * Returns a collection of suggestion providers, which are populated from the current library.
      */
@@ -535,10 +551,33 @@ public class LibraryTab extends Tab {
             if (!entries.isEmpty()) {
                 // Update entry editor and preview according to selected entries
                 entryEditor.setCurrentlyEditedEntry(entries.getFirst());
+                prefetchAnnotationsOfNeighbours();
             }
         });
     }
 
+    /**
+     * Loads the file annotations of the entries around the selected row in the background, so that browsing through
+     * the table with the file annotations tab open does not wait for PDFs to be parsed. Nothing is loaded while the
+     * file annotations tab is not shown.
+     */
+    private void prefetchAnnotationsOfNeighbours() {
+        if ((mode != PanelMode.MAIN_TABLE_AND_ENTRY_EDITOR) || !entryEditor.isFileAnnotationTabSelected()) {
+            return;
+        }
+        int selectedIndex = mainTable.getSelectionModel().getSelectedIndex();
+        if (selectedIndex < 0) {
+            return;
+        }
+        List<BibEntryTableViewModel> rows = mainTable.getItems();
+        List<BibEntry> neighbours = IntStream.rangeClosed(selectedIndex - ANNOTATION_PREFETCH_RADIUS, selectedIndex + ANNOTATION_PREFETCH_RADIUS)
+                                             .filter(index -> (index != selectedIndex) && (index >= 0) && (index < rows.size()))
+                                             .mapToObj(index -> rows.get(index).getEntry())
+                                             .filter(entry -> entry.hasField(StandardField.FILE))
+                                             .toList();
+        annotationCache.prefetch(neighbours);
+    }
+
     public void setupMainPanel() {
         splitPane = new SplitPane();
         splitPane.setOrientation(Orientation.VERTICAL);
@@ -1192,8 +1231,20 @@ public class LibraryTab extends Tab {
 
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
+            if (fieldChangedEvent.isPartOfBulkChange()) {
+                // indexed at once when the EntriesChangedEvent of the bulk change arrives
+                return;
+            }
             luceneManager.updateEntry(fieldChangedEvent.getBibEntry(), fieldChangedEvent.getOldValue(), fieldChangedEvent.getNewValue(), fieldChangedEvent.getField().equals(StandardField.FILE));
         }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            List<FieldChange> fieldChanges = entriesChangedEvent.getFieldChangedEvents().stream()
+                                                                .map(event -> new FieldChange(event.getBibEntry(), event.getField(), event.getOldValue(), event.getNewValue()))
+                                                                .toList();
+            luceneManager.updateEntries(entriesChangedEvent.getBibEntries(), fieldChanges);
+        }
     }
 
     public static class DatabaseNotification extends NotificationPane {
@@ -3,6 +3,7 @@ package org.jabref.gui;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.eventbus.Subscribe;
@@ -19,6 +20,10 @@ class UpdateTimestampListener {
 
     @Subscribe
     public void listen(EntryChangedEvent event) {
+        if ((event instanceof FieldChangedEvent fieldChangedEvent) && StandardField.MODIFICATIONDATE.equals(fieldChangedEvent.getField())) {
+            // Setting the modification date must not trigger another update. Otherwise, the events of a bulk change would keep coming as long as the clock advances.
+            return;
+        }
         // The event source needs to be checked, since the timestamp is always updated on every change. The cleanup formatter is an exception to that behaviour,
         // since it just should move the contents from the timestamp field to modificationdate or creationdate.
         if (preferences.getTimestampPreferences().shouldAddModificationDate() && event.getEntriesEventSource() != EntriesEventSource.CLEANUP_TIMESTAMP) {
@@ -9,8 +9,8 @@ import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.AutosaveEvent;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.util.EventDispatcher;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,14 +30,14 @@ public class AutosaveManager {
 
     private final BibDatabaseContext bibDatabaseContext;
 
-    private final EventBus eventBus;
+    private final EventDispatcher eventDispatcher;
     private final CoarseChangeFilter changeFilter;
     private final ScheduledThreadPoolExecutor executor;
     private boolean needsSave = false;
 
     private AutosaveManager(BibDatabaseContext bibDatabaseContext) {
         this.bibDatabaseContext = bibDatabaseContext;
-        this.eventBus = new EventBus();
+        this.eventDispatcher = new EventDispatcher();
         this.changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
 
@@ -45,7 +45,7 @@ public class AutosaveManager {
         this.executor.scheduleAtFixedRate(
                 () -> {
                     if (needsSave) {
-                       eventBus.post(new AutosaveEvent());
+                       eventDispatcher.post(new AutosaveEvent());
                        needsSave = false;
                     }
                 },
@@ -92,12 +92,12 @@ public class AutosaveManager {
     }
 
     public void registerListener(Object listener) {
-        eventBus.register(listener);
+        eventDispatcher.register(listener);
     }
 
     public void unregisterListener(Object listener) {
         try {
-            eventBus.unregister(listener);
+            eventDispatcher.unregister(listener);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
@@ -1,21 +1,19 @@
 package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
-import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -25,7 +23,6 @@ import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
-import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
@@ -33,6 +30,7 @@ import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.logic.util.io.BackupStore;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
@@ -50,6 +48,8 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * The backups are stored as snapshots in a {@link BackupStore}, thus consecutive backups share all unchanged entries.
  */
 public class BackupManager {
 
@@ -57,6 +57,8 @@ public class BackupManager {
 
     private static final int MAXIMUM_BACKUP_FILE_COUNT = 10;
 
+    private static final Duration MAXIMUM_BACKUP_AGE = Duration.ofDays(30);
+
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
     private static Set<BackupManager> runningInstances = new HashSet<>();
@@ -68,9 +70,6 @@ public class BackupManager {
     private final BibEntryTypesManager entryTypesManager;
     private final LibraryTab libraryTab;
 
-    // Contains a list of all backup paths
-    // During writing, the less recent backup file is deleted
-    private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
@@ -180,7 +179,10 @@ public class BackupManager {
                 return false;
             }
             try {
-                boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                // Snapshots store the hash of the library, older backups are plain copies of the library
+                boolean result = BackupStore.isSnapshot(latestBackupPath)
+                        ? BackupStore.differs(latestBackupPath, originalPath)
+                        : Files.mismatch(originalPath, latestBackupPath) != -1L;
                 if (result) {
                     LOGGER.info("Backup file {} differs from current file {}", latestBackupPath, originalPath);
                 }
@@ -205,7 +207,11 @@ public class BackupManager {
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (BackupStore.isSnapshot(backupPath.get())) {
+                BackupStore.restore(backupPath.get(), originalPath);
+            } else {
+                Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
@@ -218,7 +224,7 @@ public class BackupManager {
     /**
      * This method is called as soon as the scheduler says: "Do the backup"
      *
-     * <em>SIDE EFFECT: Deletes oldest backup file</em>
+     * <em>SIDE EFFECT: Deletes the oldest backup files</em>
      *
      * @param backupPath the full path to the file where the library should be backed up to
      */
@@ -227,16 +233,6 @@ public class BackupManager {
             return;
         }
 
-        // We opted for "while" to delete backups in case there are more than 10
-        while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
-            Path oldestBackupFile = backupFilesQueue.poll();
-            try {
-                Files.delete(oldestBackupFile);
-            } catch (IOException e) {
-                LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
-            }
-        }
-
         // code similar to org.jabref.gui.exporter.SaveDatabaseAction.saveDatabase
         SelfContainedSaveOrder saveOrder = bibDatabaseContext
                 .getMetaData().getSaveOrder()
@@ -271,11 +267,12 @@ public class BackupManager {
         BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        BackupStore backupStore = new BackupStore(backupPath.getParent(), bibDatabaseContext.getDatabasePath().orElseThrow());
         // We want to have successful backups only
-        // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
+        // Thus, the snapshot is stored only after the library was written completely
         // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
+        try (BackupStore.SnapshotWriter writer = backupStore.newSnapshot(backupPath, encoding)) {
             BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
             new BibtexDatabaseWriter(
                     bibWriter,
@@ -285,14 +282,17 @@ public class BackupManager {
                     entryTypesManager)
                     // we save the clone to prevent the original database (and thus the UI) from being changed
                     .saveDatabase(bibDatabaseContextClone);
-            backupFilesQueue.add(backupPath);
+            writer.commit();
 
             // We wrote the file successfully
             // Thus, we currently do not need any new backup
             this.needsBackup = false;
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            return;
         }
+
+        backupStore.applyRetention(MAXIMUM_BACKUP_FILE_COUNT, MAXIMUM_BACKUP_AGE);
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -335,8 +335,6 @@ public class BackupManager {
     }
 
     private void startBackupTask(Path backupDir) {
-        fillQueue(backupDir);
-
         executor.scheduleAtFixedRate(
                                      // We need to determine the backup path on each action, because we use the timestamp in the filename
                                      () -> determineBackupPathForNewBackup(backupDir).ifPresent(path -> this.performBackup(path)),
@@ -345,25 +343,6 @@ public class BackupManager {
                                      TimeUnit.SECONDS);
     }
 
-    private void fillQueue(Path backupDir) {
-        if (!Files.exists(backupDir)) {
-            return;
-        }
-        bibDatabaseContext.getDatabasePath().ifPresent(databasePath -> {
-            // code similar to {@link org.jabref.logic.util.io.BackupFileUtil.getPathOfLatestExisingBackupFile}
-            final String prefix = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName();
-            try {
-                List<Path> allSavFiles = Files.list(backupDir)
-                                              // just list the .sav belonging to the given targetFile
-                                              .filter(p -> p.getFileName().toString().startsWith(prefix))
-                                              .sorted().toList();
-                backupFilesQueue.addAll(allSavFiles);
-            } catch (IOException e) {
-                LOGGER.error("Could not determine most recent file", e);
-            }
-        });
-    }
-
     /**
      * Unregisters the BackupManager from the eventBus of {@link BibDatabaseContext}.
      * This method should only be used when closing a database/JabRef in a normal way.
@@ -20,6 +20,7 @@ import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
@@ -100,13 +101,7 @@ public class CleanupAction extends SimpleCommand {
     /**
      * Runs the cleanup on the entry and records the change.
      */
-    private void doCleanup(BibDatabaseContext databaseContext, CleanupPreferences preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getFilePreferences(),
-                preferences.getTimestampPreferences());
-
+    private void doCleanup(CleanupWorker cleaner, CleanupPreferences preset, BibEntry entry, NamedCompound ce) {
         List<FieldChange> changes = cleaner.cleanup(preset, entry);
 
         // Register undo action
@@ -135,16 +130,24 @@ public class CleanupAction extends SimpleCommand {
     }
 
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getFilePreferences(),
+                preferences.getTimestampPreferences());
 
-            doCleanup(databaseContext, cleanupPreferences, entry, ce);
+        // The change events of all entries are merged, so that the index and the listeners are updated once at the end
+        try (BibDatabase.BulkChange bulkChange = databaseContext.getDatabase().startBulkChange()) {
+            for (BibEntry entry : stateManager.getSelectedEntries()) {
+                // undo granularity is on entry level
+                NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
 
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                undoManager.addEdit(ce);
+                doCleanup(cleaner, cleanupPreferences, entry, ce);
+
+                ce.end();
+                if (ce.hasEdits()) {
+                    modifiedEntriesCount++;
+                    undoManager.addEdit(ce);
+                }
             }
         }
     }
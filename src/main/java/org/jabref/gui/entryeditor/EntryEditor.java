@@ -410,6 +410,13 @@ public class EntryEditor extends BorderPane {
         return (EntryEditorTab) tabbed.getSelectionModel().getSelectedItem();
     }
 
+    /**
+     * @return true if the file annotations tab is the selected tab
+     */
+    public boolean isFileAnnotationTabSelected() {
+        return getSelectedTab() instanceof FileAnnotationTab;
+    }
+
     private void setupToolBar() {
         // Update type label
         TypedBibEntry typedEntry = new TypedBibEntry(currentlyEditedEntry, databaseContext.getMode());
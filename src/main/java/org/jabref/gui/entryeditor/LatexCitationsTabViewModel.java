@@ -23,6 +23,7 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexParserCache;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -83,7 +84,7 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         this.updateStatusOnCreate = new SimpleBooleanProperty(false);
         this.listener = getListener();
 
-        this.latexParser = new DefaultLatexParser();
+        this.latexParser = new DefaultLatexParser(LatexParserCache.INSTANCE);
         this.latexFiles = new LatexParserResults();
     }
 
@@ -135,6 +136,7 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
             @Override
             public void onFileChange(File file) {
+                LatexParserCache.INSTANCE.invalidate(file.toPath());
                 onFileDelete(file);
                 onFileCreate(file);
                 updateStatus();
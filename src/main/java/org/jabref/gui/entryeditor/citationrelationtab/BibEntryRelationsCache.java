@@ -1,40 +1,143 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
-import java.util.Collections;
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.jabref.logic.util.PersistentCacheStore;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.types.EntryTypeFactory;
 
-import org.eclipse.jgit.util.LRUMap;
-
+/**
+ * Stores the citations and references of entries, keyed by their DOI.
+ * <p>
+ * The relations are kept in a {@link PersistentCacheStore}, or in memory as long as it is not open. Lookups do not
+ * lock. Relations older than the time to live are still returned, but reported as not cached, so that they are
+ * fetched again.
+ */
 public class BibEntryRelationsCache {
-    private static final Integer MAX_CACHED_ENTRIES = 100;
-    private static final Map<String, List<BibEntry>> CITATIONS_MAP = new LRUMap<>(MAX_CACHED_ENTRIES, MAX_CACHED_ENTRIES);
-    private static final Map<String, List<BibEntry>> REFERENCES_MAP = new LRUMap<>(MAX_CACHED_ENTRIES, MAX_CACHED_ENTRIES);
+
+    private static final String STORE_NAME = "citation-relations-cache";
+    private static final String CITATIONS_MAP_NAME = "citations";
+    private static final String REFERENCES_MAP_NAME = "references";
+
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(7);
+
+    public static final BibEntryRelationsCache INSTANCE = new BibEntryRelationsCache(
+            PersistentCacheStore.shared(STORE_NAME, CITATIONS_MAP_NAME, REFERENCES_MAP_NAME), DEFAULT_TIME_TO_LIVE, Clock.systemUTC());
+
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    private final PersistentCacheStore persistentStore;
+    private final Map<String, StoredRelations> citations = new ConcurrentHashMap<>();
+    private final Map<String, StoredRelations> references = new ConcurrentHashMap<>();
+
+    private record StoredEntry(String type, Map<String, String> fields) implements Serializable {
+
+        static StoredEntry of(BibEntry entry) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            entry.getFieldMap().forEach((field, value) -> fields.put(field.getName(), value));
+            return new StoredEntry(entry.getType().getName(), fields);
+        }
+
+        BibEntry toBibEntry() {
+            BibEntry entry = new BibEntry(EntryTypeFactory.parse(type));
+            fields.forEach((name, value) -> entry.setField(FieldFactory.parseField(name), value));
+            return entry;
+        }
+    }
+
+    private record StoredRelations(long fetchedAtMillis, List<StoredEntry> entries) implements Serializable {
+    }
+
+    public BibEntryRelationsCache() {
+        this(DEFAULT_TIME_TO_LIVE, Clock.systemUTC());
+    }
+
+    BibEntryRelationsCache(Duration timeToLive, Clock clock) {
+        this(new PersistentCacheStore(STORE_NAME, CITATIONS_MAP_NAME, REFERENCES_MAP_NAME), timeToLive, clock);
+    }
+
+    private BibEntryRelationsCache(PersistentCacheStore persistentStore, Duration timeToLive, Clock clock) {
+        this.persistentStore = persistentStore;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
 
     public List<BibEntry> getCitations(BibEntry entry) {
-        return CITATIONS_MAP.getOrDefault(entry.getDOI().map(DOI::getDOI).orElse(""), Collections.emptyList());
+        return getRelations(citations(), entry);
     }
 
     public List<BibEntry> getReferences(BibEntry entry) {
-        return REFERENCES_MAP.getOrDefault(entry.getDOI().map(DOI::getDOI).orElse(""), Collections.emptyList());
+        return getRelations(references(), entry);
     }
 
     public void cacheOrMergeCitations(BibEntry entry, List<BibEntry> citations) {
-        entry.getDOI().ifPresent(doi -> CITATIONS_MAP.put(doi.getDOI(), citations));
+        putRelations(citations(), entry, citations);
     }
 
     public void cacheOrMergeReferences(BibEntry entry, List<BibEntry> references) {
-        entry.getDOI().ifPresent(doi -> REFERENCES_MAP.putIfAbsent(doi.getDOI(), references));
+        putRelations(references(), entry, references);
     }
 
+    /**
+     * Checks whether the citations of the entry are cached and not older than the time to live.
+     */
     public boolean citationsCached(BibEntry entry) {
-        return CITATIONS_MAP.containsKey(entry.getDOI().map(DOI::getDOI).orElse(""));
+        return isUpToDate(citations(), entry);
     }
 
+    /**
+     * Checks whether the references of the entry are cached and not older than the time to live.
+     */
     public boolean referencesCached(BibEntry entry) {
-        return REFERENCES_MAP.containsKey(entry.getDOI().map(DOI::getDOI).orElse(""));
+        return isUpToDate(references(), entry);
+    }
+
+    private Map<String, StoredRelations> citations() {
+        Map<String, StoredRelations> persisted = persistentStore.getMap(CITATIONS_MAP_NAME);
+        return persisted != null ? persisted : citations;
+    }
+
+    private Map<String, StoredRelations> references() {
+        Map<String, StoredRelations> persisted = persistentStore.getMap(REFERENCES_MAP_NAME);
+        return persisted != null ? persisted : references;
+    }
+
+    private List<BibEntry> getRelations(Map<String, StoredRelations> relations, BibEntry entry) {
+        return doiOf(entry).map(relations::get)
+                           .map(stored -> stored.entries().stream().map(StoredEntry::toBibEntry).toList())
+                           .orElse(List.of());
+    }
+
+    private void putRelations(Map<String, StoredRelations> relations, BibEntry entry, List<BibEntry> relatedEntries) {
+        doiOf(entry).ifPresent(doi -> relations.put(doi, new StoredRelations(
+                clock.millis(),
+                relatedEntries.stream().map(StoredEntry::of).toList())));
+    }
+
+    private boolean isUpToDate(Map<String, StoredRelations> relations, BibEntry entry) {
+        return doiOf(entry).map(relations::get)
+                           .filter(stored -> (clock.millis() - stored.fetchedAtMillis()) <= timeToLive.toMillis())
+                           .isPresent();
+    }
+
+    private static Optional<String> doiOf(BibEntry entry) {
+        return entry.getField(StandardField.DOI).flatMap(BibEntryRelationsCache::normalizeDoi);
+    }
+
+    private static Optional<String> normalizeDoi(String doi) {
+        // DOIs are case-insensitive
+        return DOI.parse(doi).map(parsed -> parsed.getDOI().toLowerCase(Locale.ROOT));
     }
 }
@@ -1,21 +1,39 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.SemanticScholarFetcher;
+import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.CitationFetcher;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.identifier.DOI;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Provides the citations and references of entries. Relations are fetched only if they are not cached or outdated.
+ * Concurrent requests for the same relations of the same DOI share a single fetch.
+ */
 public class BibEntryRelationsRepository {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntryRelationsRepository.class);
 
-    private final SemanticScholarFetcher fetcher;
+    private final CitationFetcher fetcher;
     private final BibEntryRelationsCache cache;
+    private final Map<Request, CompletableFuture<Void>> runningFetches = new ConcurrentHashMap<>();
 
-    public BibEntryRelationsRepository(SemanticScholarFetcher fetcher, BibEntryRelationsCache cache) {
+    private record Request(CitationFetcher.SearchType searchType, String doi) {
+        Request {
+            // DOIs are case-insensitive
+            doi = doi.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public BibEntryRelationsRepository(CitationFetcher fetcher, BibEntryRelationsCache cache) {
         this.fetcher = fetcher;
         this.cache = cache;
     }
@@ -30,26 +48,18 @@ public class BibEntryRelationsRepository {
 
     public List<BibEntry> getReferences(BibEntry entry) {
         if (needToRefreshReferences(entry)) {
-            List<BibEntry> references;
-            try {
-                references = fetcher.searchCiting(entry);
-            } catch (FetcherException e) {
-                LOGGER.error("Error while fetching references", e);
-                references = List.of();
-            }
-            cache.cacheOrMergeReferences(entry, references);
+            forceRefreshReferences(entry);
         }
 
         return cache.getReferences(entry);
     }
 
     public void forceRefreshCitations(BibEntry entry) {
-        try {
-            List<BibEntry> citations = fetcher.searchCitedBy(entry);
-            cache.cacheOrMergeCitations(entry, citations);
-        } catch (FetcherException e) {
-            LOGGER.error("Error while fetching citations", e);
-        }
+        fetchOnce(CitationFetcher.SearchType.CITED_BY, entry);
+    }
+
+    public void forceRefreshReferences(BibEntry entry) {
+        fetchOnce(CitationFetcher.SearchType.CITES, entry);
     }
 
     public boolean needToRefreshCitations(BibEntry entry) {
@@ -60,14 +70,36 @@ public class BibEntryRelationsRepository {
         return !cache.referencesCached(entry);
     }
 
-    public void forceRefreshReferences(BibEntry entry) {
-        List<BibEntry> references;
+    /**
+     * Fetches the relations of the entry and stores them in the cache. If the same relations are already being fetched,
+     * waits for that fetch instead of starting another one.
+     */
+    private void fetchOnce(CitationFetcher.SearchType searchType, BibEntry entry) {
+        Optional<DOI> doi = entry.getDOI();
+        if (doi.isEmpty()) {
+            // Relations are looked up by DOI, there is nothing to fetch
+            return;
+        }
+
+        Request request = new Request(searchType, doi.get().getDOI());
+        CompletableFuture<Void> fetch = new CompletableFuture<>();
+        CompletableFuture<Void> runningFetch = runningFetches.putIfAbsent(request, fetch);
+        if (runningFetch != null) {
+            runningFetch.join();
+            return;
+        }
+
         try {
-            references = fetcher.searchCiting(entry);
+            if (searchType == CitationFetcher.SearchType.CITED_BY) {
+                cache.cacheOrMergeCitations(entry, fetcher.searchCitedBy(entry));
+            } else {
+                cache.cacheOrMergeReferences(entry, fetcher.searchCiting(entry));
+            }
         } catch (FetcherException e) {
-            LOGGER.error("Error while fetching references", e);
-            references = List.of();
+            LOGGER.error("Error while fetching {}s", searchType.label, e);
+        } finally {
+            runningFetches.remove(request);
+            fetch.complete(null);
         }
-        cache.cacheOrMergeReferences(entry, references);
     }
 }
@@ -32,6 +32,7 @@ import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.LibrarySnapshot;
 import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.git.GitException;
@@ -65,6 +66,8 @@ public class SaveDatabaseAction {
     private final DialogService dialogService;
     private final GuiPreferences preferences;
     private final BibEntryTypesManager entryTypesManager;
+    // The change count of the library when the snapshot of the last save was taken
+    private long changeCountOfSnapshot;
 
     public enum SaveDatabaseMode {
         SILENT, NORMAL
@@ -239,8 +242,13 @@ public class SaveDatabaseAction {
             boolean success = saveDatabase(targetPath, false, encoding, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, getSaveOrder());
 
             if (success) {
-                libraryTab.getUndoManager().markUnchanged();
-                libraryTab.resetChangedProperties();
+                // Changes made while the snapshot was written are not saved, the library thus stays marked as changed
+                if (libraryTab.getChangeCount() == changeCountOfSnapshot) {
+                    libraryTab.getUndoManager().markUnchanged();
+                    libraryTab.resetChangedProperties();
+                } else {
+                    LOGGER.debug("Library {} has been changed while it was saved", targetPath);
+                }
 
                 if (libraryTab.getBibDatabaseContext().isInGitRepository()) {
                     pushToGitIfNeeded(targetPath, libraryTab.getChangeMonitor().orElse(null));
@@ -263,34 +271,39 @@ public class SaveDatabaseAction {
         SelfContainedSaveConfiguration saveConfiguration
                 = new SelfContainedSaveConfiguration(saveOrder, false, saveType, preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
         BibDatabaseContext bibDatabaseContext = libraryTab.getBibDatabaseContext();
-        synchronized (bibDatabaseContext) {
-            try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding, saveConfiguration.shouldMakeBackup())) {
-                BibWriter bibWriter = new BibWriter(fileWriter, bibDatabaseContext.getDatabase().getNewLineSeparator());
-                BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
-                        bibWriter,
-                        saveConfiguration,
-                        preferences.getFieldPreferences(),
-                        preferences.getCitationKeyPatternPreferences(),
-                        entryTypesManager);
-
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding, saveConfiguration.shouldMakeBackup())) {
+            BibWriter bibWriter = new BibWriter(fileWriter, bibDatabaseContext.getDatabase().getNewLineSeparator());
+            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
+                    bibWriter,
+                    saveConfiguration,
+                    preferences.getFieldPreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    entryTypesManager);
+
+            // Only taking the snapshot needs the lock, the library can be edited again while the snapshot is written
+            LibrarySnapshot library;
+            synchronized (bibDatabaseContext) {
                 if (selectedOnly) {
-                    databaseWriter.savePartOfDatabase(bibDatabaseContext, libraryTab.getSelectedEntries());
+                    library = databaseWriter.prepare(bibDatabaseContext, libraryTab.getSelectedEntries());
                 } else {
-                    databaseWriter.saveDatabase(bibDatabaseContext);
+                    library = databaseWriter.prepare(bibDatabaseContext);
                 }
+                // Taken after preparing, as preparing applies the save actions and generates keys
+                changeCountOfSnapshot = libraryTab.getChangeCount();
+            }
+            databaseWriter.write(library);
 
-                libraryTab.registerUndoableChanges(databaseWriter.getSaveActionsFieldChanges());
+            libraryTab.registerUndoableChanges(databaseWriter.getSaveActionsFieldChanges());
 
-                if (fileWriter.hasEncodingProblems()) {
-                    saveWithDifferentEncoding(file, selectedOnly, encoding, fileWriter.getEncodingProblems(), saveType, saveOrder);
-                }
-            } catch (UnsupportedCharsetException ex) {
-                throw new SaveException(Localization.lang("Character encoding '%0' is not supported.", encoding.displayName()), ex);
-            } catch (IOException ex) {
-                throw new SaveException("Problems saving: " + ex, ex);
+            if (fileWriter.hasEncodingProblems()) {
+                saveWithDifferentEncoding(file, selectedOnly, encoding, fileWriter.getEncodingProblems(), saveType, saveOrder);
             }
-            return true;
+        } catch (UnsupportedCharsetException ex) {
+            throw new SaveException(Localization.lang("Character encoding '%0' is not supported.", encoding.displayName()), ex);
+        } catch (IOException ex) {
+            throw new SaveException("Problems saving: " + ex, ex);
         }
+        return true;
     }
 
     private void saveWithDifferentEncoding(Path file, boolean selectedOnly, Charset encoding, Set<Character> encodingProblems, BibDatabaseWriter.SaveType saveType, SelfContainedSaveOrder saveOrder) throws SaveException {
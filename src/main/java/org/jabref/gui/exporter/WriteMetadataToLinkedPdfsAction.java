@@ -3,16 +3,17 @@ package org.jabref.gui.exporter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
-import org.jabref.gui.fieldeditors.WriteMetadataToSinglePdfAction;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
-import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.exporter.PdfMetadataWriter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
@@ -40,14 +41,12 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
     private final TaskExecutor taskExecutor;
     private final FilePreferences filePreferences;
     private final XmpPreferences xmpPreferences;
-    private final JournalAbbreviationRepository abbreviationRepository;
 
     public WriteMetadataToLinkedPdfsAction(DialogService dialogService,
                                            FieldPreferences fieldPreferences,
                                            FilePreferences filePreferences,
                                            XmpPreferences xmpPreferences,
                                            BibEntryTypesManager entryTypesManager,
-                                           JournalAbbreviationRepository abbreviationRepository,
                                            TaskExecutor taskExecutor,
                                            StateManager stateManager) {
         this.stateManager = stateManager;
@@ -57,7 +56,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
         this.taskExecutor = taskExecutor;
         this.filePreferences = filePreferences;
         this.xmpPreferences = xmpPreferences;
-        this.abbreviationRepository = abbreviationRepository;
 
         this.executable.bind(needsDatabase(stateManager));
     }
@@ -92,7 +90,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
         new WriteMetaDataTask(
                 databaseContext,
                 entries,
-                abbreviationRepository,
                 entryTypesManager,
                 fieldPreferences,
                 filePreferences,
@@ -106,7 +103,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
 
         private final BibDatabaseContext databaseContext;
         private final List<BibEntry> entries;
-        private final JournalAbbreviationRepository abbreviationRepository;
         private final BibEntryTypesManager entryTypesManager;
         private final FieldPreferences fieldPreferences;
         private final FilePreferences filePreferences;
@@ -114,14 +110,10 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
         private final StateManager stateManager;
         private final DialogService dialogService;
 
-        private final List<Path> failedWrittenFiles = new ArrayList<>();
         private int skipped = 0;
-        private int entriesChanged = 0;
-        private int errors = 0;
 
         public WriteMetaDataTask(BibDatabaseContext databaseContext,
                                  List<BibEntry> entries,
-                                 JournalAbbreviationRepository abbreviationRepository,
                                  BibEntryTypesManager entryTypesManager,
                                  FieldPreferences fieldPreferences,
                                  FilePreferences filePreferences,
@@ -130,7 +122,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
                                  DialogService dialogService) {
             this.databaseContext = databaseContext;
             this.entries = entries;
-            this.abbreviationRepository = abbreviationRepository;
             this.entryTypesManager = entryTypesManager;
             this.fieldPreferences = fieldPreferences;
             this.filePreferences = filePreferences;
@@ -147,10 +138,9 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
                 return null;
             }
 
-            for (int i = 0; i < entries.size(); i++) {
-                BibEntry entry = entries.get(i);
-                updateProgress(i, entries.size());
-
+            // All entries linking to a file are written in one go, so that no file is written by two threads at once
+            Map<Path, List<BibEntry>> entriesByFile = new LinkedHashMap<>();
+            for (BibEntry entry : entries) {
                 // Make a list of all PDFs linked from this entry:
                 List<Path> files = entry.getFiles().stream()
                                         .map(file -> file.findIn(stateManager.getActiveDatabase().get(), filePreferences))
@@ -164,41 +154,37 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
                     skipped++;
                 } else {
                     for (Path file : files) {
-                        updateMessage(Localization.lang("Writing metadata to %0", file.getFileName()));
-
                         if (Files.exists(file)) {
-                            try {
-                                WriteMetadataToSinglePdfAction.writeMetadataToFile(
-                                        file,
-                                        entry,
-                                        databaseContext,
-                                        abbreviationRepository,
-                                        entryTypesManager,
-                                        fieldPreferences,
-                                        filePreferences,
-                                        xmpPreferences);
-                                entriesChanged++;
-                            } catch (Exception e) {
-                                LOGGER.error("Error while writing XMP data to pdf '{}'", file, e);
-                                failedWrittenFiles.add(file);
-                                errors++;
-                            }
+                            entriesByFile.computeIfAbsent(file.toAbsolutePath().normalize(), key -> new ArrayList<>()).add(entry);
                         } else {
                             LOGGER.debug("Skipped non existing pdf '{}'", file);
                             skipped++;
                         }
                     }
                 }
-                updateMessage(Localization.lang("Processing..."));
             }
 
+            PdfMetadataWriter metadataWriter = new PdfMetadataWriter(
+                    xmpPreferences,
+                    databaseContext.getMode(),
+                    entryTypesManager,
+                    fieldPreferences,
+                    true,
+                    true);
+            PdfMetadataWriter.Summary summary = metadataWriter.writeAll(
+                    entriesByFile,
+                    databaseContext,
+                    PdfMetadataWriter.DEFAULT_PARALLELISM,
+                    processed -> updateProgress(processed, entriesByFile.size()),
+                    this::isCancelled);
+
             updateMessage(Localization.lang("Finished"));
-            dialogService.notify(Localization.lang("Finished writing metadata for library %0 (%1 succeeded, %2 skipped, %3 errors).",
+            dialogService.notify(Localization.lang("Finished writing metadata for library %0 (%1 written, %2 already up to date, %3 skipped, %4 errors).",
                     databaseContext.getDatabasePath().map(Path::toString).orElse("undefined"),
-                    String.valueOf(entriesChanged), String.valueOf(skipped), String.valueOf(errors)));
+                    String.valueOf(summary.written()), String.valueOf(summary.upToDate()), String.valueOf(skipped), String.valueOf(summary.failed().size())));
 
-            if (!failedWrittenFiles.isEmpty()) {
-                LOGGER.error("Failed to write XMP data to PDFs:\n{}", failedWrittenFiles);
+            if (!summary.failed().isEmpty()) {
+                LOGGER.error("Failed to write XMP data to PDFs:\n{}", summary.failed().keySet());
             }
 
             return null;
@@ -8,7 +8,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.undo.CompoundEdit;
 import javax.swing.undo.UndoManager;
@@ -32,6 +34,7 @@ import org.jabref.logic.importer.ImportException;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.importer.ImportFormatReader.UnknownFormatImport;
 import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fetcher.ArXivFetcher;
 import org.jabref.logic.importer.fetcher.DoiFetcher;
 import org.jabref.logic.importer.fetcher.isbntobibtex.IsbnFetcher;
@@ -108,7 +111,19 @@ public class ImportHandler {
 
             @Override
             public List<ImportFilesResultItemViewModel> call() {
-                counter = 1;
+                // Analyzing the PDFs takes most of the time, so they are imported in parallel first
+                List<Path> pdfFiles = files.stream().filter(FileUtil::isPDFFile).toList();
+                Map<Path, ParserResult> pdfImporterResults = new ConcurrentHashMap<>();
+                contentImporter.importPDFContents(pdfFiles, (file, result) -> {
+                    pdfImporterResults.put(file, result);
+                    int processedFiles = pdfImporterResults.size();
+                    UiTaskExecutor.runInJavaFXThread(() -> {
+                        updateMessage(Localization.lang("Processing file %0", file.getFileName()));
+                        updateProgress(processedFiles, files.size());
+                    });
+                }, this::isCancelled);
+
+                counter = pdfFiles.size();
                 CompoundEdit ce = new CompoundEdit();
                 for (final Path file : files) {
                     final List<BibEntry> entriesToAdd = new ArrayList<>();
@@ -117,14 +132,18 @@ public class ImportHandler {
                         break;
                     }
 
-                    UiTaskExecutor.runInJavaFXThread(() -> {
-                        updateMessage(Localization.lang("Processing file %0", file.getFileName()));
-                        updateProgress(counter, files.size() - 1d);
-                    });
+                    if (!FileUtil.isPDFFile(file)) {
+                        counter++;
+                        int processedFiles = counter;
+                        UiTaskExecutor.runInJavaFXThread(() -> {
+                            updateMessage(Localization.lang("Processing file %0", file.getFileName()));
+                            updateProgress(processedFiles, files.size());
+                        });
+                    }
 
                     try {
                         if (FileUtil.isPDFFile(file)) {
-                            var pdfImporterResult = contentImporter.importPDFContent(file);
+                            var pdfImporterResult = pdfImporterResults.computeIfAbsent(file, contentImporter::importPDFContent);
                             List<BibEntry> pdfEntriesInFile = pdfImporterResult.getDatabase().getEntries();
 
                             if (pdfImporterResult.hasWarnings()) {
@@ -164,8 +183,6 @@ public class ImportHandler {
                     ce.end();
                     // prevent fx thread exception in undo manager
                     UiTaskExecutor.runInJavaFXThread(() -> undoManager.addEdit(ce));
-
-                    counter++;
                 }
                 return results;
             }
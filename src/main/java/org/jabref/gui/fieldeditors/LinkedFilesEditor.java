@@ -50,7 +50,6 @@ import org.jabref.gui.util.BindingsHelper;
 import org.jabref.gui.util.ViewModelListCellFactory;
 import org.jabref.gui.util.uithreadaware.UiThreadObservableList;
 import org.jabref.logic.integrity.FieldCheckers;
-import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.TaskExecutor;
@@ -79,7 +78,6 @@ public class LinkedFilesEditor extends HBox implements FieldEditorFX {
     @Inject private DialogService dialogService;
     @Inject private GuiPreferences preferences;
     @Inject private BibEntryTypesManager bibEntryTypesManager;
-    @Inject private JournalAbbreviationRepository abbreviationRepository;
     @Inject private TaskExecutor taskExecutor;
     @Inject private UndoManager undoManager;
 
@@ -226,7 +224,7 @@ public class LinkedFilesEditor extends HBox implements FieldEditorFX {
                 linkedFile.getFile(),
                 bibEntry.getValueOrElse(new BibEntry()),
                 databaseContext, dialogService, preferences.getFieldPreferences(),
-                preferences.getFilePreferences(), preferences.getXmpPreferences(), abbreviationRepository, bibEntryTypesManager,
+                preferences.getFilePreferences(), preferences.getXmpPreferences(), bibEntryTypesManager,
                 taskExecutor
         );
         writeMetadataToPdf.disableProperty().bind(writeMetadataToSinglePdfAction.executableProperty().not());
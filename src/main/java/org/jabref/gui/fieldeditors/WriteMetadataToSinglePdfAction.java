@@ -2,6 +2,7 @@ package org.jabref.gui.fieldeditors;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import javax.xml.transform.TransformerException;
@@ -10,13 +11,11 @@ import org.jabref.gui.DialogService;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
-import org.jabref.logic.exporter.EmbeddedBibFilePdfExporter;
-import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.exporter.PdfMetadataWriter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.logic.xmp.XmpPreferences;
-import org.jabref.logic.xmp.XmpUtilWriter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -38,7 +37,6 @@ public class WriteMetadataToSinglePdfAction extends SimpleCommand {
     private final BibDatabaseContext databaseContext;
     private final DialogService dialogService;
     private final BibEntryTypesManager bibEntryTypesManager;
-    private final JournalAbbreviationRepository abbreviationRepository;
     private final TaskExecutor taskExecutor;
     private final FilePreferences filePreferences;
     private final XmpPreferences xmpPreferences;
@@ -50,7 +48,6 @@ public class WriteMetadataToSinglePdfAction extends SimpleCommand {
                                           FieldPreferences fieldPreferences,
                                           FilePreferences filePreferences,
                                           XmpPreferences xmpPreferences,
-                                          JournalAbbreviationRepository abbreviationRepository,
                                           BibEntryTypesManager bibEntryTypesManager,
                                           TaskExecutor taskExecutor) {
         this.linkedFile = linkedFile;
@@ -59,7 +56,6 @@ public class WriteMetadataToSinglePdfAction extends SimpleCommand {
         this.databaseContext = databaseContext;
         this.dialogService = dialogService;
         this.bibEntryTypesManager = bibEntryTypesManager;
-        this.abbreviationRepository = abbreviationRepository;
         this.taskExecutor = taskExecutor;
         this.filePreferences = filePreferences;
         this.xmpPreferences = xmpPreferences;
@@ -73,7 +69,7 @@ public class WriteMetadataToSinglePdfAction extends SimpleCommand {
                 dialogService.notify(Localization.lang("Failed to write metadata, file %1 not found.", file.map(Path::toString).orElse("")));
             } else {
                     try {
-                        writeMetadataToFile(file.get(), entry, databaseContext, abbreviationRepository, bibEntryTypesManager, fieldPreferences, filePreferences, xmpPreferences);
+                        writeMetadataToFile(file.get(), entry, databaseContext, bibEntryTypesManager, fieldPreferences, xmpPreferences);
                         dialogService.notify(Localization.lang("Success! Finished writing metadata."));
                     } catch (IOException | TransformerException ex) {
                         dialogService.notify(Localization.lang("Error while writing metadata. See the error log for details."));
@@ -91,22 +87,10 @@ public class WriteMetadataToSinglePdfAction extends SimpleCommand {
     public static synchronized void writeMetadataToFile(Path file,
                                                         BibEntry entry,
                                                         BibDatabaseContext databaseContext,
-                                                        JournalAbbreviationRepository abbreviationRepository,
                                                         BibEntryTypesManager bibEntryTypesManager,
                                                         FieldPreferences fieldPreferences,
-                                                        FilePreferences filePreferences,
-                                                        XmpPreferences xmpPreferences) throws Exception {
-        // Similar code can be found at {@link org.jabref.gui.exporter.WriteMetadataToPdfAction.writeMetadataToFile}
-        new XmpUtilWriter(xmpPreferences).writeXmp(file, entry, databaseContext.getDatabase());
-
-        EmbeddedBibFilePdfExporter embeddedBibExporter = new EmbeddedBibFilePdfExporter(
-                databaseContext.getMode(),
-                bibEntryTypesManager,
-                fieldPreferences);
-        embeddedBibExporter.exportToFileByPath(
-                databaseContext,
-                filePreferences,
-                file,
-                abbreviationRepository);
+                                                        XmpPreferences xmpPreferences) throws IOException, TransformerException {
+        new PdfMetadataWriter(xmpPreferences, databaseContext.getMode(), bibEntryTypesManager, fieldPreferences, true, true)
+                .write(file, List.of(entry), databaseContext);
     }
 }
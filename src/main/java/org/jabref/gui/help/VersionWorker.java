@@ -13,6 +13,7 @@ import org.jabref.logic.InternalPreferences;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.logic.util.Version;
 
 import org.slf4j.Logger;
@@ -62,6 +63,7 @@ public class VersionWorker {
 
     public void checkForNewVersionAsync() {
         BackgroundTask.wrap(this::getNewVersion)
+                      .withLane(TaskLane.IO)
                       .onSuccess(version -> showUpdateInfo(version, true))
                       .onFailure(exception -> showConnectionError(exception, true))
                       .executeWith(taskExecutor);
@@ -69,6 +71,7 @@ public class VersionWorker {
 
     public void checkForNewVersionDelayed() {
         BackgroundTask.wrap(this::getNewVersion)
+                      .withLane(TaskLane.IO)
                       .onSuccess(version -> showUpdateInfo(version, false))
                       .onFailure(exception -> showConnectionError(exception, false))
                       .scheduleWith(taskExecutor, 30, TimeUnit.SECONDS);
@@ -22,6 +22,7 @@ import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.OptionalUtil;
 
@@ -159,6 +160,7 @@ public class WebSearchPaneViewModel {
         }
 
         BackgroundTask<ParserResult> task = BackgroundTask.wrap(parserResultCallable)
+                                                          .withLane(TaskLane.IO)
                                                           .withInitialMessage(Localization.lang("Processing \"%0\"...", query));
         task.onFailure(dialogService::showErrorDialogAndWait);
 
@@ -2,8 +2,13 @@ package org.jabref.gui.integrity;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
@@ -14,6 +19,7 @@ import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheckResultCache;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
@@ -30,6 +36,7 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final GuiPreferences preferences;
     private final StateManager stateManager;
     private final JournalAbbreviationRepository abbreviationRepository;
+    private final IntegrityCheckResultCache resultCache = new IntegrityCheckResultCache();
 
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 GuiPreferences preferences,
@@ -53,40 +60,63 @@ public class IntegrityCheckAction extends SimpleCommand {
                 preferences.getFilePreferences(),
                 preferences.getCitationKeyPatternPreferences(),
                 abbreviationRepository,
-                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex(),
+                resultCache);
 
-        Task<List<IntegrityMessage>> task = new Task<>() {
+        ObservableList<IntegrityMessage> messages = FXCollections.observableArrayList();
+        Queue<IntegrityMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+        AtomicBoolean publishScheduled = new AtomicBoolean();
+
+        Task<Void> task = new Task<>() {
             @Override
-            protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
+            protected Void call() {
+                List<BibEntry> entries = List.copyOf(database.getDatabase().getEntries());
+                publish(check.checkDatabase(database.getDatabase()));
 
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
+                AtomicInteger checkedEntries = new AtomicInteger();
+                check.checkEntries(entries, entryMessages -> {
+                    publish(entryMessages);
+                    updateProgress(checkedEntries.incrementAndGet(), entries.size());
+                }, this::isCancelled);
+                return null;
+            }
 
-                return result;
+            /**
+             * Shows the messages in the dialog. Messages arriving while the UI thread is busy are added together.
+             */
+            private void publish(List<IntegrityMessage> newMessages) {
+                if (newMessages.isEmpty()) {
+                    return;
+                }
+                pendingMessages.addAll(newMessages);
+                if (publishScheduled.compareAndSet(false, true)) {
+                    UiTaskExecutor.runInJavaFXThread(() -> {
+                        publishScheduled.set(false);
+                        List<IntegrityMessage> batch = new ArrayList<>();
+                        IntegrityMessage message;
+                        while ((message = pendingMessages.poll()) != null) {
+                            batch.add(message);
+                        }
+                        messages.addAll(batch);
+                    });
+                }
             }
         };
+
+        IntegrityCheckDialog dialog = new IntegrityCheckDialog(messages, task, tabSupplier.get());
+        dialog.setOnHidden(event -> task.cancel());
         task.setOnSucceeded(value -> {
-            List<IntegrityMessage> messages = task.getValue();
             if (messages.isEmpty()) {
+                dialog.close();
                 dialogService.notify(Localization.lang("No problems found."));
-            } else {
-                dialogService.showCustomDialogAndWait(new IntegrityCheckDialog(messages, tabSupplier.get()));
             }
         });
-        task.setOnFailed(event -> dialogService.showErrorDialogAndWait("Integrity check failed.", task.getException()));
+        task.setOnFailed(event -> {
+            dialog.close();
+            dialogService.showErrorDialogAndWait("Integrity check failed.", task.getException());
+        });
 
-        dialogService.showProgressDialog(
-                Localization.lang("Checking integrity..."),
-                Localization.lang("Checking integrity..."),
-                task);
+        dialogService.showCustomDialog(dialog);
         taskExecutor.execute(task);
     }
 }
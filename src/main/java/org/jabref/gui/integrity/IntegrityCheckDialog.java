@@ -1,16 +1,19 @@
 package org.jabref.gui.integrity;
 
-import java.util.List;
 import java.util.function.Function;
 
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Worker;
 import javafx.fxml.FXML;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.MenuButton;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.input.MouseButton;
+import javafx.scene.layout.HBox;
 import javafx.stage.Modality;
 
 import org.jabref.gui.LibraryTab;
@@ -33,16 +36,24 @@ public class IntegrityCheckDialog extends BaseDialog<Void> {
     @FXML private MenuButton keyFilterButton;
     @FXML private MenuButton fieldFilterButton;
     @FXML private MenuButton messageFilterButton;
+    @FXML private HBox progressPane;
+    @FXML private ProgressBar progressBar;
 
     @Inject private ThemeManager themeManager;
 
-    private final List<IntegrityMessage> messages;
+    private final ObservableList<IntegrityMessage> messages;
+    private final Worker<?> check;
     private final LibraryTab libraryTab;
     private IntegrityCheckDialogViewModel viewModel;
     private TableFilter<IntegrityMessage> tableFilter;
 
-    public IntegrityCheckDialog(List<IntegrityMessage> messages, LibraryTab libraryTab) {
+    /**
+     * @param messages the messages found so far, more are added while the check is running
+     * @param check    the running check, its progress is shown
+     */
+    public IntegrityCheckDialog(ObservableList<IntegrityMessage> messages, Worker<?> check, LibraryTab libraryTab) {
         this.messages = messages;
+        this.check = check;
         this.libraryTab = libraryTab;
         this.setTitle(Localization.lang("Check integrity"));
         this.initModality(Modality.NONE);
@@ -71,6 +82,9 @@ public class IntegrityCheckDialog extends BaseDialog<Void> {
 
         messagesTable.getSelectionModel().getSelectedItems().addListener(this::onSelectionChanged);
         messagesTable.setItems(viewModel.getMessages());
+        progressBar.progressProperty().bind(check.progressProperty());
+        progressPane.visibleProperty().bind(check.runningProperty());
+        progressPane.managedProperty().bind(check.runningProperty());
         keyColumn.setCellValueFactory(row -> new ReadOnlyStringWrapper(row.getValue().entry().getCitationKey().orElse("")));
         fieldColumn.setCellValueFactory(row -> new ReadOnlyStringWrapper(row.getValue().field().getDisplayName()));
         messageColumn.setCellValueFactory(row -> new ReadOnlyStringWrapper(row.getValue().message()));
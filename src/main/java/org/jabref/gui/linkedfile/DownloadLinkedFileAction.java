@@ -32,6 +32,7 @@ import org.jabref.logic.net.ProgressInputStream;
 import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.logic.util.io.FileNameUniqueness;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
@@ -255,6 +256,7 @@ public class DownloadLinkedFileAction extends SimpleCommand {
 
                     return targetDirectory.resolve(fulltextDir).resolve(suggestedName);
                 })
+                .withLane(TaskLane.IO)
                 .then(destination -> new FileDownloadTask(urlDownload.getSource(), destination))
                 .onFailure(ex -> LOGGER.error("Error in download", ex))
                 .onFinished(() -> {
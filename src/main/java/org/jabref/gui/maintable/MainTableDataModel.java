@@ -1,7 +1,13 @@
 package org.jabref.gui.maintable;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -25,6 +31,7 @@ import org.jabref.logic.search.SearchDisplayMode;
 import org.jabref.logic.search.SearchPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
@@ -63,6 +70,15 @@ public class MainTableDataModel {
 
     private Optional<MatcherSet> groupsMatcher;
 
+    private final Object searchMatchesLock = new Object();
+    // The query whose results are currently shown and the IDs of the entries it matched, guarded by searchMatchesLock
+    private Optional<SearchQuery> appliedSearchQuery = Optional.empty();
+    private Set<String> appliedSearchMatches = new HashSet<>();
+    // Rows whose search state changed but which have not been refiltered yet, guarded by searchMatchesLock. The rows are
+    // kept instead of their indexes, as entries may be added or removed before the rows are refiltered on the FX thread.
+    private final Set<BibEntryTableViewModel> rowsToRefilter = Collections.newSetFromMap(new IdentityHashMap<>());
+    @Nullable private BackgroundTask<Void> runningSearch;
+
     public MainTableDataModel(BibDatabaseContext context,
                               GuiPreferences preferences,
                               TaskExecutor taskExecutor,
@@ -99,33 +115,156 @@ public class MainTableDataModel {
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
 
+    /**
+     * Searches for the given query in the background. A search still running for a previous query is cancelled, so
+     * that typing in the search bar does not queue up searches. Only the rows whose search state changed are refiltered.
+     * <p>
+     * If the query narrows the query whose results are shown, only the entries matched by that query are searched.
+     */
     private void updateSearchMatches(Optional<SearchQuery> query) {
-        BackgroundTask.wrap(() -> {
-            if (query.isPresent()) {
-                SearchResults results = luceneManager.search(query.get());
-                setSearchMatches(results);
-            } else {
-                clearSearchMatches();
+        BackgroundTask<Void> searchTask = new BackgroundTask<>() {
+            @Override
+            public Void call() {
+                if (query.isEmpty()) {
+                    clearSearchMatches(this);
+                    return null;
+                }
+                Optional<PreviousMatches> previousMatches = getPreviousMatchesNarrowedBy(query.get());
+                if (previousMatches.isPresent()) {
+                    SearchResults results = luceneManager.searchWithin(query.get(), previousMatches.get().entryIds(), this::isCancelled);
+                    if (setSearchMatches(query.get(), results, previousMatches, this)) {
+                        return null;
+                    }
+                    // The shown results changed during the search, e.g., as an entry has been edited
+                }
+                SearchResults results = luceneManager.search(query.get(), this::isCancelled);
+                setSearchMatches(query.get(), results, Optional.empty(), this);
+                return null;
             }
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+        };
+        replaceRunningSearch(searchTask);
+        searchTask.withLane(TaskLane.INTERACTIVE)
+                  .onSuccess(result -> refilterChangedRows())
+                  .executeWith(taskExecutor);
+    }
+
+    private synchronized void replaceRunningSearch(@Nullable BackgroundTask<Void> searchTask) {
+        if (runningSearch != null) {
+            runningSearch.cancel();
+        }
+        runningSearch = searchTask;
+    }
+
+    /**
+     * Returns the query whose results are shown and the entries it matched if the given query narrows it. Entries not
+     * matched by that query cannot match the given query.
+     */
+    private Optional<PreviousMatches> getPreviousMatchesNarrowedBy(SearchQuery query) {
+        synchronized (searchMatchesLock) {
+            if (appliedSearchQuery.isPresent()
+                    && luceneManager.getBibFieldsIndexSchema().indexesAllPrefixes()
+                    && query.isNarrowingOf(appliedSearchQuery.get())) {
+                return Optional.of(new PreviousMatches(appliedSearchQuery.get(), Set.copyOf(appliedSearchMatches)));
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Shows the given results of the query. If the query has only been searched among the given previous matches, only
+     * these entries are updated.
+     *
+     * @return false if the results have not been shown, as they only cover previous matches which are not shown anymore
+     */
+    private boolean setSearchMatches(SearchQuery query, SearchResults results, Optional<PreviousMatches> previousMatches, BackgroundTask<Void> searchTask) {
+        synchronized (searchMatchesLock) {
+            if (searchTask.isCancelled()) {
+                return true;
+            }
+            if (previousMatches.isPresent()
+                    && ((appliedSearchQuery.orElse(null) != previousMatches.get().query())
+                    || !appliedSearchMatches.equals(previousMatches.get().entryIds()))) {
+                return false;
+            }
+            boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+            for (BibEntryTableViewModel entry : entriesViewModel) {
+                if (previousMatches.isPresent() && !previousMatches.get().entryIds().contains(entry.getEntry().getId())) {
+                    continue;
+                }
+                float score = results.getSearchScoreForEntry(entry.getEntry());
+                if (updateEntrySearchResult(entry, score, results.hasFulltextResults(entry.getEntry()), score > 0, isFloatingMode)) {
+                    rowsToRefilter.add(entry);
+                }
+            }
+            appliedSearchQuery = Optional.of(query);
+            appliedSearchMatches = new HashSet<>(results.getMatchedEntries());
+            return true;
+        }
     }
 
-    private void setSearchMatches(SearchResults results) {
-        boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-        entriesViewModel.forEach(entry -> {
-            entry.searchScoreProperty().set(results.getSearchScoreForEntry(entry.getEntry()));
-            entry.hasFullTextResultsProperty().set(results.hasFulltextResults(entry.getEntry()));
-            updateEntrySearchMatch(entry, entry.searchScoreProperty().get() > 0, isFloatingMode);
-        });
+    private void clearSearchMatches(BackgroundTask<Void> searchTask) {
+        synchronized (searchMatchesLock) {
+            if (searchTask.isCancelled()) {
+                return;
+            }
+            boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+            for (BibEntryTableViewModel entry : entriesViewModel) {
+                if (updateEntrySearchResult(entry, 0, false, true, isFloatingMode)) {
+                    rowsToRefilter.add(entry);
+                }
+            }
+            appliedSearchQuery = Optional.empty();
+            appliedSearchMatches = new HashSet<>();
+        }
     }
 
-    private void clearSearchMatches() {
-        boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-        entriesViewModel.forEach(entry -> {
-            entry.searchScoreProperty().set(0);
-            entry.hasFullTextResultsProperty().set(false);
-            updateEntrySearchMatch(entry, true, isFloatingMode);
-        });
+    private void refilterChangedRows() {
+        List<BibEntryTableViewModel> rows;
+        synchronized (searchMatchesLock) {
+            rows = List.copyOf(rowsToRefilter);
+            rowsToRefilter.clear();
+        }
+        refilterRows(rows);
+    }
+
+    /**
+     * Refilters the given rows. Must be called on the FX thread, where the indexes of the rows are looked up.
+     */
+    private void refilterRows(Collection<BibEntryTableViewModel> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // The rows are in the order of the entries, whose IDs are ascending (see BibDatabase#indexOf)
+        Comparator<BibEntryTableViewModel> byEntryId = Comparator.comparing(row -> row.getEntry().getId());
+        int[] indexes = rows.stream()
+                            .mapToInt(row -> {
+                                int index = Collections.binarySearch(entriesViewModel, row, byEntryId);
+                                // The row has been removed in the meantime
+                                return (index >= 0) && (entriesViewModel.get(index) == row) ? index : -1;
+                            })
+                            .filter(index -> index >= 0)
+                            .sorted()
+                            .toArray();
+        if (indexes.length > 0) {
+            FilteredListProxy.refilterListReflection(entriesFiltered, indexes);
+        }
+    }
+
+    /**
+     * Sets the search result of the given entry.
+     *
+     * @return true if the search state of the entry changed and the row thus needs to be refiltered
+     */
+    private static boolean updateEntrySearchResult(BibEntryTableViewModel entry, float score, boolean hasFulltextResults, boolean isMatched, boolean isFloatingMode) {
+        boolean isChanged = entry.searchScoreProperty().get() != score
+                || entry.hasFullTextResultsProperty().get() != hasFulltextResults
+                || entry.isMatchedBySearch().get() != isMatched;
+        if (isChanged) {
+            entry.searchScoreProperty().set(score);
+            entry.hasFullTextResultsProperty().set(hasFulltextResults);
+            updateEntrySearchMatch(entry, isMatched, isFloatingMode);
+        }
+        return isChanged;
     }
 
     private static void updateEntrySearchMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
@@ -192,6 +331,7 @@ public class MainTableDataModel {
         searchDisplayModeSubscription.unsubscribe();
         selectedGroupsSubscription.unsubscribe();
         groupViewModeSubscription.unsubscribe();
+        replaceRunningSearch(null);
 
         bibDatabaseContext.getDatabase().unregisterListener(indexUpdatedListener);
     }
@@ -204,18 +344,24 @@ public class MainTableDataModel {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
     }
 
+    private record PreviousMatches(SearchQuery query, Set<String> entryIds) {
+    }
+
     class LuceneIndexListener {
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent indexAddedOrUpdatedEvent) {
             indexAddedOrUpdatedEvent.entries().forEach(entry -> {
                 BackgroundTask.wrap(() -> {
                     int index = bibDatabaseContext.getDatabase().indexOf(entry);
-                    if (index >= 0) {
-                        BibEntryTableViewModel viewModel = entriesViewModel.get(index);
-                        boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-                        boolean isMatched = true;
-                        if (searchQueryProperty.get().isPresent()) {
-                            SearchQuery searchQuery = searchQueryProperty.get().get();
+                    if (index < 0) {
+                        return Optional.<BibEntryTableViewModel>empty();
+                    }
+                    BibEntryTableViewModel viewModel = entriesViewModel.get(index);
+                    boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+                    boolean isMatched = true;
+                    synchronized (searchMatchesLock) {
+                        if (appliedSearchQuery.isPresent()) {
+                            SearchQuery searchQuery = appliedSearchQuery.get();
                             String newSearchExpression = "+" + SearchFieldConstants.ENTRY_ID + ":" + entry.getId() + " +" + searchQuery.getSearchExpression();
                             SearchQuery entryQuery = new SearchQuery(newSearchExpression, searchQuery.getSearchFlags());
                             SearchResults results = luceneManager.search(entryQuery);
@@ -223,25 +369,32 @@ public class MainTableDataModel {
                             viewModel.searchScoreProperty().set(results.getSearchScoreForEntry(entry));
                             viewModel.hasFullTextResultsProperty().set(results.hasFulltextResults(entry));
                             isMatched = viewModel.searchScoreProperty().get() > 0;
+                            // Keep the matches of the applied query up to date, a narrowing query only looks at them
+                            if (isMatched) {
+                                appliedSearchMatches.add(entry.getId());
+                            } else {
+                                appliedSearchMatches.remove(entry.getId());
+                            }
                         } else {
                             viewModel.searchScoreProperty().set(0);
                             viewModel.hasFullTextResultsProperty().set(false);
                         }
 
                         updateEntrySearchMatch(viewModel, isMatched, isFloatingMode);
-                        updateEntryGroupMatch(viewModel, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
                     }
-                    return index;
-                }).onSuccess(index -> {
-                    if (index >= 0) {
-                        FilteredListProxy.refilterListReflection(entriesFiltered, index, index + 1);
-                    }
-                }).executeWith(taskExecutor);
+                    updateEntryGroupMatch(viewModel, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
+                    return Optional.of(viewModel);
+                }).onSuccess(viewModel -> viewModel.ifPresent(row -> refilterRows(List.of(row))))
+                  .executeWith(taskExecutor);
             });
         }
 
         @Subscribe
         public void listen(IndexStartedEvent indexStartedEvent) {
+            synchronized (searchMatchesLock) {
+                // The index has been rebuilt, so the matches of the previous query cannot be reused
+                appliedSearchQuery = Optional.empty();
+            }
             updateSearchMatches(searchQueryProperty.get());
         }
     }
@@ -944,6 +944,7 @@ public class OOBibBase {
                 }
             } catch (CreationException
                      | WrappedTargetException
+                     | IOException
                      | com.sun.star.lang.IllegalArgumentException ex) {
                 LOGGER.warn("Could not update CSL bibliography", ex);
                 OOError.fromMisc(ex).setTitle(errorTitle).showErrorDialog(dialogService);
@@ -28,6 +28,7 @@ import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.logic.util.WebViewStore;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -267,6 +268,7 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
         final BibEntry theEntry = entry.get();
         BackgroundTask
                 .wrap(() -> layout.generatePreview(theEntry, database))
+                .withLane(TaskLane.INTERACTIVE)
                 .onRunning(() -> setPreviewText("<i>" + Localization.lang("Processing Citation Style \"%0\"...", layout.getDisplayName()) + "</i>"))
                 .onSuccess(this::setPreviewText)
                 .onFailure(exception -> {
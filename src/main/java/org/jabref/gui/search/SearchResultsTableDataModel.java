@@ -1,5 +1,10 @@
 package org.jabref.gui.search;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import javafx.beans.binding.Bindings;
@@ -8,7 +13,6 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
 import org.jabref.gui.StateManager;
@@ -16,15 +20,21 @@ import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.MainTableFieldValueFormatter;
 import org.jabref.gui.maintable.NameDisplayPreferences;
 import org.jabref.gui.preferences.GuiPreferences;
-import org.jabref.gui.util.FilteredListProxy;
+import org.jabref.gui.util.OptionalObjectProperty;
+import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.search.CrossLibrarySearcher;
+import org.jabref.logic.search.CrossLibrarySearcher.LibrarySearchResults;
+import org.jabref.logic.search.LuceneManager;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.SearchQuery;
 import org.jabref.model.search.SearchResults;
 
 import com.tobiasdiez.easybind.EasyBind;
+import org.jspecify.annotations.Nullable;
 
 public class SearchResultsTableDataModel {
 
@@ -32,8 +42,9 @@ public class SearchResultsTableDataModel {
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final StateManager stateManager;
-    private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final TaskExecutor taskExecutor;
+    private final CrossLibrarySearcher crossLibrarySearcher = new CrossLibrarySearcher();
+    private @Nullable BackgroundTask<Void> runningSearch;
 
     public SearchResultsTableDataModel(BibDatabaseContext bibDatabaseContext, GuiPreferences preferences, StateManager stateManager, TaskExecutor taskExecutor) {
         NameDisplayPreferences nameDisplayPreferences = preferences.getNameDisplayPreferences();
@@ -41,48 +52,77 @@ public class SearchResultsTableDataModel {
         this.taskExecutor = taskExecutor;
         this.fieldValueFormatter = new SimpleObjectProperty<>(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
 
-        populateEntriesViewModel();
-        stateManager.getOpenDatabases().addListener((ListChangeListener<BibDatabaseContext>) change -> populateEntriesViewModel());
-        entriesFiltered = new FilteredList<>(entriesViewModel, BibEntryTableViewModel::isVisible);
-
         // We need to wrap the list since otherwise sorting in the table does not work
-        entriesSorted = new SortedList<>(entriesFiltered);
+        entriesSorted = new SortedList<>(entriesViewModel);
 
-        EasyBind.listen(stateManager.activeSearchQuery(SearchType.GLOBAL_SEARCH), (observable, oldValue, newValue) -> updateSearchMatches(newValue));
-        stateManager.searchResultSize(SearchType.GLOBAL_SEARCH).bind(Bindings.size(entriesFiltered));
+        OptionalObjectProperty<SearchQuery> searchQuery = stateManager.activeSearchQuery(SearchType.GLOBAL_SEARCH);
+        stateManager.getOpenDatabases().addListener((ListChangeListener<BibDatabaseContext>) change -> updateSearchMatches(searchQuery.get()));
+        EasyBind.listen(searchQuery, (observable, oldValue, newValue) -> updateSearchMatches(newValue));
+        stateManager.searchResultSize(SearchType.GLOBAL_SEARCH).bind(Bindings.size(entriesViewModel));
+        updateSearchMatches(searchQuery.get());
     }
 
-    private void populateEntriesViewModel() {
+    /**
+     * Lists the entries of all open libraries matching the given query, or all entries if there is no query. The
+     * libraries are searched in the background, and the matches of each library are listed as soon as that library has
+     * been searched. A search still running for a previous query is cancelled.
+     */
+    private void updateSearchMatches(Optional<SearchQuery> query) {
         entriesViewModel.clear();
+        if (query.isEmpty()) {
+            replaceRunningSearch(null);
+            for (BibDatabaseContext context : stateManager.getOpenDatabases()) {
+                entriesViewModel.addAll(context.getEntries().stream()
+                                               .map(entry -> new BibEntryTableViewModel(entry, context, fieldValueFormatter))
+                                               .toList());
+            }
+            return;
+        }
+
+        Map<BibDatabaseContext, LuceneManager> libraries = new LinkedHashMap<>();
         for (BibDatabaseContext context : stateManager.getOpenDatabases()) {
-            ObservableList<BibEntry> entriesForDb = context.getDatabase().getEntries();
-            ObservableList<BibEntryTableViewModel> viewModelForDb = EasyBind.mapBacked(entriesForDb, entry -> new BibEntryTableViewModel(entry, context, fieldValueFormatter), false);
-            entriesViewModel.addAll(viewModelForDb);
+            stateManager.getLuceneManager(context).ifPresent(luceneManager -> libraries.put(context, luceneManager));
         }
+        BackgroundTask<Void> searchTask = new BackgroundTask<>() {
+            @Override
+            public Void call() {
+                crossLibrarySearcher.search(libraries, query.get(), libraryResults -> showMatches(libraryResults, this), this::isCancelled);
+                return null;
+            }
+        };
+        replaceRunningSearch(searchTask);
+        searchTask.withLane(TaskLane.INTERACTIVE)
+                  .executeWith(taskExecutor);
     }
 
-    private void updateSearchMatches(Optional<SearchQuery> query) {
-        BackgroundTask.wrap(() -> {
-            if (query.isPresent()) {
-                SearchResults searchResults = new SearchResults();
-                for (BibDatabaseContext context : stateManager.getOpenDatabases()) {
-                    stateManager.getLuceneManager(context).ifPresent(luceneManager -> {
-                        searchResults.mergeSearchResults(luceneManager.search(query.get()));
-                    });
-                }
-                for (BibEntryTableViewModel entry : entriesViewModel) {
-                    entry.searchScoreProperty().set(searchResults.getSearchScoreForEntry(entry.getEntry()));
-                    entry.hasFullTextResultsProperty().set(searchResults.hasFulltextResults(entry.getEntry()));
-                    entry.isVisibleBySearch().set(entry.searchScoreProperty().get() > 0);
-                }
-            } else {
-                for (BibEntryTableViewModel entry : entriesViewModel) {
-                    entry.searchScoreProperty().set(0);
-                    entry.hasFullTextResultsProperty().set(false);
-                    entry.isVisibleBySearch().set(true);
-                }
+    private void replaceRunningSearch(@Nullable BackgroundTask<Void> searchTask) {
+        if (runningSearch != null) {
+            runningSearch.cancel();
+        }
+        runningSearch = searchTask;
+    }
+
+    private void showMatches(LibrarySearchResults libraryResults, BackgroundTask<Void> searchTask) {
+        BibDatabaseContext context = libraryResults.databaseContext();
+        SearchResults searchResults = libraryResults.searchResults();
+        List<BibEntry> matches = searchResults.getMatchedEntries().stream()
+                                              .map(context.getDatabase()::getEntryById)
+                                              .filter(Objects::nonNull)
+                                              .toList();
+        UiTaskExecutor.runInJavaFXThread(() -> {
+            // The search is only cancelled in the JavaFX thread, thus the matches of a replaced search are never listed
+            if (searchTask.isCancelled()) {
+                return;
+            }
+            List<BibEntryTableViewModel> viewModels = new ArrayList<>(matches.size());
+            for (BibEntry entry : matches) {
+                BibEntryTableViewModel viewModel = new BibEntryTableViewModel(entry, context, fieldValueFormatter);
+                viewModel.searchScoreProperty().set(searchResults.getSearchScoreForEntry(entry));
+                viewModel.hasFullTextResultsProperty().set(searchResults.hasFulltextResults(entry));
+                viewModels.add(viewModel);
             }
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+            entriesViewModel.addAll(viewModels);
+        });
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -28,6 +28,7 @@ import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexParserCache;
 import org.jabref.logic.texparser.TexBibEntriesResolver;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
@@ -190,7 +191,7 @@ public class ParseLatexDialogViewModel extends AbstractViewModel {
     }
 
     /**
-     * Parse all checked files in a background task.
+     * Parse all checked files in a background task. Files which did not change since the last run are taken from the cache.
      */
     public void parseButtonClicked() {
         List<Path> fileList = checkedFileList.stream()
@@ -207,7 +208,7 @@ public class ParseLatexDialogViewModel extends AbstractViewModel {
                 preferences.getImportFormatPreferences(),
                 fileMonitor);
 
-        BackgroundTask.wrap(() -> entriesResolver.resolve(new DefaultLatexParser().parse(fileList)))
+        BackgroundTask.wrap(() -> entriesResolver.resolve(new DefaultLatexParser(LatexParserCache.INSTANCE).parse(fileList)))
                       .onRunning(() -> searchInProgress.set(true))
                       .onFinished(() -> searchInProgress.set(false))
                       .onSuccess(result -> dialogService.showCustomDialogAndWait(
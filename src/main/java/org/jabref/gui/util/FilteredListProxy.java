@@ -3,8 +3,9 @@ package org.jabref.gui.util;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.ListIterator;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import javafx.collections.ObservableListBase;
 import javafx.collections.transformation.FilteredList;
@@ -40,26 +41,39 @@ public class FilteredListProxy {
     }
 
     public static void refilterListReflection(FilteredList<BibEntryTableViewModel> filteredList, int sourceFrom, int sourceTo) {
+        if (sourceFrom < 0 || sourceTo > filteredList.getSource().size() || sourceFrom > sourceTo) {
+            throw new IndexOutOfBoundsException();
+        }
+        refilterListReflection(filteredList, IntStream.range(sourceFrom, sourceTo).toArray());
+    }
+
+    /**
+     * Refilters only the given rows of the source list, all changes are reported as one change of the filtered list.
+     *
+     * @param sourceIndexes the indexes of the rows in the source list in ascending order. Indexes which are not (or no
+     *                      longer) contained in the source list are ignored.
+     */
+    public static void refilterListReflection(FilteredList<BibEntryTableViewModel> filteredList, int[] sourceIndexes) {
         try {
             if (!initialized) {
                 initReflection();
             }
-            if (sourceFrom < 0 || sourceTo > filteredList.getSource().size() || sourceFrom > sourceTo) {
-                throw new IndexOutOfBoundsException();
-            }
 
             BEGIN_CHANGE_METHOD.invoke(filteredList);
             ENSURE_SIZE_METHOD.invoke(filteredList, filteredList.getSource().size());
 
             @SuppressWarnings("unchecked")
             Predicate<BibEntryTableViewModel> predicateImpl = (Predicate<BibEntryTableViewModel>) GET_PREDICATE_IMPL_METHOD.invoke(filteredList);
-            ListIterator<? extends BibEntryTableViewModel> it = filteredList.getSource().listIterator(sourceFrom);
+            List<? extends BibEntryTableViewModel> source = filteredList.getSource();
 
             int[] filtered = (int[]) FILTERED_FIELD.get(filteredList);
             int size = (int) SIZE_FIELD.get(filteredList);
 
-            for (int i = sourceFrom; i < sourceTo; ++i) {
-                BibEntryTableViewModel el = it.next();
+            for (int i : sourceIndexes) {
+                if (i < 0 || i >= source.size()) {
+                    continue;
+                }
+                BibEntryTableViewModel el = source.get(i);
                 int pos = Arrays.binarySearch(filtered, 0, size, i);
                 boolean passedBefore = pos >= 0;
                 boolean passedNow = predicateImpl.test(el);
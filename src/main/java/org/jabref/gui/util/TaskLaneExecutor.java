@@ -0,0 +1,71 @@
+package org.jabref.gui.util;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jabref.logic.util.TaskLane;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the tasks of one {@link TaskLane} and measures how long they wait before they are started.
+ */
+final class TaskLaneExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskLaneExecutor.class);
+
+    private static final long LONG_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final TaskLane lane;
+    private final ExecutorService executor;
+
+    private final AtomicInteger waitingTasks = new AtomicInteger();
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maximumWaitNanos = new LongAccumulator(Math::max, 0);
+
+    TaskLaneExecutor(TaskLane lane, ExecutorService executor) {
+        this.lane = lane;
+        this.executor = executor;
+    }
+
+    void execute(Runnable task) {
+        long submitted = System.nanoTime();
+        waitingTasks.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                waitingTasks.decrementAndGet();
+                recordWait(System.nanoTime() - submitted);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            waitingTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        startedTasks.increment();
+        totalWaitNanos.add(waitNanos);
+        maximumWaitNanos.accumulate(waitNanos);
+        if (waitNanos > LONG_WAIT_NANOS) {
+            LOGGER.debug("Task waited {} ms in lane {}, {} tasks still waiting", TimeUnit.NANOSECONDS.toMillis(waitNanos), lane, waitingTasks.get());
+        }
+    }
+
+    UiTaskExecutor.LaneStatistics getStatistics() {
+        long started = startedTasks.sum();
+        Duration averageWait = started == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.sum() / started);
+        return new UiTaskExecutor.LaneStatistics(lane, waitingTasks.get(), started, averageWait, Duration.ofNanos(maximumWaitNanos.get()));
+    }
+
+    void shutdownNow() {
+        executor.shutdownNow();
+    }
+}
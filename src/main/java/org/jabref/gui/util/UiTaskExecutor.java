@@ -1,11 +1,13 @@
 package org.jabref.gui.util;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
@@ -21,6 +23,7 @@ import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.DelayTaskThrottler;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskLane;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.slf4j.Logger;
@@ -30,16 +33,39 @@ import org.slf4j.LoggerFactory;
  * A very simple implementation of the {@link TaskExecutor} interface.
  * Every submitted task is invoked in a separate thread.
  * <p>
+ * Each {@link TaskLane} has its own threads, so that tasks the user waits for are not queued behind long-running jobs.
+ * Bulk jobs get at most a quarter of the cores, and tasks waiting for I/O run on virtual threads.
+ * <p>
  * In case something does not interact well with JavaFX, you can use the {@link HeadlessExecutorService}
  */
 public class UiTaskExecutor implements TaskExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UiTaskExecutor.class);
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+    private final Map<TaskLane, TaskLaneExecutor> lanes = new EnumMap<>(Map.of(
+            TaskLane.INTERACTIVE, new TaskLaneExecutor(TaskLane.INTERACTIVE, Executors.newFixedThreadPool(2,
+                    Thread.ofPlatform().name("interactive-task-", 0).priority(Thread.NORM_PRIORITY + 1).factory())),
+            TaskLane.NORMAL, new TaskLaneExecutor(TaskLane.NORMAL, Executors.newFixedThreadPool(5,
+                    Thread.ofPlatform().name("task-", 0).factory())),
+            TaskLane.BULK, new TaskLaneExecutor(TaskLane.BULK, Executors.newFixedThreadPool(TaskLane.BULK_THREADS,
+                    Thread.ofPlatform().name("bulk-task-", 0).priority(Thread.NORM_PRIORITY - 1).factory())),
+            TaskLane.IO, new TaskLaneExecutor(TaskLane.IO, Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("io-task-", 0).factory()))));
     private final ScheduledExecutorService scheduledExecutor = Executors.newScheduledThreadPool(2);
     private final WeakHashMap<DelayTaskThrottler, Void> throttlers = new WeakHashMap<>();
 
+    /**
+     * @param queuedTasks  the number of tasks waiting to be started
+     * @param startedTasks the number of tasks started so far
+     */
+    public record LaneStatistics(
+            TaskLane lane,
+            int queuedTasks,
+            long startedTasks,
+            Duration averageWait,
+            Duration maximumWait) {
+    }
+
     public static <V> V runInJavaFXThread(Callable<V> callable) {
         if (Platform.isFxApplicationThread()) {
             try {
@@ -121,7 +147,7 @@ public class UiTaskExecutor implements TaskExecutor {
                 }
             }
         });
-        return execute(javafxTask);
+        return execute(javafxTask, task.getLane());
     }
 
     /**
@@ -132,13 +158,29 @@ public class UiTaskExecutor implements TaskExecutor {
      * @param task the task to run
      */
     public <V> Future<V> execute(Task<V> task) {
-        executor.submit(task);
+        return execute(task, TaskLane.NORMAL);
+    }
+
+    /**
+     * Runs the given task in the given lane and returns a Future representing that task.
+     */
+    public <V> Future<V> execute(Task<V> task, TaskLane lane) {
+        lanes.get(lane).execute(task);
         return task;
     }
 
     @Override
     public <V> Future<?> schedule(BackgroundTask<V> task, long delay, TimeUnit unit) {
-        return scheduledExecutor.schedule(getJavaFXTask(task), delay, unit);
+        Task<V> javafxTask = getJavaFXTask(task);
+        // The scheduler only hands the task over, so that it runs in its lane
+        return scheduledExecutor.schedule(() -> execute(javafxTask, task.getLane()), delay, unit);
+    }
+
+    /**
+     * Reports how many tasks of the lane are waiting and how long tasks waited until they were started.
+     */
+    public LaneStatistics getStatistics(TaskLane lane) {
+        return lanes.get(lane).getStatistics();
     }
 
     /**
@@ -150,7 +192,7 @@ public class UiTaskExecutor implements TaskExecutor {
         if (stateManager != null) {
             stateManager.getBackgroundTasks().stream().filter(task -> !task.isDone()).forEach(Task::cancel);
         }
-        executor.shutdownNow();
+        lanes.values().forEach(TaskLaneExecutor::shutdownNow);
         scheduledExecutor.shutdownNow();
         throttlers.forEach((throttler, aVoid) -> throttler.shutdown());
     }
@@ -13,6 +13,7 @@ import org.jabref.logic.FilePreferences;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 
@@ -53,6 +54,7 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
 
     private void configure() {
         showToUser(true);
+        withLane(TaskLane.BULK);
         titleProperty().set(Localization.lang("Generating embeddings for file '%0'", linkedFile.getLink()));
 
         progressCounter.listenToAllProperties(this::updateProgress);
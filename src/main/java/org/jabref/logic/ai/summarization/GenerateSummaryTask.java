@@ -18,6 +18,7 @@ import org.jabref.logic.ai.util.CitationKeyCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -104,6 +105,7 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
 
     private void configure() {
         showToUser(true);
+        withLane(TaskLane.IO);
         titleProperty().set(Localization.lang("Waiting summary for %0...", citationKey));
 
         progressCounter.listenToAllProperties(this::updateProgress);
@@ -1,5 +1,6 @@
 package org.jabref.logic.auxparser;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -14,6 +15,7 @@ public class AuxParserResult {
     private final BibDatabase masterDatabase;
     private final Set<String> uniqueKeys = new HashSet<>();
     private final List<String> unresolvedKeys = new ArrayList<>();
+    private final List<Path> auxFiles = new ArrayList<>();
 
     private final BibDatabase auxDatabase = new BibDatabase();
     private int nestedAuxCount;
@@ -24,6 +26,17 @@ public class AuxParserResult {
         this.masterDatabase = masterDatabase;
     }
 
+    public void addAuxFile(Path auxFile) {
+        auxFiles.add(auxFile);
+    }
+
+    /**
+     * Returns the AUX files that have been read, that is, the given one and all nested ones
+     */
+    public List<Path> getAuxFiles() {
+        return auxFiles;
+    }
+
     public BibDatabase getGeneratedBibDatabase() {
         return auxDatabase;
     }
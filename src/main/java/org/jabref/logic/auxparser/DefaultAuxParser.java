@@ -62,6 +62,7 @@ public class DefaultAuxParser implements AuxParser {
 
         while (fileIndex < fileList.size()) {
             Path file = fileList.get(fileIndex);
+            result.addAuxFile(file);
 
             try (BufferedReader br = Files.newBufferedReader(file)) {
                 String line;
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.FieldChange;
@@ -42,6 +43,7 @@ public class CitationKeyGenerator extends BracketedPattern {
     private final BibDatabase database;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
     private final String unwantedCharacters;
+    private final ToLongFunction<String> citationKeyOccurrences;
 
     public CitationKeyGenerator(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
         this(bibDatabaseContext.getMetaData().getCiteKeyPatterns(citationKeyPatternPreferences.getKeyPatterns()),
@@ -50,10 +52,19 @@ public class CitationKeyGenerator extends BracketedPattern {
     }
 
     public CitationKeyGenerator(AbstractCitationKeyPatterns citeKeyPattern, BibDatabase database, CitationKeyPatternPreferences citationKeyPatternPreferences) {
+        this(citeKeyPattern, database, citationKeyPatternPreferences, database::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * @param citationKeyOccurrences returns how often a key is used in the library. Use it to look up the keys in a table
+     *                               prepared by {@link BibDatabase#getCitationKeyCounts()} when generating many keys.
+     */
+    public CitationKeyGenerator(AbstractCitationKeyPatterns citeKeyPattern, BibDatabase database, CitationKeyPatternPreferences citationKeyPatternPreferences, ToLongFunction<String> citationKeyOccurrences) {
         this.citeKeyPattern = Objects.requireNonNull(citeKeyPattern);
         this.database = Objects.requireNonNull(database);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
         this.unwantedCharacters = citationKeyPatternPreferences.getUnwantedCharacters();
+        this.citationKeyOccurrences = Objects.requireNonNull(citationKeyOccurrences);
     }
 
     /**
@@ -116,7 +127,7 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a key, if needed, with an appended letter
      */
     private String appendLettersToKey(String key, String oldKey) {
-        long occurrences = database.getNumberOfCitationKeyOccurrences(key);
+        long occurrences = citationKeyOccurrences.applyAsLong(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -137,7 +148,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 moddedKey = key + getAppendix(number);
                 number++;
 
-                occurrences = database.getNumberOfCitationKeyOccurrences(moddedKey);
+                occurrences = citationKeyOccurrences.applyAsLong(moddedKey);
                 // only happens if #getAddition() is buggy
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
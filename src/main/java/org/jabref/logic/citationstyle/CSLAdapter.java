@@ -29,6 +29,7 @@ import de.undercouch.citeproc.output.Citation;
  * a BackgroundTask, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
  * In the current scheme, {@link #makeBibliography} can be called as usual
  * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * To render with the same style in several threads, {@link CSLAdapterPool} keeps several instances per style.
  */
 public class CSLAdapter {
 
@@ -58,6 +59,13 @@ public class CSLAdapter {
         return cslInstance.makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
     }
 
+    /**
+     * Creates the CSL instance for the given style, so that the first rendering is not slowed down by it.
+     */
+    synchronized void warmUp(String style) throws IOException {
+        initialize(style, CitationStyleOutputFormat.HTML);
+    }
+
     /**
      * Initialized the static CSL instance if needed.
      *
@@ -0,0 +1,129 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps warmed-up {@link CSLAdapter} instances, so that several threads can render with the same style at the same time.
+ * <p>
+ * Each adapter is created for one style only, so its CSL engine is never re-instantiated. The number of adapters per
+ * style is bounded, a thread waits until an adapter of the style is returned if all of them are in use. Only the
+ * adapters of the styles used last are kept.
+ */
+class CSLAdapterPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSLAdapterPool.class);
+
+    private static final int MAXIMUM_POOLED_STYLES = 4;
+
+    private final int adaptersPerStyle;
+    private final Map<String, StylePool> pools = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StylePool> eldest) {
+            return size() > MAXIMUM_POOLED_STYLES;
+        }
+    };
+
+    /**
+     * An adapter borrowed from the pool. Closing the lease returns the adapter.
+     */
+    interface Lease extends AutoCloseable {
+        CSLAdapter adapter();
+
+        @Override
+        void close();
+    }
+
+    private static class StylePool {
+        private final String style;
+        private final Semaphore available;
+        private final ConcurrentLinkedQueue<CSLAdapter> idleAdapters = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger createdAdapters = new AtomicInteger();
+
+        StylePool(String style, int adaptersPerStyle) {
+            this.style = style;
+            this.available = new Semaphore(adaptersPerStyle, true);
+        }
+
+        Lease borrow() throws IOException {
+            available.acquireUninterruptibly();
+            CSLAdapter adapter = idleAdapters.poll();
+            if (adapter == null) {
+                try {
+                    adapter = createAdapter();
+                } catch (IOException | RuntimeException e) {
+                    available.release();
+                    throw e;
+                }
+            }
+
+            CSLAdapter borrowedAdapter = adapter;
+            return new Lease() {
+                @Override
+                public CSLAdapter adapter() {
+                    return borrowedAdapter;
+                }
+
+                @Override
+                public void close() {
+                    idleAdapters.offer(borrowedAdapter);
+                    available.release();
+                }
+            };
+        }
+
+        private CSLAdapter createAdapter() throws IOException {
+            long start = System.nanoTime();
+            CSLAdapter adapter = new CSLAdapter();
+            adapter.warmUp(style);
+            LOGGER.debug("Warmed up CSL engine number {} of a style in {} ms",
+                    createdAdapters.incrementAndGet(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return adapter;
+        }
+    }
+
+    CSLAdapterPool(int adaptersPerStyle) {
+        this.adaptersPerStyle = adaptersPerStyle;
+    }
+
+    /**
+     * Borrows an adapter for the given style. The lease has to be closed after use.
+     *
+     * @throws IOException if a new CSL engine could not be created for the style
+     */
+    Lease borrow(String style) throws IOException {
+        StylePool pool;
+        synchronized (pools) {
+            pool = pools.computeIfAbsent(style, newStyle -> new StylePool(newStyle, adaptersPerStyle));
+        }
+        return pool.borrow();
+    }
+
+    /**
+     * Checks whether each entry of the bibliography is rendered independently of the other entries. Then, the
+     * bibliography of many entries can be rendered in parts that are concatenated afterward.
+     * <p>
+     * This is not the case if the style sorts the bibliography, numbers the entries, replaces repeated authors or
+     * disambiguates citations.
+     */
+    static boolean isRenderableInChunks(String style) {
+        int bibliographyStart = style.indexOf("<bibliography");
+        if (bibliographyStart < 0) {
+            return false;
+        }
+        String bibliography = style.substring(bibliographyStart);
+        return !bibliography.contains("<sort")
+                && !style.contains("citation-number")
+                && !style.contains("subsequent-author-substitute")
+                && !style.contains("disambiguate-add-");
+    }
+}
@@ -2,57 +2,74 @@ package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLStreamConstants;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
-
 import org.jabref.architecture.AllowedToUseClassGetResource;
 import org.jabref.logic.openoffice.style.OOStyle;
 import org.jabref.logic.util.StandardFileType;
 
-import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Representation of a CitationStyle. Stores its name, the file path and the style itself
+ * <p>
+ * The styles that come with JabRef are listed by the {@link CitationStyleCatalog} generated at build time. Their source
+ * is only read when it is needed. The sources read last are kept in a bounded cache.
  */
-@AllowedToUseClassGetResource("org.jabref.logic.citationstyle.CitationStyle.discoverCitationStyles reads the whole path to discover all available styles. Should be converted to a build-time job.")
+@AllowedToUseClassGetResource("org.jabref.logic.citationstyle.CitationStyle.discoverCitationStyles reads the whole path to discover all available styles if no catalog was generated at build time.")
 public class CitationStyle implements OOStyle {
 
     public static final String DEFAULT = "/ieee.csl";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyle.class);
     private static final String STYLES_ROOT = "/csl-styles";
-    private static final List<CitationStyle> STYLES = new ArrayList<>();
-    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+    private static final int MAXIMUM_CACHED_SOURCES = 32;
+    private static final Cache<String, String> SOURCES = CacheBuilder.newBuilder()
+                                                                     .maximumSize(MAXIMUM_CACHED_SOURCES)
+                                                                     .build();
+
+    private static volatile List<CitationStyle> styles;
 
     private final String filePath;
     private final String title;
     private final boolean isNumericStyle;
-    private final String source;
+
+    // Either the source itself or the path of the internal style file it is read from
+    private final @Nullable String source;
+    private final @Nullable String sourceFilePath;
 
     private CitationStyle(final String filename, final String title, final boolean isNumericStyle, final String source) {
         this.filePath = Objects.requireNonNull(filename);
         this.title = Objects.requireNonNull(title);
         this.isNumericStyle = isNumericStyle;
         this.source = Objects.requireNonNull(source);
+        this.sourceFilePath = null;
+    }
+
+    private CitationStyle(final String filename, final CitationStyleCatalog.Entry catalogEntry) {
+        this.filePath = Objects.requireNonNull(filename);
+        this.title = catalogEntry.title();
+        this.isNumericStyle = catalogEntry.isNumericStyle();
+        this.source = null;
+        this.sourceFilePath = catalogEntry.sourceFilePath();
     }
 
     /**
@@ -60,14 +77,18 @@ public class CitationStyle implements OOStyle {
      */
     private static Optional<CitationStyle> createCitationStyleFromSource(final InputStream source, final String filename) {
         try {
-            String content = new String(source.readAllBytes());
+            String content = new String(source.readAllBytes(), StandardCharsets.UTF_8);
 
-            Optional<StyleInfo> styleInfo = parseStyleInfo(filename, content);
-            if (styleInfo.isEmpty()) {
+            Optional<CitationStyleCatalog.Entry> catalogEntry = CitationStyleCatalog.parseEntry(filename, content);
+            if (catalogEntry.isEmpty()) {
                 return Optional.empty();
             }
 
-            return Optional.of(new CitationStyle(filename, styleInfo.get().title(), styleInfo.get().isNumericStyle(), content));
+            if (catalogEntry.get().independentParent().isPresent()) {
+                // A dependent style is formatted by its parent, which is read when it is needed
+                return Optional.of(new CitationStyle(filename, catalogEntry.get()));
+            }
+            return Optional.of(new CitationStyle(filename, catalogEntry.get().title(), catalogEntry.get().isNumericStyle(), content));
         } catch (IOException e) {
             LOGGER.error("Error while parsing source", e);
             return Optional.empty();
@@ -77,67 +98,6 @@ public class CitationStyle implements OOStyle {
     public record StyleInfo(String title, boolean isNumericStyle) {
     }
 
-    @VisibleForTesting
-    static Optional<StyleInfo> parseStyleInfo(String filename, String content) {
-        FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
-
-        try {
-            XMLStreamReader reader = FACTORY.createXMLStreamReader(new StringReader(content));
-
-            boolean inInfo = false;
-            boolean hasBibliography = false;
-            String title = "";
-            boolean isNumericStyle = false;
-
-            while (reader.hasNext()) {
-                int event = reader.next();
-
-                if (event == XMLStreamConstants.START_ELEMENT) {
-                    String elementName = reader.getLocalName();
-
-                    switch (elementName) {
-                        case "bibliography" -> hasBibliography = true;
-                        case "info" -> inInfo = true;
-                        case "title" -> {
-                            if (inInfo) {
-                                title = reader.getElementText();
-                            }
-                        }
-                        case "category" -> {
-                            String citationFormat = reader.getAttributeValue(null, "citation-format");
-                            if (citationFormat != null) {
-                                isNumericStyle = "numeric".equals(citationFormat);
-                            }
-                        }
-                    }
-                } else if (event == XMLStreamConstants.END_ELEMENT) {
-                    if ("info".equals(reader.getLocalName())) {
-                        inInfo = false;
-                    }
-                }
-            }
-
-            if (hasBibliography && title != null) {
-                return Optional.of(new StyleInfo(title, isNumericStyle));
-            } else {
-                LOGGER.debug("No valid title or bibliography found for file {}", filename);
-                return Optional.empty();
-            }
-        } catch (XMLStreamException e) {
-            LOGGER.error("Error parsing XML for file {}: {}", filename, e.getMessage(), e);
-            return Optional.empty();
-        }
-    }
-
-    private static String stripInvalidProlog(String source) {
-        int startIndex = source.indexOf("<");
-        if (startIndex > 0) {
-            return source.substring(startIndex);
-        } else {
-            return source;
-        }
-    }
-
     /**
      * Loads the CitationStyle from the given file
      */
@@ -150,6 +110,12 @@ public class CitationStyle implements OOStyle {
         String internalFile = STYLES_ROOT + (styleFile.startsWith("/") ? "" : "/") + styleFile;
         Path internalFilePath = Path.of(internalFile);
         boolean isExternalFile = Files.exists(internalFilePath);
+        if (!isExternalFile) {
+            Optional<CitationStyleCatalog.Entry> catalogEntry = CitationStyleCatalog.getBundled().flatMap(catalog -> catalog.getEntry(styleFile));
+            if (catalogEntry.isPresent()) {
+                return Optional.of(new CitationStyle(styleFile, catalogEntry.get()));
+            }
+        }
         try (InputStream inputStream = isExternalFile ? Files.newInputStream(internalFilePath) : CitationStyle.class.getResourceAsStream(internalFile)) {
             if (inputStream == null) {
                 LOGGER.error("Could not find file: {}", styleFile);
@@ -179,12 +145,21 @@ public class CitationStyle implements OOStyle {
      * @return list of available citation styles
      */
     public static List<CitationStyle> discoverCitationStyles() {
-        if (!STYLES.isEmpty()) {
-            return STYLES;
+        List<CitationStyle> discoveredStyles = styles;
+        if (discoveredStyles != null) {
+            return discoveredStyles;
         }
 
-        // TODO: The list of files should be determined at build time (instead of the dynamic method in discoverCitationStylesInPath(path))
+        Optional<CitationStyleCatalog> catalog = CitationStyleCatalog.getBundled();
+        if (catalog.isPresent()) {
+            discoveredStyles = catalog.get().getEntries().stream()
+                                      .map(entry -> new CitationStyle(entry.filePath(), entry))
+                                      .toList();
+            styles = discoveredStyles;
+            return discoveredStyles;
+        }
 
+        LOGGER.warn("No citation style catalog found. Reading all citation styles instead.");
         URL url = CitationStyle.class.getResource(STYLES_ROOT + DEFAULT);
         if (url == null) {
             LOGGER.error("Could not find any citation style. Tried with {}.", DEFAULT);
@@ -194,9 +169,9 @@ public class CitationStyle implements OOStyle {
         try {
             URI uri = url.toURI();
             Path path = Path.of(uri).getParent();
-            STYLES.addAll(discoverCitationStylesInPath(path));
-
-            return STYLES;
+            discoveredStyles = List.copyOf(discoverCitationStylesInPath(path));
+            styles = discoveredStyles;
+            return discoveredStyles;
         } catch (URISyntaxException
                  | IOException e) {
             LOGGER.error("something went wrong while searching available CitationStyles", e);
@@ -230,8 +205,31 @@ public class CitationStyle implements OOStyle {
         return isNumericStyle;
     }
 
-    public String getSource() {
-        return source;
+    /**
+     * Returns the source of the style. For the styles listed in the catalog, it is read on first use.
+     *
+     * @return the source, or an empty optional if the style file could not be read
+     */
+    public Optional<String> getSource() {
+        if (source != null) {
+            return Optional.of(source);
+        }
+        try {
+            return Optional.of(SOURCES.get(sourceFilePath, () -> readInternalSource(sourceFilePath)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            LOGGER.error("Could not read citation style {}", sourceFilePath, e);
+            return Optional.empty();
+        }
+    }
+
+    private static String readInternalSource(String styleFile) throws IOException {
+        String internalFile = STYLES_ROOT + (styleFile.startsWith("/") ? "" : "/") + styleFile;
+        try (InputStream inputStream = CitationStyle.class.getResourceAsStream(internalFile)) {
+            if (inputStream == null) {
+                throw new NoSuchFileException(internalFile);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
     }
 
     public String getFilePath() {
@@ -253,12 +251,12 @@ public class CitationStyle implements OOStyle {
         }
 
         CitationStyle other = (CitationStyle) o;
-        return Objects.equals(source, other.source);
+        return Objects.equals(filePath, other.filePath) && Objects.equals(title, other.title);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(source);
+        return Objects.hash(filePath, title);
     }
 
     @Override
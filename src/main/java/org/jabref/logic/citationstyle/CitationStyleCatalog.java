@@ -0,0 +1,216 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jabref.architecture.AllowedToUseClassGetResource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The list of citation styles that come with JabRef, together with the information shown to the user.
+ * <p>
+ * The catalog is generated at build time by {@link org.jabref.cli.CitationStyleCatalogGenerator}, so that the styles do
+ * not have to be read and parsed to list them. Each line holds the file path of a style relative to the styles
+ * directory, its title, whether it is numeric and, for dependent styles, the file path of its independent parent.
+ * The fields are separated by tabs.
+ */
+@AllowedToUseClassGetResource("org.jabref.logic.citationstyle.CitationStyleCatalog reads the catalog generated at build time from the styles directory")
+public class CitationStyleCatalog {
+
+    public static final String FILE_NAME = "citation-style-catalog.tsv";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleCatalog.class);
+
+    private static final String RESOURCE = "/csl-styles/" + FILE_NAME;
+    private static final String HEADER = "# file\ttitle\tnumeric\tindependent-parent";
+    private static final String SEPARATOR = "\t";
+    private static final String STYLES_URL_PREFIX = "/styles/";
+    private static final String STYLE_FILE_SUFFIX = ".csl";
+
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * @param filePath           the path of the style file relative to the styles directory, e.g. <code>dependent/nature-physics.csl</code>
+     * @param independentParent  for dependent styles, the path of the style file whose formatting is used
+     */
+    public record Entry(String filePath, String title, boolean isNumericStyle, Optional<String> independentParent) {
+
+        /**
+         * Returns the path of the style file containing the formatting of this style.
+         */
+        public String sourceFilePath() {
+            return independentParent.orElse(filePath);
+        }
+    }
+
+    public CitationStyleCatalog(Collection<Entry> entries) {
+        entries.forEach(entry -> this.entries.put(entry.filePath(), entry));
+    }
+
+    public List<Entry> getEntries() {
+        return List.copyOf(entries.values());
+    }
+
+    /**
+     * @param filePath the path of the style file relative to the styles directory, with or without a leading slash
+     */
+    public Optional<Entry> getEntry(String filePath) {
+        return Optional.ofNullable(entries.get(filePath.startsWith("/") ? filePath.substring(1) : filePath));
+    }
+
+    /**
+     * Provides the catalog that comes with JabRef. It is read once.
+     *
+     * @return the catalog or an empty optional if it was not generated
+     */
+    public static Optional<CitationStyleCatalog> getBundled() {
+        return BundledCatalogHolder.CATALOG;
+    }
+
+    public static CitationStyleCatalog read(Reader reader) throws IOException {
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        List<Entry> entries = bufferedReader.lines()
+                                            .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                                            .map(line -> line.split(SEPARATOR, -1))
+                                            .filter(fields -> fields.length == 4)
+                                            .map(fields -> new Entry(
+                                                    fields[0],
+                                                    fields[1],
+                                                    "1".equals(fields[2]),
+                                                    Optional.of(fields[3]).filter(parent -> !parent.isEmpty())))
+                                            .toList();
+        return new CitationStyleCatalog(entries);
+    }
+
+    public void write(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Entry entry : entries.values()) {
+            writer.write(String.join(SEPARATOR,
+                    entry.filePath(),
+                    entry.title().replaceAll("\\s+", " ").strip(),
+                    entry.isNumericStyle() ? "1" : "0",
+                    entry.independentParent().orElse("")));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Reads the catalog information from the source of a style.
+     * <p>
+     * Independent styles need to have a bibliography. Dependent styles need to link to their independent parent,
+     * whose bibliography they use.
+     *
+     * @param filePath the path of the style file relative to the styles directory
+     * @return the entry or an empty optional if the source is not a usable style
+     */
+    public static Optional<Entry> parseEntry(String filePath, String content) {
+        try {
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(new StringReader(content));
+
+            boolean inInfo = false;
+            boolean hasBibliography = false;
+            String title = "";
+            boolean isNumericStyle = false;
+            String independentParent = null;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String elementName = reader.getLocalName();
+
+                    switch (elementName) {
+                        case "bibliography" -> hasBibliography = true;
+                        case "info" -> inInfo = true;
+                        case "title" -> {
+                            if (inInfo) {
+                                title = reader.getElementText();
+                            }
+                        }
+                        case "link" -> {
+                            if (inInfo && "independent-parent".equals(reader.getAttributeValue(null, "rel"))) {
+                                independentParent = toFilePath(reader.getAttributeValue(null, "href"));
+                            }
+                        }
+                        case "category" -> {
+                            String citationFormat = reader.getAttributeValue(null, "citation-format");
+                            if (citationFormat != null) {
+                                isNumericStyle = "numeric".equals(citationFormat);
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("info".equals(reader.getLocalName())) {
+                        inInfo = false;
+                    }
+                }
+            }
+
+            if (independentParent != null) {
+                return Optional.of(new Entry(filePath, title, isNumericStyle, Optional.of(independentParent)));
+            }
+            if (hasBibliography) {
+                return Optional.of(new Entry(filePath, title, isNumericStyle, Optional.empty()));
+            }
+            LOGGER.debug("No bibliography found for file {}", filePath);
+            return Optional.empty();
+        } catch (XMLStreamException e) {
+            LOGGER.error("Error parsing XML for file {}: {}", filePath, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Converts the URL of a style, e.g. <code>http://www.zotero.org/styles/apa</code>, to its file path.
+     */
+    private static String toFilePath(String styleUrl) {
+        if (styleUrl == null) {
+            return null;
+        }
+        int nameStart = styleUrl.lastIndexOf(STYLES_URL_PREFIX);
+        String name = nameStart >= 0 ? styleUrl.substring(nameStart + STYLES_URL_PREFIX.length()) : styleUrl;
+        return name.isBlank() ? null : name + STYLE_FILE_SUFFIX;
+    }
+
+    private static Optional<CitationStyleCatalog> readBundled() {
+        try (InputStream inputStream = CitationStyleCatalog.class.getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                LOGGER.debug("No citation style catalog found at {}", RESOURCE);
+                return Optional.empty();
+            }
+            return Optional.of(read(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            LOGGER.error("Could not read citation style catalog", e);
+            return Optional.empty();
+        }
+    }
+
+    private static class BundledCatalogHolder {
+        private static final Optional<CitationStyleCatalog> CATALOG = readBundled();
+    }
+}
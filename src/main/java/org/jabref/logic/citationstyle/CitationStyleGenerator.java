@@ -1,8 +1,11 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -17,11 +20,16 @@ import org.slf4j.LoggerFactory;
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
  * given journal style. This class uses {@link CSLAdapter} to create output.
+ * <p>
+ * The adapters are taken from a {@link CSLAdapterPool}, so that output in the same style can be generated in several
+ * threads at once. If the entries of a bibliography are rendered independently of each other, a large bibliography is
+ * split into chunks that are rendered in parallel and concatenated in the order of the entries.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final int ENTRIES_PER_CHUNK = 100;
+    private static final CSLAdapterPool CSL_ADAPTERS = new CSLAdapterPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
 
     private CitationStyleGenerator() {
     }
@@ -32,7 +40,9 @@ public class CitationStyleGenerator {
      * @implNote the citation is generated using JavaScript which may take some time, better call it from outside the main Thread
      */
     protected static String generateBibliography(List<BibEntry> bibEntries, CitationStyle style, BibEntryTypesManager entryTypesManager) {
-        return generateBibliography(bibEntries, style.getSource(), entryTypesManager);
+        return style.getSource()
+                    .map(source -> generateBibliography(bibEntries, source, entryTypesManager))
+                    .orElseGet(() -> Localization.lang("Cannot generate preview based on selected citation style."));
     }
 
     /**
@@ -54,7 +64,9 @@ public class CitationStyleGenerator {
     }
 
     public static Citation generateCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
-        return CSL_ADAPTER.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+        try (CSLAdapterPool.Lease lease = CSL_ADAPTERS.borrow(style)) {
+            return lease.adapter().makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+        }
     }
 
     /**
@@ -64,11 +76,11 @@ public class CitationStyleGenerator {
      */
     public static List<String> generateBibliographies(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            return makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
         } catch (IllegalArgumentException e) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", e);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
-        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+        } catch (IOException | UncheckedIOException | ArrayIndexOutOfBoundsException e) {
             LOGGER.error("Could not generate BibEntry citation", e);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
         } catch (TokenMgrException e) {
@@ -81,4 +93,30 @@ public class CitationStyleGenerator {
                     e.getLocalizedMessage());
         }
     }
+
+    private static List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+        if ((bibEntries.size() <= ENTRIES_PER_CHUNK) || !CSLAdapterPool.isRenderableInChunks(style)) {
+            try (CSLAdapterPool.Lease lease = CSL_ADAPTERS.borrow(style)) {
+                return lease.adapter().makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            }
+        }
+
+        int chunks = Math.ceilDiv(bibEntries.size(), ENTRIES_PER_CHUNK);
+        return IntStream.range(0, chunks)
+                        .parallel()
+                        .mapToObj(chunk -> makeBibliographyChunk(bibEntries.subList(chunk * ENTRIES_PER_CHUNK, Math.min((chunk + 1) * ENTRIES_PER_CHUNK, bibEntries.size())), style, outputFormat, databaseContext, entryTypesManager))
+                        .flatMap(List::stream)
+                        .toList();
+    }
+
+    private static List<String> makeBibliographyChunk(List<BibEntry> chunk, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        long start = System.nanoTime();
+        try (CSLAdapterPool.Lease lease = CSL_ADAPTERS.borrow(style)) {
+            List<String> bibliography = lease.adapter().makeBibliography(chunk, style, outputFormat, databaseContext, entryTypesManager);
+            LOGGER.debug("Rendered {} entries in {} ms", chunk.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return bibliography;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.jabref.logic.citationstyle;
 
 import java.util.List;
 
+import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -18,7 +19,9 @@ public final class CitationStylePreviewLayout implements PreviewLayout {
 
     @Override
     public String generatePreview(BibEntry entry, BibDatabaseContext databaseContext) {
-        return CitationStyleGenerator.generateBibliography(List.of(entry), citationStyle.getSource(), CitationStyleOutputFormat.HTML, databaseContext, bibEntryTypesManager).getFirst();
+        return citationStyle.getSource()
+                            .map(source -> CitationStyleGenerator.generateBibliography(List.of(entry), source, CitationStyleOutputFormat.HTML, databaseContext, bibEntryTypesManager).getFirst())
+                            .orElseGet(() -> Localization.lang("Cannot generate preview based on selected citation style."));
     }
 
     @Override
@@ -28,7 +31,7 @@ public final class CitationStylePreviewLayout implements PreviewLayout {
 
     @Override
     public String getText() {
-        return citationStyle.getSource();
+        return citationStyle.getSource().orElse("");
     }
 
     public String getFilePath() {
@@ -2,11 +2,14 @@ package org.jabref.logic.citationstyle;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.SequencedCollection;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
@@ -19,9 +22,13 @@ import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.Month;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import de.undercouch.citeproc.ItemDataProvider;
 import de.undercouch.citeproc.bibtex.BibTeXConverter;
 import de.undercouch.citeproc.csl.CSLItemData;
@@ -33,23 +40,62 @@ import org.jbibtex.Key;
 /**
  * Custom {@link ItemDataProvider} that allows to set the data so that we don't have to instantiate a new CSL object
  * every time.
+ * <p>
+ * The converted items are cached by the content of the entry, so that unchanged entries are not converted again.
+ * Entries whose fields depend on other parts of the library, i.e., on strings or cross-referenced entries, are always
+ * converted.
  */
 public class JabRefItemDataProvider implements ItemDataProvider {
 
     private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
 
+    private static final int MAXIMUM_CACHED_ITEMS = 10_000;
+    private static final Cache<ItemDataKey, CSLItemData> ITEM_DATA_CACHE = CacheBuilder.newBuilder()
+                                                                                        .maximumSize(MAXIMUM_CACHED_ITEMS)
+                                                                                        .build();
+
     private final StringJsonBuilderFactory stringJsonBuilderFactory;
 
     private final List<BibEntry> data = new ArrayList<>();
+    private final Map<String, BibEntry> entriesByCitationKey = new HashMap<>();
 
     private BibDatabaseContext bibDatabaseContext;
     private BibEntryTypesManager entryTypesManager;
     private PagesChecker pagesChecker;
 
+    /**
+     * Everything the conversion of an entry depends on, if the entry does not depend on other parts of the library.
+     */
+    private record ItemDataKey(EntryType type, Map<Field, String> fields, BibDatabaseMode mode, BibEntryTypesManager entryTypesManager) {
+    }
+
     public JabRefItemDataProvider() {
         stringJsonBuilderFactory = new StringJsonBuilderFactory();
     }
 
+    private CSLItemData getCSLItemData(BibEntry entry) {
+        if (dependsOnLibrary(entry)) {
+            return bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager);
+        }
+
+        ItemDataKey key = new ItemDataKey(entry.getType(), Map.copyOf(entry.getFieldMap()), bibDatabaseContext.getMode(), entryTypesManager);
+        try {
+            return ITEM_DATA_CACHE.get(key, () -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            // The exceptions of the conversion are reported to the caller as if there was no cache
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean dependsOnLibrary(BibEntry entry) {
+        return entry.hasField(StandardField.CROSSREF)
+                || entry.hasField(StandardField.XDATA)
+                || (!bibDatabaseContext.getDatabase().hasNoStrings() && entry.getFieldValues().stream().anyMatch(value -> value.indexOf('#') >= 0));
+    }
+
     /**
      * Converts the {@link BibEntry} into {@link CSLItemData}.
      *
@@ -181,6 +227,11 @@ public class JabRefItemDataProvider implements ItemDataProvider {
     public void setData(List<BibEntry> data, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager) {
         this.data.clear();
         this.data.addAll(data);
+        this.entriesByCitationKey.clear();
+        for (BibEntry entry : data) {
+            // Several entries may share a citation key, the first one is used
+            entriesByCitationKey.putIfAbsent(entry.getCitationKey().orElse(""), entry);
+        }
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
 
@@ -193,10 +244,11 @@ public class JabRefItemDataProvider implements ItemDataProvider {
 
     @Override
     public CSLItemData retrieveItem(String id) {
-        return data.stream()
-                   .filter(entry -> entry.getCitationKey().orElse("").equals(id))
-                   .map(entry -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager))
-                   .findFirst().orElse(null);
+        BibEntry entry = entriesByCitationKey.get(id);
+        if (entry == null) {
+            return null;
+        }
+        return getCSLItemData(entry);
     }
 
     @Override
@@ -24,7 +24,6 @@ import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.bibtex.comparator.IdComparator;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
-import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
 import org.jabref.logic.cleanup.FieldFormatterCleanups;
 import org.jabref.logic.cleanup.NormalizeWhitespacesCleanup;
@@ -154,11 +153,7 @@ public abstract class BibDatabaseWriter {
      * Saves the complete database.
      */
     public void saveDatabase(BibDatabaseContext bibDatabaseContext) throws IOException {
-        List<BibEntry> entries = bibDatabaseContext.getDatabase().getEntries()
-                                                .stream()
-                                                .filter(entry -> !entry.isEmpty())
-                                                .toList();
-        savePartOfDatabase(bibDatabaseContext, entries);
+        write(prepare(bibDatabaseContext));
     }
 
     /**
@@ -167,29 +162,36 @@ public abstract class BibDatabaseWriter {
      * @param entries A list of entries to save. The list itself is not modified in this code
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
-        Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
-        sharedDatabaseIDOptional.ifPresent(Unchecked.consumer(id -> writeDatabaseID(id)));
-
-        // Some file formats write something at the start of the file (like the encoding)
-        if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
-            Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
-            writeProlog(bibDatabaseContext, charset);
-        }
-
-        bibWriter.finishBlock();
+        write(prepare(bibDatabaseContext, entries));
+    }
 
-        // Write preamble if there is one.
-        writePreamble(bibDatabaseContext.getDatabase().getPreamble().orElse(""));
+    /**
+     * Prepares saving the complete database, see {@link #prepare(BibDatabaseContext, List)}.
+     */
+    public LibrarySnapshot prepare(BibDatabaseContext bibDatabaseContext) {
+        List<BibEntry> entries = bibDatabaseContext.getDatabase().getEntries()
+                                                .stream()
+                                                .filter(entry -> !entry.isEmpty())
+                                                .toList();
+        return prepare(bibDatabaseContext, entries);
+    }
 
-        // Write strings if there are any.
-        writeStrings(bibDatabaseContext.getDatabase());
+    /**
+     * Prepares saving the specified entries: sorts them, applies the save actions, generates missing citation keys and
+     * copies everything to write. This is the only step reading and modifying the library. Thus, a caller holding the
+     * lock of the library can release it before {@link #write(LibrarySnapshot) writing} the returned snapshot.
+     *
+     * @param entries A list of entries to save. The list itself is not modified in this code
+     */
+    public LibrarySnapshot prepare(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        MetaData metaData = bibDatabaseContext.getMetaData();
 
-        // Write database entries.
         List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
 
         // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
         //        The cleanup should be done before the write operation
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData(), fieldPreferences);
+        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, metaData, fieldPreferences);
         saveActionsFieldChanges.addAll(saveActionChanges);
         if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
             List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
@@ -198,6 +200,7 @@ public abstract class BibDatabaseWriter {
 
         // Map to collect entry type definitions that we must save along with entries using them.
         SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+        List<BibEntry> entriesToWrite = new ArrayList<>(sortedEntries.size());
 
         for (BibEntry entry : sortedEntries) {
             // Check if we must write the type definition for this
@@ -209,35 +212,83 @@ public abstract class BibDatabaseWriter {
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
 
-            writeEntry(entry, bibDatabaseContext.getMode());
+            // The copy keeps the parsed serialization and the changed flag, thus unchanged entries are still written as they were read
+            entriesToWrite.add((BibEntry) entry.clone());
+        }
+
+        // Strings are not copied, because a copy would be marked as changed and thus be reformatted
+        List<BibtexString> strings = database.getStringValues()
+                                             .stream()
+                                             .sorted(new BibtexStringComparator(true))
+                                             .toList();
+
+        Map<String, String> serializedMetaData = saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA
+                ? MetaDataSerializer.getSerializedStringMap(metaData, keyPatternPreferences.getKeyPatterns())
+                : Map.of();
+
+        return new LibrarySnapshot(
+                database.getSharedDatabaseID(),
+                metaData.getEncoding().orElse(StandardCharsets.UTF_8),
+                metaData.getEncodingExplicitlySupplied(),
+                database.getPreamble().orElse(""),
+                strings,
+                entriesToWrite,
+                typesToWrite,
+                serializedMetaData,
+                bibDatabaseContext.getMode(),
+                database.getEpilog());
+    }
+
+    /**
+     * Writes a library prepared by {@link #prepare(BibDatabaseContext, List)}. This does not access the library itself.
+     */
+    public void write(LibrarySnapshot library) throws IOException {
+        library.sharedDatabaseId().ifPresent(Unchecked.consumer(id -> writeDatabaseID(id)));
+
+        // Some file formats write something at the start of the file (like the encoding)
+        if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
+            writeProlog(library.encoding(), library.encodingExplicitlySupplied());
+        }
+
+        bibWriter.finishBlock();
+
+        // Write preamble if there is one.
+        writePreamble(library.preamble());
+
+        // Write strings if there are any.
+        writeStrings(library.strings());
+
+        // Write database entries.
+        for (BibEntry entry : library.entries()) {
+            writeEntry(entry, library.mode());
         }
 
         if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
             // Write meta data.
-            writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
+            writeMetaData(library.metaData());
 
             // Write type definitions, if any:
-            writeEntryTypeDefinitions(typesToWrite);
+            writeEntryTypeDefinitions(library.entryTypes());
         }
 
         // finally write whatever remains of the file, but at least a concluding newline
-        writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
+        writeEpilogue(library.epilog());
     }
 
-    protected abstract void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
+    /**
+     * @param encodingExplicitlySupplied whether the encoding was given in the file when it was read
+     */
+    protected abstract void writeProlog(Charset encoding, boolean encodingExplicitlySupplied) throws IOException;
 
     protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
 
     protected abstract void writeEpilogue(String epilogue) throws IOException;
 
     /**
-     * Writes all data to the specified writer, using each object's toString() method.
+     * Writes all items of the serialized meta data.
      */
-    protected void writeMetaData(MetaData metaData, GlobalCitationKeyPatterns globalCiteKeyPattern) throws IOException {
-        Objects.requireNonNull(metaData);
-
-        Map<String, String> serializedMetaData = MetaDataSerializer.getSerializedStringMap(metaData,
-                globalCiteKeyPattern);
+    protected void writeMetaData(Map<String, String> serializedMetaData) throws IOException {
+        Objects.requireNonNull(serializedMetaData);
 
         for (Map.Entry<String, String> metaItem : serializedMetaData.entrySet()) {
             writeMetaDataItem(metaItem);
@@ -254,14 +305,9 @@ public abstract class BibDatabaseWriter {
      * Write all strings in alphabetical order, modified to produce a safe (for BibTeX) order of the strings if they
      * reference each other.
      *
-     * @param database The database whose strings we should write.
+     * @param strings The strings to write, in alphabetical order
      */
-    private void writeStrings(BibDatabase database) throws IOException {
-        List<BibtexString> strings = database.getStringKeySet()
-                                             .stream()
-                                             .map(database::getString)
-                                             .sorted(new BibtexStringComparator(true))
-                                             .toList();
+    private void writeStrings(List<BibtexString> strings) throws IOException {
         // First, make a Map of all entries:
         Map<String, BibtexString> remaining = new HashMap<>();
         int maxKeyLength = 0;
@@ -11,7 +11,6 @@ import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
-import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
@@ -133,12 +132,12 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     }
 
     @Override
-    protected void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException {
+    protected void writeProlog(Charset encoding, boolean encodingExplicitlySupplied) throws IOException {
         // We write the encoding if
         //   - it is provided (!= null)
         //   - explicitly set in the .bib file OR not equal to UTF_8
         // Otherwise, we do not write anything and return
-        if ((encoding == null) || (!bibDatabaseContext.getMetaData().getEncodingExplicitlySupplied() && (encoding.equals(StandardCharsets.UTF_8)))) {
+        if ((encoding == null) || (!encodingExplicitlySupplied && (encoding.equals(StandardCharsets.UTF_8)))) {
             return;
         }
 
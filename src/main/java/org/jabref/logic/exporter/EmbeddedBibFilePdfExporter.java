@@ -103,62 +103,72 @@ public class EmbeddedBibFilePdfExporter extends Exporter {
         // See https://issues.apache.org/jira/browse/PDFBOX-4028
         Path newFile = Files.createTempFile("JabRef", "pdf");
         try (PDDocument document = Loader.loadPDF(path.toFile())) {
-            PDDocumentNameDictionary nameDictionary = document.getDocumentCatalog().getNames();
-            PDEmbeddedFilesNameTreeNode efTree;
-            Map<String, PDComplexFileSpecification> names;
+            embedBibTex(bibTeX, document, path);
+            document.save(newFile.toFile());
+            FileUtil.copyFile(newFile, path, true);
+        }
+        Files.delete(newFile);
+    }
 
-            if (nameDictionary == null) {
+    /**
+     * Embeds the given BibTeX into the given, already loaded document. The document is not saved, so that the caller
+     * can apply further changes before saving it once.
+     *
+     * @param path the file the document was loaded from, used for error messages only
+     */
+    void embedBibTex(String bibTeX, PDDocument document, Path path) throws IOException {
+        PDDocumentNameDictionary nameDictionary = document.getDocumentCatalog().getNames();
+        PDEmbeddedFilesNameTreeNode efTree;
+        Map<String, PDComplexFileSpecification> names;
+
+        if (nameDictionary == null) {
+            efTree = new PDEmbeddedFilesNameTreeNode();
+            names = new HashMap<>();
+            nameDictionary = new PDDocumentNameDictionary(document.getDocumentCatalog());
+            nameDictionary.setEmbeddedFiles(efTree);
+            document.getDocumentCatalog().setNames(nameDictionary);
+        } else {
+            efTree = nameDictionary.getEmbeddedFiles();
+            if (efTree == null) {
                 efTree = new PDEmbeddedFilesNameTreeNode();
-                names = new HashMap<>();
-                nameDictionary = new PDDocumentNameDictionary(document.getDocumentCatalog());
                 nameDictionary.setEmbeddedFiles(efTree);
-                document.getDocumentCatalog().setNames(nameDictionary);
-            } else {
-                efTree = nameDictionary.getEmbeddedFiles();
-                if (efTree == null) {
-                    efTree = new PDEmbeddedFilesNameTreeNode();
-                    nameDictionary.setEmbeddedFiles(efTree);
-                }
-                names = efTree.getNames();
-                if (names == null) {
-                    names = new HashMap<>();
-                    efTree.setNames(names);
-                }
             }
-
-            PDComplexFileSpecification fileSpecification;
-            if (names.containsKey(EMBEDDED_FILE_NAME)) {
-                fileSpecification = names.get(EMBEDDED_FILE_NAME);
-            } else {
-                fileSpecification = new PDComplexFileSpecification();
+            names = efTree.getNames();
+            if (names == null) {
+                names = new HashMap<>();
+                efTree.setNames(names);
             }
-            if (efTree != null) {
-                InputStream inputStream = new ByteArrayInputStream(bibTeX.getBytes(StandardCharsets.UTF_8));
-                fileSpecification.setFile(EMBEDDED_FILE_NAME);
-                PDEmbeddedFile embeddedFile = new PDEmbeddedFile(document, inputStream);
-                embeddedFile.setSubtype("text/x-bibtex");
-                embeddedFile.setSize(bibTeX.length());
-                fileSpecification.setEmbeddedFile(embeddedFile);
-
-                if (!names.containsKey(EMBEDDED_FILE_NAME)) {
-                    try {
-                        names.put(EMBEDDED_FILE_NAME, fileSpecification);
-                    } catch (UnsupportedOperationException e) {
-                        throw new IOException(Localization.lang("File '%0' is write protected.", path.toString()));
-                    }
-                }
+        }
 
-                efTree.setNames(names);
-                nameDictionary.setEmbeddedFiles(efTree);
-                document.getDocumentCatalog().setNames(nameDictionary);
+        PDComplexFileSpecification fileSpecification;
+        if (names.containsKey(EMBEDDED_FILE_NAME)) {
+            fileSpecification = names.get(EMBEDDED_FILE_NAME);
+        } else {
+            fileSpecification = new PDComplexFileSpecification();
+        }
+        if (efTree != null) {
+            InputStream inputStream = new ByteArrayInputStream(bibTeX.getBytes(StandardCharsets.UTF_8));
+            fileSpecification.setFile(EMBEDDED_FILE_NAME);
+            PDEmbeddedFile embeddedFile = new PDEmbeddedFile(document, inputStream);
+            embeddedFile.setSubtype("text/x-bibtex");
+            embeddedFile.setSize(bibTeX.length());
+            fileSpecification.setEmbeddedFile(embeddedFile);
+
+            if (!names.containsKey(EMBEDDED_FILE_NAME)) {
+                try {
+                    names.put(EMBEDDED_FILE_NAME, fileSpecification);
+                } catch (UnsupportedOperationException e) {
+                    throw new IOException(Localization.lang("File '%0' is write protected.", path.toString()));
+                }
             }
-            document.save(newFile.toFile());
-            FileUtil.copyFile(newFile, path, true);
+
+            efTree.setNames(names);
+            nameDictionary.setEmbeddedFiles(efTree);
+            document.getDocumentCatalog().setNames(nameDictionary);
         }
-        Files.delete(newFile);
     }
 
-    private String getBibString(List<BibEntry> entries) throws IOException {
+    String getBibString(List<BibEntry> entries) throws IOException {
         StringWriter stringWriter = new StringWriter();
         BibWriter bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
         FieldWriter fieldWriter = FieldWriter.buildIgnoreHashes(fieldPreferences);
@@ -0,0 +1,33 @@
+package org.jabref.logic.exporter;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibtexString;
+
+/**
+ * Everything a {@link BibDatabaseWriter} writes, taken from the library by {@link BibDatabaseWriter#prepare(org.jabref.model.database.BibDatabaseContext, List)}.
+ * The entries are copies, thus the library can be edited while the snapshot is written.
+ *
+ * @param entries    copies of the entries to write, in the save order
+ * @param entryTypes the custom entry types used by the entries
+ * @param metaData   the serialized meta data, empty if no meta data is written
+ */
+public record LibrarySnapshot(
+        Optional<String> sharedDatabaseId,
+        Charset encoding,
+        boolean encodingExplicitlySupplied,
+        String preamble,
+        List<BibtexString> strings,
+        List<BibEntry> entries,
+        SortedSet<BibEntryType> entryTypes,
+        Map<String, String> metaData,
+        BibDatabaseMode mode,
+        String epilog) {
+}
@@ -0,0 +1,213 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+import javax.xml.transform.TransformerException;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilWriter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes XMP metadata and an embedded bib file to PDF files, loading and saving each file only once.
+ * <p>
+ * A file is saved to a temporary file next to it first, which then replaces the original one. Thus, an interrupted
+ * run never leaves a partially written PDF behind. The hash of the written metadata is stored in the document
+ * information, so that files already carrying the current metadata are not saved again.
+ */
+public class PdfMetadataWriter {
+
+    public static final int DEFAULT_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Key of the document information holding the hash of the metadata written last
+     */
+    static final String METADATA_HASH_KEY = "jabref/metadatahash";
+
+    /**
+     * Increase if the way the metadata is written changes, so that all files get written again
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfMetadataWriter.class);
+
+    public enum Result {
+        WRITTEN,
+        UP_TO_DATE
+    }
+
+    /**
+     * @param failed the files which could not be written, together with the cause
+     */
+    public record Summary(int written, int upToDate, Map<Path, Exception> failed) {
+    }
+
+    private final XmpPreferences xmpPreferences;
+    private final EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter;
+    private final boolean writeXmp;
+    private final boolean embedBibFile;
+
+    public PdfMetadataWriter(XmpPreferences xmpPreferences,
+                             BibDatabaseMode bibDatabaseMode,
+                             BibEntryTypesManager bibEntryTypesManager,
+                             FieldPreferences fieldPreferences,
+                             boolean writeXmp,
+                             boolean embedBibFile) {
+        this.xmpPreferences = xmpPreferences;
+        this.embeddedBibFilePdfExporter = new EmbeddedBibFilePdfExporter(bibDatabaseMode, bibEntryTypesManager, fieldPreferences);
+        this.writeXmp = writeXmp;
+        this.embedBibFile = embedBibFile;
+    }
+
+    /**
+     * Writes the given entries to the given PDF file, unless the file already carries exactly this metadata.
+     *
+     * @param file            the PDF file to write to
+     * @param entries         the entries linking to the file
+     * @param databaseContext the library of the entries, used to resolve strings
+     */
+    public Result write(Path file, List<BibEntry> entries, BibDatabaseContext databaseContext) throws IOException, TransformerException {
+        List<BibEntry> resolvedEntries = databaseContext.getDatabase().resolveForStrings(entries, false);
+        String bibString = embedBibFile ? embeddedBibFilePdfExporter.getBibString(entries) : "";
+        String hash = hashMetadata(bibString, resolvedEntries);
+
+        Path temporaryFile;
+        try (PDDocument document = Loader.loadPDF(file.toFile())) {
+            if (document.isEncrypted()) {
+                throw new EncryptedPdfsNotSupportedException();
+            }
+            PDDocumentInformation documentInformation = document.getDocumentInformation();
+            if (hash.equals(documentInformation.getCustomMetadataValue(METADATA_HASH_KEY))) {
+                return Result.UP_TO_DATE;
+            }
+
+            if (writeXmp) {
+                new XmpUtilWriter(xmpPreferences).writeXmp(document, resolvedEntries, null);
+            }
+            if (embedBibFile) {
+                embeddedBibFilePdfExporter.embedBibTex(bibString, document, file);
+            }
+            documentInformation.setCustomMetadataValue(METADATA_HASH_KEY, hash);
+
+            // Apache PDFBox does not support writing to the file it reads from
+            // See https://issues.apache.org/jira/browse/PDFBOX-4028
+            temporaryFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                document.save(temporaryFile.toFile());
+            } catch (IOException e) {
+                Files.deleteIfExists(temporaryFile);
+                throw e;
+            }
+        }
+        replace(file, temporaryFile);
+        return Result.WRITTEN;
+    }
+
+    /**
+     * Writes the metadata to all given files using the given number of threads. A file failing does not stop the
+     * others from being written.
+     *
+     * @param entriesByFile the entries to write, grouped by the PDF file they link to
+     * @param onProgress    called with the number of files processed so far, from the writing threads
+     * @param isCancelled   checked before each file is written
+     */
+    public Summary writeAll(Map<Path, List<BibEntry>> entriesByFile,
+                            BibDatabaseContext databaseContext,
+                            int parallelism,
+                            IntConsumer onProgress,
+                            BooleanSupplier isCancelled) {
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger upToDate = new AtomicInteger();
+        Map<Path, Exception> failed = new ConcurrentHashMap<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            entriesByFile.forEach((file, entries) -> executor.execute(() -> {
+                if (isCancelled.getAsBoolean()) {
+                    return;
+                }
+                try {
+                    switch (write(file, entries, databaseContext)) {
+                        case WRITTEN ->
+                                written.incrementAndGet();
+                        case UP_TO_DATE ->
+                                upToDate.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("Error while writing metadata to pdf '{}'", file, e);
+                    failed.put(file, e);
+                }
+                onProgress.accept(processed.incrementAndGet());
+            }));
+        }
+        return new Summary(written.get(), upToDate.get(), Map.copyOf(failed));
+    }
+
+    private String hashMetadata(String bibString, List<BibEntry> resolvedEntries) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher()
+                               .putInt(FORMAT_VERSION)
+                               .putBoolean(embedBibFile)
+                               .putInt(bibString.length())
+                               .putString(bibString, StandardCharsets.UTF_8)
+                               .putBoolean(writeXmp);
+        if (writeXmp) {
+            // XMP is written from the entries with resolved strings and depends on the XMP preferences
+            String resolvedBibString = embeddedBibFilePdfExporter.getBibString(resolvedEntries);
+            hasher.putInt(resolvedBibString.length())
+                  .putString(resolvedBibString, StandardCharsets.UTF_8)
+                  .putChar(xmpPreferences.getKeywordSeparator())
+                  .putBoolean(xmpPreferences.shouldUseXmpPrivacyFilter());
+            if (xmpPreferences.shouldUseXmpPrivacyFilter()) {
+                xmpPreferences.getXmpPrivacyFilter().stream()
+                              .map(Field::getName)
+                              .sorted(Comparator.naturalOrder())
+                              .forEach(name -> hasher.putString(name, StandardCharsets.UTF_8).putChar(','));
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void replace(Path file, Path temporaryFile) throws IOException {
+        try {
+            if (FileUtil.IS_POSIX_COMPLIANT) {
+                Files.setPosixFilePermissions(temporaryFile, Files.getPosixFilePermissions(file));
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
@@ -5,9 +5,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,22 +17,33 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.format.NameFormatter;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,22 +52,44 @@ import org.slf4j.LoggerFactory;
  */
 public class TemplateExporter extends Exporter {
 
-    private static final String BLANK_LINE_PATTERN = "\\r\\n|\\n";
+    private static final Pattern BLANK_LINE_PATTERN = Pattern.compile("\\r\\n|\\n");
     private static final String LAYOUT_PREFIX = "/resource/layout/";
     private static final String LAYOUT_EXTENSION = ".layout";
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    // number of entries rendered at once by a thread
+    private static final int ENTRIES_PER_CHUNK = 256;
+    private static final int MAXIMUM_CACHED_LAYOUTS = 64;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    // loaded once, so that exports without abbreviations of their own reuse the compiled layouts
+    private static final Supplier<JournalAbbreviationRepository> BUILT_IN_ABBREVIATION_REPOSITORY = Suppliers.memoize(JournalAbbreviationLoader::loadBuiltInRepository);
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
     private final SelfContainedSaveOrder saveOrder;
+    private final Cache<LayoutKey, Optional<Layout>> compiledLayouts = CacheBuilder.newBuilder()
+                                                                               .maximumSize(MAXIMUM_CACHED_LAYOUTS)
+                                                                               .build();
     private boolean customExport;
     private BlankLineBehaviour blankLineBehaviour;
 
+    /**
+     * Everything a compiled layout depends on: the layout file and the values used to resolve its formatters. The
+     * journal abbreviations are identified by the repository and the number of changes to its custom abbreviations.
+     */
+    private record LayoutKey(String filename,
+                             long lastModified,
+                             List<Path> fileDirForDatabase,
+                             Map<String, String> nameFormatters,
+                             @Nullable String mainFileDirectory,
+                             JournalAbbreviationRepository.Version abbreviationsVersion) {
+    }
+
     /**
      * Initialize another export format based on templates stored in dir with layoutFile lfFilename.
      *
@@ -164,13 +199,7 @@ public class TemplateExporter extends Exporter {
      * @throws IOException if the reader could not be created (e.g., file is not found)
      */
     private Reader getReader(String filename) throws IOException {
-        // If this is a custom export, just use the given filename:
-        String dir;
-        if (customExport) {
-            dir = "";
-        } else {
-            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
-        }
+        String dir = getLayoutDirectory();
 
         // Attempt to get a Reader for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
@@ -191,9 +220,17 @@ public class TemplateExporter extends Exporter {
         return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
     }
 
+    private String getLayoutDirectory() {
+        // If this is a custom export, just use the given filename:
+        if (customExport) {
+            return "";
+        }
+        return LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
+    }
+
     @Override
     public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws Exception {
-        export(databaseContext, file, entries, Collections.emptyList(), JournalAbbreviationLoader.loadBuiltInRepository());
+        export(databaseContext, file, entries, Collections.emptyList(), BUILT_IN_ABBREVIATION_REPOSITORY.get());
     }
 
     @Override
@@ -212,26 +249,18 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
 
             List<String> missingFormatters = new ArrayList<>(1);
 
-            // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
-            // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            // Print header. If there is no begin layout, the export filter doesn't have a begin file.
+            Number.serialExportNumber = 0;
+            Optional<Layout> beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -241,74 +270,33 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository)
+                    .orElseThrow(() -> new IOException("Cannot find layout file: '" + lfFileName + LAYOUT_EXTENSION + "'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            Number.serialExportNumber = 0;
+            // We try to get a type-specific layout for each entry type, otherwise we go with the default one
+            Map<EntryType, Layout> layouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+                if (!layouts.containsKey(type)) {
+                    Optional<Layout> typeLayout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
+                    typeLayout.ifPresent(layout -> missingFormatters.addAll(layout.getMissingFormatters()));
+                    layouts.put(type, typeLayout.orElse(defLayout));
                 }
             }
 
-            // Print footer
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
-            }
+            // Write the entries
+            writeEntries(ps, sorted, layouts, databaseContext.getDatabase());
+            Number.serialExportNumber = sorted.size();
 
-            // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            // Print footer. If there is no end layout, the export filter doesn't have an end file.
+            Optional<Layout> endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             layoutPreferences.clearCustomExportNameFormatters();
@@ -319,6 +307,102 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Renders the entries in chunks, which are written in the order of the entries. If no layout depends on the
+     * previously rendered entry, several chunks are rendered in parallel.
+     */
+    private void writeEntries(Writer writer, List<BibEntry> sorted, Map<EntryType, Layout> layouts, BibDatabase database) throws IOException {
+        boolean isRenderableInParallel = layouts.values().stream().allMatch(Layout::isRenderableInParallel);
+        int chunksPerWindow = isRenderableInParallel ? Runtime.getRuntime().availableProcessors() : 1;
+        int windowSize = ENTRIES_PER_CHUNK * chunksPerWindow;
+
+        for (int windowStart = 0; windowStart < sorted.size(); windowStart += windowSize) {
+            int windowEnd = Math.min(windowStart + windowSize, sorted.size());
+            // windowStart is a multiple of the chunk size
+            IntStream chunks = IntStream.range(windowStart, windowEnd).filter(i -> (i % ENTRIES_PER_CHUNK) == 0);
+            if (isRenderableInParallel) {
+                chunks = chunks.parallel();
+            }
+            List<String> renderedChunks = chunks.mapToObj(chunkStart -> renderEntries(sorted, chunkStart, Math.min(chunkStart + ENTRIES_PER_CHUNK, windowEnd), layouts, database))
+                                                .toList();
+            for (String renderedChunk : renderedChunks) {
+                writer.write(renderedChunk);
+            }
+        }
+    }
+
+    private String renderEntries(List<BibEntry> sorted, int from, int to, Map<EntryType, Layout> layouts, BibDatabase database) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            for (int i = from; i < to; i++) {
+                BibEntry entry = sorted.get(i);
+                Number.setSerialExportNumberOfCurrentThread(i + 1);
+                String rendered = layouts.get(entry.getType()).doLayout(entry, database);
+                if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                    for (String line : BLANK_LINE_PATTERN.split(rendered)) {
+                        if (!line.isBlank()) {
+                            builder.append(line).append(OS.NEWLINE);
+                        }
+                    }
+                } else {
+                    builder.append(rendered);
+                }
+            }
+        } finally {
+            Number.clearSerialExportNumberOfCurrentThread();
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the compiled layout of the given layout file. Compiled layouts are cached, as long as neither the file nor
+     * the name formatters change, the file is read and its formatters are resolved only once.
+     *
+     * @return the layout or an empty optional if there is no such layout file
+     */
+    private Optional<Layout> getLayout(String filename, List<Path> fileDirForDatabase, JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        Map<String, String> nameFormatters = new HashMap<>(NameFormatter.getNameFormatters(layoutPreferences.getNameFormatterPreferences()));
+        nameFormatters.putAll(layoutPreferences.getCustomExportNameFormatters());
+        LayoutKey key = new LayoutKey(
+                filename,
+                getLastModified(filename),
+                List.copyOf(Objects.requireNonNullElse(fileDirForDatabase, List.of())),
+                nameFormatters,
+                layoutPreferences.getMainFileDirectory(),
+                abbreviationRepository.getVersion());
+        try {
+            return compiledLayouts.get(key, () -> compileLayout(filename, fileDirForDatabase, abbreviationRepository));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private Optional<Layout> compileLayout(String filename, List<Path> fileDirForDatabase, JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        Reader reader;
+        try {
+            reader = getReader(filename);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        try (reader) {
+            LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+            return Optional.of(layoutHelper.getLayoutFromText());
+        }
+    }
+
+    private long getLastModified(String filename) {
+        Path path = Path.of(getLayoutDirectory() + filename);
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException | InvalidPathException e) {
+            // Built-in layouts are part of the application and do not change
+            return -1;
+        }
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
@@ -2,6 +2,9 @@ package org.jabref.logic.externalfiles;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
@@ -25,6 +28,14 @@ public class ExternalFilesContentImporter {
         }
     }
 
+    /**
+     * Imports the content of several PDFs in parallel. See {@link PdfMergeMetadataImporter#importDatabases}.
+     */
+    public void importPDFContents(List<Path> files, BiConsumer<Path, ParserResult> onImported, BooleanSupplier isCancelled) {
+        int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        PdfMergeMetadataImporter.importDatabases(files, importFormatPreferences, parallelism, onImported, isCancelled);
+    }
+
     public ParserResult importFromBibFile(Path bibFile, FileUpdateMonitor fileUpdateMonitor) throws IOException {
         return OpenDatabase.loadDatabase(bibFile, importFormatPreferences, fileUpdateMonitor);
     }
@@ -1,5 +1,6 @@
 package org.jabref.logic.formatter.bibtexfields;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -7,6 +8,7 @@ import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.MultiStringReplacer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +18,8 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
     public static final NormalizeUnicodeFormatter UNICODE_NORMALIZER = new NormalizeUnicodeFormatter();
     private static final Logger LOGGER = LoggerFactory.getLogger(UnicodeToLatexFormatter.class);
 
+    private static final MultiStringReplacer UNICODE_LATEX_REPLACER = new MultiStringReplacer(resolveChainedReplacements(HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP));
+
     @Override
     public String format(String text) {
         String result = Objects.requireNonNull(text);
@@ -27,10 +31,7 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
         result = UNICODE_NORMALIZER.format(result);
 
         // Standard symbols
-        for (Map.Entry<String, String> unicodeLatexPair : HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP
-                .entrySet()) {
-            result = result.replace(unicodeLatexPair.getKey(), unicodeLatexPair.getValue());
-        }
+        result = UNICODE_LATEX_REPLACER.replace(result);
 
         // Combining accents
         StringBuilder sb = new StringBuilder();
@@ -60,15 +61,35 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
         result = sb.toString();
 
         // Check if any symbols is not converted
-        for (int i = 0; i <= (result.length() - 1); i++) {
-            int cp = result.codePointAt(i);
-            if (cp >= 129) {
-                LOGGER.warn("Unicode character not converted: {}", cp);
+        if (LOGGER.isWarnEnabled()) {
+            for (int i = 0; i <= (result.length() - 1); i++) {
+                int cp = result.codePointAt(i);
+                if (cp >= 129) {
+                    LOGGER.warn("Unicode character not converted: {}", cp);
+                }
             }
         }
         return result;
     }
 
+    /**
+     * The symbols used to be replaced one after another in the order of the map, so a replacement could itself be
+     * replaced by a symbol coming later. This applies these chained replacements to the replacements, so that the
+     * text can be converted in a single pass with the same result. The keys are single code points, hence a
+     * replacement cannot form a key together with the surrounding text.
+     */
+    private static Map<String, String> resolveChainedReplacements(Map<String, String> replacements) {
+        Map<String, String> resolved = new HashMap<>(replacements.size());
+        for (String symbol : replacements.keySet()) {
+            String replacement = symbol;
+            for (Map.Entry<String, String> unicodeLatexPair : replacements.entrySet()) {
+                replacement = replacement.replace(unicodeLatexPair.getKey(), unicodeLatexPair.getValue());
+            }
+            resolved.put(symbol, replacement);
+        }
+        return resolved;
+    }
+
     @Override
     public String getDescription() {
         return Localization.lang("Converts Unicode characters to LaTeX encoding.");
@@ -1,13 +1,18 @@
 package org.jabref.logic.importer;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -37,10 +42,18 @@ import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
+    // number of bytes read from the beginning of a file to determine its format
+    private static final int FILE_HEAD_SIZE = 1024 * 1024;
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -152,7 +165,7 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            UnknownFormatImport unknownFormatImport = importUnknownFormatFromFile(filePath);
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -172,6 +185,114 @@ public class ImportFormatReader {
         }
     }
 
+    /**
+     * Determines the most promising importer for a file and imports it with that importer.
+     * <p>
+     * The beginning of the file is read only once. All importers check in parallel whether they recognize it and
+     * import it as a trial. The recognizing importers are ranked by the number of entries found in the beginning of the
+     * file. Importers recognizing the file by a specific signature, but not finding entries in its beginning (e.g.,
+     * because they need the complete file), are ranked first. Only the best ranked importer imports the complete file;
+     * the next one is only tried if it does not find any entry.
+     *
+     * @throws ImportException if no importer finds any entry
+     */
+    private UnknownFormatImport importUnknownFormatFromFile(Path filePath) throws ImportException {
+        FileHead fileHead;
+        try {
+            fileHead = FileHead.read(filePath);
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+
+        List<Candidate> candidates = IntStream.range(0, formats.size())
+                                              .parallel()
+                                              .mapToObj(index -> rate(formats.get(index), index, filePath, fileHead))
+                                              .flatMap(Optional::stream)
+                                              .sorted(Comparator.comparingInt(Candidate::score).reversed()
+                                                                .thenComparingInt(Candidate::index))
+                                              .toList();
+
+        for (Candidate candidate : candidates) {
+            try {
+                List<BibEntry> entries = candidate.importer().importDatabase(filePath).getDatabase().getEntries();
+                BibDatabases.purgeEmptyEntries(entries);
+                if (!entries.isEmpty()) {
+                    return new UnknownFormatImport(candidate.importer().getName(), new ParserResult(entries));
+                }
+            } catch (IOException e) {
+                // The import did not succeed. Go on.
+                LOGGER.debug("Could not import {} with {}", filePath, candidate.importer().getName(), e);
+            }
+        }
+
+        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+    }
+
+    private Optional<Candidate> rate(Importer importer, int index, Path filePath, FileHead fileHead) {
+        try {
+            if (!importer.isRecognizedFormat(filePath, fileHead.text())) {
+                return Optional.empty();
+            }
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+
+        int entryCount;
+        boolean isTrialConclusive = !fileHead.isTruncated();
+        try {
+            List<BibEntry> entries = importer.importDatabase(fileHead.text()).getDatabase().getEntries();
+            BibDatabases.purgeEmptyEntries(entries);
+            entryCount = entries.size();
+        } catch (IOException | RuntimeException e) {
+            // e.g., binary formats, which can only be imported from files
+            entryCount = 0;
+            isTrialConclusive = false;
+        }
+
+        if (entryCount > 0) {
+            return Optional.of(new Candidate(importer, index, entryCount));
+        }
+        if (!isTrialConclusive && recognizesSpecificSignature(importer)) {
+            return Optional.of(new Candidate(importer, index, Integer.MAX_VALUE));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Importers which also recognize an empty input (e.g., BibTeX) do not check for a signature of their format.
+     */
+    private static boolean recognizesSpecificSignature(Importer importer) {
+        try {
+            return !importer.isRecognizedFormat("");
+        } catch (IOException | RuntimeException e) {
+            return true;
+        }
+    }
+
+    private record Candidate(Importer importer, int index, int score) {
+    }
+
+    /**
+     * The beginning of a file, read once to determine its format. If the file is longer, the text ends at the last
+     * complete line.
+     */
+    private record FileHead(String text, boolean isTruncated) {
+
+        static FileHead read(Path filePath) throws IOException {
+            byte[] bytes;
+            try (InputStream inputStream = Files.newInputStream(filePath)) {
+                bytes = inputStream.readNBytes(FILE_HEAD_SIZE + 1);
+            }
+            if (bytes.length <= FILE_HEAD_SIZE) {
+                return new FileHead(new String(bytes, StandardCharsets.UTF_8), false);
+            }
+
+            String text = new String(bytes, 0, FILE_HEAD_SIZE, StandardCharsets.UTF_8);
+            int lastLineEnd = text.lastIndexOf('\n');
+            return new FileHead(lastLineEnd > 0 ? text.substring(0, lastLineEnd + 1) : text, true);
+        }
+    }
+
     /**
      * Tries to import entries by iterating through the available import filters,
      * and keeping the import that seems the most promising
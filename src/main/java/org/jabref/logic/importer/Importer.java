@@ -54,6 +54,22 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Check whether a file is in the correct format for this importer, given the text at its beginning. This is used to
+     * determine the format of a file without reading it again for every importer.
+     * <p>
+     * The default implementation checks the given text. Importers which cannot recognize their format from the
+     * beginning of the text of a file (e.g., compressed formats) have to override this method.
+     *
+     * @param filePath the path of the file to check
+     * @param head     the beginning of the file, decoded as UTF-8
+     * @return true, if the file is in a recognized format
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public boolean isRecognizedFormat(Path filePath, String head) throws IOException {
+        return isRecognizedFormat(head);
+    }
+
     /**
      * Check whether the source is in the correct format for this importer.
      *
@@ -133,6 +133,12 @@ public class CitaviXmlImporter extends Importer implements Parser {
         return false;
     }
 
+    @Override
+    public boolean isRecognizedFormat(Path filePath, String head) throws IOException {
+        // The beginning of a zip file does not tell whether it contains Citavi data
+        return isRecognizedFormat(filePath);
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
         try (BufferedReader reader = getReaderFromZip(filePath)) {
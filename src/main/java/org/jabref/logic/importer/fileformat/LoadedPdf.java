@@ -0,0 +1,64 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.jabref.logic.xmp.XmpUtilReader;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+/**
+ * A PDF loaded once for several {@link PdfImporter}s, so that each of them does not load and parse the file again. The
+ * importers only read from the document.
+ * <p>
+ * The document is not thread-safe. Thus, the importers sharing it have to run one after another.
+ */
+public class LoadedPdf implements AutoCloseable {
+
+    private final Path filePath;
+    private final PDDocument document;
+    private String firstPageContents;
+
+    private LoadedPdf(Path filePath, PDDocument document) {
+        this.filePath = filePath;
+        this.document = document;
+    }
+
+    public static LoadedPdf load(Path filePath) throws IOException {
+        return new LoadedPdf(filePath, new XmpUtilReader().loadWithAutomaticDecryption(filePath));
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public PDDocument getDocument() {
+        return document;
+    }
+
+    /**
+     * Returns the text of the first page, sorted by position. The text is extracted on the first call only.
+     */
+    public String getFirstPageContents() throws IOException {
+        if (firstPageContents == null) {
+            PDFTextStripper stripper = new PDFTextStripper();
+
+            stripper.setStartPage(1);
+            stripper.setEndPage(1);
+            stripper.setSortByPosition(true);
+            stripper.setParagraphEnd(System.lineSeparator());
+            StringWriter writer = new StringWriter();
+            stripper.writeText(document, writer);
+
+            firstPageContents = writer.toString();
+        }
+        return firstPageContents;
+    }
+
+    @Override
+    public void close() throws IOException {
+        document.close();
+    }
+}
@@ -2,7 +2,6 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,7 +16,6 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
-import org.jabref.logic.xmp.XmpUtilReader;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.StandardField;
@@ -27,8 +25,6 @@ import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.base.Strings;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 
 /**
  * PdfContentImporter parses data of the first page of the PDF and creates a BibTeX entry.
@@ -193,18 +189,26 @@ public class PdfContentImporter extends PdfImporter {
 
     @Override
     public ParserResult importDatabase(Path filePath) {
-        List<BibEntry> result = new ArrayList<>(1);
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(filePath)) {
-            String firstPageContents = getFirstPageContents(document);
-            Optional<BibEntry> entry = getEntryFromPDFContent(firstPageContents, OS.NEWLINE);
-            entry.ifPresent(result::add);
+        try (LoadedPdf pdf = LoadedPdf.load(filePath)) {
+            return importDatabase(pdf);
         } catch (EncryptedPdfsNotSupportedException e) {
             return ParserResult.fromErrorMessage(Localization.lang("Decryption not supported."));
         } catch (IOException exception) {
             return ParserResult.fromError(exception);
         }
+    }
+
+    @Override
+    public ParserResult importDatabase(LoadedPdf pdf) {
+        List<BibEntry> result = new ArrayList<>(1);
+        try {
+            Optional<BibEntry> entry = getEntryFromPDFContent(pdf.getFirstPageContents(), OS.NEWLINE);
+            entry.ifPresent(result::add);
+        } catch (IOException exception) {
+            return ParserResult.fromError(exception);
+        }
 
-        result.forEach(entry -> entry.addFile(new LinkedFile("", filePath.toAbsolutePath(), "PDF")));
+        result.forEach(entry -> entry.addFile(new LinkedFile("", pdf.getFilePath().toAbsolutePath(), "PDF")));
         return new ParserResult(result);
     }
 
@@ -480,19 +484,6 @@ public class PdfContentImporter extends PdfImporter {
         return doi;
     }
 
-    private String getFirstPageContents(PDDocument document) throws IOException {
-        PDFTextStripper stripper = new PDFTextStripper();
-
-        stripper.setStartPage(1);
-        stripper.setEndPage(1);
-        stripper.setSortByPosition(true);
-        stripper.setParagraphEnd(System.lineSeparator());
-        StringWriter writer = new StringWriter();
-        stripper.writeText(document, writer);
-
-        return writer.toString();
-    }
-
     /**
      * Extract the year out of curString (if it is not yet defined)
      */
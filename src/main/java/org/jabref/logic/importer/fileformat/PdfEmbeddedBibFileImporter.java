@@ -15,7 +15,6 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
-import org.jabref.logic.xmp.XmpUtilReader;
 import org.jabref.model.entry.BibEntry;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -60,10 +59,19 @@ public class PdfEmbeddedBibFileImporter extends PdfImporter {
 
     @Override
     public ParserResult importDatabase(Path filePath) {
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(filePath)) {
-            return new ParserResult(getEmbeddedBibFileEntries(document));
+        try (LoadedPdf pdf = LoadedPdf.load(filePath)) {
+            return importDatabase(pdf);
         } catch (EncryptedPdfsNotSupportedException e) {
             return ParserResult.fromErrorMessage(Localization.lang("Decryption not supported."));
+        } catch (IOException e) {
+            return ParserResult.fromError(e);
+        }
+    }
+
+    @Override
+    public ParserResult importDatabase(LoadedPdf pdf) {
+        try {
+            return new ParserResult(getEmbeddedBibFileEntries(pdf.getDocument()));
         } catch (IOException | ParseException e) {
             return ParserResult.fromError(e);
         }
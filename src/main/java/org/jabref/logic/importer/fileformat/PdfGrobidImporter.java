@@ -84,6 +84,12 @@ public class PdfGrobidImporter extends PdfImporter {
         return extension.filter(s -> getFileType().getExtensions().contains(s)).isPresent();
     }
 
+    @Override
+    public boolean isRecognizedFormat(Path filePath, String head) throws IOException {
+        // The importer recognizes PDF files by their extension
+        return isRecognizedFormat(filePath);
+    }
+
     @Override
     public String getId() {
         return "grobidPdf";
@@ -1,9 +1,20 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.IOException;
+
 import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParserResult;
 
 /**
  * Intermediate class to bundle all PdfImporters
  */
 public abstract class PdfImporter extends Importer {
+
+    /**
+     * Imports from a PDF the caller already loaded, e.g., {@link PdfMergeMetadataImporter} loads the PDF once for all
+     * its importers. By default, the file is read again. Importers working on the document override this.
+     */
+    public ParserResult importDatabase(LoadedPdf pdf) throws IOException {
+        return importDatabase(pdf.getFilePath());
+    }
 }
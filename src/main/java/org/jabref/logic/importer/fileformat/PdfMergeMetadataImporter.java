@@ -4,21 +4,31 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.importer.EntryBasedFetcher;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.IdBasedFetcher;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fetcher.DoiFetcher;
 import org.jabref.logic.importer.fetcher.isbntobibtex.IsbnFetcher;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
@@ -33,27 +43,34 @@ import org.slf4j.LoggerFactory;
 /**
  * Tries to import BibTeX data trying multiple {@Link PdfImporter}s and merging the results.
  * See {@Link org.jabref.logic.importer.fileformat.PdfMergeMetadataImporter#metadataImporters} for the list of importers used.
+ * The PDF is loaded once and shared by these importers. Grobid runs meanwhile, as it only needs the file.
  *
  * After all importers are applied, this importer tries to fetch additional metadata for the entry using the DOI and ISBN.
+ * The lookups run in parallel.
  */
 public class PdfMergeMetadataImporter extends PdfImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PdfMergeMetadataImporter.class);
 
     private final ImportFormatPreferences importFormatPreferences;
+
     private final List<PdfImporter> metadataImporters;
+    private final Optional<PdfGrobidImporter> grobidImporter;
+    private final PdfContentImporter contentImporter;
 
     public PdfMergeMetadataImporter(ImportFormatPreferences importFormatPreferences) {
         this.importFormatPreferences = importFormatPreferences;
 
-        this.metadataImporters = new ArrayList<>(5);
+        this.metadataImporters = new ArrayList<>(3);
         this.metadataImporters.add(new PdfVerbatimBibtexImporter(importFormatPreferences));
         this.metadataImporters.add(new PdfEmbeddedBibFileImporter(importFormatPreferences));
         this.metadataImporters.add(new PdfXmpImporter(importFormatPreferences.xmpPreferences()));
+        this.contentImporter = new PdfContentImporter();
         if (importFormatPreferences.grobidPreferences().isGrobidEnabled()) {
-            this.metadataImporters.add(new PdfGrobidImporter(importFormatPreferences));
+            this.grobidImporter = Optional.of(new PdfGrobidImporter(importFormatPreferences));
+        } else {
+            this.grobidImporter = Optional.empty();
         }
-        this.metadataImporters.add(new PdfContentImporter());
     }
 
     @Override
@@ -75,40 +92,63 @@ public class PdfMergeMetadataImporter extends PdfImporter {
                 + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    /**
+     * Imports several PDFs, e.g., all PDFs of a directory. Up to {@code parallelism} PDFs are imported at the same
+     * time. A PDF is only loaded when its import starts, so that the memory needed stays bounded.
+     *
+     * @param onImported  receives each PDF and its result as soon as the PDF is imported. It is called from several
+     *                    threads and can be used to report the progress.
+     * @param isCancelled when it returns true, the PDFs not yet started are skipped
+     */
+    public static void importDatabases(List<Path> filePaths,
+                                       ImportFormatPreferences importFormatPreferences,
+                                       int parallelism,
+                                       BiConsumer<Path, ParserResult> onImported,
+                                       BooleanSupplier isCancelled) {
+        // The importers keep parsing state, so each thread uses its own
+        ThreadLocal<PdfMergeMetadataImporter> importers = ThreadLocal.withInitial(() -> new PdfMergeMetadataImporter(importFormatPreferences));
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            for (Path filePath : filePaths) {
+                executor.execute(() -> {
+                    if (isCancelled.getAsBoolean()) {
+                        return;
+                    }
+                    ParserResult result;
+                    try {
+                        result = importers.get().importDatabase(filePath);
+                    } catch (IOException e) {
+                        result = ParserResult.fromError(e);
+                    }
+                    onImported.accept(filePath, result);
+                });
+            }
+        }
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
-        List<BibEntry> candidates = new ArrayList<>();
+        // Grobid only needs the file, so it runs while the other importers work on the loaded PDF
+        Optional<Future<List<BibEntry>>> grobidEntries = grobidImporter.map(grobid ->
+                HeadlessExecutorService.INSTANCE.execute(() -> grobid.importDatabase(filePath).getDatabase().getEntries()));
 
-        for (PdfImporter metadataImporter : metadataImporters) {
-            List<BibEntry> extractedEntries = metadataImporter.importDatabase(filePath).getDatabase().getEntries();
-            if (extractedEntries.isEmpty()) {
-                continue;
+        // The candidates are ordered by reliability: verbatim BibTeX, embedded bib file, XMP, Grobid, content
+        List<BibEntry> candidates = new ArrayList<>();
+        Optional<BibEntry> contentEntry = Optional.empty();
+        try (LoadedPdf pdf = LoadedPdf.load(filePath)) {
+            for (PdfImporter metadataImporter : metadataImporters) {
+                firstEntry(metadataImporter.importDatabase(pdf).getDatabase().getEntries()).ifPresent(candidates::add);
             }
-            candidates.add(extractedEntries.getFirst());
+            contentEntry = firstEntry(contentImporter.importDatabase(pdf).getDatabase().getEntries());
+        } catch (IOException e) {
+            LOGGER.debug("Could not load {}", filePath, e);
         }
+        grobidEntries.flatMap(future -> firstEntry(getGrobidEntries(future, filePath))).ifPresent(candidates::add);
+        contentEntry.ifPresent(candidates::add);
+
         if (candidates.isEmpty()) {
             return new ParserResult();
         }
-        List<BibEntry> fetchedCandidates = new ArrayList<>(2);
-        for (BibEntry candidate : candidates) {
-            if (candidate.hasField(StandardField.DOI)) {
-                try {
-                    new DoiFetcher(importFormatPreferences).performSearchById(candidate.getField(StandardField.DOI).get()).ifPresent(fetchedCandidates::add);
-                } catch (FetcherException e) {
-                    LOGGER.error("Fetching failed for DOI \"{}\".", candidate.getField(StandardField.DOI).get(), e);
-                }
-            }
-            if (candidate.hasField(StandardField.ISBN)) {
-                try {
-                    new IsbnFetcher(importFormatPreferences)
-                            // .addRetryFetcher(new EbookDeIsbnFetcher(importFormatPreferences))
-                            // .addRetryFetcher(new DoiToBibtexConverterComIsbnFetcher(importFormatPreferences))
-                            .performSearchById(candidate.getField(StandardField.ISBN).get()).ifPresent(fetchedCandidates::add);
-                } catch (FetcherException e) {
-                    LOGGER.error("Fetching failed for ISBN \"{}\".", candidate.getField(StandardField.ISBN).get(), e);
-                }
-            }
-        }
+        List<BibEntry> fetchedCandidates = fetchByIdentifiers(candidates);
         candidates.addAll(0, fetchedCandidates);
         BibEntry entry = new BibEntry();
         for (BibEntry candidate : candidates) {
@@ -136,6 +176,66 @@ public class PdfMergeMetadataImporter extends PdfImporter {
         return new ParserResult(List.of(entry));
     }
 
+    private static Optional<BibEntry> firstEntry(List<BibEntry> entries) {
+        return entries.isEmpty() ? Optional.empty() : Optional.of(entries.getFirst());
+    }
+
+    private static List<BibEntry> getGrobidEntries(Future<List<BibEntry>> grobidEntries, Path filePath) {
+        try {
+            return grobidEntries.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            LOGGER.error("Grobid failed for {}", filePath, e.getCause());
+            return List.of();
+        }
+    }
+
+    /**
+     * Fetches the entries for the DOIs and ISBNs of the candidates in parallel. Each identifier is fetched once.
+     *
+     * @return the fetched entries in the order of the candidates
+     */
+    private List<BibEntry> fetchByIdentifiers(List<BibEntry> candidates) {
+        Map<String, Callable<Optional<BibEntry>>> lookups = new LinkedHashMap<>();
+        for (BibEntry candidate : candidates) {
+            candidate.getField(StandardField.DOI).ifPresent(doi ->
+                    lookups.putIfAbsent("doi:" + doi, () -> fetchById(new DoiFetcher(importFormatPreferences), "DOI", doi)));
+            candidate.getField(StandardField.ISBN).ifPresent(isbn ->
+                    lookups.putIfAbsent("isbn:" + isbn, () -> fetchById(
+                            new IsbnFetcher(importFormatPreferences),
+                            // .addRetryFetcher(new EbookDeIsbnFetcher(importFormatPreferences))
+                            // .addRetryFetcher(new DoiToBibtexConverterComIsbnFetcher(importFormatPreferences))
+                            "ISBN", isbn)));
+        }
+        if (lookups.isEmpty()) {
+            return List.of();
+        }
+
+        List<BibEntry> fetchedCandidates = new ArrayList<>(lookups.size());
+        for (Future<Optional<BibEntry>> lookup : HeadlessExecutorService.INSTANCE.executeAll(lookups.values())) {
+            try {
+                lookup.get().ifPresent(fetchedCandidates::add);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                LOGGER.error("Fetching failed", e.getCause());
+            }
+        }
+        return fetchedCandidates;
+    }
+
+    private static Optional<BibEntry> fetchById(IdBasedFetcher fetcher, String identifierName, String identifier) {
+        try {
+            return fetcher.performSearchById(identifier);
+        } catch (FetcherException e) {
+            LOGGER.error("Fetching failed for {} \"{}\".", identifierName, identifier, e);
+            return Optional.empty();
+        }
+    }
+
     @Override
     public String getName() {
         return "PDF meta data merger";
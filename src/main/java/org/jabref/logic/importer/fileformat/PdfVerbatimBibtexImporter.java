@@ -2,7 +2,6 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
@@ -13,12 +12,9 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
-import org.jabref.logic.xmp.XmpUtilReader;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 
 /**
  * This importer imports a verbatim BibTeX entry from the first page of the PDF.
@@ -52,35 +48,30 @@ public class PdfVerbatimBibtexImporter extends PdfImporter {
 
     @Override
     public ParserResult importDatabase(Path filePath) {
-        List<BibEntry> result;
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(filePath)) {
-            String firstPageContents = getFirstPageContents(document);
-            BibtexParser parser = new BibtexParser(importFormatPreferences);
-            result = parser.parseEntries(firstPageContents);
+        try (LoadedPdf pdf = LoadedPdf.load(filePath)) {
+            return importDatabase(pdf);
         } catch (EncryptedPdfsNotSupportedException e) {
             return ParserResult.fromErrorMessage(Localization.lang("Decryption not supported."));
+        } catch (IOException e) {
+            return ParserResult.fromError(e);
+        }
+    }
+
+    @Override
+    public ParserResult importDatabase(LoadedPdf pdf) {
+        List<BibEntry> result;
+        try {
+            BibtexParser parser = new BibtexParser(importFormatPreferences);
+            result = parser.parseEntries(pdf.getFirstPageContents());
         } catch (IOException | ParseException e) {
             return ParserResult.fromError(e);
         }
 
-        result.forEach(entry -> entry.addFile(new LinkedFile("", filePath.toAbsolutePath(), "PDF")));
+        result.forEach(entry -> entry.addFile(new LinkedFile("", pdf.getFilePath().toAbsolutePath(), "PDF")));
         result.forEach(entry -> entry.setCommentsBeforeEntry(""));
         return new ParserResult(result);
     }
 
-    private String getFirstPageContents(PDDocument document) throws IOException {
-        PDFTextStripper stripper = new PDFTextStripper();
-
-        stripper.setStartPage(1);
-        stripper.setEndPage(1);
-        stripper.setSortByPosition(true);
-        stripper.setParagraphEnd(System.lineSeparator());
-        StringWriter writer = new StringWriter();
-        stripper.writeText(document, writer);
-
-        return writer.toString();
-    }
-
     @Override
     public String getName() {
         return "PdfVerbatimBibText";
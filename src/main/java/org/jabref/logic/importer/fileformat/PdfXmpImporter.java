@@ -59,6 +59,11 @@ public class PdfXmpImporter extends PdfImporter {
         }
     }
 
+    @Override
+    public ParserResult importDatabase(LoadedPdf pdf) {
+        return new ParserResult(new XmpUtilReader().readXmp(pdf.getFilePath(), pdf.getDocument(), xmpPreferences));
+    }
+
     @Override
     public boolean isRecognizedFormat(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
@@ -75,6 +80,12 @@ public class PdfXmpImporter extends PdfImporter {
         return XmpUtilShared.hasMetadata(filePath, xmpPreferences);
     }
 
+    @Override
+    public boolean isRecognizedFormat(Path filePath, String head) throws IOException {
+        // Whether a PDF contains XMP metadata cannot be told from the text at its beginning
+        return isRecognizedFormat(filePath);
+    }
+
     @Override
     public String getId() {
         return "xmp";
@@ -2,6 +2,7 @@ package org.jabref.logic.integrity;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -12,14 +13,26 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.InternalField;
 
+import org.jspecify.annotations.Nullable;
+
 public class CitationKeyDeviationChecker implements EntryChecker {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final @Nullable Map<String, Long> citationKeyCounts;
 
     public CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
+        this(bibDatabaseContext, citationKeyPatternPreferences, null);
+    }
+
+    /**
+     * @param citationKeyCounts the number of entries using each key, see {@link org.jabref.model.database.BibDatabase#getCitationKeyCounts()}.
+     *                          If <code>null</code>, the keys are counted in the library for each entry.
+     */
+    public CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences, @Nullable Map<String, Long> citationKeyCounts) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
+        this.citationKeyCounts = citationKeyCounts;
     }
 
     @Override
@@ -32,7 +45,17 @@ public class CitationKeyDeviationChecker implements EntryChecker {
         String key = valuekey.get();
 
         // generate new key
-        String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences).generateKey(entry);
+        CitationKeyGenerator keyGenerator;
+        if (citationKeyCounts == null) {
+            keyGenerator = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences);
+        } else {
+            keyGenerator = new CitationKeyGenerator(
+                    bibDatabaseContext.getMetaData().getCiteKeyPatterns(citationKeyPatternPreferences.getKeyPatterns()),
+                    bibDatabaseContext.getDatabase(),
+                    citationKeyPatternPreferences,
+                    citationKey -> citationKeyCounts.getOrDefault(citationKey, 0L));
+        }
+        String generatedKey = keyGenerator.generateKey(entry);
 
         if (!Objects.equals(key, generatedKey)) {
             return Collections.singletonList(new IntegrityMessage(
@@ -2,6 +2,7 @@ package org.jabref.logic.integrity;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -10,12 +11,22 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+/**
+ * Reports citation keys used by more than one entry. The keys are counted when the checker is created.
+ */
 public class CitationKeyDuplicationChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Map<String, Long> citationKeyCounts;
 
     public CitationKeyDuplicationChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this(database.getCitationKeyCounts());
+    }
+
+    /**
+     * @param citationKeyCounts the number of entries using each key, see {@link BibDatabase#getCitationKeyCounts()}
+     */
+    public CitationKeyDuplicationChecker(Map<String, Long> citationKeyCounts) {
+        this.citationKeyCounts = Objects.requireNonNull(citationKeyCounts);
     }
 
     @Override
@@ -25,7 +36,7 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
             return Collections.emptyList();
         }
 
-        boolean isDuplicate = database.isDuplicateCitationKeyExisting(citeKey.get());
+        boolean isDuplicate = citationKeyCounts.getOrDefault(citeKey.get(), 0L) > 1;
         if (isDuplicate) {
             return Collections.singletonList(
                     new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
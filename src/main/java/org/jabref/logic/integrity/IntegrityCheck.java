@@ -1,8 +1,12 @@
 package org.jabref.logic.integrity;
 
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -12,46 +16,101 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+/**
+ * Checks the entries of a library. An instance is meant for one run: the checks comparing an entry with the other
+ * entries of the library use tables prepared when the instance is created.
+ * <p>
+ * The checks that only depend on the content of an entry are answered from an {@link IntegrityCheckResultCache} if the
+ * entry did not change since the last run.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+    private final IntegrityCheckResultCache resultCache;
+    private final String configuration;
+
+    /**
+     * Checkers whose result only depends on the content of the entry
+     */
+    private final List<EntryChecker> contentCheckers = new ArrayList<>();
+
+    /**
+     * Checkers depending on other entries or on files
+     */
+    private final List<EntryChecker> libraryCheckers = new ArrayList<>();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
                           CitationKeyPatternPreferences citationKeyPatternPreferences,
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           boolean allowIntegerEdition) {
+        this(bibDatabaseContext,
+                filePreferences,
+                citationKeyPatternPreferences,
+                journalAbbreviationRepository,
+                allowIntegerEdition,
+                new IntegrityCheckResultCache());
+    }
+
+    /**
+     * @param resultCache keeps the results of the checks for the next run
+     */
+    public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
+                          FilePreferences filePreferences,
+                          CitationKeyPatternPreferences citationKeyPatternPreferences,
+                          JournalAbbreviationRepository journalAbbreviationRepository,
+                          boolean allowIntegerEdition,
+                          IntegrityCheckResultCache resultCache) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.resultCache = resultCache;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
+        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+            // The file checker looks at the files on disk
+            if (fieldChecker.field == StandardField.FILE) {
+                libraryCheckers.add(fieldChecker);
+            } else {
+                contentCheckers.add(fieldChecker);
+            }
+        }
+
+        Map<String, Long> citationKeyCounts = bibDatabaseContext.getDatabase().getCitationKeyCounts();
+        libraryCheckers.addAll(List.of(
+                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences, citationKeyCounts),
+                new CitationKeyDuplicationChecker(citationKeyCounts)));
 
-        entryCheckers = new ArrayList<>(List.of(
+        contentCheckers.addAll(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
 
+        Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            contentCheckers.add(new UTF8Checker(encoding));
         } else {
-            entryCheckers.addAll(List.of(
+            contentCheckers.addAll(List.of(
                     new ASCIICharacterChecker(),
                     new NoBibtexFieldChecker(),
                     new UnicodeNormalFormCanonicalCompositionCheck(),
                     new BibTeXEntryTypeChecker())
             );
         }
+
+        JournalAbbreviationRepository.Version abbreviationsVersion = journalAbbreviationRepository.getVersion();
+        this.configuration = String.join("|",
+                bibDatabaseContext.getMode().name(),
+                String.valueOf(allowIntegerEdition),
+                encoding.name(),
+                String.valueOf(abbreviationsVersion.repositoryId()),
+                String.valueOf(abbreviationsVersion.modificationCount()));
     }
 
     List<IntegrityMessage> check() {
@@ -59,31 +118,51 @@ public class IntegrityCheck {
 
         BibDatabase database = bibDatabaseContext.getDatabase();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        result.addAll(List.copyOf(database.getEntries()).parallelStream()
+                          .flatMap(entry -> checkEntry(entry).stream())
+                          .toList());
         result.addAll(checkDatabase(database));
 
         return result;
     }
 
+    /**
+     * Checks the entries in parallel. The messages of each entry, possibly none, are passed to the consumer as soon as
+     * the entry is checked. The consumer is called from several threads.
+     *
+     * @param isCancelled when it returns true, the remaining entries are skipped
+     */
+    public void checkEntries(List<BibEntry> entries, Consumer<List<IntegrityMessage>> messagesConsumer, BooleanSupplier isCancelled) {
+        List.copyOf(entries).parallelStream().forEach(entry -> {
+            if (!isCancelled.getAsBoolean()) {
+                messagesConsumer.accept(checkEntry(entry));
+            }
+        });
+    }
+
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
-        }
+        result.addAll(resultCache.getMessages(entry, configuration, this::checkContent));
 
-        for (EntryChecker entryChecker : entryCheckers) {
+        for (EntryChecker entryChecker : libraryCheckers) {
             result.addAll(entryChecker.check(entry));
         }
 
         return result;
     }
 
+    private List<IntegrityMessage> checkContent(BibEntry entry) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (EntryChecker entryChecker : contentCheckers) {
+            result.addAll(entryChecker.check(entry));
+        }
+        return result;
+    }
+
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
         return new DoiDuplicationChecker().check(database);
     }
@@ -0,0 +1,73 @@
+package org.jabref.logic.integrity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Keeps the results of the checks which only depend on the content of an entry, so that a repeated integrity check only
+ * checks the entries changed since the last run.
+ * <p>
+ * The results are stored by a hash of the entry content and the check configuration. Thus, they are also found for an
+ * entry of a library opened again, and are not found after a change of the configuration, e.g., the library mode.
+ */
+public class IntegrityCheckResultCache {
+
+    private static final int MAXIMUM_ENTRIES = 200_000;
+
+    private final Cache<HashCode, List<CachedMessage>> results = CacheBuilder.newBuilder()
+                                                                             .maximumSize(MAXIMUM_ENTRIES)
+                                                                             .build();
+
+    /**
+     * A message without the entry, which must not be kept alive by the cache
+     */
+    private record CachedMessage(String message, Field field) {
+    }
+
+    /**
+     * Returns the messages of the checker for the entry, either from the cache or by running the checker.
+     *
+     * @param configuration describes everything besides the entry the result of the checker depends on
+     */
+    List<IntegrityMessage> getMessages(BibEntry entry, String configuration, Function<BibEntry, List<IntegrityMessage>> checker) {
+        HashCode key = hashContent(entry, configuration);
+        List<CachedMessage> cachedMessages = results.getIfPresent(key);
+        if (cachedMessages != null) {
+            return cachedMessages.stream()
+                                 .map(cachedMessage -> new IntegrityMessage(cachedMessage.message(), entry, cachedMessage.field()))
+                                 .toList();
+        }
+
+        List<IntegrityMessage> messages = checker.apply(entry);
+        results.put(key, messages.stream()
+                                 .map(message -> new CachedMessage(message.message(), message.field()))
+                                 .toList());
+        return messages;
+    }
+
+    private static HashCode hashContent(BibEntry entry, String configuration) {
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+                               .putString(configuration, StandardCharsets.UTF_8)
+                               .putString(entry.getType().getName(), StandardCharsets.UTF_8);
+        // The order of the fields does not change the result of a check, so equal entries get the same hash
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Map.Entry.comparingByKey(Comparator.comparing(Field::getName)))
+             .forEach(field -> hasher.putInt(field.getKey().getName().length())
+                                     .putString(field.getKey().getName(), StandardCharsets.UTF_8)
+                                     .putInt(field.getValue().length())
+                                     .putString(field.getValue(), StandardCharsets.UTF_8));
+        return hasher.hash();
+    }
+}
@@ -2,12 +2,14 @@ package org.jabref.logic.journals;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -20,11 +22,22 @@ import org.h2.mvstore.MVStore;
 public class JournalAbbreviationRepository {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
+    private static final AtomicLong NEXT_REPOSITORY_ID = new AtomicLong();
+
     private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
     private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
     private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
     private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    private final long repositoryId = NEXT_REPOSITORY_ID.incrementAndGet();
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    /**
+     * Identifies a repository together with the state of its custom abbreviations. Results computed using the
+     * repository can be cached by the version, as it changes whenever the abbreviations change.
+     */
+    public record Version(long repositoryId, long modificationCount) {
+    }
 
     /**
      * Initializes the internal data based on the abbreviations found in the given MV file
@@ -140,11 +153,13 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.add(abbreviation)) {
+            modificationCount.incrementAndGet();
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
-        return customAbbreviations;
+        return Collections.unmodifiableSet(customAbbreviations);
     }
 
     public void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
@@ -167,6 +182,10 @@ public class JournalAbbreviationRepository {
         return get(text).map(Abbreviation::getShortestUniqueAbbreviation);
     }
 
+    public Version getVersion() {
+        return new Version(repositoryId, modificationCount.get());
+    }
+
     public Set<String> getFullNames() {
         return fullToAbbreviationObject.keySet();
     }
@@ -138,6 +138,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Checks whether different entries can be rendered with this layout at the same time. This is not the case for
+     * layouts containing group blocks, because these depend on the previously rendered entry.
+     */
+    public boolean isRenderableInParallel() {
+        return layoutEntries.stream().noneMatch(LayoutEntry::containsGroup);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
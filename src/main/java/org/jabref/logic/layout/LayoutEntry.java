@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -88,6 +89,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -99,6 +101,10 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
+    private static final Pattern AND_CONDITION_PATTERN = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern AND_SEPARATOR_PATTERN = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern OR_SEPARATOR_PATTERN = Pattern.compile("\\s*(\\|+)\\s*");
+
     private List<LayoutFormatter> option;
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
@@ -112,6 +118,18 @@ class LayoutEntry {
     private final LayoutFormatterPreferences preferences;
     private final JournalAbbreviationRepository abbreviationRepository;
 
+    // The fields referenced by the text are parsed once, so that rendering an entry does not need to parse them again
+    private Field field;
+    private boolean isAndCondition;
+    private List<FieldCondition> fieldConditions = List.of();
+
+    /**
+     * A part of a field start like {@code \begin{author&!editor}}. The condition holds if the field is present, or,
+     * if negated, if the field is absent.
+     */
+    private record FieldCondition(Field field, boolean negated) {
+    }
+
     public LayoutEntry(StringInt si,
                        List<Path> fileDirForDatabase,
                        LayoutFormatterPreferences preferences,
@@ -132,6 +150,7 @@ class LayoutEntry {
                 // IS_FIELD_START and IS_FIELD_END
             }
         }
+        compileFields();
     }
 
     public LayoutEntry(List<StringInt> parsedEntries,
@@ -194,6 +213,45 @@ class LayoutEntry {
         for (LayoutEntry layoutEntry : layoutEntries) {
             invalidFormatter.addAll(layoutEntry.getInvalidFormatters());
         }
+        compileFields();
+    }
+
+    private void compileFields() {
+        switch (type) {
+            case LayoutHelper.IS_SIMPLE_COMMAND,
+                 LayoutHelper.IS_GROUP_START ->
+                    field = FieldFactory.parseField(text);
+            case LayoutHelper.IS_OPTION_FIELD -> {
+                if (text.startsWith("\\")) {
+                    field = FieldFactory.parseField(text.substring(1));
+                }
+            }
+            case LayoutHelper.IS_FIELD_START -> {
+                // split the strings along &, && or ; for AND formatter, otherwise along |, || for OR formatter
+                isAndCondition = AND_CONDITION_PATTERN.matcher(text).matches();
+                String[] parts = (isAndCondition ? AND_SEPARATOR_PATTERN : OR_SEPARATOR_PATTERN).split(text);
+                List<FieldCondition> conditions = new ArrayList<>(parts.length);
+                for (String part : parts) {
+                    boolean negated = part.startsWith("!");
+                    conditions.add(new FieldCondition(FieldFactory.parseField(negated ? part.substring(1).trim() : part), negated));
+                }
+                fieldConditions = conditions;
+            }
+            default -> {
+                // no fields are referenced
+            }
+        }
+    }
+
+    /**
+     * Checks whether this entry contains a group block. Group blocks remember the group of the previously rendered
+     * entry, so entries can only be rendered one after another in the order of the export.
+     */
+    boolean containsGroup() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
     }
 
     public void setPostFormatter(LayoutFormatter formatter) {
@@ -205,7 +263,7 @@ class LayoutEntry {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibEntry.getResolvedFieldOrAlias(field, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -229,8 +287,8 @@ class LayoutEntry {
 
     private String resolveFieldEntry(BibEntry bidEntry, BibDatabase database) {
         // resolve field (recognized by leading backslash) or text
-        if (text.startsWith("\\")) {
-            return bidEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+        if (field != null) {
+            return bidEntry.getResolvedFieldOrAlias(field, database)
                            .orElse("");
         }
         if (database == null) {
@@ -269,25 +327,21 @@ class LayoutEntry {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
+            field = bibtex.getResolvedFieldOrAlias(this.field, database);
+        } else if (isAndCondition) {
             field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
+            for (FieldCondition condition : fieldConditions) {
+                negated = condition.negated();
+                field = bibtex.getResolvedFieldOrAlias(condition.field(), database);
                 if (field.isPresent() == negated) {
                     break;
                 }
             }
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
             field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
+            for (FieldCondition condition : fieldConditions) {
+                negated = condition.negated();
+                field = bibtex.getResolvedFieldOrAlias(condition.field(), database);
                 if (field.isPresent() ^ negated) {
                     break;
                 }
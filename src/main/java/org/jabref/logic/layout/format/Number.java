@@ -10,6 +10,17 @@ public class Number implements ParamLayoutFormatter {
 
     public static int serialExportNumber;
 
+    // Overrides serialExportNumber for the current thread, so that entries can be numbered while rendered in parallel
+    private static final ThreadLocal<Integer> SERIAL_EXPORT_NUMBER_OF_THREAD = new ThreadLocal<>();
+
+    public static void setSerialExportNumberOfCurrentThread(int number) {
+        SERIAL_EXPORT_NUMBER_OF_THREAD.set(number);
+    }
+
+    public static void clearSerialExportNumberOfCurrentThread() {
+        SERIAL_EXPORT_NUMBER_OF_THREAD.remove();
+    }
+
     @Override
     public void setArgument(String arg) {
         // No effect currently.
@@ -17,6 +28,7 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        Integer number = SERIAL_EXPORT_NUMBER_OF_THREAD.get();
+        return String.valueOf(number == null ? serialExportNumber : number);
     }
 }
@@ -51,7 +51,7 @@ public class CSLCitationOOAdapter {
      */
     public void insertCitation(XTextCursor cursor, CitationStyle selectedStyle, List<BibEntry> entries, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager bibEntryTypesManager)
             throws CreationException, IOException, Exception {
-        String style = selectedStyle.getSource();
+        String style = getSource(selectedStyle);
         boolean isAlphanumeric = isAlphanumericStyle(selectedStyle);
 
         String inTextCitation;
@@ -80,7 +80,7 @@ public class CSLCitationOOAdapter {
      */
     public void insertInTextCitation(XTextCursor cursor, CitationStyle selectedStyle, List<BibEntry> entries, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager bibEntryTypesManager)
             throws IOException, CreationException, Exception {
-        String style = selectedStyle.getSource();
+        String style = getSource(selectedStyle);
         boolean isAlphanumeric = isAlphanumericStyle(selectedStyle);
 
         Iterator<BibEntry> iterator = entries.iterator();
@@ -141,7 +141,7 @@ public class CSLCitationOOAdapter {
      * The list is generated based on the existing citations, in-text citations and empty citations in the document.
      */
     public void insertBibliography(XTextCursor cursor, CitationStyle selectedStyle, List<BibEntry> entries, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager bibEntryTypesManager)
-            throws WrappedTargetException, CreationException, NoSuchElementException {
+            throws WrappedTargetException, CreationException, NoSuchElementException, IOException {
         markManager.setUpdateRequired(selectedStyle.isNumericStyle());
         readAndUpdateExistingMarks();
 
@@ -150,7 +150,7 @@ public class CSLCitationOOAdapter {
         OOText ooBreak = OOFormat.paragraph(OOText.fromString(""), CSLFormatUtils.DEFAULT_BIBLIOGRAPHY_BODY_PARAGRAPH_FORMAT);
         OOTextIntoOO.write(document, cursor, ooBreak);
 
-        String style = selectedStyle.getSource();
+        String style = getSource(selectedStyle);
 
         if (selectedStyle.isNumericStyle()) {
             // Sort entries based on their order of appearance in the document
@@ -254,4 +254,8 @@ public class CSLCitationOOAdapter {
     private boolean isAlphanumericStyle(CitationStyle style) {
         return "DIN 1505-2 (alphanumeric, Deutsch) - standard superseded by ISO-690".equals(style.getTitle());
     }
+
+    private static String getSource(CitationStyle style) throws IOException {
+        return style.getSource().orElseThrow(() -> new IOException("Could not read citation style " + style.getFilePath()));
+    }
 }
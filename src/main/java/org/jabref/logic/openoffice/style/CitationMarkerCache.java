@@ -0,0 +1,132 @@
+package org.jabref.logic.openoffice.style;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.openoffice.ootext.OOText;
+import org.jabref.model.openoffice.style.CitationLookupResult;
+import org.jabref.model.openoffice.style.CitationMarkerEntry;
+import org.jabref.model.openoffice.style.CitationMarkerNormEntry;
+import org.jabref.model.openoffice.style.CitationMarkerNumericEntry;
+import org.jabref.model.openoffice.style.NonUniqueCitationMarker;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers the citation markers produced by a {@link JStyle}.
+ * <p>
+ * A refresh of a document produces the markers of all citation groups, although usually only a few of them changed. The
+ * markers are stored by everything they depend on: the cited keys, the content of the cited entries, the unique letters
+ * and the page infos. Thus, the marker of an unchanged group is taken from here, and only the groups affected by a
+ * change are formatted again.
+ * <p>
+ * The markers of entries whose fields are resolved with the help of the library, i.e., entries with a crossref or
+ * entries referring to strings, are not stored.
+ * <p>
+ * The cache has to be cleared when the style is read again.
+ */
+final class CitationMarkerCache {
+
+    private static final int MAXIMUM_MARKERS = 20_000;
+
+    private final Cache<List<Object>, OOText> markers = CacheBuilder.newBuilder()
+                                                                    .maximumSize(MAXIMUM_MARKERS)
+                                                                    .build();
+
+    /**
+     * The content of a cited entry. The entry itself is mutable and thus cannot be part of a key.
+     */
+    private record EntryContent(String type, Map<Field, String> fields) {
+    }
+
+    /**
+     * The marker parts of a cited key
+     */
+    private record CitedEntry(String citationKey, Optional<EntryContent> content) {
+    }
+
+    OOText getNormalizedCitationMarker(CitationMarkerNormEntry entry, Supplier<OOText> formatter) {
+        Optional<CitedEntry> citedEntry = citedEntry(entry);
+        if (citedEntry.isEmpty()) {
+            return formatter.get();
+        }
+        return get(List.of("normalized", citedEntry.get()), formatter);
+    }
+
+    OOText createCitationMarker(List<CitationMarkerEntry> entries,
+                                boolean inParenthesis,
+                                NonUniqueCitationMarker nonUniqueCitationMarkerHandling,
+                                Supplier<OOText> formatter) {
+        List<Object> key = new ArrayList<>(2 + (entries.size() * 4));
+        key.add(inParenthesis);
+        key.add(nonUniqueCitationMarkerHandling);
+        for (CitationMarkerEntry entry : entries) {
+            Optional<CitedEntry> citedEntry = citedEntry(entry);
+            if (citedEntry.isEmpty()) {
+                return formatter.get();
+            }
+            key.add(citedEntry.get());
+            key.add(entry.getUniqueLetter());
+            key.add(entry.getPageInfo());
+            key.add(entry.getIsFirstAppearanceOfSource());
+        }
+        return get(key, formatter);
+    }
+
+    OOText getNumCitationMarker(List<CitationMarkerNumericEntry> entries, int minGroupingCount, Supplier<OOText> formatter) {
+        List<Object> key = new ArrayList<>(2 + (entries.size() * 3));
+        key.add("numeric");
+        key.add(minGroupingCount);
+        for (CitationMarkerNumericEntry entry : entries) {
+            key.add(entry.getCitationKey());
+            key.add(entry.getNumber());
+            key.add(entry.getPageInfo());
+        }
+        return get(key, formatter);
+    }
+
+    void clear() {
+        markers.invalidateAll();
+    }
+
+    private OOText get(List<Object> key, Supplier<OOText> formatter) {
+        OOText marker = markers.getIfPresent(key);
+        if (marker == null) {
+            // A formatter failing, e.g., for non-unique markers, stores nothing
+            marker = formatter.get();
+            markers.put(key, marker);
+        }
+        return marker;
+    }
+
+    /**
+     * @return empty if the marker of the entry cannot be stored
+     */
+    private static Optional<CitedEntry> citedEntry(CitationMarkerNormEntry entry) {
+        Optional<CitationLookupResult> lookupResult = entry.getLookupResult();
+        if (lookupResult.isEmpty()) {
+            return Optional.of(new CitedEntry(entry.getCitationKey(), Optional.empty()));
+        }
+
+        BibEntry bibEntry = lookupResult.get().entry;
+        BibDatabase database = lookupResult.get().database;
+        if (bibEntry.hasField(StandardField.CROSSREF) || (!database.hasNoStrings() && refersToStrings(bibEntry))) {
+            return Optional.empty();
+        }
+
+        EntryContent content = new EntryContent(bibEntry.getType().getName(), Map.copyOf(bibEntry.getFieldMap()));
+        return Optional.of(new CitedEntry(entry.getCitationKey(), Optional.of(content)));
+    }
+
+    private static boolean refersToStrings(BibEntry entry) {
+        return entry.getFieldValues().stream().anyMatch(value -> value.indexOf('#') >= 0);
+    }
+}
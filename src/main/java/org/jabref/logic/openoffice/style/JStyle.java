@@ -134,6 +134,7 @@ public class JStyle implements Comparable<JStyle>, OOStyle {
     private final String path;
     private final LayoutFormatterPreferences layoutPreferences;
     private final JournalAbbreviationRepository abbreviationRepository;
+    private final CitationMarkerCache citationMarkerCache = new CitationMarkerCache();
     private String name = "";
     private Layout defaultBibLayout;
     private boolean valid;
@@ -293,6 +294,7 @@ public class JStyle implements Comparable<JStyle>, OOStyle {
     }
 
     private void readFormatFile(Reader input) throws IOException {
+        citationMarkerCache.clear();
 
         // First read all the contents of the file:
         StringBuilder stringBuilder = new StringBuilder();
@@ -683,9 +685,7 @@ public class JStyle implements Comparable<JStyle>, OOStyle {
      */
     public OOText getNumCitationMarker2(List<CitationMarkerNumericEntry> entries) {
         final int minGroupingCount = this.getMinimumGroupingCount();
-        return JStyleGetNumCitationMarker.getNumCitationMarker2(this,
-                                                                    entries,
-                                                                    minGroupingCount);
+        return getNumCitationMarker2(entries, minGroupingCount);
     }
 
     /**
@@ -693,9 +693,10 @@ public class JStyle implements Comparable<JStyle>, OOStyle {
      */
     public OOText getNumCitationMarker2(List<CitationMarkerNumericEntry> entries,
                                         int minGroupingCount) {
-        return JStyleGetNumCitationMarker.getNumCitationMarker2(this,
-                                                                    entries,
-                                                                    minGroupingCount);
+        return citationMarkerCache.getNumCitationMarker(entries, minGroupingCount,
+                () -> JStyleGetNumCitationMarker.getNumCitationMarker2(this,
+                                                                           entries,
+                                                                           minGroupingCount));
     }
 
     /**
@@ -706,7 +707,8 @@ public class JStyle implements Comparable<JStyle>, OOStyle {
     }
 
     public OOText getNormalizedCitationMarker(CitationMarkerNormEntry entry) {
-        return JStyleGetCitationMarker.getNormalizedCitationMarker(this, entry, Optional.empty());
+        return citationMarkerCache.getNormalizedCitationMarker(entry,
+                () -> JStyleGetCitationMarker.getNormalizedCitationMarker(this, entry, Optional.empty()));
     }
 
     /**
@@ -743,10 +745,11 @@ public class JStyle implements Comparable<JStyle>, OOStyle {
     public OOText createCitationMarker(List<CitationMarkerEntry> citationMarkerEntries,
                                        boolean inParenthesis,
                                        NonUniqueCitationMarker nonUniqueCitationMarkerHandling) {
-        return JStyleGetCitationMarker.createCitationMarker(this,
-                                                                citationMarkerEntries,
-                                                                inParenthesis,
-                                                                nonUniqueCitationMarkerHandling);
+        return citationMarkerCache.createCitationMarker(citationMarkerEntries, inParenthesis, nonUniqueCitationMarkerHandling,
+                () -> JStyleGetCitationMarker.createCitationMarker(this,
+                                                                       citationMarkerEntries,
+                                                                       inParenthesis,
+                                                                       nonUniqueCitationMarkerHandling));
     }
 
     /**
@@ -1,5 +1,6 @@
 package org.jabref.logic.pdf;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -8,4 +9,14 @@ import org.jabref.model.pdf.FileAnnotation;
 public interface AnnotationImporter {
 
     List<FileAnnotation> importAnnotations(final Path path);
+
+    /**
+     * Imports the annotations like {@link #importAnnotations(Path)}, but fails if the file cannot be read completely,
+     * instead of returning the annotations read until then.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    default List<FileAnnotation> importAnnotationsOrFail(final Path path) throws IOException {
+        return importAnnotations(path);
+    }
 }
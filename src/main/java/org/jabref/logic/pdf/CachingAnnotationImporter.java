@@ -0,0 +1,153 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.util.PersistentCacheStore;
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports annotations of PDF files and caches them keyed by the path and the modification time of the file.
+ * <p>
+ * The in-memory tier is bounded by the estimated size of the annotations, not by the number of files. The annotations
+ * are additionally kept in a {@link PersistentCacheStore}, so that a PDF only needs to be parsed again after it has
+ * been changed.
+ */
+public class CachingAnnotationImporter implements AnnotationImporter {
+
+    private static final String STORE_NAME = "file-annotations-cache";
+    private static final String ANNOTATIONS_MAP_NAME = "annotations";
+
+    public static final CachingAnnotationImporter INSTANCE = new CachingAnnotationImporter(new PdfAnnotationImporter(), PersistentCacheStore.shared(STORE_NAME, ANNOTATIONS_MAP_NAME));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingAnnotationImporter.class);
+
+    // maximum estimated size of the annotations kept in memory
+    private static final long MAXIMUM_CACHE_WEIGHT_IN_BYTES = 32L * 1024 * 1024;
+    // rough estimate of the memory needed by an annotation without its strings
+    private static final int ANNOTATION_OVERHEAD_IN_BYTES = 128;
+
+    private final AnnotationImporter importer;
+    private final Cache<FileKey, List<FileAnnotation>> memoryCache;
+
+    private final PersistentCacheStore persistentStore;
+
+    private record FileKey(Path path, long lastModified) {
+    }
+
+    private record AnnotationRecord(String author, LocalDateTime timeModified, int page, String content,
+                                    FileAnnotationType annotationType, @Nullable AnnotationRecord linkedAnnotation) implements Serializable {
+
+        static AnnotationRecord of(FileAnnotation annotation) {
+            return new AnnotationRecord(
+                    annotation.getAuthor(),
+                    annotation.getTimeModified(),
+                    annotation.getPage(),
+                    annotation.getContent(),
+                    annotation.getAnnotationType(),
+                    annotation.hasLinkedAnnotation() ? of(annotation.getLinkedFileAnnotation()) : null);
+        }
+
+        FileAnnotation toFileAnnotation() {
+            return new FileAnnotation(author, timeModified, page, content, annotationType,
+                    Optional.ofNullable(linkedAnnotation).map(AnnotationRecord::toFileAnnotation));
+        }
+    }
+
+    private record PersistedAnnotations(long lastModified, List<AnnotationRecord> annotations) implements Serializable {
+    }
+
+    public CachingAnnotationImporter(AnnotationImporter importer) {
+        this(importer, new PersistentCacheStore(STORE_NAME, ANNOTATIONS_MAP_NAME));
+    }
+
+    CachingAnnotationImporter(AnnotationImporter importer, PersistentCacheStore persistentStore) {
+        this.importer = importer;
+        this.persistentStore = persistentStore;
+        this.memoryCache = CacheBuilder.newBuilder()
+                                       .maximumWeight(MAXIMUM_CACHE_WEIGHT_IN_BYTES)
+                                       .weigher((FileKey key, List<FileAnnotation> annotations) -> estimateSize(annotations))
+                                       .build();
+    }
+
+    @Override
+    public List<FileAnnotation> importAnnotations(Path path) {
+        long lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return importer.importAnnotations(path);
+        }
+
+        FileKey key = new FileKey(path, lastModified);
+        List<FileAnnotation> cached = memoryCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<String, PersistedAnnotations> persisted = persistentStore.getMap(ANNOTATIONS_MAP_NAME);
+        if (persisted != null) {
+            PersistedAnnotations stored = persisted.get(path.toString());
+            if ((stored != null) && (stored.lastModified() == lastModified)) {
+                List<FileAnnotation> annotations = stored.annotations().stream()
+                                                         .map(AnnotationRecord::toFileAnnotation)
+                                                         .toList();
+                memoryCache.put(key, annotations);
+                return annotations;
+            }
+        }
+
+        List<FileAnnotation> annotations;
+        try {
+            annotations = List.copyOf(importer.importAnnotationsOrFail(path));
+        } catch (IOException e) {
+            // Not cached, so that the file is read again the next time instead of showing no annotations until it changes
+            LOGGER.error("Failed to read file '{}'.", path, e);
+            return List.of();
+        }
+        memoryCache.put(key, annotations);
+        if (persisted != null) {
+            persisted.put(path.toString(), new PersistedAnnotations(lastModified, annotations.stream().map(AnnotationRecord::of).toList()));
+        }
+        return annotations;
+    }
+
+    public void invalidate(Path path) {
+        memoryCache.asMap().keySet().removeIf(key -> key.path().equals(path));
+        Map<String, PersistedAnnotations> persisted = persistentStore.getMap(ANNOTATIONS_MAP_NAME);
+        if (persisted != null) {
+            persisted.remove(path.toString());
+        }
+    }
+
+    private static int estimateSize(List<FileAnnotation> annotations) {
+        long size = ANNOTATION_OVERHEAD_IN_BYTES;
+        for (FileAnnotation annotation : annotations) {
+            size += estimateSize(annotation);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    private static long estimateSize(FileAnnotation annotation) {
+        long size = ANNOTATION_OVERHEAD_IN_BYTES
+                + 2L * annotation.getContent().length()
+                + 2L * Optional.ofNullable(annotation.getAuthor()).map(String::length).orElse(0);
+        if (annotation.hasLinkedAnnotation()) {
+            size += estimateSize(annotation.getLinkedFileAnnotation());
+        }
+        return size;
+    }
+}
@@ -3,56 +3,80 @@ package org.jabref.logic.pdf;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.pdf.FileAnnotation;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Provides the annotations of the files linked to an entry. The annotations themselves are cached per file by
+ * {@link CachingAnnotationImporter}, so that an entry is only as expensive as looking up the modification times of its files.
+ */
 public class FileAnnotationCache {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileAnnotationCache.class);
-    // cache size in entries
-    private final static int CACHE_SIZE = 10;
 
-    // the inner list holds the annotations per file, the outer collection maps this to a BibEntry.
-    private LoadingCache<BibEntry, Map<Path, List<FileAnnotation>>> annotationCache;
+    private BibDatabaseContext context;
+    private FilePreferences filePreferences;
+    private final CachingAnnotationImporter annotationImporter;
+    private final AtomicReference<Object> currentPrefetch = new AtomicReference<>();
 
     /**
      * Creates an empty fil annotation cache. Required to allow the annotation cache to be injected into views without
      * hitting the bug https://github.com/AdamBien/afterburner.fx/issues/71 .
      */
     public FileAnnotationCache() {
+        this.annotationImporter = CachingAnnotationImporter.INSTANCE;
     }
 
     public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences) {
-        annotationCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
-            @Override
-            public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
-                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences);
-            }
-        });
+        this(context, filePreferences, CachingAnnotationImporter.INSTANCE);
+    }
+
+    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, CachingAnnotationImporter annotationImporter) {
+        this.context = context;
+        this.filePreferences = filePreferences;
+        this.annotationImporter = annotationImporter;
     }
 
     /**
-     * Note that entry becomes the most recent entry in the cache
-     *
      * @param entry entry for which to get the annotations
      * @return Map containing a list of annotations in a list for each file
      */
     public Map<Path, List<FileAnnotation>> getFromCache(BibEntry entry) {
         LOGGER.debug("Loading Bibentry '%s' from cache.".formatted(entry.getCitationKey().orElse(entry.getId())));
-        return annotationCache.getUnchecked(entry);
+        return new EntryAnnotationImporter(entry, annotationImporter).importAnnotationsFromFiles(context, filePreferences);
     }
 
     public void remove(BibEntry entry) {
         LOGGER.debug("Deleted Bibentry '%s' from cache.".formatted(entry.getCitationKey().orElse(entry.getId())));
-        annotationCache.invalidate(entry);
+        entry.getFiles().forEach(linkedFile -> linkedFile.findIn(context, filePreferences).ifPresent(annotationImporter::invalidate));
+    }
+
+    /**
+     * Loads the annotations of the given entries in the background, so that they are already cached when the user
+     * selects one of them. A prefetch still running from an earlier call stops after the entry it is reading. It is not
+     * interrupted, as an interrupted read of a file would fail.
+     */
+    public void prefetch(List<BibEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Object prefetch = new Object();
+        currentPrefetch.set(prefetch);
+        HeadlessExecutorService.INSTANCE.execute(() -> {
+            for (BibEntry entry : entries) {
+                if (currentPrefetch.get() != prefetch) {
+                    return;
+                }
+                getFromCache(entry);
+            }
+        });
     }
 }
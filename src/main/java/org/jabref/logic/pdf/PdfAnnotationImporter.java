@@ -41,6 +41,23 @@ public class PdfAnnotationImporter implements AnnotationImporter {
             return Collections.emptyList();
         }
 
+        try {
+            return readAnnotations(path);
+        } catch (IOException e) {
+            LOGGER.error("Failed to read file '%s'.".formatted(path), e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<FileAnnotation> importAnnotationsOrFail(final Path path) throws IOException {
+        if (!validatePath(path)) {
+            throw new IOException("Cannot read annotations of '%s'".formatted(path));
+        }
+        return readAnnotations(path);
+    }
+
+    private List<FileAnnotation> readAnnotations(Path path) throws IOException {
         List<FileAnnotation> annotationsList = new LinkedList<>();
         try (PDDocument document = Loader.loadPDF(path.toFile())) {
             PDPageTree pdfPages = document.getDocumentCatalog().getPages();
@@ -61,8 +78,6 @@ public class PdfAnnotationImporter implements AnnotationImporter {
                     }
                 }
             }
-        } catch (IOException e) {
-            LOGGER.error("Failed to read file '%s'.".formatted(path), e);
         }
         return annotationsList;
     }
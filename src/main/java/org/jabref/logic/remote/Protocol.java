@@ -44,7 +44,7 @@ public class Protocol implements AutoCloseable {
 
         // encode the commandline arguments to handle special characters (eg. spaces and Chinese characters)
         // related to issue #6487
-        if (type == RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS) {
+        if (type == RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS || type == RemoteMessage.SEND_CLI_COMMAND) {
             String[] encodedArgs = ((String[]) argument).clone();
             for (int i = 0; i < encodedArgs.length; i++) {
                 encodedArgs[i] = URLEncoder.encode(encodedArgs[i], StandardCharsets.UTF_8);
@@ -65,7 +65,7 @@ public class Protocol implements AutoCloseable {
             int endOfMessage = in.read();
 
             // decode the received commandline arguments
-            if (type == RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS) {
+            if (type == RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS || type == RemoteMessage.SEND_CLI_COMMAND) {
                 for (int i = 0; i < ((String[]) argument).length; i++) {
                     ((String[]) argument)[i] = URLDecoder.decode(((String[]) argument)[i], StandardCharsets.UTF_8);
                 }
@@ -16,5 +16,16 @@ public enum RemoteMessage {
     /**
      * Request server to identify itself. No message content.
      */
-    PING
+    PING,
+    /**
+     * Run command line arguments as a command line call and send back its output. Only a JabKit daemon handles this
+     * message. The message content is of type {@code String[]}: the working directory of the client, followed by the
+     * arguments.
+     */
+    SEND_CLI_COMMAND,
+    /**
+     * As a response to {@link #SEND_CLI_COMMAND}. The message content is of type {@code String[]}: the standard output
+     * and the error output of the command.
+     */
+    CLI_OUTPUT
 }
@@ -3,6 +3,8 @@ package org.jabref.logic.remote.client;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.util.Pair;
 
@@ -63,9 +65,38 @@ public class RemoteClient {
         }
     }
 
+    /**
+     * Attempt to let an already running JabKit daemon process the given command line arguments.
+     *
+     * @param workingDirectory the directory relative paths in the arguments are resolved against
+     * @return the standard output and the error output of the command, empty if no daemon processed it
+     */
+    public Optional<String[]> sendCliCommand(Path workingDirectory, String[] args) {
+        String[] message = new String[args.length + 1];
+        message[0] = workingDirectory.toAbsolutePath().toString();
+        System.arraycopy(args, 0, message, 1, args.length);
+
+        // A command may run for a long time, e.g., when writing metadata to thousands of PDFs
+        try (Protocol protocol = openNewConnection(0)) {
+            protocol.sendMessage(RemoteMessage.SEND_CLI_COMMAND, message);
+            Pair<RemoteMessage, Object> response = protocol.receiveMessage();
+            if ((response.getKey() == RemoteMessage.CLI_OUTPUT) && (response.getValue() instanceof String[] output) && (output.length == 2)) {
+                return Optional.of(output);
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            LOGGER.debug("Could not send command {} to the server at port {}", String.join(", ", args), port, e);
+            return Optional.empty();
+        }
+    }
+
     private Protocol openNewConnection() throws IOException {
+        return openNewConnection(TIMEOUT);
+    }
+
+    private Protocol openNewConnection(int readTimeout) throws IOException {
         Socket socket = new Socket();
-        socket.setSoTimeout(TIMEOUT);
+        socket.setSoTimeout(readTimeout);
         socket.connect(new InetSocketAddress(RemotePreferences.getIpAddress(), port), TIMEOUT);
         return new Protocol(socket);
     }
@@ -4,6 +4,10 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import javafx.util.Pair;
 
@@ -19,37 +23,67 @@ public class RemoteListenerServer implements Runnable {
 
     private static final int BACKLOG = 1;
 
+    private static final int CONCURRENT_BACKLOG = 50;
+
     private static final int TIMEOUT = 1000;
 
     private final RemoteMessageHandler messageHandler;
     private final ServerSocket serverSocket;
+    private final Executor connectionExecutor;
 
+    /**
+     * Creates a server handling one connection after another on the accepting thread.
+     */
     public RemoteListenerServer(RemoteMessageHandler messageHandler, int port) throws IOException {
-        this.serverSocket = new ServerSocket(port, BACKLOG, RemotePreferences.getIpAddress());
+        this(messageHandler, port, BACKLOG, Runnable::run);
+    }
+
+    /**
+     * Creates a server handing each accepted connection over to the given executor. Thus, a connection running a long
+     * command does not keep others waiting.
+     */
+    public RemoteListenerServer(RemoteMessageHandler messageHandler, int port, Executor connectionExecutor) throws IOException {
+        this(messageHandler, port, CONCURRENT_BACKLOG, connectionExecutor);
+    }
+
+    private RemoteListenerServer(RemoteMessageHandler messageHandler, int port, int backlog, Executor connectionExecutor) throws IOException {
+        this.serverSocket = new ServerSocket(port, backlog, RemotePreferences.getIpAddress());
         this.messageHandler = messageHandler;
+        this.connectionExecutor = connectionExecutor;
     }
 
     @Override
     public void run() {
         try {
             while (!Thread.interrupted()) {
-                try (Socket socket = serverSocket.accept()) {
-                    socket.setSoTimeout(TIMEOUT);
-                    try (Protocol protocol = new Protocol(socket)) {
-                        Pair<RemoteMessage, Object> input = protocol.receiveMessage();
-                        handleMessage(protocol, input.getKey(), input.getValue());
-                    }
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
                 } catch (SocketException ex) {
                     return;
                 } catch (IOException e) {
                     LOGGER.warn("RemoteListenerServer crashed", e);
+                    continue;
                 }
+                connectionExecutor.execute(() -> handleConnection(socket));
             }
         } finally {
             closeServerSocket();
         }
     }
 
+    private void handleConnection(Socket socket) {
+        try (socket) {
+            socket.setSoTimeout(TIMEOUT);
+            try (Protocol protocol = new Protocol(socket)) {
+                Pair<RemoteMessage, Object> input = protocol.receiveMessage();
+                handleMessage(protocol, input.getKey(), input.getValue());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("RemoteListenerServer crashed", e);
+        }
+    }
+
     private void handleMessage(Protocol protocol, RemoteMessage type, Object argument) throws IOException {
         switch (type) {
             case PING:
@@ -63,6 +97,17 @@ public class RemoteListenerServer implements Runnable {
                     throw new IOException("Argument for 'SEND_COMMAND_LINE_ARGUMENTS' is not of type String[]. Got " + argument);
                 }
                 break;
+            case SEND_CLI_COMMAND:
+                if ((argument instanceof String[] strings) && (strings.length > 0)) {
+                    Optional<String[]> output = messageHandler.handleCliCommand(Path.of(strings[0]), Arrays.copyOfRange(strings, 1, strings.length));
+                    if (output.isEmpty()) {
+                        throw new IOException("Unhandled message to server " + type);
+                    }
+                    protocol.sendMessage(RemoteMessage.CLI_OUTPUT, output.get());
+                } else {
+                    throw new IOException("Argument for 'SEND_CLI_COMMAND' is not a non-empty String[]. Got " + argument);
+                }
+                break;
             default:
                 throw new IOException("Unhandled message to server " + type);
         }
@@ -1,6 +1,19 @@
 package org.jabref.logic.remote.server;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 @FunctionalInterface
 public interface RemoteMessageHandler {
     void handleCommandLineArguments(String[] message);
+
+    /**
+     * Runs the given arguments as a command line call.
+     *
+     * @param workingDirectory the working directory of the client, relative paths are resolved against it
+     * @return the standard output and the error output of the command, empty if this handler does not run commands
+     */
+    default Optional<String[]> handleCliCommand(Path workingDirectory, String[] args) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,90 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.search.SearchQuery;
+import org.jabref.model.search.SearchResults;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Searches several libraries for the same query. The libraries are searched concurrently, and the results of each
+ * library are handed over as soon as that library has been searched. Thus, the first matches can be shown while larger
+ * libraries are still being searched.
+ */
+public class CrossLibrarySearcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrossLibrarySearcher.class);
+
+    /**
+     * The matches of a search in one library
+     */
+    public record LibrarySearchResults(BibDatabaseContext databaseContext, SearchResults searchResults) {
+    }
+
+    private final Executor executor;
+
+    public CrossLibrarySearcher() {
+        this(HeadlessExecutorService.INSTANCE);
+    }
+
+    public CrossLibrarySearcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Searches the given libraries for the query. {@code onLibrarySearched} is called for each library as soon as its
+     * search is finished, from the thread calling this method. The search is aborted as soon as {@code isCancelled}
+     * returns true, the results of libraries not searched completely are not handed over then.
+     *
+     * @param libraries the libraries to search with their index
+     * @return the results of all libraries, which are also stored in the query unless the search has been cancelled
+     */
+    public SearchResults search(Map<BibDatabaseContext, LuceneManager> libraries,
+                                SearchQuery query,
+                                Consumer<LibrarySearchResults> onLibrarySearched,
+                                BooleanSupplier isCancelled) {
+        CompletionService<LibrarySearchResults> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<LibrarySearchResults>> searches = new ArrayList<>(libraries.size());
+        for (Map.Entry<BibDatabaseContext, LuceneManager> library : libraries.entrySet()) {
+            searches.add(completionService.submit(() -> new LibrarySearchResults(
+                    library.getKey(),
+                    library.getValue().searchWithoutStoringResults(query, isCancelled))));
+        }
+
+        SearchResults searchResults = new SearchResults();
+        try {
+            for (int i = 0; i < searches.size(); i++) {
+                Future<LibrarySearchResults> search = completionService.take();
+                if (isCancelled.getAsBoolean()) {
+                    return searchResults;
+                }
+                try {
+                    LibrarySearchResults libraryResults = search.get();
+                    searchResults.mergeSearchResults(libraryResults.searchResults());
+                    onLibrarySearched.accept(libraryResults);
+                } catch (ExecutionException e) {
+                    LOGGER.error("Error while searching a library", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            searches.forEach(search -> search.cancel(true));
+            return searchResults;
+        }
+        query.setSearchResults(searchResults);
+        return searchResults;
+    }
+}
@@ -21,12 +21,25 @@ public class DatabaseSearcher {
     private final BibDatabaseContext databaseContext;
     private final SearchQuery query;
     private final LuceneManager luceneManager;
+    private final boolean closeLuceneManager;
 
     // get rid of task executor here or add a constuctor overload?
     public DatabaseSearcher(SearchQuery query, BibDatabaseContext databaseContext, TaskExecutor taskExecutor, FilePreferences filePreferences) throws IOException {
         this.databaseContext = databaseContext;
         this.query = Objects.requireNonNull(query);
         this.luceneManager = new LuceneManager(databaseContext, taskExecutor, filePreferences);
+        this.closeLuceneManager = true;
+    }
+
+    /**
+     * Searches the index of the given manager, which was built for the given library before. The manager is kept open,
+     * so that it can serve further searches.
+     */
+    public DatabaseSearcher(SearchQuery query, BibDatabaseContext databaseContext, LuceneManager luceneManager) {
+        this.databaseContext = databaseContext;
+        this.query = Objects.requireNonNull(query);
+        this.luceneManager = luceneManager;
+        this.closeLuceneManager = false;
     }
 
     /**
@@ -37,7 +50,7 @@ public class DatabaseSearcher {
 
         if (!query.isValid()) {
             LOGGER.warn("Search failed: invalid search expression");
-            luceneManager.closeAndWait();
+            closeLuceneManager();
             return Collections.emptyList();
         }
         List<BibEntry> matchEntries = luceneManager.search(query)
@@ -45,7 +58,13 @@ public class DatabaseSearcher {
                                                    .stream()
                                                    .map(entryId -> databaseContext.getDatabase().getEntryById(entryId))
                                                    .toList();
-        luceneManager.closeAndWait();
+        closeLuceneManager();
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
+
+    private void closeLuceneManager() {
+        if (closeLuceneManager) {
+            luceneManager.closeAndWait();
+        }
+    }
 }
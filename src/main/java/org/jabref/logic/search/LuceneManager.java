@@ -1,21 +1,28 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.value.ChangeListener;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.indexing.BibFieldsIndexSchema;
+import org.jabref.logic.search.indexing.BibFieldsIndexStatistics;
 import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
 import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
 import org.jabref.logic.search.retrieval.LuceneSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskLane;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.SearchQuery;
 import org.jabref.model.search.SearchResults;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
@@ -34,18 +41,22 @@ public class LuceneManager {
     private final BooleanProperty shouldIndexLinkedFiles;
     private final BooleanProperty isLinkedFilesIndexerBlocked = new SimpleBooleanProperty(false);
     private final ChangeListener<Boolean> preferencesListener;
-    private final LuceneIndexer bibFieldsIndexer;
+    private final BibFieldsIndexer bibFieldsIndexer;
     private final LuceneIndexer linkedFilesIndexer;
     private final LuceneSearcher luceneSearcher;
 
     public LuceneManager(BibDatabaseContext databaseContext, TaskExecutor executor, FilePreferences preferences) {
+        this(databaseContext, executor, preferences, BibFieldsIndexSchema.DEFAULT);
+    }
+
+    public LuceneManager(BibDatabaseContext databaseContext, TaskExecutor executor, FilePreferences preferences, BibFieldsIndexSchema bibFieldsIndexSchema) {
         this.taskExecutor = executor;
         this.databaseContext = databaseContext;
         this.shouldIndexLinkedFiles = preferences.fulltextIndexLinkedFilesProperty();
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        this.bibFieldsIndexer = new BibFieldsIndexer(databaseContext);
+        this.bibFieldsIndexer = new BibFieldsIndexer(databaseContext, bibFieldsIndexSchema);
 
         LuceneIndexer indexer;
         try {
@@ -68,7 +79,8 @@ public class LuceneManager {
                     linkedFilesIndexer.updateOnStart(this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
         } else {
             linkedFilesIndexer.removeAllFromIndex();
         }
@@ -92,7 +104,8 @@ public class LuceneManager {
                     linkedFilesIndexer.updateOnStart(this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -113,7 +126,8 @@ public class LuceneManager {
                     linkedFilesIndexer.addToIndex(entries, this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -134,7 +148,8 @@ public class LuceneManager {
                     linkedFilesIndexer.removeFromIndex(entries, this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -155,7 +170,49 @@ public class LuceneManager {
                     linkedFilesIndexer.updateEntry(entry, oldValue, newValue, this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
+        }
+    }
+
+    /**
+     * Updates the index after a bulk change of entries in a single task per index, instead of one task per changed field.
+     *
+     * @param entries      the changed entries, each listed once
+     * @param fieldChanges the changes of the entries, at most one per entry and field
+     */
+    public void updateEntries(List<BibEntry> entries, List<FieldChange> fieldChanges) {
+        new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                for (BibEntry entry : entries) {
+                    if (isCancelled()) {
+                        return null;
+                    }
+                    bibFieldsIndexer.updateEntry(entry, "", "", this);
+                }
+                return null;
+            }
+        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
+         .executeWith(taskExecutor);
+
+        List<FieldChange> linkedFileChanges = fieldChanges.stream()
+                                                          .filter(change -> change.getField().equals(StandardField.FILE))
+                                                          .toList();
+        if (!linkedFileChanges.isEmpty() && shouldIndexLinkedFiles.get() && !isLinkedFilesIndexerBlocked.get()) {
+            new BackgroundTask<>() {
+                @Override
+                public Object call() {
+                    for (FieldChange change : linkedFileChanges) {
+                        if (isCancelled()) {
+                            return null;
+                        }
+                        linkedFilesIndexer.updateEntry(change.getEntry(), change.getOldValue(), change.getNewValue(), this);
+                    }
+                    return null;
+                }
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -176,7 +233,8 @@ public class LuceneManager {
                     linkedFilesIndexer.addToIndex(List.of(entry), this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -197,7 +255,8 @@ public class LuceneManager {
                     linkedFilesIndexer.rebuildIndex(this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withLane(TaskLane.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -222,15 +281,55 @@ public class LuceneManager {
     }
 
     public SearchResults search(SearchQuery query) {
+        return search(query, () -> false);
+    }
+
+    /**
+     * Searches for the given query, aborting the search as soon as {@code isCancelled} returns true. The results of an
+     * aborted search are incomplete and thus not stored in the query.
+     */
+    public SearchResults search(SearchQuery query, BooleanSupplier isCancelled) {
+        return storeSearchResults(query, searchWithoutStoringResults(query, isCancelled), isCancelled);
+    }
+
+    /**
+     * Searches for the given query like {@link #search(SearchQuery, BooleanSupplier)}, but only among the entries with
+     * the given IDs. As the results are stored in the query, the caller has to ensure that no other entry can match it,
+     * e.g., because the query narrows a previous query matching exactly the given entries.
+     */
+    public SearchResults searchWithin(SearchQuery query, Collection<String> entryIds, BooleanSupplier isCancelled) {
+        SearchResults searchResults = query.isValid() ? luceneSearcher.search(query, entryIds, isCancelled) : new SearchResults();
+        return storeSearchResults(query, searchResults, isCancelled);
+    }
+
+    private static SearchResults storeSearchResults(SearchQuery query, SearchResults searchResults, BooleanSupplier isCancelled) {
+        if (!isCancelled.getAsBoolean()) {
+            query.setSearchResults(searchResults);
+        }
+        return searchResults;
+    }
+
+    /**
+     * Searches for the given query like {@link #search(SearchQuery, BooleanSupplier)}, but does not store the results
+     * in the query. This is used when the query is searched in several libraries, the query then holds the results of
+     * all libraries.
+     */
+    public SearchResults searchWithoutStoringResults(SearchQuery query, BooleanSupplier isCancelled) {
         if (query.isValid()) {
-            query.setSearchResults(luceneSearcher.search(query.getParsedQuery(), query.getSearchFlags()));
-        } else {
-            query.setSearchResults(new SearchResults());
+            return luceneSearcher.search(query, isCancelled);
         }
-        return query.getSearchResults();
+        return new SearchResults();
     }
 
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
         return luceneSearcher.isEntryMatched(entry, query);
     }
+
+    public BibFieldsIndexSchema getBibFieldsIndexSchema() {
+        return bibFieldsIndexer.getSchema();
+    }
+
+    public BibFieldsIndexStatistics getBibFieldsIndexStatistics() throws IOException {
+        return bibFieldsIndexer.getStatistics();
+    }
 }
@@ -0,0 +1,74 @@
+package org.jabref.logic.search.indexing;
+
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.search.Analyzer.LatexAwareAnalyzer;
+import org.jabref.model.search.Analyzer.LatexAwareKeywordAnalyzer;
+import org.jabref.model.search.Analyzer.LatexAwareNGramAnalyzer;
+import org.jabref.model.search.SearchFieldConstants;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
+
+/**
+ * Analyzes each field of an entry as configured for its field group in a {@link BibFieldsIndexSchema}.
+ */
+class BibFieldsAnalyzer extends DelegatingAnalyzerWrapper {
+
+    private final BibFieldsIndexSchema schema;
+    private final Analyzer prefixesAnalyzer;
+    private final Analyzer wordsAnalyzer = new LatexAwareAnalyzer();
+    private final Analyzer wholeValueAnalyzer = new LatexAwareKeywordAnalyzer();
+    private final Analyzer queryAnalyzer = new QueryAnalyzer();
+
+    BibFieldsAnalyzer(BibFieldsIndexSchema schema) {
+        super(PER_FIELD_REUSE_STRATEGY);
+        this.schema = schema;
+        this.prefixesAnalyzer = new LatexAwareNGramAnalyzer(schema.minGram(), schema.maxGram());
+    }
+
+    @Override
+    protected Analyzer getWrappedAnalyzer(String fieldName) {
+        if (SearchFieldConstants.DEFAULT_FIELD.toString().equals(fieldName)
+                || SearchFieldConstants.ENTRY_TYPE.toString().equals(fieldName)) {
+            return prefixesAnalyzer;
+        }
+        return switch (schema.getAnalysis(FieldFactory.parseField(fieldName))) {
+            case PREFIXES ->
+                    prefixesAnalyzer;
+            case WORDS ->
+                    wordsAnalyzer;
+            case WHOLE_VALUE ->
+                    wholeValueAnalyzer;
+        };
+    }
+
+    /**
+     * Returns the analyzer for the terms of a search query. It analyzes each field like this analyzer, except that the
+     * terms are not split into their prefixes: a term found among the indexed prefixes matches as a whole.
+     */
+    Analyzer getQueryAnalyzer() {
+        return queryAnalyzer;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        queryAnalyzer.close();
+        prefixesAnalyzer.close();
+        wordsAnalyzer.close();
+        wholeValueAnalyzer.close();
+    }
+
+    private class QueryAnalyzer extends DelegatingAnalyzerWrapper {
+
+        QueryAnalyzer() {
+            super(PER_FIELD_REUSE_STRATEGY);
+        }
+
+        @Override
+        protected Analyzer getWrappedAnalyzer(String fieldName) {
+            Analyzer indexAnalyzer = BibFieldsAnalyzer.this.getWrappedAnalyzer(fieldName);
+            return indexAnalyzer == prefixesAnalyzer ? wordsAnalyzer : indexAnalyzer;
+        }
+    }
+}
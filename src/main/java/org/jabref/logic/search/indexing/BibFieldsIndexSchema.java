@@ -0,0 +1,132 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Describes how the fields of the entries are indexed by the {@link BibFieldsIndexer}.
+ * <p>
+ * Indexing all prefixes of all words makes typing a prefix find the entry, but makes the index several times larger
+ * than the library. The schema allows to restrict prefixes to the field groups where they are needed and to
+ * leave out the copy of all fields in {@link org.jabref.model.search.SearchFieldConstants#DEFAULT_FIELD}. Without
+ * that copy, searches without a field search all indexed fields instead.
+ *
+ * @param analysis           how the fields of each group are split into terms
+ * @param minGram            the length of the shortest prefix indexed by {@link Analysis#PREFIXES}
+ * @param maxGram            the length of the longest prefix indexed by {@link Analysis#PREFIXES}. Longer words are
+ *                           found by their full form only.
+ * @param indexAllFieldsCopy whether all fields are indexed once more in the default field
+ * @param sortableFields     the fields stored as doc values, so that hits can be sorted by them
+ */
+public record BibFieldsIndexSchema(
+        Map<FieldGroup, Analysis> analysis,
+        int minGram,
+        int maxGram,
+        boolean indexAllFieldsCopy,
+        Set<Field> sortableFields) {
+
+    /**
+     * Indexes all prefixes of all words, including a copy of all fields
+     */
+    public static final BibFieldsIndexSchema DEFAULT = new BibFieldsIndexSchema(
+            analysisOf(Analysis.PREFIXES, Analysis.PREFIXES, Analysis.PREFIXES, Analysis.PREFIXES),
+            1,
+            Integer.MAX_VALUE,
+            true,
+            Set.of());
+
+    /**
+     * Indexes prefixes of persons and text only, without a copy of all fields
+     */
+    public static final BibFieldsIndexSchema COMPACT = new BibFieldsIndexSchema(
+            analysisOf(Analysis.PREFIXES, Analysis.PREFIXES, Analysis.WORDS, Analysis.WHOLE_VALUE),
+            1,
+            20,
+            false,
+            Set.of(InternalField.KEY_FIELD, StandardField.AUTHOR, StandardField.TITLE, StandardField.YEAR));
+
+    /**
+     * Groups of fields sharing the way they are searched
+     */
+    public enum FieldGroup {
+        PERSONS,
+        TEXT,
+        NUMBERS,
+        IDENTIFIERS;
+
+        public static FieldGroup of(Field field) {
+            EnumSet<FieldProperty> properties = field.getProperties();
+            if (properties.contains(FieldProperty.PERSON_NAMES)) {
+                return PERSONS;
+            }
+            if (field == InternalField.KEY_FIELD
+                    || properties.contains(FieldProperty.IDENTIFIER)
+                    || (properties.contains(FieldProperty.VERBATIM) && !properties.contains(FieldProperty.MULTILINE_TEXT))) {
+                return IDENTIFIERS;
+            }
+            if (properties.contains(FieldProperty.NUMERIC)
+                    || properties.contains(FieldProperty.DATE)
+                    || properties.contains(FieldProperty.MONTH)
+                    || properties.contains(FieldProperty.PAGINATION)) {
+                return NUMBERS;
+            }
+            return TEXT;
+        }
+    }
+
+    public enum Analysis {
+        /**
+         * All prefixes of the words are indexed, so that typing the beginning of a word finds it
+         */
+        PREFIXES,
+        /**
+         * The words are indexed, so that only complete words are found
+         */
+        WORDS,
+        /**
+         * The whole value is indexed as one term, so that only the complete value is found
+         */
+        WHOLE_VALUE
+    }
+
+    public BibFieldsIndexSchema {
+        analysis = Map.copyOf(analysis);
+        sortableFields = Set.copyOf(sortableFields);
+        if (!analysis.keySet().containsAll(EnumSet.allOf(FieldGroup.class))) {
+            throw new IllegalArgumentException("Analysis given for field groups " + analysis.keySet() + " only");
+        }
+        if ((minGram < 1) || (maxGram < minGram)) {
+            throw new IllegalArgumentException("Invalid prefix lengths " + minGram + " to " + maxGram);
+        }
+    }
+
+    public Analysis getAnalysis(Field field) {
+        return analysis.get(FieldGroup.of(field));
+    }
+
+    /**
+     * Checks whether every prefix of every word is indexed. Only then, every entry found by a word is also found by
+     * each of its prefixes, see {@link org.jabref.model.search.SearchQuery#isNarrowingOf}.
+     */
+    public boolean indexesAllPrefixes() {
+        return analysis.values().stream().allMatch(Analysis.PREFIXES::equals)
+                && (minGram == 1)
+                && (maxGram == Integer.MAX_VALUE);
+    }
+
+    private static Map<FieldGroup, Analysis> analysisOf(Analysis persons, Analysis text, Analysis numbers, Analysis identifiers) {
+        Map<FieldGroup, Analysis> analysis = new EnumMap<>(FieldGroup.class);
+        analysis.put(FieldGroup.PERSONS, persons);
+        analysis.put(FieldGroup.TEXT, text);
+        analysis.put(FieldGroup.NUMBERS, numbers);
+        analysis.put(FieldGroup.IDENTIFIERS, identifiers);
+        return analysis;
+    }
+}
@@ -0,0 +1,40 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Size of the index of the bib fields, to compare {@link BibFieldsIndexSchema schemas}.
+ *
+ * @param sizeInBytes     the size of all index files
+ * @param documents       the number of indexed entries
+ * @param buildTimeMillis the time the last full indexing of the library took, -1 if the library was not indexed yet
+ * @param fields          the statistics of each indexed field, the largest field first
+ */
+public record BibFieldsIndexStatistics(long sizeInBytes, int documents, long buildTimeMillis, List<FieldStatistics> fields) {
+
+    /**
+     * Lucene does not report the size of the index per field, thus the size of the terms and the number of postings
+     * are given. The postings usually take most of the space.
+     *
+     * @param terms        the number of distinct terms
+     * @param termBytes    the length of all distinct terms
+     * @param postings     the number of pairs of term and entry
+     * @param hasDocValues whether the field is stored for sorting
+     */
+    public record FieldStatistics(String field, long terms, long termBytes, long postings, boolean hasDocValues) {
+    }
+
+    @Override
+    public String toString() {
+        return "%d entries, %d bytes, built in %d ms%n".formatted(documents, sizeInBytes, buildTimeMillis)
+                + fields.stream()
+                        .map(field -> "%-20s %10d terms %12d term bytes %12d postings%s".formatted(
+                                field.field(),
+                                field.terms(),
+                                field.termBytes(),
+                                field.postings(),
+                                field.hasDocValues() ? " doc values" : ""))
+                        .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -1,7 +1,13 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.jabref.logic.l10n.Localization;
@@ -13,32 +19,61 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.SearchFieldConstants;
+import org.jabref.model.search.SearchQuery;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class BibFieldsIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
+    // Doc values are limited in size, and sorting by the beginning of a value is sufficient
+    private static final int MAX_SORT_VALUE_LENGTH = 256;
     private final BibDatabaseContext databaseContext;
+    private final BibFieldsIndexSchema schema;
     private final String libraryName;
+    private final BibFieldsAnalyzer analyzer;
     private final Directory indexDirectory;
     private IndexWriter indexWriter;
     private SearcherManager searcherManager;
+    private volatile long buildTimeMillis = -1;
+    @Nullable private volatile DefaultFields defaultFields;
+
+    private record DefaultFields(long indexVersion, List<String> fields) {
+    }
 
     public BibFieldsIndexer(BibDatabaseContext databaseContext) {
+        this(databaseContext, BibFieldsIndexSchema.DEFAULT);
+    }
+
+    public BibFieldsIndexer(BibDatabaseContext databaseContext, BibFieldsIndexSchema schema) {
         this.databaseContext = databaseContext;
+        this.schema = schema;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
 
-        IndexWriterConfig config = new IndexWriterConfig(SearchFieldConstants.LATEX_AWARE_NGRAM_ANALYZER);
+        this.analyzer = new BibFieldsAnalyzer(schema);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
 
         this.indexDirectory = new ByteBuffersDirectory();
         try {
@@ -51,7 +86,22 @@ public class BibFieldsIndexer implements LuceneIndexer {
 
     @Override
     public void updateOnStart(BackgroundTask<?> task) {
+        buildIndex(task);
+    }
+
+    private void buildIndex(BackgroundTask<?> task) {
+        long startTime = System.currentTimeMillis();
         addToIndex(databaseContext.getDatabase().getEntries(), task);
+        if (!task.isCancelled()) {
+            buildTimeMillis = System.currentTimeMillis() - startTime;
+            if (LOGGER.isDebugEnabled()) {
+                try {
+                    LOGGER.debug("Bib fields index of {}: {}", libraryName, getStatistics());
+                } catch (IOException e) {
+                    LOGGER.debug("Could not determine index statistics", e);
+                }
+            }
+        }
     }
 
     @Override
@@ -87,13 +137,18 @@ public class BibFieldsIndexer implements LuceneIndexer {
             StringBuilder allFields = new StringBuilder(bibEntry.getType().getName());
             for (Map.Entry<Field, String> mapEntry : bibEntry.getFieldMap().entrySet()) {
                 document.add(new TextField(mapEntry.getKey().getName(), mapEntry.getValue(), storeDisabled));
+                if (schema.sortableFields().contains(mapEntry.getKey())) {
+                    document.add(new SortedDocValuesField(mapEntry.getKey().getName(), new BytesRef(toSortValue(mapEntry.getValue()))));
+                }
                 if (mapEntry.getKey().equals(StandardField.GROUPS)) {
                     // Do not add groups to the allFields field: https://github.com/JabRef/jabref/issues/7996
                     continue;
                 }
                 allFields.append('\n').append(mapEntry.getValue());
             }
-            document.add(new TextField(SearchFieldConstants.DEFAULT_FIELD.toString(), allFields.toString(), storeDisabled));
+            if (schema.indexAllFieldsCopy()) {
+                document.add(new TextField(SearchFieldConstants.DEFAULT_FIELD.toString(), allFields.toString(), storeDisabled));
+            }
             indexWriter.addDocument(document);
         } catch (IOException e) {
             LOGGER.warn("Could not add an entry to the index.", e);
@@ -149,7 +204,101 @@ public class BibFieldsIndexer implements LuceneIndexer {
     @Override
     public void rebuildIndex(BackgroundTask<?> task) {
         removeAllFromIndex();
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        buildIndex(task);
+    }
+
+    public BibFieldsIndexSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Returns the query to run on this index for the given search query. The terms of each field are analyzed like the
+     * field is indexed by the schema. Without the copy of all fields, a search without a field searches all fields
+     * present in the index instead.
+     */
+    public Query getQuery(SearchQuery searchQuery) {
+        if (schema.indexAllFieldsCopy()) {
+            return searchQuery.getParsedQuery(analyzer.getQueryAnalyzer(), List.of(SearchFieldConstants.DEFAULT_FIELD.toString()));
+        }
+        try {
+            return searchQuery.getParsedQuery(analyzer.getQueryAnalyzer(), getDefaultFields());
+        } catch (IOException e) {
+            LOGGER.error("Could not determine the indexed fields", e);
+            return searchQuery.getParsedQuery();
+        }
+    }
+
+    /**
+     * Returns the fields searched by terms without a field. They are determined once per version of the index, as
+     * each entry matched by the search bar is checked with a query of its own.
+     */
+    private List<String> getDefaultFields() throws IOException {
+        IndexSearcher indexSearcher = acquireIndexSearcher();
+        try {
+            IndexReader reader = indexSearcher.getIndexReader();
+            long version = reader instanceof DirectoryReader directoryReader ? directoryReader.getVersion() : -1;
+            DefaultFields fields = defaultFields;
+            if ((fields == null) || (fields.indexVersion() != version) || (version == -1)) {
+                fields = new DefaultFields(version, FieldInfos.getIndexedFields(reader).stream()
+                                                              .filter(field -> !SearchFieldConstants.ENTRY_ID.toString().equals(field))
+                                                              .filter(field -> !StandardField.GROUPS.getName().equals(field))
+                                                              .sorted()
+                                                              .toList());
+                defaultFields = fields;
+            }
+            return fields.fields();
+        } finally {
+            searcherManager.release(indexSearcher);
+        }
+    }
+
+    public BibFieldsIndexStatistics getStatistics() throws IOException {
+        IndexSearcher indexSearcher = acquireIndexSearcher();
+        try {
+            IndexReader reader = indexSearcher.getIndexReader();
+            List<BibFieldsIndexStatistics.FieldStatistics> fields = new ArrayList<>();
+            for (FieldInfo fieldInfo : FieldInfos.getMergedFieldInfos(reader)) {
+                long terms = 0;
+                long termBytes = 0;
+                long postings = 0;
+                Terms fieldTerms = MultiTerms.getTerms(reader, fieldInfo.name);
+                if (fieldTerms != null) {
+                    postings = fieldTerms.getSumDocFreq();
+                    TermsEnum termsEnum = fieldTerms.iterator();
+                    for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                        terms++;
+                        termBytes += term.length;
+                    }
+                }
+                fields.add(new BibFieldsIndexStatistics.FieldStatistics(fieldInfo.name, terms, termBytes, postings, fieldInfo.getDocValuesType() != DocValuesType.NONE));
+            }
+            fields.sort(Comparator.comparingLong(BibFieldsIndexStatistics.FieldStatistics::postings).reversed());
+            return new BibFieldsIndexStatistics(getIndexSize(), reader.numDocs(), buildTimeMillis, fields);
+        } finally {
+            searcherManager.release(indexSearcher);
+        }
+    }
+
+    private long getIndexSize() throws IOException {
+        long size = 0;
+        for (String file : indexDirectory.listAll()) {
+            try {
+                size += indexDirectory.fileLength(file);
+            } catch (NoSuchFileException | FileNotFoundException e) {
+                // Deleted by a merge meanwhile
+            }
+        }
+        return size;
+    }
+
+    private IndexSearcher acquireIndexSearcher() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        return searcherManager.acquire();
+    }
+
+    private static String toSortValue(String value) {
+        String sortValue = value.toLowerCase(Locale.ROOT);
+        return sortValue.length() > MAX_SORT_VALUE_LENGTH ? sortValue.substring(0, MAX_SORT_VALUE_LENGTH) : sortValue;
     }
 
     @Override
@@ -173,6 +322,7 @@ public class BibFieldsIndexer implements LuceneIndexer {
             searcherManager.close();
             indexWriter.close();
             indexDirectory.close();
+            analyzer.close();
             LOGGER.debug("Bib fields index closed");
         } catch (IOException e) {
             LOGGER.error("Error while closing bib fields index", e);
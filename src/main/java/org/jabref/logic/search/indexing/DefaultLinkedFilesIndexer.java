@@ -3,6 +3,7 @@ package org.jabref.logic.search.indexing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -10,8 +11,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javafx.util.Pair;
@@ -23,6 +31,7 @@ import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.logic.util.TaskLane;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -46,11 +55,19 @@ import org.slf4j.LoggerFactory;
 
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
-    private static final DocumentReader DOCUMENT_READER = new DocumentReader();
+    // shared by the indexers of all libraries, so that indexing does not use more threads than the bulk lane
+    private static final Executor EXTRACTORS = Executors.newFixedThreadPool(TaskLane.BULK_THREADS,
+            Thread.ofPlatform().name("pdf-text-extractor-", 0).daemon().priority(Thread.NORM_PRIORITY - 1).factory());
+    // upper bound for the size of the files being extracted and waiting to be written
+    private static final int IN_FLIGHT_BUDGET_IN_KILOBYTES = 256 * 1024;
+    private static final int BATCH_SIZE_IN_PAGES = 500;
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private final DocumentReader documentReader;
+    private final Executor extractors;
+    private final int inFlightBudgetInKilobytes;
     private final String libraryName;
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
@@ -58,9 +75,19 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private Path indexDirectoryPath;
     private Map<String, Long> indexedFiles;
 
+    private record ExtractedFile(String fileLink, long modifiedTime, Path resolvedPath, List<Document> pages, int permits) {
+    }
+
     public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+        this(databaseContext, filePreferences, new DocumentReader(), EXTRACTORS, IN_FLIGHT_BUDGET_IN_KILOBYTES);
+    }
+
+    DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, DocumentReader documentReader, Executor extractors, int inFlightBudgetInKilobytes) throws IOException {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.documentReader = documentReader;
+        this.extractors = extractors;
+        this.inFlightBudgetInKilobytes = inFlightBudgetInKilobytes;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElseGet(() -> "untitled");
         this.indexedFiles = new ConcurrentHashMap<>();
 
@@ -136,29 +163,134 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         task.setTitle(Localization.lang("Indexing PDF files for %0", libraryName));
         task.showToUser(true);
         LOGGER.debug("Adding {} files to index", linkedFiles.size());
-        int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+
+        BlockingQueue<ExtractedFile> extractedFiles = new LinkedBlockingQueue<>();
+        Semaphore inFlightBudget = new Semaphore(inFlightBudgetInKilobytes);
+        AtomicBoolean stopped = new AtomicBoolean(false);
+
+        // Producer: hands files to the extractors as long as the budget of in-flight documents allows it
+        List<Map.Entry<String, Pair<Long, Path>>> files = List.copyOf(linkedFiles.entrySet());
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicBoolean allSubmitted = new AtomicBoolean(false);
+        HeadlessExecutorService.INSTANCE.execute(() -> {
+            try {
+                for (Map.Entry<String, Pair<Long, Path>> file : files) {
+                    int permits = estimatePermits(file.getValue().getValue());
+                    if (!acquire(inFlightBudget, permits, stopped)) {
+                        return;
+                    }
+                    extractors.execute(() -> extractAndQueue(file.getKey(), file.getValue().getKey(), file.getValue().getValue(), permits, extractedFiles, stopped));
+                    submitted.incrementAndGet();
+                }
+            } finally {
+                // The consumer stops as soon as the files submitted until now are processed
+                allSubmitted.set(true);
+            }
+        });
+
+        // Consumer: the single index writer takes the extracted pages in batches
+        List<ExtractedFile> batch = new ArrayList<>();
+        int batchSize = 0;
+        int processed = 0;
+        try {
+            while (!allSubmitted.get() || (processed < submitted.get())) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Adding files to index canceled");
+                    return;
+                }
+                ExtractedFile extractedFile = extractedFiles.poll(100, TimeUnit.MILLISECONDS);
+                if (extractedFile == null) {
+                    // Write what we have, the files of the batch may hold the budget the producer is waiting for
+                    addToIndex(batch, inFlightBudget);
+                    batchSize = 0;
+                    continue;
+                }
+                processed++;
+                batch.add(extractedFile);
+                batchSize += extractedFile.pages().size();
+                if (batchSize >= BATCH_SIZE_IN_PAGES || (allSubmitted.get() && (processed == submitted.get()))) {
+                    addToIndex(batch, inFlightBudget);
+                    batchSize = 0;
+                }
+                task.updateProgress(processed, files.size());
+                task.updateMessage(Localization.lang("Indexing %0. %1 of %2 files added to the index.", extractedFile.resolvedPath().getFileName(), processed, files.size()));
+            }
+            addToIndex(batch, inFlightBudget);
+            LOGGER.debug("Added {} files to index", processed);
+        } catch (InterruptedException e) {
+            LOGGER.debug("Adding files to index interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            // the extractors skip the files of this call they have not started yet
+            stopped.set(true);
+        }
+    }
+
+    private int estimatePermits(Path resolvedPath) {
+        try {
+            long sizeInKilobytes = Files.size(resolvedPath) / 1024;
+            return (int) Math.max(1, Math.min(inFlightBudgetInKilobytes, sizeInKilobytes));
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    private static boolean acquire(Semaphore semaphore, int permits, AtomicBoolean stopped) {
+        try {
+            while (!stopped.get()) {
+                if (semaphore.tryAcquire(permits, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the text of the file and queues the result. A result is queued even if the extraction fails or indexing
+     * has been stopped, as the consumer waits for a result of each submitted file.
+     */
+    private void extractAndQueue(String fileLink, long modifiedTime, Path resolvedPath, int permits, BlockingQueue<ExtractedFile> extractedFiles, AtomicBoolean stopped) {
+        ExtractedFile extractedFile = new ExtractedFile(fileLink, modifiedTime, resolvedPath, List.of(), permits);
+        try {
+            if (!stopped.get()) {
+                extractedFile = extract(fileLink, modifiedTime, resolvedPath, permits);
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0. %1 of %2 files added to the index.", entry.getValue().getValue().getFileName(), i, linkedFiles.size()));
-            i++;
+        } finally {
+            extractedFiles.add(extractedFile);
         }
-        LOGGER.debug("Added {} files to index", linkedFiles.size());
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
-        LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+    private ExtractedFile extract(String fileLink, long modifiedTime, Path resolvedPath, int permits) {
+        LOGGER.debug("Extracting text of file {}.", fileLink);
+        try {
+            List<DocumentReader.PageText> pageTexts = PageTextCache.INSTANCE.getPages(resolvedPath, documentReader);
+            return new ExtractedFile(fileLink, modifiedTime, resolvedPath, documentReader.toDocuments(fileLink, resolvedPath, pageTexts), permits);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read {}", resolvedPath.toAbsolutePath(), e);
+            return new ExtractedFile(fileLink, modifiedTime, resolvedPath, List.of(), permits);
+        }
+    }
+
+    /**
+     * Writes the given batch to the index, releases the budget held by its files and clears the batch.
+     */
+    private void addToIndex(List<ExtractedFile> batch, Semaphore inFlightBudget) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Document> pages = new ArrayList<>();
+        batch.forEach(file -> pages.addAll(file.pages()));
         try {
             indexWriter.addDocuments(pages);
-            indexedFiles.put(fileLink, modifiedTime);
+            batch.forEach(file -> indexedFiles.put(file.fileLink(), file.modifiedTime()));
         } catch (IOException e) {
-            LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
+            LOGGER.warn("Could not add {} files to the index.", batch.size(), e);
         }
+        batch.forEach(file -> inFlightBudget.release(file.permits()));
+        batch.clear();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.jabref.logic.search.indexing;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -8,13 +9,16 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.model.strings.StringUtil;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -37,23 +41,71 @@ public final class DocumentReader {
     private static final Logger LOGGER = LoggerFactory.getLogger(DocumentReader.class);
     private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
     private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
+    // The offsets of the terms allow highlighting the matches on a page without analyzing its text again
+    private static final FieldType PAGE_TEXT_FIELD_TYPE = createPageTextFieldType();
+
+    /**
+     * The text found on a single page of a PDF file. Empty strings denote that the page has no text or annotations.
+     */
+    public record PageText(int pageNumber, String content, String annotations) implements Serializable {
+    }
+
+    private static FieldType createPageTextFieldType() {
+        FieldType fieldType = new FieldType(TextField.TYPE_STORED);
+        fieldType.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        fieldType.freeze();
+        return fieldType;
+    }
 
     public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath) {
-        List<Document> pages = new ArrayList<>();
-        try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
+        try {
+            return toDocuments(fileLink, resolvedPdfPath, extractPages(resolvedPdfPath));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}", resolvedPdfPath.toAbsolutePath(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Extracts the text and the annotations of all pages. This is the expensive part of indexing a file and does not
+     * depend on the location of the file, so the result can be reused for files with identical content.
+     *
+     * @throws IOException if the file could not be loaded as PDF
+     */
+    public List<PageText> extractPages(Path resolvedPdfPath) throws IOException {
+        return extractPages(Files.readAllBytes(resolvedPdfPath), resolvedPdfPath);
+    }
+
+    /**
+     * Extracts the text and the annotations of all pages of a PDF file that has already been read.
+     *
+     * @param content         the content of the file
+     * @param resolvedPdfPath the path of the file, used for logging only
+     * @throws IOException if the content could not be loaded as PDF
+     */
+    public List<PageText> extractPages(byte[] content, Path resolvedPdfPath) throws IOException {
+        List<PageText> pages = new ArrayList<>();
+        try (PDDocument pdfDocument = Loader.loadPDF(content)) {
             int numberOfPages = pdfDocument.getNumberOfPages();
             LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), numberOfPages);
+            // A single stripper is reused for all pages of the document
+            PDFTextStripper pdfTextStripper = new PDFTextStripper();
+            pdfTextStripper.setLineSeparator("\n");
             for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
-                Document newDocument = new Document();
-                addIdentifiers(newDocument, fileLink);
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
-
-                pages.add(newDocument);
+                pages.add(extractPage(pdfDocument, pdfTextStripper, resolvedPdfPath, pageNumber));
             }
-        } catch (IOException e) {
-            LOGGER.warn("Could not read {}", resolvedPdfPath.toAbsolutePath(), e);
-            return pages;
+        }
+        return pages;
+    }
+
+    public List<Document> toDocuments(String fileLink, Path resolvedPdfPath, List<PageText> pageTexts) {
+        List<Document> pages = new ArrayList<>(Math.max(1, pageTexts.size()));
+        for (PageText pageText : pageTexts) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, fileLink);
+            addMetaData(newDocument, resolvedPdfPath, pageText.pageNumber());
+            addContentIfNotEmpty(newDocument, pageText);
+            pages.add(newDocument);
         }
         if (pages.isEmpty()) {
             Document newDocument = new Document();
@@ -90,32 +142,38 @@ public final class DocumentReader {
         addStringField(newDocument, PAGE_NUMBER.toString(), String.valueOf(pageNumber));
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, Path resolvedPath, int pageNumber) {
-        PDFTextStripper pdfTextStripper = new PDFTextStripper();
-        pdfTextStripper.setLineSeparator("\n");
+    private PageText extractPage(PDDocument pdfDocument, PDFTextStripper pdfTextStripper, Path resolvedPath, int pageNumber) {
         pdfTextStripper.setStartPage(pageNumber);
         pdfTextStripper.setEndPage(pageNumber);
 
+        String content = "";
+        String annotations = "";
         try {
             String pdfContent = pdfTextStripper.getText(pdfDocument);
             if (StringUtil.isNotBlank(pdfContent)) {
-                newDocument.add(new TextField(CONTENT.toString(), mergeLines(pdfContent), Field.Store.YES));
+                content = mergeLines(pdfContent);
             }
 
             // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
             PDPage page = pdfDocument.getPage(pageNumber - 1);
-            List<String> annotations = page.getAnnotations()
-                                           .stream()
-                                           .map(PDAnnotation::getContents)
-                                           .filter(Objects::nonNull)
-                                           .toList();
-
-            if (!annotations.isEmpty()) {
-                newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", annotations), Field.Store.YES));
-            }
+            annotations = page.getAnnotations()
+                              .stream()
+                              .map(PDAnnotation::getContents)
+                              .filter(Objects::nonNull)
+                              .collect(Collectors.joining("\n"));
         } catch (IOException e) {
             LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPath.toAbsolutePath(), e);
         }
+        return new PageText(pageNumber, content, annotations);
+    }
+
+    private void addContentIfNotEmpty(Document newDocument, PageText pageText) {
+        if (!pageText.content().isEmpty()) {
+            newDocument.add(new Field(CONTENT.toString(), pageText.content(), PAGE_TEXT_FIELD_TYPE));
+        }
+        if (!pageText.annotations().isEmpty()) {
+            newDocument.add(new Field(ANNOTATIONS.toString(), pageText.annotations(), PAGE_TEXT_FIELD_TYPE));
+        }
     }
 
     private void addIdentifiers(Document newDocument, String path) {
@@ -0,0 +1,121 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.search.indexing.DocumentReader.PageText;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.PersistentCacheStore;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the text extracted from PDF files, keyed by a hash of the file content. Renaming or moving a linked file
+ * therefore does not require extracting its text again.
+ * <p>
+ * The text is kept in memory and additionally in a {@link PersistentCacheStore}, so that the files do not need to be
+ * extracted again after a restart. As the key does not tell whether the file still exists, persisted texts that have not
+ * been used for {@link #MAXIMUM_UNUSED_DURATION} are removed when the store is opened.
+ */
+public class PageTextCache {
+
+    private static final String STORE_NAME = "page-text-cache";
+    private static final String PAGES_MAP_NAME = "pages";
+
+    // maximum number of characters kept in memory
+    private static final long MAXIMUM_CACHED_CHARACTERS = 32L * 1024 * 1024;
+    private static final Duration MAXIMUM_UNUSED_DURATION = Duration.ofDays(90);
+
+    public static final PageTextCache INSTANCE = new PageTextCache(PersistentCacheStore.shared(STORE_NAME, PAGES_MAP_NAME), Clock.systemUTC());
+
+    private final Cache<String, List<PageText>> cache;
+    private final PersistentCacheStore persistentStore;
+    private final Clock clock;
+
+    private record PersistedPages(long lastUsed, List<PageText> pages) implements Serializable {
+    }
+
+    PageTextCache() {
+        this(new PersistentCacheStore(STORE_NAME, PAGES_MAP_NAME), Clock.systemUTC());
+    }
+
+    PageTextCache(PersistentCacheStore persistentStore, Clock clock) {
+        this.persistentStore = persistentStore;
+        this.clock = clock;
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumWeight(MAXIMUM_CACHED_CHARACTERS)
+                                 .weigher((String hash, List<PageText> pages) -> (int) Math.min(Integer.MAX_VALUE, countCharacters(pages)))
+                                 .build();
+        persistentStore.whenOpened(() -> HeadlessExecutorService.INSTANCE.execute(this::removeUnusedEntries));
+    }
+
+    /**
+     * Returns the text of all pages of the given PDF file. The file is read once; it is only parsed if no file with the
+     * same content has been parsed before.
+     */
+    public List<PageText> getPages(Path pdfFile, DocumentReader documentReader) throws IOException {
+        byte[] content = Files.readAllBytes(pdfFile);
+        String hash = hashContent(content);
+
+        List<PageText> pages = cache.getIfPresent(hash);
+        if (pages != null) {
+            return pages;
+        }
+
+        Map<String, PersistedPages> persisted = persistentStore.getMap(PAGES_MAP_NAME);
+        if (persisted != null) {
+            PersistedPages stored = persisted.get(hash);
+            if (stored != null) {
+                persisted.put(hash, new PersistedPages(clock.millis(), stored.pages()));
+                cache.put(hash, stored.pages());
+                return stored.pages();
+            }
+        }
+
+        pages = List.copyOf(documentReader.extractPages(content, pdfFile));
+        cache.put(hash, pages);
+        if (persisted != null) {
+            persisted.put(hash, new PersistedPages(clock.millis(), pages));
+        }
+        return pages;
+    }
+
+    public static long countCharacters(List<PageText> pages) {
+        long characters = 0;
+        for (PageText page : pages) {
+            characters += page.content().length() + page.annotations().length();
+        }
+        return characters;
+    }
+
+    private void removeUnusedEntries() {
+        Map<String, PersistedPages> persisted = persistentStore.getMap(PAGES_MAP_NAME);
+        if (persisted == null) {
+            return;
+        }
+        long oldestUse = clock.millis() - MAXIMUM_UNUSED_DURATION.toMillis();
+        List<String> unusedHashes = persisted.entrySet().stream()
+                                             .filter(entry -> entry.getValue().lastUsed() < oldestUse)
+                                             .map(Map.Entry::getKey)
+                                             .toList();
+        unusedHashes.forEach(persisted::remove);
+    }
+
+    private static String hashContent(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported by every Java platform", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.jabref.logic.search.retrieval;
+
+import java.io.IOException;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jabref.model.search.PageHighlighter;
+import org.jabref.model.search.PageHighlighter.Highlights;
+import org.jabref.model.search.SearchFieldConstants;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.LengthGoalBreakIterator;
+import org.apache.lucene.search.uhighlight.Passage;
+import org.apache.lucene.search.uhighlight.PassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Highlights the matches of full-text searches on the pages of the linked files index. Pages are looked up by path and
+ * page number, as the document ids of a search are not valid anymore after the index has been refreshed. The terms are
+ * located using the offsets stored in the index, so the page text is not analyzed again.
+ */
+final class LinkedFilesHighlighter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFilesHighlighter.class);
+    private static final int MAXIMUM_CACHED_PAGES = 1000;
+    private static final int MAXIMUM_PASSAGES = 10;
+    private static final int PASSAGE_LENGTH = 100;
+    private static final String[] FIELDS = {SearchFieldConstants.CONTENT.toString(), SearchFieldConstants.ANNOTATIONS.toString()};
+
+    /**
+     * Highlights depend on the version of the index, as the page of a file changes when the file is indexed again
+     */
+    private record Key(Query query, String path, int pageNumber, long indexVersion) {
+    }
+
+    private final SearcherManager searcherManager;
+    private final Cache<Key, Highlights> cache = CacheBuilder.newBuilder()
+                                                             .maximumSize(MAXIMUM_CACHED_PAGES)
+                                                             .build();
+
+    LinkedFilesHighlighter(SearcherManager searcherManager) {
+        this.searcherManager = searcherManager;
+    }
+
+    PageHighlighter forQuery(Query query) {
+        return (path, pageNumber) -> highlight(query, path, pageNumber);
+    }
+
+    private Highlights highlight(Query query, String path, int pageNumber) {
+        try {
+            IndexSearcher indexSearcher = searcherManager.acquire();
+            try {
+                Key key = new Key(query, path, pageNumber, getVersion(indexSearcher.getIndexReader()));
+                Highlights highlights = cache.getIfPresent(key);
+                if (highlights == null) {
+                    highlights = highlight(indexSearcher, query, path, pageNumber);
+                    cache.put(key, highlights);
+                }
+                return highlights;
+            } finally {
+                searcherManager.release(indexSearcher);
+            }
+        } catch (IOException | AlreadyClosedException e) {
+            LOGGER.warn("Could not highlight matches on page {} of {}", pageNumber, path, e);
+            return Highlights.EMPTY;
+        }
+    }
+
+    private static Highlights highlight(IndexSearcher indexSearcher, Query query, String path, int pageNumber) throws IOException {
+        Query pageQuery = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(SearchFieldConstants.PATH.toString(), path)), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(SearchFieldConstants.PAGE_NUMBER.toString(), String.valueOf(pageNumber))), BooleanClause.Occur.FILTER)
+                .build();
+        TopDocs page = indexSearcher.search(pageQuery, 1);
+        if (page.scoreDocs.length == 0) {
+            return Highlights.EMPTY;
+        }
+
+        Map<String, Object[]> passages = new PassagesHighlighter(indexSearcher).highlight(query, page.scoreDocs[0].doc);
+        return new Highlights(
+                getPassages(passages, SearchFieldConstants.CONTENT),
+                getPassages(passages, SearchFieldConstants.ANNOTATIONS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> getPassages(Map<String, Object[]> passages, SearchFieldConstants field) {
+        Object[] passagesOfField = passages.get(field.toString());
+        if (passagesOfField == null || passagesOfField[0] == null) {
+            return List.of();
+        }
+        return (List<String>) passagesOfField[0];
+    }
+
+    private static long getVersion(IndexReader indexReader) {
+        if (indexReader instanceof DirectoryReader directoryReader) {
+            return directoryReader.getVersion();
+        }
+        return -1;
+    }
+
+    /**
+     * Highlights a single page and returns the passages of each field as list, as they are shown one below the other
+     */
+    private static class PassagesHighlighter extends UnifiedHighlighter {
+
+        PassagesHighlighter(IndexSearcher indexSearcher) {
+            super(UnifiedHighlighter.builder(indexSearcher, SearchFieldConstants.LINKED_FILES_ANALYZER)
+                                    .withFormatter(new PassagesFormatter())
+                                    // A field without matches has no passages, instead of its beginning as summary
+                                    .withMaxNoHighlightPassages(0)
+                                    // Passages of about the length of the fragments shown before, extracted text often has no sentence boundaries
+                                    .withBreakIterator(() -> LengthGoalBreakIterator.createClosestToLength(BreakIterator.getWordInstance(Locale.ROOT), PASSAGE_LENGTH))
+                                    // Highlight complete pages
+                                    .withMaxLength(Integer.MAX_VALUE - 1));
+        }
+
+        Map<String, Object[]> highlight(Query query, int docId) throws IOException {
+            return highlightFieldsAsObjects(FIELDS, query, new int[] {docId}, new int[] {MAXIMUM_PASSAGES, MAXIMUM_PASSAGES});
+        }
+    }
+
+    private static class PassagesFormatter extends PassageFormatter {
+
+        private final DefaultPassageFormatter passageFormatter = new DefaultPassageFormatter("<b>", "</b>", "", false);
+
+        @Override
+        public Object format(Passage[] passages, String content) {
+            List<String> formattedPassages = new ArrayList<>(passages.length);
+            for (Passage passage : passages) {
+                formattedPassages.add(passageFormatter.format(new Passage[] {passage}, content));
+            }
+            return formattedPassages;
+        }
+    }
+}
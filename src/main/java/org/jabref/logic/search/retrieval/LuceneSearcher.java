@@ -2,52 +2,78 @@ package org.jabref.logic.search.retrieval;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.search.LuceneIndexer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.search.PageHighlighter;
 import org.jabref.model.search.SearchFieldConstants;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.SearchQuery;
 import org.jabref.model.search.SearchResult;
 import org.jabref.model.search.SearchResults;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiReader;
 import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.QueryTimeout;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.highlight.Highlighter;
-import org.apache.lucene.search.highlight.QueryScorer;
-import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.util.BytesRef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class LuceneSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(LuceneSearcher.class);
+    private static final int MAXIMUM_CACHED_FILTERS = 256;
+    private static final long MAXIMUM_FILTER_CACHE_BYTES = 8L * 1024 * 1024;
+    // The page text is not loaded, it is read again when the matches on a page are highlighted
+    private static final Set<String> RESULT_FIELDS = Set.of(
+            SearchFieldConstants.ENTRY_ID.toString(),
+            SearchFieldConstants.PATH.toString(),
+            SearchFieldConstants.PAGE_NUMBER.toString());
 
     private final FilePreferences filePreferences;
     private final BibDatabaseContext databaseContext;
+    private final BibFieldsIndexer bibFieldsIndexer;
     private final SearcherManager bibFieldsSearcherManager;
     private final SearcherManager linkedFilesSearcherManager;
+    private final LinkedFilesHighlighter linkedFilesHighlighter;
 
-    public LuceneSearcher(BibDatabaseContext databaseContext, LuceneIndexer bibFieldsIndexer, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
+    // Caches the matches of filter clauses used repeatedly as bit sets per index segment. Lucene's default cache skips
+    // segments with less than 10,000 documents, which are all segments of most libraries.
+    // Skip factor 10 is the default of Lucene: a filter is not cached while the other clauses match far fewer entries
+    private final LRUQueryCache filterCache = new LRUQueryCache(MAXIMUM_CACHED_FILTERS, MAXIMUM_FILTER_CACHE_BYTES, leaf -> true, 10);
+    private final QueryCachingPolicy filterCachingPolicy = new FilterCachingPolicy();
+
+    public LuceneSearcher(BibDatabaseContext databaseContext, BibFieldsIndexer bibFieldsIndexer, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
+        this.bibFieldsIndexer = bibFieldsIndexer;
         this.bibFieldsSearcherManager = bibFieldsIndexer.getSearcherManager();
         this.linkedFilesSearcherManager = linkedFilesIndexer.getSearcherManager();
+        this.linkedFilesHighlighter = new LinkedFilesHighlighter(linkedFilesSearcherManager);
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
     }
@@ -59,7 +85,7 @@ public final class LuceneSearcher {
     }
 
     private BooleanQuery buildBooleanQueryForEntry(BibEntry entry, SearchQuery searchQuery) {
-        Query parsedQuery = searchQuery.getParsedQuery();
+        Query parsedQuery = bibFieldsIndexer.getQuery(searchQuery);
         TermQuery entryIdQuery = new TermQuery(new Term(SearchFieldConstants.ENTRY_ID.toString(), entry.getId()));
         return new BooleanQuery.Builder()
                 .add(parsedQuery, BooleanClause.Occur.MUST)
@@ -67,49 +93,96 @@ public final class LuceneSearcher {
                 .build();
     }
 
+    /**
+     * Executes the given search query, adapted to the schema of the bib fields index.
+     *
+     * @see #search(Query, EnumSet, BooleanSupplier)
+     */
+    public SearchResults search(SearchQuery searchQuery, BooleanSupplier isCancelled) {
+        return search(bibFieldsIndexer.getQuery(searchQuery), searchQuery.getSearchFlags(), isCancelled);
+    }
+
+    /**
+     * Executes the given search query like {@link #search(SearchQuery, BooleanSupplier)}, but only on the entries with
+     * the given IDs. Linked files are not searched, as their pages are not indexed with the ID of an entry.
+     */
+    public SearchResults search(SearchQuery searchQuery, Collection<String> entryIds, BooleanSupplier isCancelled) {
+        Query entryIdFilter = new TermInSetQuery(SearchFieldConstants.ENTRY_ID.toString(), entryIds.stream().map(BytesRef::new).toList());
+        BooleanQuery query = new BooleanQuery.Builder()
+                .add(bibFieldsIndexer.getQuery(searchQuery), BooleanClause.Occur.MUST)
+                .add(entryIdFilter, BooleanClause.Occur.FILTER)
+                .build();
+        EnumSet<SearchFlags> searchFlags = EnumSet.copyOf(searchQuery.getSearchFlags());
+        searchFlags.remove(SearchFlags.FULLTEXT);
+        return search(query, searchFlags, isCancelled);
+    }
+
     public SearchResults search(Query searchQuery, EnumSet<SearchFlags> searchFlags) {
+        return search(searchQuery, searchFlags, () -> false);
+    }
+
+    /**
+     * Executes the given query. The search is aborted as soon as {@code isCancelled} returns true, in that case the
+     * returned results are incomplete and should be discarded by the caller.
+     */
+    public SearchResults search(Query searchQuery, EnumSet<SearchFlags> searchFlags, BooleanSupplier isCancelled) {
         LOGGER.debug("Executing search with query: {}", searchQuery);
         try {
             boolean shouldSearchInLinkedFiles = searchFlags.contains(SearchFlags.FULLTEXT) && filePreferences.shouldFulltextIndexLinkedFiles();
-            return performSearch(searchQuery, shouldSearchInLinkedFiles);
+            return performSearch(searchQuery, shouldSearchInLinkedFiles, isCancelled::getAsBoolean);
         } catch (IOException | IndexSearcher.TooManyClauses e) {
             LOGGER.error("Error during search execution", e);
         }
         return new SearchResults();
     }
 
-    private SearchResults performSearch(Query searchQuery, boolean shouldSearchInLinkedFiles) throws IOException {
+    private SearchResults performSearch(Query searchQuery, boolean shouldSearchInLinkedFiles, QueryTimeout cancellation) throws IOException {
         if (shouldSearchInLinkedFiles) {
-            return searchInBibFieldsAndLinkedFiles(searchQuery);
+            return searchInBibFieldsAndLinkedFiles(searchQuery, cancellation);
         } else {
-            return searchInBibFields(searchQuery);
+            return searchInBibFields(searchQuery, cancellation);
         }
     }
 
-    private SearchResults searchInBibFieldsAndLinkedFiles(Query searchQuery) throws IOException {
+    private SearchResults searchInBibFieldsAndLinkedFiles(Query searchQuery, QueryTimeout cancellation) throws IOException {
         IndexSearcher bibFieldsIndexSearcher = acquireIndexSearcher(bibFieldsSearcherManager);
         IndexSearcher linkedFilesIndexSearcher = acquireIndexSearcher(linkedFilesSearcherManager);
         try {
             MultiReader multiReader = new MultiReader(bibFieldsIndexSearcher.getIndexReader(), linkedFilesIndexSearcher.getIndexReader());
-            IndexSearcher indexSearcher = new IndexSearcher(multiReader);
-            return search(indexSearcher, searchQuery, true);
+            IndexSearcher indexSearcher = createIndexSearcher(multiReader);
+            return search(indexSearcher, searchQuery, true, cancellation);
         } finally {
             releaseIndexSearcher(bibFieldsSearcherManager, bibFieldsIndexSearcher);
             releaseIndexSearcher(linkedFilesSearcherManager, linkedFilesIndexSearcher);
         }
     }
 
-    private SearchResults searchInBibFields(Query searchQuery) throws IOException {
-        IndexSearcher indexSearcher = acquireIndexSearcher(bibFieldsSearcherManager);
+    private SearchResults searchInBibFields(Query searchQuery, QueryTimeout cancellation) throws IOException {
+        IndexSearcher sharedIndexSearcher = acquireIndexSearcher(bibFieldsSearcherManager);
         try {
-            return search(indexSearcher, searchQuery, false);
+            // The timeout is a property of the searcher, so the searcher shared by the manager must not be used
+            IndexSearcher indexSearcher = createIndexSearcher(sharedIndexSearcher.getIndexReader());
+            return search(indexSearcher, searchQuery, false, cancellation);
         } finally {
-            releaseIndexSearcher(bibFieldsSearcherManager, indexSearcher);
+            releaseIndexSearcher(bibFieldsSearcherManager, sharedIndexSearcher);
         }
     }
 
-    private SearchResults search(IndexSearcher indexSearcher, Query searchQuery, boolean shouldSearchInLinkedFiles) throws IOException {
+    private IndexSearcher createIndexSearcher(IndexReader indexReader) {
+        IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+        indexSearcher.setQueryCache(filterCache);
+        indexSearcher.setQueryCachingPolicy(filterCachingPolicy);
+        return indexSearcher;
+    }
+
+    private SearchResults search(IndexSearcher indexSearcher, Query searchQuery, boolean shouldSearchInLinkedFiles, QueryTimeout cancellation) throws IOException {
+        indexSearcher.setTimeout(cancellation);
+        // Lucene caps the number of hits at the number of documents in the index
         TopDocs topDocs = indexSearcher.search(searchQuery, Integer.MAX_VALUE);
+        if (indexSearcher.timedOut()) {
+            LOGGER.debug("Search for {} has been cancelled", searchQuery);
+            return new SearchResults();
+        }
         StoredFields storedFields = indexSearcher.storedFields();
         LOGGER.debug("Found {} matching documents", topDocs.totalHits.value());
         return getSearchResults(topDocs, storedFields, searchQuery, shouldSearchInLinkedFiles);
@@ -131,10 +204,10 @@ public final class LuceneSearcher {
 
     private void getBibFieldsAndLinkedFilesResults(TopDocs topDocs, StoredFields storedFields, Query searchQuery, SearchResults searchResults) throws IOException {
         Map<String, List<String>> linkedFilesMap = getLinkedFilesMap();
-        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(searchQuery));
+        PageHighlighter highlighter = linkedFilesHighlighter.forQuery(searchQuery);
 
         for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            Document document = storedFields.document(scoreDoc.doc);
+            Document document = storedFields.document(scoreDoc.doc, RESULT_FIELDS);
             String fileLink = getFieldContents(document, SearchFieldConstants.PATH);
 
             if (!fileLink.isEmpty()) {
@@ -147,17 +220,15 @@ public final class LuceneSearcher {
 
     private void getBibFieldsResults(TopDocs topDocs, StoredFields storedFields, SearchResults searchResults) throws IOException {
         for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            Document document = storedFields.document(scoreDoc.doc);
+            Document document = storedFields.document(scoreDoc.doc, RESULT_FIELDS);
             addBibEntryToResults(document, searchResults, scoreDoc.score);
         }
     }
 
-    private void addLinkedFileToResults(Document document, String fileLink, Map<String, List<String>> linkedFilesMap, Highlighter highlighter, SearchResults searchResults, float score) {
+    private void addLinkedFileToResults(Document document, String fileLink, Map<String, List<String>> linkedFilesMap, PageHighlighter highlighter, SearchResults searchResults, float score) {
         List<String> entriesWithFile = linkedFilesMap.get(fileLink);
         if (entriesWithFile != null && !entriesWithFile.isEmpty()) {
             SearchResult searchResult = new SearchResult(score, fileLink,
-                    getFieldContents(document, SearchFieldConstants.CONTENT),
-                    getFieldContents(document, SearchFieldConstants.ANNOTATIONS),
                     Integer.parseInt(getFieldContents(document, SearchFieldConstants.PAGE_NUMBER)),
                     highlighter);
             searchResults.addSearchResult(entriesWithFile, searchResult);
@@ -192,4 +263,25 @@ public final class LuceneSearcher {
     private static void releaseIndexSearcher(SearcherManager searcherManager, IndexSearcher indexSearcher) throws IOException {
         searcherManager.release(indexSearcher);
     }
+
+    @VisibleForTesting
+    LRUQueryCache getFilterCache() {
+        return filterCache;
+    }
+
+    /**
+     * Caches the filter clauses on the entry type or the year from their first use. The default policy of Lucene never
+     * caches term queries, which are all filters of a search.
+     */
+    private static final class FilterCachingPolicy implements QueryCachingPolicy {
+
+        @Override
+        public void onUse(Query query) {
+        }
+
+        @Override
+        public boolean shouldCache(Query query) {
+            return SearchQuery.isFilterOnly(query);
+        }
+    }
 }
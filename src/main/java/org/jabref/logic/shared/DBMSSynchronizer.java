@@ -3,6 +3,8 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -25,6 +27,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -94,6 +97,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Subscribe
     public void listen(FieldChangedEvent event) {
+        if (event.isPartOfBulkChange()) {
+            // synchronized at once by the following EntriesChangedEvent
+            return;
+        }
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
@@ -108,6 +115,33 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Listening method. Updates the shared {@link BibEntry}s changed during a bulk change.
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        Set<BibEntry> acceptedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChangedEvent fieldChangedEvent : event.getFieldChangedEvents()) {
+            if (isEventSourceAccepted(fieldChangedEvent)) {
+                acceptedEntries.add(fieldChangedEvent.getBibEntry());
+            }
+        }
+        if (acceptedEntries.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+
+        Set<BibEntry> localEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        localEntries.addAll(bibDatabase.getEntries());
+        synchronizeLocalMetaData();
+        pullWithLastEntry();
+        for (BibEntry bibEntry : event.getBibEntries()) {
+            if (acceptedEntries.contains(bibEntry) && localEntries.contains(bibEntry)) {
+                synchronizeSharedEntry(bibEntry);
+            }
+        }
+        synchronizeLocalDatabase();
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -11,6 +11,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,6 +50,19 @@ public class DefaultLatexParser implements LatexParser {
     private static final Pattern INCLUDE_PATTERN = Pattern.compile(
             "\\\\(?:include|input)\\{(?<%s>[^\\}]*)\\}".formatted(INCLUDE_GROUP));
 
+    private final LatexParserCache cache;
+
+    public DefaultLatexParser() {
+        this(new LatexParserCache());
+    }
+
+    /**
+     * @param cache the cache to look up the results of unchanged files in. Results of freshly parsed files are added to it.
+     */
+    public DefaultLatexParser(LatexParserCache cache) {
+        this.cache = Objects.requireNonNull(cache);
+    }
+
     @Override
     public LatexParserResult parse(String citeString) {
         Path path = Path.of("");
@@ -64,6 +78,11 @@ public class DefaultLatexParser implements LatexParser {
             return Optional.empty();
         }
 
+        Optional<LatexParserResult> cachedResult = cache.getTexFile(latexFile);
+        if (cachedResult.isPresent()) {
+            return cachedResult;
+        }
+
         LatexParserResult latexParserResult = new LatexParserResult(latexFile);
 
         try (InputStream inputStream = Files.newInputStream(latexFile);
@@ -82,19 +101,30 @@ public class DefaultLatexParser implements LatexParser {
             // User changed the underlying LaTeX file
             // We ignore this error and just continue with parsing
             LOGGER.info("Parsing has been interrupted");
+            return Optional.of(latexParserResult);
         } catch (IOException | UncheckedIOException e) {
             // Some weired error during reading
             // We ignore this error and just continue with parsing
             LOGGER.info("Error while parsing file {}", latexFile, e);
+            return Optional.of(latexParserResult);
         }
 
+        cache.putTexFile(latexFile, latexParserResult);
         return Optional.of(latexParserResult);
     }
 
+    /**
+     * Files are parsed in parallel. Unchanged files are not read again, but taken from the cache.
+     */
     @Override
     public LatexParserResults parse(List<Path> latexFiles) {
         LatexParserResults results = new LatexParserResults();
-        latexFiles.forEach(file -> parse(file).ifPresent(result -> results.add(file, result)));
+        latexFiles.parallelStream()
+                  .distinct()
+                  .map(this::parse)
+                  .flatMap(Optional::stream)
+                  .toList()
+                  .forEach(result -> results.add(result.getPath(), result));
         return results;
     }
 
@@ -0,0 +1,235 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jabref.logic.auxparser.AuxParserResult;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.PersistentCacheStore;
+import org.jabref.model.texparser.LatexParserResult;
+
+/**
+ * Caches the results of parsing LaTeX and AUX files, keyed by the path of the file. A cached result is only
+ * returned as long as the modification time and the size of the file did not change. For AUX files, this also applies
+ * to the nested AUX files.
+ * <p>
+ * The cache is kept in memory and additionally in a {@link PersistentCacheStore}. Entries of files that do not exist
+ * anymore are removed from the store when it is opened and when they are looked up.
+ */
+public class LatexParserCache {
+
+    private static final String STORE_NAME = "latex-parser-cache";
+    private static final String TEX_FILES_MAP_NAME = "texFiles";
+    private static final String AUX_FILES_MAP_NAME = "auxFiles";
+
+    public static final LatexParserCache INSTANCE = new LatexParserCache(PersistentCacheStore.shared(STORE_NAME, TEX_FILES_MAP_NAME, AUX_FILES_MAP_NAME));
+
+    private final Map<Path, CachedTexFile> texFiles = new ConcurrentHashMap<>();
+    private final Map<Path, CachedAuxFile> auxFiles = new ConcurrentHashMap<>();
+
+    private final PersistentCacheStore persistentStore;
+
+    /**
+     * Identifies the state of a file on disk. If any of the components changes, the file has to be parsed again.
+     */
+    record FileStamp(long lastModified, long size) implements Serializable {
+        // Stamp of a nested AUX file that could not be read, so that the AUX file is parsed again once it exists
+        static final FileStamp MISSING = new FileStamp(-1, -1);
+
+        static Optional<FileStamp> of(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return Optional.of(new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size()));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private record CachedCitation(int line, int colStart, int colEnd, String lineText) implements Serializable {
+    }
+
+    private record CachedKey(String key, List<CachedCitation> citations) implements Serializable {
+    }
+
+    private record CachedTexFile(FileStamp stamp, List<CachedKey> keys, List<String> nestedFiles, List<String> bibFiles) implements Serializable {
+
+        static CachedTexFile of(FileStamp stamp, LatexParserResult result) {
+            List<CachedKey> keys = result.getCitations().asMap().entrySet().stream()
+                                         .map(entry -> new CachedKey(entry.getKey(), entry.getValue().stream()
+                                                                                        .map(citation -> new CachedCitation(citation.line(), citation.colStart(), citation.colEnd(), citation.lineText()))
+                                                                                        .toList()))
+                                         .toList();
+            return new CachedTexFile(
+                    stamp,
+                    keys,
+                    result.getNestedFiles().stream().map(Path::toString).toList(),
+                    result.getBibFiles().stream().map(Path::toString).toList());
+        }
+
+        LatexParserResult toResult(Path file) {
+            LatexParserResult result = new LatexParserResult(file);
+            for (CachedKey key : keys) {
+                for (CachedCitation citation : key.citations()) {
+                    result.addKey(key.key(), file, citation.line(), citation.colStart(), citation.colEnd(), citation.lineText());
+                }
+            }
+            nestedFiles.forEach(nestedFile -> result.addNestedFile(Path.of(nestedFile)));
+            bibFiles.forEach(bibFile -> result.addBibFile(Path.of(bibFile)));
+            return result;
+        }
+    }
+
+    /**
+     * @param stamps the stamps of the AUX file and of all nested AUX files, keyed by their path
+     */
+    private record CachedAuxFile(Map<String, FileStamp> stamps, Set<String> keys) implements Serializable {
+
+        static CachedAuxFile of(Path auxFile, FileStamp stamp, AuxParserResult result) {
+            Map<String, FileStamp> stamps = new HashMap<>();
+            for (Path nestedFile : result.getAuxFiles()) {
+                stamps.put(nestedFile.toString(), FileStamp.of(nestedFile).orElse(FileStamp.MISSING));
+            }
+            stamps.put(auxFile.toString(), stamp);
+            return new CachedAuxFile(Map.copyOf(stamps), Set.copyOf(result.getUniqueKeys()));
+        }
+
+        boolean isUpToDate() {
+            return stamps.entrySet().stream()
+                         .allMatch(entry -> FileStamp.of(Path.of(entry.getKey())).orElse(FileStamp.MISSING).equals(entry.getValue()));
+        }
+    }
+
+    public LatexParserCache() {
+        this(new PersistentCacheStore(STORE_NAME, TEX_FILES_MAP_NAME, AUX_FILES_MAP_NAME));
+    }
+
+    LatexParserCache(PersistentCacheStore persistentStore) {
+        this.persistentStore = persistentStore;
+        persistentStore.whenOpened(() -> HeadlessExecutorService.INSTANCE.execute(this::removeEntriesOfMissingFiles));
+    }
+
+    /**
+     * Returns the cached parse result of the given LaTeX file if the file did not change since it has been parsed.
+     */
+    public Optional<LatexParserResult> getTexFile(Path texFile) {
+        Optional<FileStamp> stamp = FileStamp.of(texFile);
+        if (stamp.isEmpty()) {
+            invalidate(texFile);
+            return Optional.empty();
+        }
+
+        CachedTexFile cached = texFiles.get(texFile);
+        Map<String, CachedTexFile> persisted = persistentStore.getMap(TEX_FILES_MAP_NAME);
+        if (cached == null && persisted != null) {
+            cached = persisted.get(texFile.toString());
+            if (cached != null) {
+                texFiles.put(texFile, cached);
+            }
+        }
+        if (cached == null || !cached.stamp().equals(stamp.get())) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.toResult(texFile));
+    }
+
+    public void putTexFile(Path texFile, LatexParserResult result) {
+        FileStamp.of(texFile).ifPresent(stamp -> {
+            CachedTexFile cached = CachedTexFile.of(stamp, result);
+            texFiles.put(texFile, cached);
+            Map<String, CachedTexFile> persisted = persistentStore.getMap(TEX_FILES_MAP_NAME);
+            if (persisted != null) {
+                persisted.put(texFile.toString(), cached);
+            }
+        });
+    }
+
+    /**
+     * Returns the citation keys used in the given AUX file and in the AUX files it inputs. The file is only parsed again
+     * using the given parser if one of these files changed since the last call.
+     */
+    public Set<String> getAuxKeys(Path auxFile, Supplier<AuxParserResult> auxParser) {
+        Optional<FileStamp> stamp = FileStamp.of(auxFile);
+        if (stamp.isEmpty()) {
+            invalidate(auxFile);
+            return auxParser.get().getUniqueKeys();
+        }
+
+        CachedAuxFile cached = auxFiles.get(auxFile);
+        Map<String, CachedAuxFile> persisted = persistentStore.getMap(AUX_FILES_MAP_NAME);
+        if (cached == null && persisted != null) {
+            cached = persisted.get(auxFile.toString());
+        }
+        if (cached != null && cached.isUpToDate()) {
+            auxFiles.putIfAbsent(auxFile, cached);
+            return cached.keys();
+        }
+
+        CachedAuxFile parsed = CachedAuxFile.of(auxFile, stamp.get(), auxParser.get());
+        auxFiles.put(auxFile, parsed);
+        if (persisted != null) {
+            persisted.put(auxFile.toString(), parsed);
+        }
+        return parsed.keys();
+    }
+
+    public synchronized void invalidate(Path file) {
+        texFiles.remove(file);
+        auxFiles.remove(file);
+        Map<String, CachedTexFile> persistedTexFiles = persistentStore.getMap(TEX_FILES_MAP_NAME);
+        if (persistedTexFiles != null) {
+            persistedTexFiles.remove(file.toString());
+        }
+        Map<String, CachedAuxFile> persistedAuxFiles = persistentStore.getMap(AUX_FILES_MAP_NAME);
+        if (persistedAuxFiles != null) {
+            persistedAuxFiles.remove(file.toString());
+        }
+    }
+
+    public synchronized void clear() {
+        texFiles.clear();
+        auxFiles.clear();
+        Map<String, CachedTexFile> persistedTexFiles = persistentStore.getMap(TEX_FILES_MAP_NAME);
+        if (persistedTexFiles != null) {
+            persistedTexFiles.clear();
+        }
+        Map<String, CachedAuxFile> persistedAuxFiles = persistentStore.getMap(AUX_FILES_MAP_NAME);
+        if (persistedAuxFiles != null) {
+            persistedAuxFiles.clear();
+        }
+    }
+
+    private void removeEntriesOfMissingFiles() {
+        removeEntriesOfMissingFiles(persistentStore.getMap(TEX_FILES_MAP_NAME));
+        removeEntriesOfMissingFiles(persistentStore.getMap(AUX_FILES_MAP_NAME));
+    }
+
+    private static void removeEntriesOfMissingFiles(Map<String, ?> persisted) {
+        if (persisted == null) {
+            return;
+        }
+        List<String> missingFiles = persisted.keySet().stream()
+                                             .filter(file -> !exists(file))
+                                             .toList();
+        missingFiles.forEach(persisted::remove);
+    }
+
+    private static boolean exists(String file) {
+        try {
+            return Files.exists(Path.of(file));
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+}
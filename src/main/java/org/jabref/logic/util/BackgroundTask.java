@@ -61,6 +61,7 @@ public abstract class BackgroundTask<V> {
     private final DoubleProperty workDonePercentage = new SimpleDoubleProperty(0);
     private final BooleanProperty showToUser = new SimpleBooleanProperty(false);
     private final BooleanProperty willBeRecoveredAutomatically = new SimpleBooleanProperty(false);
+    private TaskLane lane = TaskLane.NORMAL;
 
     public BackgroundTask() {
         workDonePercentage.bind(EasyBind.map(progress, BackgroundTask.BackgroundProgress::getWorkDonePercentage));
@@ -164,6 +165,19 @@ public abstract class BackgroundTask<V> {
         return this;
     }
 
+    public TaskLane getLane() {
+        return lane;
+    }
+
+    /**
+     * Declares the kind of work of this task. The executor runs tasks of different lanes on separate threads, so that,
+     * e.g., a search does not wait for the indexing of linked files.
+     */
+    public BackgroundTask<V> withLane(TaskLane lane) {
+        this.lane = lane;
+        return this;
+    }
+
     /**
      * Sets the {@link Runnable} that is invoked after the task is started.
      */
@@ -228,7 +242,7 @@ public abstract class BackgroundTask<V> {
      * @param <T>             type of the return value of the second task
      */
     public <T> BackgroundTask<T> then(Function<V, BackgroundTask<T>> nextTaskFactory) {
-        return new BackgroundTask<>() {
+        return new BackgroundTask<T>() {
             @Override
             public T call() throws Exception {
                 V result = BackgroundTask.this.call();
@@ -236,7 +250,7 @@ public abstract class BackgroundTask<V> {
                 EasyBind.subscribe(nextTask.progressProperty(), this::updateProgress);
                 return nextTask.call();
             }
-        };
+        }.withLane(lane);
     }
 
     /**
@@ -246,7 +260,7 @@ public abstract class BackgroundTask<V> {
      * @param <T>           type of the return value of the second task
      */
     public <T> BackgroundTask<T> thenRun(Function<V, T> nextOperation) {
-        return new BackgroundTask<>() {
+        return new BackgroundTask<T>() {
             @Override
             public T call() throws Exception {
                 V result = BackgroundTask.this.call();
@@ -254,7 +268,7 @@ public abstract class BackgroundTask<V> {
                 EasyBind.subscribe(nextTask.progressProperty(), this::updateProgress);
                 return nextTask.call();
             }
-        };
+        }.withLane(lane);
     }
 
     /**
@@ -263,7 +277,7 @@ public abstract class BackgroundTask<V> {
      * @param nextOperation the function that performs the next operation
      */
     public BackgroundTask<Void> thenRun(Consumer<V> nextOperation) {
-        return new BackgroundTask<>() {
+        return new BackgroundTask<Void>() {
             @Override
             public Void call() throws Exception {
                 V result = BackgroundTask.this.call();
@@ -271,7 +285,7 @@ public abstract class BackgroundTask<V> {
                 EasyBind.subscribe(nextTask.progressProperty(), this::updateProgress);
                 return nextTask.call();
             }
-        };
+        }.withLane(lane);
     }
 
     protected void updateProgress(BackgroundProgress newProgress) {
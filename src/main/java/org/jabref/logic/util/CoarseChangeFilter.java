@@ -7,8 +7,8 @@ import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.util.EventDispatcher;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
 /**
@@ -17,7 +17,7 @@ import com.google.common.eventbus.Subscribe;
 public class CoarseChangeFilter {
 
     private final BibDatabaseContext context;
-    private final EventBus eventBus = new EventBus();
+    private final EventDispatcher eventDispatcher = new EventDispatcher();
 
     private Optional<Field> lastFieldChanged;
     private Optional<BibEntry> lastEntryChanged;
@@ -34,7 +34,11 @@ public class CoarseChangeFilter {
 
     @Subscribe
     public synchronized void listen(BibDatabaseContextChangedEvent event) {
-        if (event instanceof FieldChangedEvent fieldChange) {
+        if ((event instanceof FieldChangedEvent fieldChange) && fieldChange.isPartOfBulkChange()) {
+            // The whole bulk change is relayed by the EntriesChangedEvent following the merged field changes
+            fieldChange.setFilteredOut(true);
+            eventDispatcher.post(fieldChange);
+        } else if (event instanceof FieldChangedEvent fieldChange) {
             // If editing has started
             boolean isNewEdit = lastFieldChanged.isEmpty() || lastEntryChanged.isEmpty();
 
@@ -46,21 +50,21 @@ public class CoarseChangeFilter {
 
             fieldChange.setFilteredOut(!(isEditChanged || isMajorChange));
             // Post each FieldChangedEvent - even the ones being marked as "filtered"
-            eventBus.post(fieldChange);
+            eventDispatcher.post(fieldChange);
 
             lastFieldChanged = Optional.of(fieldChange.getField());
             lastEntryChanged = Optional.of(fieldChange.getBibEntry());
         } else {
-            eventBus.post(event);
+            eventDispatcher.post(event);
         }
     }
 
     public void registerListener(Object listener) {
-        eventBus.register(listener);
+        eventDispatcher.register(listener);
     }
 
     public void unregisterListener(Object listener) {
-        eventBus.unregister(listener);
+        eventDispatcher.unregister(listener);
     }
 
     public void shutdown() {
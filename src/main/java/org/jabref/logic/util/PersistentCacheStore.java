@@ -0,0 +1,130 @@
+package org.jabref.logic.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The on-disk tier of a cache: an MVStore holding the maps of the cache, so that its content survives a restart of
+ * JabRef. The cache keeps working in memory as long as the store is not open, that is, the maps are absent then.
+ * Failing to open the store is not fatal, the cache then stays in memory only.
+ * <p>
+ * The stores of the caches shared by the whole application are created using {@link #shared(String, String...)} and
+ * opened in the cache directory by {@link #openShared(Path)}. The values are serialized, thus have to be {@link java.io.Serializable}.
+ */
+public final class PersistentCacheStore implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentCacheStore.class);
+
+    private static final List<PersistentCacheStore> SHARED_STORES = new ArrayList<>();
+    // guarded by SHARED_STORES
+    @Nullable private static Path sharedCacheDirectory;
+
+    private final String name;
+    private final List<String> mapNames;
+    private final List<Runnable> openedListeners = new ArrayList<>();
+
+    @Nullable private MVStore mvStore;
+    @Nullable private volatile Map<String, Map<String, ?>> maps;
+
+    /**
+     * @param name     the name of the store file
+     * @param mapNames the names of the maps of the cache
+     */
+    public PersistentCacheStore(String name, String... mapNames) {
+        this.name = name;
+        this.mapNames = List.of(mapNames);
+    }
+
+    /**
+     * Creates the store of a cache shared by the whole application. It is opened as soon as the cache directory is
+     * known, see {@link #openShared(Path)}.
+     */
+    public static PersistentCacheStore shared(String name, String... mapNames) {
+        PersistentCacheStore store = new PersistentCacheStore(name, mapNames);
+        synchronized (SHARED_STORES) {
+            SHARED_STORES.add(store);
+            if (sharedCacheDirectory != null) {
+                store.open(sharedCacheDirectory);
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Opens the stores of all shared caches in the given directory, including the ones of caches created later on.
+     */
+    public static void openShared(Path cacheDirectory) {
+        synchronized (SHARED_STORES) {
+            sharedCacheDirectory = cacheDirectory;
+            SHARED_STORES.forEach(store -> store.open(cacheDirectory));
+        }
+    }
+
+    public static void closeShared() {
+        synchronized (SHARED_STORES) {
+            sharedCacheDirectory = null;
+            SHARED_STORES.forEach(PersistentCacheStore::close);
+        }
+    }
+
+    public synchronized void open(Path cacheDirectory) {
+        close();
+        Path storeFile = cacheDirectory.resolve(name + ".mv");
+        try {
+            Files.createDirectories(cacheDirectory);
+            MVStore store = new MVStore.Builder()
+                    .fileName(storeFile.toString())
+                    .open();
+            Map<String, Map<String, ?>> openedMaps = new HashMap<>();
+            for (String mapName : mapNames) {
+                openedMaps.put(mapName, store.openMap(mapName));
+            }
+            mvStore = store;
+            maps = openedMaps;
+            openedListeners.forEach(Runnable::run);
+        } catch (IOException | MVStoreException e) {
+            LOGGER.error("Could not open cache at {}. Its content will not be stored for the next session.", storeFile, e);
+        }
+    }
+
+    /**
+     * Runs the given action each time the store is opened, and right away if it is open already. A cache uses it to
+     * remove outdated entries from the maps.
+     */
+    public synchronized void whenOpened(Runnable action) {
+        openedListeners.add(action);
+        if (mvStore != null) {
+            action.run();
+        }
+    }
+
+    /**
+     * @return the map with the given name, or null if the store is not open
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <V> Map<String, V> getMap(String mapName) {
+        Map<String, Map<String, ?>> openMaps = maps;
+        return openMaps == null ? null : (Map<String, V>) openMaps.get(mapName);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (mvStore != null) {
+            maps = null;
+            mvStore.close();
+            mvStore = null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.jabref.logic.util;
+
+/**
+ * Describes the kind of work a {@link BackgroundTask} does, so that the {@link TaskExecutor} can keep short tasks the
+ * user waits for from queuing up behind long-running jobs.
+ */
+public enum TaskLane {
+
+    /**
+     * Short tasks the user directly waits for, e.g., search-as-you-type or rendering the preview
+     */
+    INTERACTIVE,
+
+    /**
+     * Everything not declaring a lane
+     */
+    NORMAL,
+
+    /**
+     * Long-running, CPU-bound jobs, e.g., indexing linked files or generating embeddings. These only get a fraction of
+     * the cores.
+     */
+    BULK,
+
+    /**
+     * Tasks mostly waiting for the network or the disk, e.g., fetching entries or downloading files
+     */
+    IO;
+
+    /**
+     * The number of threads running {@link #BULK} jobs. Thread pools doing bulk work outside the task executor use the
+     * same number.
+     */
+    public static final int BULK_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+}
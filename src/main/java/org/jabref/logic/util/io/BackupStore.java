@@ -0,0 +1,427 @@
+package org.jabref.logic.util.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jabref.logic.exporter.AtomicFileOutputStream;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.util.BackupFileType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the backups of a library as snapshots sharing the unchanged parts of the library.
+ * <p>
+ * The serialized library is split into blocks in front of entries. Whether a block ends in front of an entry depends on
+ * the first line of the entry only. Thus, editing an entry changes only the block containing it, and consecutive
+ * snapshots share all other blocks. The blocks are stored compressed in the directory {@value #BLOCKS_DIRECTORY} of
+ * the backup directory and are named by the SHA-256 hash of their content.
+ * <p>
+ * A snapshot is a small text file (with the usual backup file name) listing the hashes of its blocks. It also contains
+ * the size and the hash of the complete library file, which allows to check whether a library file differs from a
+ * snapshot without reading any block.
+ * <p>
+ * Backups written as plain copies of the library by earlier versions are still recognized (see {@link #isSnapshot(Path)}).
+ */
+public class BackupStore {
+
+    static final String BLOCKS_DIRECTORY = "snapshot-blocks";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupStore.class);
+
+    private static final String SNAPSHOT_HEADER = "% JabRef backup snapshot";
+    private static final String ENCODING_PREFIX = "% Encoding: ";
+    private static final String SIZE_PREFIX = "% Size: ";
+    private static final String HASH_PREFIX = "% SHA-256: ";
+    private static final String BLOCK_EXTENSION = ".gz";
+    private static final String BACKUP_EXTENSION = "." + BackupFileType.BACKUP.getExtensions().getFirst();
+
+    /**
+     * The average number of entries of a block. Needs to be a power of two.
+     */
+    private static final int ENTRIES_PER_BLOCK = 32;
+
+    /**
+     * A block ends in front of an entry if the top bits of the hash of its first line are zero
+     */
+    private static final int BLOCK_BOUNDARY_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(ENTRIES_PER_BLOCK);
+
+    /**
+     * Blocks are ended in any case at this length, for instance in case of a very long comment
+     */
+    private static final int MAXIMUM_BLOCK_LENGTH = 4 * 1024 * 1024;
+
+    /**
+     * Blocks not referenced by any snapshot are kept for this time, because they might belong to a snapshot which is
+     * currently written
+     */
+    private static final Duration UNREFERENCED_BLOCK_RETENTION = Duration.ofHours(1);
+
+    private final Path backupDir;
+    private final Path blocksDir;
+    private final String backupFilePrefix;
+
+    /**
+     * @param backupDir   the directory containing the backups
+     * @param libraryPath the path of the library whose backups are managed
+     */
+    public BackupStore(Path backupDir, Path libraryPath) {
+        this.backupDir = backupDir;
+        this.blocksDir = backupDir.resolve(BLOCKS_DIRECTORY);
+        // code similar to {@link BackupFileUtil#getPathOfLatestExistingBackupFile}
+        this.backupFilePrefix = BackupFileUtil.getUniqueFilePrefix(libraryPath) + "--" + libraryPath.getFileName();
+    }
+
+    /**
+     * The header of a snapshot
+     *
+     * @param size   the size of the library file in bytes
+     * @param hash   the SHA-256 hash of the library file
+     * @param blocks the hashes of the blocks of the library file, in order
+     */
+    record Snapshot(Charset encoding, long size, String hash, List<String> blocks) {
+    }
+
+    /**
+     * Opens a writer for a new snapshot. The snapshot is only stored when {@link SnapshotWriter#commit()} is called.
+     *
+     * @param snapshotPath the path of the new snapshot
+     * @param encoding     the encoding of the library file
+     */
+    public SnapshotWriter newSnapshot(Path snapshotPath, Charset encoding) {
+        return new SnapshotWriter(snapshotPath, encoding);
+    }
+
+    /**
+     * Checks whether the given backup file is a snapshot or a plain copy of the library.
+     */
+    public static boolean isSnapshot(Path backupFile) {
+        try (BufferedReader reader = Files.newBufferedReader(backupFile, StandardCharsets.UTF_8)) {
+            return SNAPSHOT_HEADER.equals(reader.readLine());
+        } catch (IOException e) {
+            // Also happens for plain copies of libraries using another encoding than UTF-8
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the content of the given file differs from the library stored in the snapshot
+     */
+    public static boolean differs(Path snapshotPath, Path file) throws IOException {
+        Snapshot snapshot = readSnapshot(snapshotPath);
+        if (Files.size(file) != snapshot.size()) {
+            return true;
+        }
+        return !snapshot.hash().equals(hash(file));
+    }
+
+    /**
+     * Writes the library stored in the snapshot to the target file. The target file is replaced only if all blocks of
+     * the snapshot could be read.
+     */
+    public static void restore(Path snapshotPath, Path target) throws IOException {
+        Snapshot snapshot = readSnapshot(snapshotPath);
+        Path blocksDir = snapshotPath.resolveSibling(BLOCKS_DIRECTORY);
+        AtomicFileOutputStream outputStream = new AtomicFileOutputStream(target);
+        try {
+            Writer writer = new OutputStreamWriter(outputStream, snapshot.encoding());
+            for (String block : snapshot.blocks()) {
+                writer.write(new String(readBlock(blocksDir, block), StandardCharsets.UTF_8));
+            }
+            writer.close();
+        } catch (IOException e) {
+            outputStream.abort();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a library file with the content of the given backup. For a snapshot, this is a temporary file.
+     */
+    public static Path toLibraryFile(Path backupFile) throws IOException {
+        if (!isSnapshot(backupFile)) {
+            return backupFile;
+        }
+        Path libraryFile = Files.createTempFile("jabref-backup", ".bib");
+        libraryFile.toFile().deleteOnExit();
+        restore(backupFile, libraryFile);
+        return libraryFile;
+    }
+
+    /**
+     * Deletes the oldest backups of the library until at most the given number of backups is left. Moreover, deletes
+     * all backups older than the given age. The latest backup is always kept. Afterward, all blocks which are not
+     * part of a snapshot anymore are deleted.
+     */
+    public void applyRetention(int maximumCount, Duration maximumAge) {
+        List<Path> backups;
+        try (Stream<Path> files = Files.list(backupDir)) {
+            // The names of the backups end with their timestamp, thus the oldest backup comes first
+            backups = files.filter(path -> path.getFileName().toString().startsWith(backupFilePrefix))
+                           .filter(path -> path.getFileName().toString().endsWith(BACKUP_EXTENSION))
+                           .sorted()
+                           .toList();
+        } catch (IOException e) {
+            LOGGER.error("Could not list backups in {}", backupDir, e);
+            return;
+        }
+
+        Instant oldestKept = Instant.now().minus(maximumAge);
+        for (int i = 0; i < backups.size() - 1; i++) {
+            Path backup = backups.get(i);
+            try {
+                if ((backups.size() - i > maximumCount) || Files.getLastModifiedTime(backup).toInstant().isBefore(oldestKept)) {
+                    Files.delete(backup);
+                }
+            } catch (IOException e) {
+                LOGGER.error("Could not delete backup file {}", backup, e);
+            }
+        }
+
+        deleteUnreferencedBlocks();
+    }
+
+    private void deleteUnreferencedBlocks() {
+        if (Files.notExists(blocksDir)) {
+            return;
+        }
+
+        // Blocks are shared by the snapshots of all libraries
+        Set<String> referencedBlocks = new HashSet<>();
+        try (Stream<Path> files = Files.list(backupDir)) {
+            for (Path file : files.filter(Files::isRegularFile).filter(BackupStore::isSnapshot).toList()) {
+                referencedBlocks.addAll(readSnapshot(file).blocks());
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not determine the blocks used by the snapshots in {}", backupDir, e);
+            return;
+        }
+
+        Instant oldestUnreferencedKept = Instant.now().minus(UNREFERENCED_BLOCK_RETENTION);
+        try (Stream<Path> files = Files.walk(blocksDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String block = FileUtil.getBaseName(file);
+                if (!referencedBlocks.contains(block) && Files.getLastModifiedTime(file).toInstant().isBefore(oldestUnreferencedKept)) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not delete unused blocks in {}", blocksDir, e);
+        }
+    }
+
+    static Snapshot readSnapshot(Path snapshotPath) throws IOException {
+        List<String> lines = Files.readAllLines(snapshotPath, StandardCharsets.UTF_8);
+        if ((lines.size() < 4)
+                || !SNAPSHOT_HEADER.equals(lines.getFirst())
+                || !lines.get(1).startsWith(ENCODING_PREFIX)
+                || !lines.get(2).startsWith(SIZE_PREFIX)
+                || !lines.get(3).startsWith(HASH_PREFIX)) {
+            throw new IOException("%s is not a valid backup snapshot".formatted(snapshotPath));
+        }
+        try {
+            return new Snapshot(
+                    Charset.forName(lines.get(1).substring(ENCODING_PREFIX.length())),
+                    Long.parseLong(lines.get(2).substring(SIZE_PREFIX.length())),
+                    lines.get(3).substring(HASH_PREFIX.length()),
+                    lines.subList(4, lines.size()).stream().filter(line -> !line.isBlank()).toList());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("%s is not a valid backup snapshot".formatted(snapshotPath), e);
+        }
+    }
+
+    private static Path getBlockPath(Path blocksDir, String block) {
+        // Similar to git, the blocks are distributed over subdirectories
+        return blocksDir.resolve(block.substring(0, 2)).resolve(block + BLOCK_EXTENSION);
+    }
+
+    private static byte[] readBlock(Path blocksDir, String block) throws IOException {
+        byte[] content;
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(getBlockPath(blocksDir, block)))) {
+            content = inputStream.readAllBytes();
+        }
+        if (!block.equals(hash(content))) {
+            throw new IOException("Backup block %s is damaged".formatted(block));
+        }
+        return content;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported by every Java platform", e);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Receives the serialized library and stores each block as soon as it is complete. Blocks already stored by earlier
+     * snapshots are not written again.
+     */
+    public class SnapshotWriter extends Writer {
+
+        private final Path snapshotPath;
+        private final Charset encoding;
+        private final MessageDigest libraryDigest = newDigest();
+        private long librarySize;
+
+        /**
+         * Encodes the library as in the library file to determine the size and the hash of the library file
+         */
+        private final Writer libraryEncoder;
+
+        private final StringBuilder block = new StringBuilder();
+        private final List<String> blocks = new ArrayList<>();
+
+        /**
+         * The position in {@link #block} up to which the block was searched for entries
+         */
+        private int searchedUpTo = 0;
+
+        /**
+         * The start of the entry whose first line is not complete yet, -1 if there is none
+         */
+        private int entryStart = -1;
+
+        private SnapshotWriter(Path snapshotPath, Charset encoding) {
+            this.snapshotPath = snapshotPath;
+            this.encoding = encoding;
+            this.libraryEncoder = new OutputStreamWriter(new OutputStream() {
+                @Override
+                public void write(int b) {
+                    libraryDigest.update((byte) b);
+                    librarySize++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    libraryDigest.update(b, off, len);
+                    librarySize += len;
+                }
+            }, encoding);
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            libraryEncoder.write(buffer, offset, length);
+            block.append(buffer, offset, length);
+
+            for (; searchedUpTo < block.length(); searchedUpTo++) {
+                char character = block.charAt(searchedUpTo);
+                if ((character == '@') && ((searchedUpTo == 0) || (block.charAt(searchedUpTo - 1) == '\n'))) {
+                    entryStart = searchedUpTo;
+                } else if ((character == '\n') && (entryStart >= 0)) {
+                    // The low bits of String.hashCode hardly differ for similar lines, thus they are mixed into the top bits
+                    int firstLineHash = block.substring(entryStart, searchedUpTo).hashCode() * 0x9E3779B9;
+                    int blockEnd = entryStart;
+                    entryStart = -1;
+                    if ((blockEnd > 0) && ((firstLineHash >>> BLOCK_BOUNDARY_SHIFT) == 0)) {
+                        storeBlock(blockEnd);
+                        searchedUpTo -= blockEnd;
+                    }
+                }
+            }
+
+            if (block.length() > MAXIMUM_BLOCK_LENGTH) {
+                storeBlock(block.length());
+                searchedUpTo = 0;
+                entryStart = -1;
+            }
+        }
+
+        private void storeBlock(int end) throws IOException {
+            byte[] content = block.substring(0, end).getBytes(StandardCharsets.UTF_8);
+            block.delete(0, end);
+
+            String hash = hash(content);
+            Path blockPath = getBlockPath(blocksDir, hash);
+            if (Files.notExists(blockPath)) {
+                Files.createDirectories(blockPath.getParent());
+                // Write to a temporary file first, as a block must never be incomplete
+                Path temporaryPath = Files.createTempFile(blockPath.getParent(), hash, ".tmp");
+                try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(temporaryPath))) {
+                    outputStream.write(content);
+                }
+                Files.move(temporaryPath, blockPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                // The block may be unreferenced by any committed snapshot yet; renew it so that the retention of
+                // unreferenced blocks, possibly run for another library, does not delete it before this snapshot is committed
+                Files.setLastModifiedTime(blockPath, FileTime.from(Instant.now()));
+            }
+            blocks.add(hash);
+        }
+
+        /**
+         * Stores the last block and the snapshot itself
+         */
+        public void commit() throws IOException {
+            if (!block.isEmpty()) {
+                storeBlock(block.length());
+            }
+            libraryEncoder.close();
+
+            StringBuilder snapshot = new StringBuilder()
+                    .append(SNAPSHOT_HEADER).append('\n')
+                    .append(ENCODING_PREFIX).append(encoding.name()).append('\n')
+                    .append(SIZE_PREFIX).append(librarySize).append('\n')
+                    .append(HASH_PREFIX).append(HexFormat.of().formatHex(libraryDigest.digest())).append('\n');
+            for (String hash : blocks) {
+                snapshot.append(hash).append('\n');
+            }
+            try (AtomicFileWriter writer = new AtomicFileWriter(snapshotPath, StandardCharsets.UTF_8)) {
+                writer.write(snapshot.toString());
+            }
+        }
+
+        @Override
+        public void flush() {
+            // Blocks are stored as soon as they are complete
+        }
+
+        /**
+         * Closes the writer. Without a preceding {@link #commit()}, no snapshot is stored.
+         */
+        @Override
+        public void close() throws IOException {
+            libraryEncoder.close();
+        }
+    }
+}
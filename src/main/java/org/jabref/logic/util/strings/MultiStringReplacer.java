@@ -0,0 +1,106 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Replaces all occurrences of several strings in a single pass over a text.
+ * <p>
+ * The strings to replace are compiled into a trie once. At each position of the text, the longest string starting
+ * there is replaced. The text after a replacement is searched further, the inserted replacement is not searched again.
+ * Instances are immutable and can be shared between threads.
+ */
+public class MultiStringReplacer {
+
+    private final Node root = new Node();
+
+    private static final class Node {
+        private char[] characters = new char[0];
+        private Node[] children = new Node[0];
+        private String replacement;
+
+        Node getChild(char character) {
+            int index = Arrays.binarySearch(characters, character);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrCreateChild(char character) {
+            int index = Arrays.binarySearch(characters, character);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertionPoint = ~index;
+            Node child = new Node();
+
+            char[] newCharacters = new char[characters.length + 1];
+            System.arraycopy(characters, 0, newCharacters, 0, insertionPoint);
+            newCharacters[insertionPoint] = character;
+            System.arraycopy(characters, insertionPoint, newCharacters, insertionPoint + 1, characters.length - insertionPoint);
+
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+            newChildren[insertionPoint] = child;
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1, children.length - insertionPoint);
+
+            characters = newCharacters;
+            children = newChildren;
+            return child;
+        }
+    }
+
+    /**
+     * @param replacements maps the strings to replace to their replacements. Empty strings are ignored.
+     */
+    public MultiStringReplacer(Map<String, String> replacements) {
+        for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+            if (replacement.getKey().isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < replacement.getKey().length(); i++) {
+                node = node.getOrCreateChild(replacement.getKey().charAt(i));
+            }
+            node.replacement = replacement.getValue();
+        }
+    }
+
+    /**
+     * Returns the text with all occurrences replaced. If nothing is replaced, the given text itself is returned.
+     */
+    public String replace(String text) {
+        StringBuilder builder = null;
+        int copiedUpTo = 0;
+        int position = 0;
+        while (position < text.length()) {
+            String replacement = null;
+            int matchEnd = position;
+            Node node = root;
+            for (int i = position; i < text.length(); i++) {
+                node = node.getChild(text.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.replacement != null) {
+                    replacement = node.replacement;
+                    matchEnd = i + 1;
+                }
+            }
+
+            if (replacement == null) {
+                position++;
+            } else {
+                if (builder == null) {
+                    builder = new StringBuilder(text.length() + 16);
+                }
+                builder.append(text, copiedUpTo, position).append(replacement);
+                position = matchEnd;
+                copiedUpTo = matchEnd;
+            }
+        }
+
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, copiedUpTo, text.length()).toString();
+    }
+}
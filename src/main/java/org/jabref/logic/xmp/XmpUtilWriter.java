@@ -299,27 +299,12 @@ public class XmpUtilWriter {
                          List<BibEntry> bibtexEntries,
                          BibDatabase database)
             throws IOException, TransformerException {
-        List<BibEntry> resolvedEntries;
-        if (database == null) {
-            resolvedEntries = bibtexEntries;
-        } else {
-            resolvedEntries = database.resolveForStrings(bibtexEntries, false);
-        }
-
         // Read from another file
         // Reason: Apache PDFBox does not support writing while the file is opened
         // See https://issues.apache.org/jira/browse/PDFBOX-4028
         Path newFile = Files.createTempFile("JabRef", "pdf");
         try (PDDocument document = Loader.loadPDF(path.toFile())) {
-            if (document.isEncrypted()) {
-                throw new EncryptedPdfsNotSupportedException();
-            }
-
-            // Write schemas (PDDocumentInformation and DublinCoreSchema) to the document metadata
-            if (!resolvedEntries.isEmpty()) {
-                writeDocumentInformation(document, resolvedEntries.getFirst(), null);
-                writeDublinCore(document, resolvedEntries, null);
-            }
+            writeXmp(document, bibtexEntries, database);
 
             // Save updates to original file
             try {
@@ -333,6 +318,38 @@ public class XmpUtilWriter {
         Files.delete(newFile);
     }
 
+    /**
+     * Writes the given entries to the XMP-stream and the document information of the given, already loaded
+     * document. The document is not saved, so that the caller can apply further changes before saving it once.
+     *
+     * @param document      The document to write the entries to.
+     * @param bibtexEntries The entries to write to the document.
+     * @param database      An optional database which the given bibtex entries belong to, which will be used
+     *                      to resolve strings. If the database is null the strings will not be resolved.
+     * @throws EncryptedPdfsNotSupportedException If the document is encrypted.
+     */
+    public void writeXmp(PDDocument document,
+                         List<BibEntry> bibtexEntries,
+                         BibDatabase database)
+            throws IOException, TransformerException {
+        if (document.isEncrypted()) {
+            throw new EncryptedPdfsNotSupportedException();
+        }
+
+        List<BibEntry> resolvedEntries;
+        if (database == null) {
+            resolvedEntries = bibtexEntries;
+        } else {
+            resolvedEntries = database.resolveForStrings(bibtexEntries, false);
+        }
+
+        // Write schemas (PDDocumentInformation and DublinCoreSchema) to the document metadata
+        if (!resolvedEntries.isEmpty()) {
+            writeDocumentInformation(document, resolvedEntries.getFirst(), null);
+            writeDublinCore(document, resolvedEntries, null);
+        }
+    }
+
     private BibEntry getDefaultOrDatabaseEntry(BibEntry defaultEntry, BibDatabase database) {
         if (database == null) {
             return defaultEntry;
@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,27 +18,32 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.Month;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.EventDispatcher;
 
-import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,14 +59,19 @@ public class BibDatabase {
     /**
      * State attributes
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(entry -> new Observable[] {entry.getChangeObservable()}));
 
     // BibEntryId to BibEntry
     private final Map<String, BibEntry> entriesId = new HashMap<>();
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
     // Not included in equals, because it is not relevant for the content of the database
-    private final EventBus eventBus = new EventBus();
+    private final EventDispatcher eventDispatcher = new EventDispatcher();
+
+    // Field changes deferred during a bulk change: BibEntryId to the changes of the entry, merged per field
+    private final Object bulkChangeLock = new Object();
+    private final Map<String, Map<Field, DeferredFieldChange>> deferredFieldChanges = new LinkedHashMap<>();
+    private int bulkChangeDepth;
 
     private String preamble;
 
@@ -187,9 +199,9 @@ public class BibDatabase {
             entry.registerListener(this);
         }
         if (newEntries.isEmpty()) {
-            eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
+            eventDispatcher.post(new EntriesAddedEvent(newEntries, eventSource));
         } else {
-            eventBus.post(new EntriesAddedEvent(newEntries, newEntries.getFirst(), eventSource));
+            eventDispatcher.post(new EntriesAddedEvent(newEntries, newEntries.getFirst(), eventSource));
         }
         entries.addAll(newEntries);
         newEntries.forEach(entry -> entriesId.put(entry.getId(), entry));
@@ -230,7 +242,7 @@ public class BibDatabase {
         boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
         if (anyRemoved) {
             toBeDeleted.forEach(entry -> entriesId.remove(entry.getId()));
-            eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
+            eventDispatcher.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
 
@@ -537,11 +549,22 @@ public class BibDatabase {
      * @param listener listener (subscriber) to add
      */
     public void registerListener(Object listener) {
-        this.eventBus.register(listener);
+        this.eventDispatcher.register(listener);
+    }
+
+    /**
+     * Registers a listener object (subscriber) that receives the events on the given executor instead of the thread
+     * changing the database. The events are delivered in the order they were posted. This is meant for listeners that
+     * take long to process an event.
+     *
+     * @param listener listener (subscriber) to add
+     */
+    public void registerListener(Object listener, Executor executor) {
+        this.eventDispatcher.register(listener, executor);
     }
 
     public void postEvent(Object event) {
-        this.eventBus.post(event);
+        this.eventDispatcher.post(event);
     }
 
     /**
@@ -551,16 +574,96 @@ public class BibDatabase {
      */
     public void unregisterListener(Object listener) {
         try {
-            this.eventBus.unregister(listener);
+            this.eventDispatcher.unregister(listener);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Starts a bulk change of this database. Until the returned scope is closed, the {@link FieldChangedEvent}s of the
+     * entries are not posted. On closing, the changes are merged to one {@link FieldChangedEvent} per entry and field,
+     * which are marked as {@link FieldChangedEvent#isPartOfBulkChange() part of the bulk change} and posted, followed
+     * by a single {@link EntriesChangedEvent} listing all of them. Listeners can thus handle the whole change set at
+     * once, e.g., update the search index in one batch.
+     * <p>
+     * Bulk changes can be nested, the events are posted when the outermost scope is closed. While a bulk change is
+     * running, the field changes of all threads are deferred.
+     */
+    public BulkChange startBulkChange() {
+        synchronized (bulkChangeLock) {
+            bulkChangeDepth++;
+        }
+        return this::finishBulkChange;
+    }
+
+    private void finishBulkChange() {
+        List<FieldChangedEvent> postedEvents = new ArrayList<>();
+        while (true) {
+            List<FieldChangedEvent> mergedEvents;
+            synchronized (bulkChangeLock) {
+                if ((bulkChangeDepth > 1) || deferredFieldChanges.isEmpty()) {
+                    bulkChangeDepth--;
+                    break;
+                }
+                mergedEvents = drainDeferredFieldChanges();
+            }
+            // Listeners may change entries again (e.g., update the modification date), these changes are deferred and posted in the next round
+            for (FieldChangedEvent event : mergedEvents) {
+                eventDispatcher.post(event);
+            }
+            postedEvents.addAll(mergedEvents);
+        }
+
+        if (!postedEvents.isEmpty()) {
+            Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<BibEntry> changedEntriesInOrder = new ArrayList<>();
+            for (FieldChangedEvent event : postedEvents) {
+                if (changedEntries.add(event.getBibEntry())) {
+                    changedEntriesInOrder.add(event.getBibEntry());
+                }
+            }
+            eventDispatcher.post(new EntriesChangedEvent(changedEntriesInOrder, postedEvents));
+        }
+    }
+
+    private List<FieldChangedEvent> drainDeferredFieldChanges() {
+        List<FieldChangedEvent> mergedEvents = new ArrayList<>();
+        for (Map<Field, DeferredFieldChange> changesOfEntry : deferredFieldChanges.values()) {
+            for (Map.Entry<Field, DeferredFieldChange> fieldChange : changesOfEntry.entrySet()) {
+                String oldValue = fieldChange.getValue().oldValue();
+                FieldChangedEvent latestEvent = fieldChange.getValue().latestEvent();
+                String newValue = latestEvent.getNewValue();
+                if (Objects.equals(oldValue, newValue)) {
+                    // the field has been changed back
+                    continue;
+                }
+
+                FieldChange change = new FieldChange(latestEvent.getBibEntry(), fieldChange.getKey(), oldValue, newValue);
+                FieldChangedEvent mergedEvent = (oldValue == null) != (newValue == null)
+                                                ? new FieldAddedOrRemovedEvent(change, latestEvent.getEntriesEventSource())
+                                                : new FieldChangedEvent(change, latestEvent.getEntriesEventSource());
+                mergedEvent.setPartOfBulkChange(true);
+                mergedEvents.add(mergedEvent);
+            }
+        }
+        deferredFieldChanges.clear();
+        return mergedEvents;
+    }
+
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
+        synchronized (bulkChangeLock) {
+            if (bulkChangeDepth > 0) {
+                deferredFieldChanges.computeIfAbsent(event.getBibEntry().getId(), id -> new LinkedHashMap<>())
+                                    .merge(event.getField(),
+                                            new DeferredFieldChange(event.getOldValue(), event),
+                                            (first, latest) -> new DeferredFieldChange(first.oldValue(), latest.latestEvent()));
+                return;
+            }
+        }
+        eventDispatcher.post(event);
     }
 
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
@@ -603,6 +706,18 @@ public class BibDatabase {
                       .count();
     }
 
+    /**
+     * Counts the occurrences of all citation keys. Use it instead of {@link #getNumberOfCitationKeyOccurrences(String)}
+     * when looking up the keys of many entries.
+     */
+    public Map<String, Long> getCitationKeyCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (BibEntry entry : List.copyOf(entries)) {
+            entry.getCitationKey().ifPresent(key -> counts.merge(key, 1L, Long::sum));
+        }
+        return counts;
+    }
+
     /**
      * Checks if there is more than one occurrence of the citation key.
      */
@@ -664,4 +779,19 @@ public class BibDatabase {
     public int hashCode() {
         return Objects.hash(entries, bibtexStrings, preamble, epilog, sharedDatabaseID, newLineSeparator);
     }
+
+    /**
+     * Scope of a bulk change, see {@link #startBulkChange()}.
+     */
+    @FunctionalInterface
+    public interface BulkChange extends AutoCloseable {
+        /**
+         * Finishes the bulk change and posts the merged events if this is the outermost scope.
+         */
+        @Override
+        void close();
+    }
+
+    private record DeferredFieldChange(String oldValue, FieldChangedEvent latestEvent) {
+    }
 }
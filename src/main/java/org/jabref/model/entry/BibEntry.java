@@ -1,5 +1,6 @@
 package org.jabref.model.entry;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,6 +18,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javafx.beans.Observable;
@@ -31,6 +33,7 @@ import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
@@ -44,10 +47,10 @@ import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.EventDispatcher;
 import org.jabref.model.util.MultiKeyMap;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
 import org.jspecify.annotations.Nullable;
@@ -101,27 +104,37 @@ public class BibEntry implements Cloneable {
     private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Caches derived from the field values. They are created on first use and may be dropped by the garbage collector
+     * when memory is short.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile SoftReference<DerivedFieldCaches> derivedFieldCaches;
 
     /**
-     * Cache that stores latex free versions of fields.
+     * Created when the first listener is registered, so that entries without listeners do not carry one
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile EventDispatcher eventDispatcher;
+
+    private String id;
+
+    private EntryType type = DEFAULT_TYPE;
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Created when the UI binds to the type, see {@link #typeProperty()}
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
-
-    private final EventBus eventBus = new EventBus();
+    private volatile ObjectProperty<EntryType> typeProperty;
 
-    private String id;
+    private FieldMap fields = new FieldMap();
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    /**
+     * Created when the UI binds to the fields, see {@link #getFieldsObservable()}. Once present, all changes of the
+     * fields go through it, so that its listeners are notified.
+     */
+    private volatile ObservableMap<Field, String> observableFields;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    /**
+     * Created when the entry is observed as a whole, see {@link #getChangeObservable()}
+     */
+    private volatile EntryChangeObservable changeObservable;
 
     /**
      * The part before the start of the entry
@@ -140,6 +153,23 @@ public class BibEntry implements Cloneable {
      */
     private boolean changed;
 
+    private static class DerivedFieldCaches {
+        /**
+         * Map to store the words in every field
+         */
+        private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+
+        /**
+         * Cache that stores latex free versions of fields.
+         */
+        private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+
+        /**
+         * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+         */
+        private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    }
+
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
      */
@@ -326,7 +356,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(type.getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -339,8 +369,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().type;
+                EntryType targetEntry = type;
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -376,7 +406,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(() -> new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -417,11 +447,27 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        return type;
     }
 
     public ObjectProperty<EntryType> typeProperty() {
-        return type;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property == null) {
+            synchronized (this) {
+                property = typeProperty;
+                if (property == null) {
+                    property = new SimpleObjectProperty<>(type);
+                    property.addListener((observable, oldValue, newValue) -> {
+                        if (newValue != type) {
+                            type = newValue;
+                            fireChanged();
+                        }
+                    });
+                    typeProperty = property;
+                }
+            }
+        }
+        return property;
     }
 
     /**
@@ -438,16 +484,21 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = type;
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property != null) {
+            property.setValue(newType);
+        }
+        fireChanged();
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(() -> new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -477,8 +528,11 @@ public class BibEntry implements Cloneable {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+            return Optional.of(type.getDisplayName());
+        }
+
+        Map<Field, String> latexFreeFields = getDerivedFieldCaches().latexFreeFields;
+        if (latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
@@ -633,13 +687,14 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        writableFields().put(field, value.intern());
+        fireChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(() -> new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(() -> new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -679,10 +734,11 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.remove(field);
+        writableFields().remove(field);
+        fireChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(() -> new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -707,8 +763,8 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        BibEntry clone = new BibEntry(type);
+        clone.fields = new FieldMap(fields);
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -907,7 +963,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Map<Field, String> getFieldMap() {
-        return fields;
+        return writableFields();
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -934,7 +990,7 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(type, entry.type)
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -952,22 +1008,51 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(type, fields, commentsBeforeEntry);
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        getEventDispatcher().register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher == null) {
+            LOGGER.debug("Problem unregistering {}, no listener is registered", object);
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            dispatcher.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    private EventDispatcher getEventDispatcher() {
+        EventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher == null) {
+            synchronized (this) {
+                dispatcher = eventDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new EventDispatcher();
+                    eventDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Posts the event to the listeners. The event is only created if there is a listener.
+     */
+    private void postEvent(Supplier<EntryChangedEvent> event) {
+        EventDispatcher dispatcher = eventDispatcher;
+        if ((dispatcher != null) && dispatcher.hasListeners()) {
+            dispatcher.post(event.get());
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -978,7 +1063,8 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = new FieldMap(content);
+        this.observableFields = null;
         this.setChanged(false);
         return this;
     }
@@ -1018,6 +1104,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        Map<Field, Set<String>> fieldsAsWords = getDerivedFieldCaches().fieldsAsWords;
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1034,6 +1121,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
+        MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = getDerivedFieldCaches().fieldsAsKeywords;
         if (field instanceof StandardField standardField) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
@@ -1056,14 +1144,39 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        SoftReference<DerivedFieldCaches> reference = derivedFieldCaches;
+        DerivedFieldCaches caches = reference == null ? null : reference.get();
+        if (caches == null) {
+            return;
+        }
+
+        caches.latexFreeFields.remove(field);
+        caches.fieldsAsWords.remove(field);
 
         if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
+            caches.fieldsAsKeywords.remove(standardField);
         }
     }
 
+    private DerivedFieldCaches getDerivedFieldCaches() {
+        SoftReference<DerivedFieldCaches> reference = derivedFieldCaches;
+        DerivedFieldCaches caches = reference == null ? null : reference.get();
+        if (caches == null) {
+            // If two threads get here, one of the new caches is lost, which only means that values are computed again
+            caches = new DerivedFieldCaches();
+            derivedFieldCaches = new SoftReference<>(caches);
+        }
+        return caches;
+    }
+
+    /**
+     * Returns the map to change the fields through, so that listeners of {@link #getFieldsObservable()} are notified.
+     */
+    private Map<Field, String> writableFields() {
+        ObservableMap<Field, String> observable = observableFields;
+        return observable == null ? fields : observable;
+    }
+
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
         Optional<String> oldValue = this.getField(StandardField.FILE);
         String newValue = FileFieldWriter.getStringRepresentation(files);
@@ -1109,9 +1222,9 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
-        return EasyBind.valueAt(fields, field);
+        return EasyBind.valueAt(getFieldsObservable(), field);
     }
 
     public OptionalBinding<String> getCiteKeyBinding() {
@@ -1130,15 +1243,53 @@ public class BibEntry implements Cloneable {
         return setFiles(linkedFiles);
     }
 
+    /**
+     * Returns the fields as observable map. It is created on the first call, entries not shown in the UI do not carry one.
+     */
     public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+        ObservableMap<Field, String> observable = observableFields;
+        if (observable == null) {
+            synchronized (this) {
+                observable = observableFields;
+                if (observable == null) {
+                    observable = FXCollections.observableMap(fields);
+                    observableFields = observable;
+                }
+            }
+        }
+        return observable;
+    }
+
+    /**
+     * Returns an observable that is invalidated whenever a field or the type of the entry changes. In contrast to
+     * {@link #getObservables()}, observing it does not create the observable fields and type property.
+     */
+    public Observable getChangeObservable() {
+        EntryChangeObservable observable = changeObservable;
+        if (observable == null) {
+            synchronized (this) {
+                observable = changeObservable;
+                if (observable == null) {
+                    observable = new EntryChangeObservable();
+                    changeObservable = observable;
+                }
+            }
+        }
+        return observable;
+    }
+
+    private void fireChanged() {
+        EntryChangeObservable observable = changeObservable;
+        if (observable != null) {
+            observable.fireInvalidated();
+        }
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {getFieldsObservable(), typeProperty()};
     }
 
     /**
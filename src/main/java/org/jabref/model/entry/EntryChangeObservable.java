@@ -0,0 +1,45 @@
+package org.jabref.model.entry;
+
+import java.util.Arrays;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * Invalidated whenever a field or the type of a {@link BibEntry} changes.
+ * <p>
+ * A library observes each of its entries through it. It only holds its listeners, whereas the observable fields and
+ * the type property of an entry are a map wrapper and a property with their own listener helpers.
+ */
+final class EntryChangeObservable implements Observable {
+
+    private static final InvalidationListener[] EMPTY = new InvalidationListener[0];
+
+    private volatile InvalidationListener[] listeners = EMPTY;
+
+    @Override
+    public synchronized void addListener(InvalidationListener listener) {
+        InvalidationListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    @Override
+    public synchronized void removeListener(InvalidationListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                InvalidationListener[] newListeners = new InvalidationListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                listeners = newListeners;
+                return;
+            }
+        }
+    }
+
+    void fireInvalidated() {
+        for (InvalidationListener listener : listeners) {
+            listener.invalidated(this);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of a {@link BibEntry} in one array of alternating fields and values.
+ * <p>
+ * An entry has few fields, so searching the array is as fast as hashing, while the array needs a fraction of the memory
+ * of a hash map with a node per field. The array is replaced on each change. Thus, reading needs no lock and iterating
+ * is not affected by concurrent changes.
+ */
+final class FieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] slots = EMPTY;
+
+    FieldMap() {
+    }
+
+    FieldMap(Map<Field, String> content) {
+        Object[] newSlots = new Object[content.size() * 2];
+        int i = 0;
+        for (Map.Entry<Field, String> entry : content.entrySet()) {
+            newSlots[i++] = Objects.requireNonNull(entry.getKey());
+            newSlots[i++] = Objects.requireNonNull(entry.getValue());
+        }
+        this.slots = newSlots;
+    }
+
+    @Override
+    public int size() {
+        return slots.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return slots.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(slots, key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        Object[] currentSlots = slots;
+        int index = indexOf(currentSlots, key);
+        return index < 0 ? null : (String) currentSlots[index + 1];
+    }
+
+    @Override
+    public synchronized String put(Field field, String value) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(value);
+
+        int index = indexOf(slots, field);
+        Object[] newSlots;
+        String oldValue;
+        if (index < 0) {
+            newSlots = Arrays.copyOf(slots, slots.length + 2);
+            newSlots[slots.length] = field;
+            newSlots[slots.length + 1] = value;
+            oldValue = null;
+        } else {
+            newSlots = slots.clone();
+            newSlots[index + 1] = value;
+            oldValue = (String) slots[index + 1];
+        }
+        slots = newSlots;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        int index = indexOf(slots, key);
+        if (index < 0) {
+            return null;
+        }
+
+        String oldValue = (String) slots[index + 1];
+        Object[] newSlots = new Object[slots.length - 2];
+        System.arraycopy(slots, 0, newSlots, 0, index);
+        System.arraycopy(slots, index + 2, newSlots, index, slots.length - index - 2);
+        slots = newSlots;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized void clear() {
+        slots = EMPTY;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Field, ? super String> action) {
+        Object[] currentSlots = slots;
+        for (int i = 0; i < currentSlots.length; i += 2) {
+            action.accept((Field) currentSlots[i], (String) currentSlots[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Field, String>> iterator() {
+                return new EntryIterator(slots);
+            }
+
+            @Override
+            public int size() {
+                return FieldMap.this.size();
+            }
+        };
+    }
+
+    private static int indexOf(Object[] slots, Object key) {
+        if (key == null) {
+            return -1;
+        }
+        for (int i = 0; i < slots.length; i += 2) {
+            if ((slots[i] == key) || slots[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Iterates over the fields present when the iteration started
+     */
+    private class EntryIterator implements Iterator<Map.Entry<Field, String>> {
+        private final Object[] snapshot;
+        private int next;
+        private Field last;
+
+        EntryIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Map.Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = (Field) snapshot[next];
+            Map.Entry<Field, String> entry = new SimpleImmutableEntry<>(last, (String) snapshot[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            FieldMap.this.remove(last);
+            last = null;
+        }
+    }
+}
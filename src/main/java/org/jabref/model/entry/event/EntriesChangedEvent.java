@@ -0,0 +1,27 @@
+package org.jabref.model.entry.event;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * <code>EntriesChangedEvent</code> is fired once at the end of a bulk change of a database. It lists the merged
+ * {@link FieldChangedEvent}s of all entries changed during the bulk change, which have been posted right before.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChangedEvents;
+
+    /**
+     * @param bibEntries         the changed entries, each listed once
+     * @param fieldChangedEvents the merged field changes, at most one per entry and field
+     */
+    public EntriesChangedEvent(List<BibEntry> bibEntries, List<FieldChangedEvent> fieldChangedEvents) {
+        super(List.copyOf(bibEntries));
+        this.fieldChangedEvents = List.copyOf(fieldChangedEvents);
+    }
+
+    public List<FieldChangedEvent> getFieldChangedEvents() {
+        return fieldChangedEvents;
+    }
+}
@@ -13,6 +13,7 @@ public class FieldChangedEvent extends EntryChangedEvent {
     private final String newValue;
     private final String oldValue;
     private int majorCharacterChange = 0;
+    private boolean partOfBulkChange;
 
     /**
      * @param bibEntry Affected BibEntry object
@@ -88,4 +89,16 @@ public class FieldChangedEvent extends EntryChangedEvent {
     public int getMajorCharacterChange() {
         return majorCharacterChange;
     }
+
+    /**
+     * Check if this event merges the changes of a field done during a bulk change. Such events are followed by an
+     * {@link EntriesChangedEvent} listing all changes of the bulk change.
+     */
+    public boolean isPartOfBulkChange() {
+        return partOfBulkChange;
+    }
+
+    public void setPartOfBulkChange(boolean partOfBulkChange) {
+        this.partOfBulkChange = partOfBulkChange;
+    }
 }
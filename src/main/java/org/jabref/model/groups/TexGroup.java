@@ -10,7 +10,7 @@ import java.util.Set;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.auxparser.AuxParser;
-import org.jabref.logic.auxparser.AuxParserResult;
+import org.jabref.logic.texparser.LatexParserCache;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
@@ -21,7 +21,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@AllowedToUseLogic("because it needs access to aux parser")
+@AllowedToUseLogic("because it needs access to aux parser and its cache")
 public class TexGroup extends AbstractGroup implements FileUpdateListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TexGroup.class);
@@ -64,8 +64,8 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     @Override
     public boolean contains(BibEntry entry) {
         if (keysUsedInAux == null) {
-            AuxParserResult auxResult = auxParser.parse(filePath);
-            keysUsedInAux = auxResult.getUniqueKeys();
+            // Copies of this group and groups referring to the same file share the parse result
+            keysUsedInAux = LatexParserCache.INSTANCE.getAuxKeys(filePath, () -> auxParser.parse(filePath));
         }
 
         return entry.getCitationKey().map(keysUsedInAux::contains).orElse(false);
@@ -125,6 +125,7 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     public void fileUpdated() {
         // Reset previous parse result
         keysUsedInAux = null;
+        LatexParserCache.INSTANCE.invalidate(filePath);
         metaData.groupsBinding().invalidate();
     }
 
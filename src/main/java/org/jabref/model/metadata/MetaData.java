@@ -27,8 +27,8 @@ import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
+import org.jabref.model.util.EventDispatcher;
 
-import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
 import com.tobiasdiez.easybind.optional.OptionalWrapper;
 import org.slf4j.Logger;
@@ -60,7 +60,7 @@ public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
-    private final EventBus eventBus = new EventBus();
+    private final EventDispatcher eventDispatcher = new EventDispatcher();
     private final Map<EntryType, String> citeKeyPatterns = new HashMap<>(); // <BibType, Pattern>
     private final Map<String, String> userFileDirectory = new HashMap<>(); // <User, FilePath>
     private final Map<String, Path> laTexFileDirectory = new HashMap<>(); // <User, FilePath>
@@ -113,8 +113,8 @@ public class MetaData {
         Objects.requireNonNull(root);
         groupsRoot.setValue(root);
         root.subscribeToDescendantChanged(groupTreeNode -> groupsRootBinding.invalidate());
-        root.subscribeToDescendantChanged(groupTreeNode -> eventBus.post(new GroupUpdatedEvent(this)));
-        eventBus.post(new GroupUpdatedEvent(this));
+        root.subscribeToDescendantChanged(groupTreeNode -> eventDispatcher.post(new GroupUpdatedEvent(this)));
+        eventDispatcher.post(new GroupUpdatedEvent(this));
         postChange();
     }
 
@@ -293,11 +293,11 @@ public class MetaData {
     }
 
     /**
-     * Posts a new {@link MetaDataChangedEvent} on the {@link EventBus}.
+     * Posts a new {@link MetaDataChangedEvent} to the listeners.
      */
     private void postChange() {
         if (isEventPropagationEnabled) {
-            eventBus.post(new MetaDataChangedEvent(this));
+            eventDispatcher.post(new MetaDataChangedEvent(this));
         }
     }
 
@@ -341,12 +341,12 @@ public class MetaData {
     }
 
     public void registerListener(Object listener) {
-        this.eventBus.register(listener);
+        this.eventDispatcher.register(listener);
     }
 
     public void unregisterListener(Object listener) {
         try {
-            this.eventBus.unregister(listener);
+            this.eventDispatcher.unregister(listener);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
         }
@@ -0,0 +1,23 @@
+package org.jabref.model.search.Analyzer;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.KeywordTokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+
+/**
+ * Indexes the whole field value as a single term, folded the same way as by {@link LatexAwareAnalyzer}.
+ * Suited for identifiers, which are searched for as a whole.
+ */
+public class LatexAwareKeywordAnalyzer extends Analyzer {
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer source = new KeywordTokenizer();
+        TokenStream result = new LatexToUnicodeFoldingFilter(source);
+        result = new ASCIIFoldingFilter(result);
+        result = new LowerCaseFilter(result);
+        return new TokenStreamComponents(source, result);
+    }
+}
@@ -0,0 +1,23 @@
+package org.jabref.model.search;
+
+import java.util.List;
+
+/**
+ * Highlights the matches of a search on a page of a linked file. The text of a page is only read from the index when
+ * the highlights are requested, thus search results do not keep the text of all matching pages.
+ */
+@FunctionalInterface
+public interface PageHighlighter {
+
+    PageHighlighter NONE = (path, pageNumber) -> Highlights.EMPTY;
+
+    /**
+     * The matching passages of the content and of the annotations of a page. Matches are enclosed in {@code <b>} and
+     * {@code </b>}.
+     */
+    record Highlights(List<String> content, List<String> annotations) {
+        public static final Highlights EMPTY = new Highlights(List.of(), List.of());
+    }
+
+    Highlights highlight(String path, int pageNumber);
+}
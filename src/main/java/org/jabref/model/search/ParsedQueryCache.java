@@ -0,0 +1,61 @@
+package org.jabref.model.search;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Query;
+
+/**
+ * Keeps the Lucene queries parsed from search expressions. The same expressions are parsed again and again, for
+ * instance by search groups and recent searches. Lucene queries are immutable, thus all search queries with the same
+ * expression share the parsed query.
+ */
+class ParsedQueryCache {
+
+    static final ParsedQueryCache INSTANCE = new ParsedQueryCache(1000);
+
+    /**
+     * @param fieldAnalyzer compared by identity, as analyzers do not implement equality
+     */
+    record Key(String expression, EnumSet<SearchFlags> searchFlags, Analyzer fieldAnalyzer, List<String> defaultFields) {
+        Key {
+            searchFlags = EnumSet.copyOf(searchFlags);
+            defaultFields = List.copyOf(defaultFields);
+        }
+    }
+
+    /**
+     * The parsed query, or the message of the error preventing to parse the expression
+     */
+    record ParsedQuery(Query query, String error) {
+    }
+
+    private final Cache<Key, ParsedQuery> cache;
+
+    ParsedQueryCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(maximumSize)
+                                 .build();
+    }
+
+    ParsedQuery get(Key key, Callable<Query> parser) {
+        try {
+            return cache.get(key, () -> {
+                try {
+                    return new ParsedQuery(parser.call(), null);
+                } catch (Exception e) {
+                    return new ParsedQuery(null, Objects.requireNonNullElse(e.getMessage(), e.toString()));
+                }
+            });
+        } catch (ExecutionException e) {
+            // Cannot happen, as the loader catches all exceptions
+            return new ParsedQuery(null, e.getCause().getMessage());
+        }
+    }
+}
@@ -3,7 +3,6 @@ package org.jabref.model.search;
 import java.util.List;
 
 import org.jabref.model.search.Analyzer.LatexAwareAnalyzer;
-import org.jabref.model.search.Analyzer.LatexAwareNGramAnalyzer;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.en.EnglishAnalyzer;
@@ -16,7 +15,7 @@ public enum SearchFieldConstants {
      * 2. Lucene codec changes (see module-info.java Lucene section)
      * Incrementing triggers reindexing.
      */
-    VERSION("3"),
+    VERSION("4"),
     DEFAULT_FIELD("any"),
     ENTRY_ID("id"),
     ENTRY_TYPE("entrytype"),
@@ -28,7 +27,6 @@ public enum SearchFieldConstants {
 
     public static final Analyzer LINKED_FILES_ANALYZER = new EnglishAnalyzer();
     public static final Analyzer LATEX_AWARE_ANALYZER = new LatexAwareAnalyzer();
-    public static final Analyzer LATEX_AWARE_NGRAM_ANALYZER = new LatexAwareNGramAnalyzer(1, Integer.MAX_VALUE);
     public static final List<String> PDF_FIELDS = List.of(CONTENT.toString(), ANNOTATIONS.toString());
     private final String field;
 
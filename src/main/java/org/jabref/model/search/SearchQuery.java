@@ -1,21 +1,33 @@
 package org.jabref.model.search;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jabref.model.entry.field.StandardField;
+
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.highlight.QueryTermExtractor;
 import org.apache.lucene.search.highlight.WeightedTerm;
 
@@ -57,44 +69,54 @@ public class SearchQuery {
         abstract String format(String regex);
     }
 
+    /**
+     * Fields which only restrict the entries matched by other terms
+     */
+    private static final Set<String> FILTER_FIELDS = Set.of(SearchFieldConstants.ENTRY_TYPE.toString(), StandardField.YEAR.getName());
+
     private final String query;
     private final EnumSet<SearchFlags> searchFlags;
 
-    private Query parsedQuery;
-    private String parseError;
+    private final Query parsedQuery;
+    private final String parseError;
     private SearchResults searchResults;
 
     public SearchQuery(String query, EnumSet<SearchFlags> searchFlags) {
         this.query = Objects.requireNonNull(query);
         this.searchFlags = searchFlags;
 
+        ParsedQueryCache.ParsedQuery parsed = parse(SearchFieldConstants.LATEX_AWARE_ANALYZER, List.of(SearchFieldConstants.DEFAULT_FIELD.toString()));
+        this.parsedQuery = parsed.query();
+        this.parseError = parsed.error();
+    }
+
+    private ParsedQueryCache.ParsedQuery parse(Analyzer fieldAnalyzer, List<String> defaultFields) {
+        return ParsedQueryCache.INSTANCE.get(
+                new ParsedQueryCache.Key(query, searchFlags, fieldAnalyzer, defaultFields),
+                () -> useFilterClauses(parse(query, searchFlags, fieldAnalyzer, defaultFields)));
+    }
+
+    private static Query parse(String query, EnumSet<SearchFlags> searchFlags, Analyzer fieldAnalyzer, List<String> defaultFields) throws ParseException {
         Map<String, Float> boosts = new HashMap<>();
         Map<String, Analyzer> fieldAnalyzers = new HashMap<>();
 
         if (searchFlags.contains(SearchFlags.FULLTEXT)) {
-            boosts.put(SearchFieldConstants.DEFAULT_FIELD.toString(), 4F);
+            defaultFields.forEach(field -> boosts.put(field, 4F));
             SearchFieldConstants.PDF_FIELDS.forEach(field -> {
                 boosts.put(field, 1F);
                 fieldAnalyzers.put(field, SearchFieldConstants.LINKED_FILES_ANALYZER);
             });
         } else {
-            boosts.put(SearchFieldConstants.DEFAULT_FIELD.toString(), 1F);
+            defaultFields.forEach(field -> boosts.put(field, 1F));
         }
 
         String[] fieldsToSearchArray = new String[boosts.size()];
         boosts.keySet().toArray(fieldsToSearchArray);
 
-        PerFieldAnalyzerWrapper analyzerWrapper = new PerFieldAnalyzerWrapper(SearchFieldConstants.LATEX_AWARE_ANALYZER, fieldAnalyzers);
+        PerFieldAnalyzerWrapper analyzerWrapper = new PerFieldAnalyzerWrapper(fieldAnalyzer, fieldAnalyzers);
         MultiFieldQueryParser queryParser = new MultiFieldQueryParser(fieldsToSearchArray, analyzerWrapper, boosts);
         queryParser.setAllowLeadingWildcard(true);
-
-        try {
-            parsedQuery = queryParser.parse(query);
-            parseError = null;
-        } catch (Exception e) {
-            parsedQuery = null;
-            parseError = e.getMessage();
-        }
+        return queryParser.parse(query);
     }
 
     public String getSearchExpression() {
@@ -139,10 +161,95 @@ public class SearchQuery {
         return parsedQuery;
     }
 
+    /**
+     * Parses the query for an index of the bib fields not analyzing all fields alike. The terms of each field are
+     * analyzed with the given analyzer, so that they match the terms the index contains for that field.
+     * <p>
+     * Terms without a field search the given fields instead of the default field, for indexes not containing a copy of
+     * all fields in the default field. Terms with an explicit field are not affected.
+     */
+    public Query getParsedQuery(Analyzer fieldAnalyzer, Collection<String> defaultFields) {
+        if (!isValid()) {
+            return parsedQuery;
+        }
+        List<String> fields = defaultFields.isEmpty() ? List.of(SearchFieldConstants.DEFAULT_FIELD.toString()) : List.copyOf(defaultFields);
+        return Objects.requireNonNullElse(parse(fieldAnalyzer, fields).query(), parsedQuery);
+    }
+
+    /**
+     * Turns required clauses only restricting the entry type or the year into filter clauses. Filter clauses do not
+     * contribute to the score, so Lucene can cache their matches as a bit set per index segment and intersect it with
+     * the matches of the other clauses. A required clause contributing to the score is kept, as entries are matched
+     * only if their score is positive.
+     */
+    static Query useFilterClauses(Query query) {
+        if (!(query instanceof BooleanQuery booleanQuery)) {
+            return query;
+        }
+        List<BooleanClause> clauses = booleanQuery.clauses();
+        boolean hasScoringRequiredClause = clauses.stream()
+                                                  .anyMatch(clause -> (clause.occur() == BooleanClause.Occur.MUST) && !isFilterOnly(clause.query()));
+        if (!hasScoringRequiredClause) {
+            return query;
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .setMinimumNumberShouldMatch(booleanQuery.getMinimumNumberShouldMatch());
+        for (BooleanClause clause : clauses) {
+            boolean isFilter = (clause.occur() == BooleanClause.Occur.MUST) && isFilterOnly(clause.query());
+            builder.add(clause.query(), isFilter ? BooleanClause.Occur.FILTER : clause.occur());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Checks whether the query only restricts the entry type or the year, and thus can be used as filter.
+     */
+    public static boolean isFilterOnly(Query query) {
+        Set<String> fields = new HashSet<>();
+        query.visit(new QueryVisitor() {
+            @Override
+            public boolean acceptField(String field) {
+                fields.add(field);
+                return true;
+            }
+        });
+        return !fields.isEmpty() && FILTER_FIELDS.containsAll(fields);
+    }
+
     public EnumSet<SearchFlags> getSearchFlags() {
         return searchFlags;
     }
 
+    /**
+     * Checks whether this query can only match a subset of the entries matched by the given query.
+     * <p>
+     * This is the case if both queries search for a single term in the default field and the term of this query
+     * starts with the term of the given query. The default field is indexed with all prefixes of its words, so every
+     * entry containing a word starting with the longer term also contains a word starting with the shorter one.
+     * Typing further characters of a word thus only narrows the result.
+     */
+    public boolean isNarrowingOf(SearchQuery previous) {
+        if (!searchFlags.equals(previous.searchFlags) || searchFlags.contains(SearchFlags.FULLTEXT)) {
+            return false;
+        }
+        Optional<Term> term = getSingleDefaultFieldTerm(parsedQuery);
+        Optional<Term> previousTerm = getSingleDefaultFieldTerm(previous.parsedQuery);
+        return term.isPresent()
+                && previousTerm.isPresent()
+                && term.get().text().startsWith(previousTerm.get().text());
+    }
+
+    private static Optional<Term> getSingleDefaultFieldTerm(Query query) {
+        if (query instanceof BoostQuery boostQuery) {
+            return getSingleDefaultFieldTerm(boostQuery.getQuery());
+        }
+        if (query instanceof TermQuery termQuery
+                && SearchFieldConstants.DEFAULT_FIELD.toString().equals(termQuery.getTerm().field())) {
+            return Optional.of(termQuery.getTerm());
+        }
+        return Optional.empty();
+    }
+
     /**
      * Returns a list of words this query searches for. The returned strings can be a regular expression.
      */
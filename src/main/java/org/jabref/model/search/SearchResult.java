@@ -1,62 +1,46 @@
 package org.jabref.model.search;
 
-import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
 
-import org.apache.lucene.analysis.TokenStream;
-import org.apache.lucene.search.highlight.Highlighter;
-import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
-import org.apache.lucene.search.highlight.TextFragment;
-
 public final class SearchResult {
 
     private final float searchScore;
     private final boolean hasFulltextResults;
     private final String path;
-    private final String pageContent;
-    private final String annotation;
     private final int pageNumber;
-    private final Highlighter highlighter;
-    private List<String> contentResultStringsHtml;
-    private List<String> annotationsResultStringsHtml;
+    private final PageHighlighter highlighter;
+    private PageHighlighter.Highlights highlights;
 
     private SearchResult(float searchScore,
                          boolean hasFulltextResults,
                          String path,
-                         String pageContent,
-                         String annotation,
                          int pageNumber,
-                         Highlighter highlighter) {
+                         PageHighlighter highlighter) {
         this.searchScore = searchScore;
         this.hasFulltextResults = hasFulltextResults;
         this.path = path;
-        this.pageContent = pageContent;
-        this.annotation = annotation;
         this.pageNumber = pageNumber;
         this.highlighter = highlighter;
     }
 
     public SearchResult(float searchScore) {
-        this(searchScore, false, "", "", "", -1, null);
+        this(searchScore, false, "", -1, PageHighlighter.NONE);
     }
 
-    public SearchResult(float searchScore, String path, String pageContent, String annotation, int pageNumber, Highlighter highlighter) {
-        this(searchScore, true, path, pageContent, annotation, pageNumber, highlighter);
+    /**
+     * Creates the result of a match on a page of a linked file. The matches are highlighted when the highlights are
+     * requested for the first time.
+     */
+    public SearchResult(float searchScore, String path, int pageNumber, PageHighlighter highlighter) {
+        this(searchScore, true, path, pageNumber, highlighter);
     }
 
     public List<String> getContentResultStringsHtml() {
-        if (contentResultStringsHtml == null) {
-            return contentResultStringsHtml = getHighlighterFragments(highlighter, SearchFieldConstants.CONTENT, pageContent);
-        }
-        return contentResultStringsHtml;
+        return getHighlights().content();
     }
 
     public List<String> getAnnotationsResultStringsHtml() {
-        if (annotationsResultStringsHtml == null) {
-            annotationsResultStringsHtml = getHighlighterFragments(highlighter, SearchFieldConstants.ANNOTATIONS, annotation);
-        }
-        return annotationsResultStringsHtml;
+        return getHighlights().annotations();
     }
 
     public float getSearchScore() {
@@ -75,12 +59,10 @@ public final class SearchResult {
         return pageNumber;
     }
 
-    private static List<String> getHighlighterFragments(Highlighter highlighter, SearchFieldConstants field, String content) {
-        try (TokenStream contentStream = SearchFieldConstants.LINKED_FILES_ANALYZER.tokenStream(field.toString(), content)) {
-            TextFragment[] frags = highlighter.getBestTextFragments(contentStream, content, true, 10);
-            return Arrays.stream(frags).map(TextFragment::toString).toList();
-        } catch (IOException | InvalidTokenOffsetsException e) {
-            return List.of();
+    private PageHighlighter.Highlights getHighlights() {
+        if (highlights == null) {
+            highlights = highlighter.highlight(path, pageNumber);
         }
+        return highlights;
     }
 }
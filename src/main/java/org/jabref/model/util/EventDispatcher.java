@@ -0,0 +1,316 @@
+package org.jabref.model.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to the methods of listeners annotated with {@link Subscribe}. It replaces Guava's EventBus on paths
+ * where many events are posted or many instances exist, e.g., one per entry.
+ * <p>
+ * The subscriber methods of a listener class are looked up once per class. The subscribers of an event class are
+ * determined on its first post and kept until a listener is registered or unregistered, so posting an event neither
+ * searches nor locks. If no listener is registered, posting does nothing.
+ * <p>
+ * The delivery follows the EventBus: events posted on a thread while this dispatcher delivers another event on the same
+ * thread are delivered afterward, in the order they were posted. Subscriber methods not annotated with
+ * {@link AllowConcurrentEvents} receive one event at a time. Exceptions thrown by subscribers are logged.
+ * <p>
+ * A listener can also be registered with an executor. Its events are then queued and delivered in order, in batches on
+ * that executor, so that slow listeners do not hold up the thread posting the event.
+ */
+public class EventDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventDispatcher.class);
+
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+    private static final DispatchTable EMPTY_TABLE = new DispatchTable(new Class<?>[0], new Subscriber[0][]);
+    private static final MethodType SUBSCRIBER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<List<SubscriberMethod>> SUBSCRIBER_METHODS = new ClassValue<>() {
+        @Override
+        protected List<SubscriberMethod> computeValue(Class<?> listenerClass) {
+            return findSubscriberMethods(listenerClass);
+        }
+    };
+
+    // The queues of the dispatchers currently delivering an event on this thread
+    private static final ThreadLocal<Map<EventDispatcher, Deque<Object>>> DISPATCHING = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    private volatile Subscriber[] subscribers = NO_SUBSCRIBERS;
+    private volatile DispatchTable dispatchTable = EMPTY_TABLE;
+
+    private record SubscriberMethod(Method method, MethodHandle handle, Class<?> eventType, boolean allowsConcurrentEvents) {
+    }
+
+    private record DispatchTable(Class<?>[] eventClasses, Subscriber[][] subscribers) {
+
+        Subscriber[] get(Class<?> eventClass) {
+            for (int i = 0; i < eventClasses.length; i++) {
+                if (eventClasses[i] == eventClass) {
+                    return subscribers[i];
+                }
+            }
+            return null;
+        }
+
+        DispatchTable with(Class<?> eventClass, Subscriber[] eventSubscribers) {
+            Class<?>[] newEventClasses = Arrays.copyOf(eventClasses, eventClasses.length + 1);
+            Subscriber[][] newSubscribers = Arrays.copyOf(subscribers, subscribers.length + 1);
+            newEventClasses[eventClasses.length] = eventClass;
+            newSubscribers[subscribers.length] = eventSubscribers;
+            return new DispatchTable(newEventClasses, newSubscribers);
+        }
+    }
+
+    private static final class Subscriber {
+        private final Object listener;
+        private final SubscriberMethod method;
+        private final AsyncLane lane;
+
+        Subscriber(Object listener, SubscriberMethod method, AsyncLane lane) {
+            this.listener = listener;
+            this.method = method;
+            this.lane = lane;
+        }
+
+        void dispatch(Object event) {
+            if (lane == null) {
+                deliver(event);
+            } else {
+                lane.enqueue(this, event);
+            }
+        }
+
+        void deliver(Object event) {
+            try {
+                if (method.allowsConcurrentEvents()) {
+                    method.handle().invokeExact(listener, event);
+                } else {
+                    synchronized (this) {
+                        method.handle().invokeExact(listener, event);
+                    }
+                }
+            } catch (Throwable throwable) {
+                LOGGER.error("Exception thrown by subscriber {} when dispatching event {}", method.method(), event, throwable);
+            }
+        }
+    }
+
+    /**
+     * Queues the events of a listener and delivers them on an executor. At most one batch runs at a time, so the events
+     * arrive in the order they were posted.
+     */
+    private static final class AsyncLane {
+        private final Executor executor;
+        private final Queue<Object[]> pendingEvents = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        AsyncLane(Executor executor) {
+            this.executor = executor;
+        }
+
+        void enqueue(Subscriber subscriber, Object event) {
+            pendingEvents.add(new Object[] {subscriber, event});
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::deliverPendingEvents);
+            }
+        }
+
+        private void deliverPendingEvents() {
+            do {
+                Object[] pending;
+                while ((pending = pendingEvents.poll()) != null) {
+                    ((Subscriber) pending[0]).deliver(pending[1]);
+                }
+                scheduled.set(false);
+                // Events enqueued after the queue was found empty, but before the flag was reset, are delivered here
+            } while (!pendingEvents.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
+
+    /**
+     * Registers all methods of the listener annotated with {@link Subscribe}. Registering a listener again has no effect.
+     */
+    public void register(Object listener) {
+        register(listener, null);
+    }
+
+    /**
+     * Registers all methods of the listener annotated with {@link Subscribe}. The events are delivered on the given
+     * executor instead of the posting thread.
+     */
+    public void register(Object listener, Executor executor) {
+        Objects.requireNonNull(listener);
+        List<SubscriberMethod> methods = SUBSCRIBER_METHODS.get(listener.getClass());
+        synchronized (this) {
+            if (isRegistered(listener)) {
+                return;
+            }
+            AsyncLane lane = executor == null ? null : new AsyncLane(executor);
+            Subscriber[] newSubscribers = Arrays.copyOf(subscribers, subscribers.length + methods.size());
+            for (int i = 0; i < methods.size(); i++) {
+                newSubscribers[subscribers.length + i] = new Subscriber(listener, methods.get(i), lane);
+            }
+            subscribers = newSubscribers;
+            dispatchTable = EMPTY_TABLE;
+        }
+    }
+
+    /**
+     * Unregisters all methods of the listener.
+     *
+     * @throws IllegalArgumentException if the listener is not registered
+     */
+    public void unregister(Object listener) {
+        synchronized (this) {
+            Subscriber[] remainingSubscribers = Arrays.stream(subscribers)
+                                                      .filter(subscriber -> subscriber.listener != listener)
+                                                      .toArray(Subscriber[]::new);
+            if (remainingSubscribers.length == subscribers.length) {
+                throw new IllegalArgumentException("Missing event subscriber for an annotated method. Is " + listener + " registered?");
+            }
+            subscribers = remainingSubscribers;
+            dispatchTable = EMPTY_TABLE;
+        }
+    }
+
+    public boolean hasListeners() {
+        return subscribers.length > 0;
+    }
+
+    /**
+     * Delivers the event to all subscribers of its class or one of its super classes and interfaces.
+     */
+    public void post(Object event) {
+        Subscriber[] eventSubscribers = getSubscribers(event.getClass());
+        if (eventSubscribers.length == 0) {
+            return;
+        }
+
+        Map<EventDispatcher, Deque<Object>> dispatching = DISPATCHING.get();
+        Deque<Object> queuedEvents = dispatching.get(this);
+        if (queuedEvents != null) {
+            // A subscriber posted the event, it is delivered when the current event has reached all subscribers
+            queuedEvents.add(event);
+            return;
+        }
+
+        queuedEvents = new ArrayDeque<>(4);
+        dispatching.put(this, queuedEvents);
+        try {
+            for (Subscriber subscriber : eventSubscribers) {
+                subscriber.dispatch(event);
+            }
+            Object queuedEvent;
+            while ((queuedEvent = queuedEvents.poll()) != null) {
+                for (Subscriber subscriber : getSubscribers(queuedEvent.getClass())) {
+                    subscriber.dispatch(queuedEvent);
+                }
+            }
+        } finally {
+            dispatching.remove(this);
+        }
+    }
+
+    private boolean isRegistered(Object listener) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.listener == listener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Subscriber[] getSubscribers(Class<?> eventClass) {
+        Subscriber[] currentSubscribers = subscribers;
+        if (currentSubscribers.length == 0) {
+            return NO_SUBSCRIBERS;
+        }
+
+        DispatchTable table = dispatchTable;
+        Subscriber[] eventSubscribers = table.get(eventClass);
+        if (eventSubscribers != null) {
+            return eventSubscribers;
+        }
+
+        eventSubscribers = Arrays.stream(currentSubscribers)
+                                 .filter(subscriber -> subscriber.method.eventType().isAssignableFrom(eventClass))
+                                 .toArray(Subscriber[]::new);
+        synchronized (this) {
+            // The table is only extended if no listener was registered or unregistered in the meantime
+            if ((subscribers == currentSubscribers) && (dispatchTable.get(eventClass) == null)) {
+                dispatchTable = dispatchTable.with(eventClass, eventSubscribers);
+            }
+        }
+        return eventSubscribers;
+    }
+
+    private static List<SubscriberMethod> findSubscriberMethods(Class<?> listenerClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        collectTypes(listenerClass, types);
+
+        List<SubscriberMethod> methods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> type : types) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.getParameterCount() != 1) {
+                    throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has " + method.getParameterCount() + " parameters. Subscriber methods must have exactly 1 parameter.");
+                }
+                // An overridden method is only called once
+                if (signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    methods.add(createSubscriberMethod(method));
+                }
+            }
+        }
+        return List.copyOf(methods);
+    }
+
+    private static void collectTypes(Class<?> type, Set<Class<?>> types) {
+        if ((type == null) || !types.add(type)) {
+            return;
+        }
+        collectTypes(type.getSuperclass(), types);
+        for (Class<?> implementedInterface : type.getInterfaces()) {
+            collectTypes(implementedInterface, types);
+        }
+    }
+
+    private static SubscriberMethod createSubscriberMethod(Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asType(SUBSCRIBER_TYPE);
+            return new SubscriberMethod(
+                    method,
+                    handle,
+                    method.getParameterTypes()[0],
+                    method.isAnnotationPresent(AllowConcurrentEvents.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access subscriber method " + method, e);
+        }
+    }
+}
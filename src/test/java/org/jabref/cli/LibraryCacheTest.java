@@ -0,0 +1,80 @@
+package org.jabref.cli;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class LibraryCacheTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private LibraryCache libraryCache;
+    private Path library;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        libraryCache = new LibraryCache(
+                mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                mock(FilePreferences.class),
+                new DummyFileUpdateMonitor());
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Article{first,}\n");
+    }
+
+    @AfterEach
+    void tearDown() {
+        libraryCache.close();
+    }
+
+    @Test
+    void loadReturnsCachedLibraryOfUnchangedFile() throws Exception {
+        ParserResult first = libraryCache.load(library);
+
+        assertSame(first, libraryCache.load(tempDir.resolve("subdir").resolve("..").resolve("library.bib")));
+    }
+
+    @Test
+    void loadParsesChangedFileAgain() throws Exception {
+        ParserResult first = libraryCache.load(library);
+
+        Files.writeString(library, "@Article{first,}\n@Article{second,}\n");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.now().plusSeconds(10)));
+        ParserResult second = libraryCache.load(library);
+
+        assertNotSame(first, second);
+        assertEquals(2, second.getDatabase().getEntryCount());
+    }
+
+    @Test
+    void leastRecentlyUsedLibraryIsDroppedBeyondMaximum() throws Exception {
+        Path otherLibrary = Files.writeString(tempDir.resolve("other.bib"), "@Article{other,}\n");
+        try (LibraryCache smallCache = new LibraryCache(
+                mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                mock(FilePreferences.class),
+                new DummyFileUpdateMonitor(),
+                1)) {
+            ParserResult first = smallCache.load(library);
+            smallCache.load(otherLibrary);
+
+            assertNotSame(first, smallCache.load(library));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.jabref.gui.entryeditor.citationrelationtab;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibEntryRelationsCacheTest {
+
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.TITLE, "Cited paper")
+            .withField(StandardField.DOI, "10.1234/cited");
+    private final BibEntry citingEntry = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.TITLE, "Citing paper")
+            .withField(StandardField.DOI, "10.1234/CITING");
+
+    @Test
+    void relationsOlderThanTimeToLiveAreNotCachedButStillReturned() {
+        MutableClock clock = new MutableClock();
+        BibEntryRelationsCache cache = new BibEntryRelationsCache(Duration.ofDays(7), clock);
+        cache.cacheOrMergeReferences(entry, List.of(citingEntry));
+        assertTrue(cache.referencesCached(entry));
+
+        clock.advance(Duration.ofDays(8));
+
+        assertFalse(cache.referencesCached(entry));
+        assertEquals(List.of(citingEntry), cache.getReferences(entry));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
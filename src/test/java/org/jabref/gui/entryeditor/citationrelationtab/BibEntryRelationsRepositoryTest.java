@@ -1,7 +1,11 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.CitationFetcher;
 import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.SemanticScholarFetcher;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -58,4 +62,83 @@ class BibEntryRelationsRepositoryTest {
             assertEquals(getCitedBy(entry), citations);
         }
     }
+
+    @Test
+    void concurrentRequestsForSameEntryFetchOnce() throws Exception {
+        BibEntry entry = createBibEntry(1);
+        StubFetcher fetcher = new StubFetcher(getCitedBy(entry));
+        BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(fetcher, new BibEntryRelationsCache());
+
+        CompletableFuture<List<BibEntry>> first = CompletableFuture.supplyAsync(() -> bibEntryRelationsRepository.getCitations(entry));
+        fetcher.fetchStarted.await();
+        CompletableFuture<List<BibEntry>> second = CompletableFuture.supplyAsync(() -> bibEntryRelationsRepository.getCitations(entry));
+        fetcher.releaseFetch.countDown();
+
+        assertEquals(getCitedBy(entry), first.get());
+        assertEquals(getCitedBy(entry), second.get());
+        assertEquals(1, fetcher.fetchCount.get());
+    }
+
+    @Test
+    void concurrentRequestsForSameDoiInOtherCaseFetchOnce() throws Exception {
+        BibEntry entry = createBibEntry(1).withField(StandardField.DOI, "10.1234/ABC");
+        BibEntry sameEntry = createBibEntry(1).withField(StandardField.DOI, "10.1234/abc");
+        StubFetcher fetcher = new StubFetcher(getCitedBy(entry));
+        BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(fetcher, new BibEntryRelationsCache());
+
+        CompletableFuture<List<BibEntry>> first = CompletableFuture.supplyAsync(() -> bibEntryRelationsRepository.getCitations(entry));
+        fetcher.fetchStarted.await();
+        CompletableFuture<List<BibEntry>> second = CompletableFuture.supplyAsync(() -> bibEntryRelationsRepository.getCitations(sameEntry));
+        fetcher.releaseFetch.countDown();
+
+        assertEquals(getCitedBy(entry), first.get());
+        assertEquals(getCitedBy(entry), second.get());
+        assertEquals(1, fetcher.fetchCount.get());
+    }
+
+    @Test
+    void cachedRelationsAreNotFetchedAgain() {
+        BibEntry entry = createBibEntry(1);
+        StubFetcher fetcher = new StubFetcher(getCitedBy(entry));
+        fetcher.releaseFetch.countDown();
+        BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(fetcher, new BibEntryRelationsCache());
+
+        bibEntryRelationsRepository.getCitations(entry);
+        bibEntryRelationsRepository.getCitations(entry);
+
+        assertEquals(1, fetcher.fetchCount.get());
+    }
+
+    private static class StubFetcher implements CitationFetcher {
+        private final List<BibEntry> citations;
+        private final AtomicInteger fetchCount = new AtomicInteger();
+        private final CountDownLatch fetchStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseFetch = new CountDownLatch(1);
+
+        StubFetcher(List<BibEntry> citations) {
+            this.citations = citations;
+        }
+
+        @Override
+        public List<BibEntry> searchCitedBy(BibEntry entry) {
+            fetchCount.incrementAndGet();
+            fetchStarted.countDown();
+            try {
+                releaseFetch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return citations;
+        }
+
+        @Override
+        public List<BibEntry> searchCiting(BibEntry entry) {
+            return List.of();
+        }
+
+        @Override
+        public String getName() {
+            return "Stub";
+        }
+    }
 }
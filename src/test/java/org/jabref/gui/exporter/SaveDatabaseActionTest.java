@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javafx.beans.property.SimpleBooleanProperty;
@@ -38,9 +39,11 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -153,6 +156,32 @@ class SaveDatabaseActionTest {
                 Collections.emptyList());
     }
 
+    @Test
+    void changeWhileWritingKeepsLibraryChanged() throws Exception {
+        BibEntry entry = new BibEntry().withField(StandardField.AUTHOR, "first");
+        entry.setChanged(true);
+        BibDatabase database = new BibDatabase(List.of(entry));
+        saveDatabaseAction = createSaveDatabaseActionForBibDatabase(database);
+
+        // The change count is read right after the snapshot has been taken, the entry is thus edited before it is written
+        AtomicLong changeCount = new AtomicLong();
+        when(libraryTab.getChangeCount()).thenAnswer(invocation -> {
+            if (changeCount.get() == 0) {
+                entry.setField(StandardField.AUTHOR, "edited while writing");
+                return changeCount.getAndIncrement();
+            }
+            return changeCount.get();
+        });
+        CountingUndoManager undoManager = libraryTab.getUndoManager();
+
+        assertTrue(saveDatabaseAction.save());
+
+        assertTrue(Files.readString(file).contains("first"));
+        assertFalse(Files.readString(file).contains("edited while writing"));
+        verify(undoManager, never()).markUnchanged();
+        verify(libraryTab, never()).resetChangedProperties();
+    }
+
     @Test
     void saveShouldNotSaveDatabaseIfPathNotSet() {
         when(dbContext.getDatabasePath()).thenReturn(Optional.empty());
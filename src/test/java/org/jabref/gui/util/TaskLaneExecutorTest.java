@@ -0,0 +1,65 @@
+package org.jabref.gui.util;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.util.TaskLane;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskLaneExecutorTest {
+
+    private final TaskLaneExecutor laneExecutor = new TaskLaneExecutor(TaskLane.BULK, Executors.newSingleThreadExecutor());
+
+    @AfterEach
+    void shutdown() {
+        laneExecutor.shutdownNow();
+    }
+
+    @Test
+    void tasksWaitingForBusyThreadAreReportedAsQueued() throws Exception {
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        CountDownLatch allDone = new CountDownLatch(3);
+        laneExecutor.execute(() -> {
+            blockerStarted.countDown();
+            try {
+                releaseBlocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            allDone.countDown();
+        });
+        laneExecutor.execute(allDone::countDown);
+        laneExecutor.execute(allDone::countDown);
+        assertTrue(blockerStarted.await(10, TimeUnit.SECONDS));
+
+        UiTaskExecutor.LaneStatistics whileBlocked = laneExecutor.getStatistics();
+        assertEquals(TaskLane.BULK, whileBlocked.lane());
+        assertEquals(2, whileBlocked.queuedTasks());
+        assertEquals(1, whileBlocked.startedTasks());
+
+        Thread.sleep(20);
+        releaseBlocker.countDown();
+        assertTrue(allDone.await(10, TimeUnit.SECONDS));
+
+        UiTaskExecutor.LaneStatistics afterwards = laneExecutor.getStatistics();
+        assertEquals(0, afterwards.queuedTasks());
+        assertEquals(3, afterwards.startedTasks());
+        assertTrue(afterwards.maximumWait().compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Test
+    void idleLaneReportsNoWait() {
+        UiTaskExecutor.LaneStatistics statistics = laneExecutor.getStatistics();
+
+        assertEquals(0, statistics.startedTasks());
+        assertEquals(Duration.ZERO, statistics.averageWait());
+    }
+}
@@ -0,0 +1,62 @@
+package org.jabref.logic.citationstyle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSLAdapterPoolTest {
+
+    private final CSLAdapterPool pool = new CSLAdapterPool(2);
+    private final String style = CitationStyle.getDefault().getSource().orElseThrow();
+
+    @Test
+    void adapterIsReusedAfterLeaseIsClosed() throws Exception {
+        CSLAdapter adapter;
+        try (CSLAdapterPool.Lease lease = pool.borrow(style)) {
+            adapter = lease.adapter();
+        }
+
+        try (CSLAdapterPool.Lease lease = pool.borrow(style)) {
+            assertSame(adapter, lease.adapter());
+        }
+    }
+
+    @Test
+    void simultaneousLeasesGetDifferentAdapters() throws Exception {
+        try (CSLAdapterPool.Lease first = pool.borrow(style);
+             CSLAdapterPool.Lease second = pool.borrow(style)) {
+            assertNotSame(first.adapter(), second.adapter());
+        }
+    }
+
+    @Test
+    void numericStyleIsNotRenderableInChunks() {
+        assertFalse(CSLAdapterPool.isRenderableInChunks(style));
+    }
+
+    @Test
+    void unsortedStyleIsRenderableInChunks() {
+        assertTrue(CSLAdapterPool.isRenderableInChunks("""
+                <style xmlns="http://purl.org/net/xbiblio/csl" class="in-text" version="1.0">
+                  <citation><layout><text variable="title"/></layout></citation>
+                  <bibliography><layout><text variable="title"/></layout></bibliography>
+                </style>
+                """));
+    }
+
+    @Test
+    void sortedStyleIsNotRenderableInChunks() {
+        assertFalse(CSLAdapterPool.isRenderableInChunks("""
+                <style xmlns="http://purl.org/net/xbiblio/csl" class="in-text" version="1.0">
+                  <citation><layout><text variable="title"/></layout></citation>
+                  <bibliography>
+                    <sort><key variable="title"/></sort>
+                    <layout><text variable="title"/></layout>
+                  </bibliography>
+                </style>
+                """));
+    }
+}
@@ -0,0 +1,93 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CitationStyleCatalogTest {
+
+    private static final String INDEPENDENT_STYLE = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <style xmlns="http://purl.org/net/xbiblio/csl" class="in-text" version="1.0">
+              <info>
+                <title>Nature</title>
+                <id>http://www.zotero.org/styles/nature</id>
+                <link href="http://www.zotero.org/styles/nature" rel="self"/>
+                <category citation-format="numeric"/>
+              </info>
+              <citation><layout><text variable="citation-number"/></layout></citation>
+              <bibliography><layout><text variable="title"/></layout></bibliography>
+            </style>
+            """;
+
+    private static final String DEPENDENT_STYLE = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <style xmlns="http://purl.org/net/xbiblio/csl" version="1.0" default-locale="en-GB">
+              <info>
+                <title>Nature Physics</title>
+                <id>http://www.zotero.org/styles/nature-physics</id>
+                <link href="http://www.zotero.org/styles/nature-physics" rel="self"/>
+                <link href="http://www.zotero.org/styles/nature" rel="independent-parent"/>
+                <category citation-format="numeric"/>
+              </info>
+            </style>
+            """;
+
+    @Test
+    void parseIndependentStyle() {
+        assertEquals(Optional.of(new CitationStyleCatalog.Entry("nature.csl", "Nature", true, Optional.empty())),
+                CitationStyleCatalog.parseEntry("nature.csl", INDEPENDENT_STYLE));
+    }
+
+    @Test
+    void parseDependentStyleLinksToParent() {
+        Optional<CitationStyleCatalog.Entry> entry = CitationStyleCatalog.parseEntry("dependent/nature-physics.csl", DEPENDENT_STYLE);
+
+        assertEquals(Optional.of(new CitationStyleCatalog.Entry("dependent/nature-physics.csl", "Nature Physics", true, Optional.of("nature.csl"))), entry);
+        assertEquals("nature.csl", entry.get().sourceFilePath());
+    }
+
+    @Test
+    void styleWithoutBibliographyAndParentIsNotUsable() {
+        String citationOnlyStyle = INDEPENDENT_STYLE.replace("<bibliography><layout><text variable=\"title\"/></layout></bibliography>", "");
+
+        assertEquals(Optional.empty(), CitationStyleCatalog.parseEntry("citation-only.csl", citationOnlyStyle));
+    }
+
+    @Test
+    void writtenCatalogIsReadBack() throws Exception {
+        List<CitationStyleCatalog.Entry> entries = List.of(
+                new CitationStyleCatalog.Entry("nature.csl", "Nature", true, Optional.empty()),
+                new CitationStyleCatalog.Entry("apa.csl", "American Psychological Association 7th edition", false, Optional.empty()),
+                new CitationStyleCatalog.Entry("dependent/nature-physics.csl", "Nature Physics", true, Optional.of("nature.csl")));
+        StringWriter writer = new StringWriter();
+
+        new CitationStyleCatalog(entries).write(writer);
+        CitationStyleCatalog catalog = CitationStyleCatalog.read(new StringReader(writer.toString()));
+
+        assertEquals(entries, catalog.getEntries());
+    }
+
+    @Test
+    void entryIsFoundWithLeadingSlash() {
+        CitationStyleCatalog.Entry entry = new CitationStyleCatalog.Entry("ieee.csl", "IEEE", true, Optional.empty());
+        CitationStyleCatalog catalog = new CitationStyleCatalog(List.of(entry));
+
+        assertEquals(Optional.of(entry), catalog.getEntry(CitationStyle.DEFAULT));
+    }
+
+    @Test
+    void whitespaceInTitleDoesNotBreakTheCatalog() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        new CitationStyleCatalog(List.of(new CitationStyleCatalog.Entry("odd.csl", "Odd\ttitle\n", false, Optional.empty()))).write(writer);
+
+        assertEquals(List.of(new CitationStyleCatalog.Entry("odd.csl", "Odd title", false, Optional.empty())),
+                CitationStyleCatalog.read(new StringReader(writer.toString())).getEntries());
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
@@ -25,6 +26,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class CitationStyleGeneratorTest {
 
+    // Renders each entry independently of the others
+    private static final String TITLE_ONLY_STYLE = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <style xmlns="http://purl.org/net/xbiblio/csl" class="in-text" version="1.0">
+              <info>
+                <title>Title only</title>
+                <id>title-only</id>
+                <updated>2024-01-01T00:00:00+00:00</updated>
+              </info>
+              <citation>
+                <layout><text variable="title"/></layout>
+              </citation>
+              <bibliography>
+                <layout><text variable="title"/></layout>
+              </bibliography>
+            </style>
+            """;
+
     private final BibEntry testEntry = TestEntry.getTestEntry();
     private final BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(testEntry)));
     private final BibEntryTypesManager bibEntryTypesManager = new BibEntryTypesManager();
@@ -34,7 +53,7 @@ class CitationStyleGeneratorTest {
     void aCMCitation() {
         context.setMode(BibDatabaseMode.BIBLATEX);
         CitationStyle style = styleList.stream().filter(e -> "ACM SIGGRAPH".equals(e.getTitle())).findAny().get();
-        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager).getFirst();
+        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource().orElseThrow(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager).getFirst();
 
         // if the acm-siggraph.csl citation style changes this has to be modified
         String expected = "  <div class=\"csl-entry\">"
@@ -49,7 +68,7 @@ class CitationStyleGeneratorTest {
     void aPACitation() {
         context.setMode(BibDatabaseMode.BIBLATEX);
         CitationStyle style = styleList.stream().filter(e -> "American Psychological Association 7th edition".equals(e.getTitle())).findAny().get();
-        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager).getFirst();
+        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource().orElseThrow(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager).getFirst();
 
         // if the apa-7th-citation.csl citation style changes this has to be modified
         String expected = "  <div class=\"csl-entry\">"
@@ -69,7 +88,7 @@ class CitationStyleGeneratorTest {
     void din1502AlphanumericInTextCitation() throws IOException {
         context.setMode(BibDatabaseMode.BIBLATEX);
         CitationStyle style = styleList.stream().filter(e -> "DIN 1505-2 (alphanumeric, Deutsch) - standard superseded by ISO-690".equals(e.getTitle())).findAny().get();
-        Citation citation = CitationStyleGenerator.generateCitation(List.of(testEntry), style.getSource(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager);
+        Citation citation = CitationStyleGenerator.generateCitation(List.of(testEntry), style.getSource().orElseThrow(), CitationStyleOutputFormat.HTML, context, bibEntryTypesManager);
         String inTextCitationText = citation.getText();
 
         assertEquals("[Smit2016]", inTextCitationText);
@@ -114,7 +133,7 @@ class CitationStyleGeneratorTest {
                 "    <div class=\"csl-left-margin\">[1]</div><div class=\"csl-right-inline\">B. Smith, B. Jones, and J. Williams, &ldquo;Title of the test entry,&rdquo; <span style=\"font-style: italic\">BibTeX Journal</span>, vol. 34, no. 3, pp. 45&ndash;67, Jul. 2016, doi: 10.1001/bla.blubb.</div>\n" +
                 "  </div>\n";
 
-        String style = CitationStyle.getDefault().getSource();
+        String style = CitationStyle.getDefault().getSource().orElseThrow();
         CitationStyleOutputFormat format = CitationStyleOutputFormat.HTML;
 
         String actualCitation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style, format, context, bibEntryTypesManager).getFirst();
@@ -125,7 +144,7 @@ class CitationStyleGeneratorTest {
     void textFormat() {
         String expectedCitation = "[1]B. Smith, B. Jones, and J. Williams, “Title of the test entry,” BibTeX Journal, vol. 34, no. 3, pp. 45–67, Jul. 2016, doi: 10.1001/bla.blubb.\n";
 
-        String style = CitationStyle.getDefault().getSource();
+        String style = CitationStyle.getDefault().getSource().orElseThrow();
         CitationStyleOutputFormat format = CitationStyleOutputFormat.TEXT;
 
         String actualCitation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style, format, context, bibEntryTypesManager).getFirst();
@@ -150,13 +169,40 @@ class CitationStyleGeneratorTest {
     void handleAmpersand() {
         String expectedCitation = "[1]B. Smith, B. Jones, and J. Williams, “Famous quote: “&TitleTest&” - that is it,” BibTeX Journal, vol. 34, no. 3, pp. 45–67, Jul. 2016, doi: 10.1001/bla.blubb.\n";
         testEntry.setField(StandardField.TITLE, "Famous quote: “&TitleTest&” - that is it");
-        String style = CitationStyle.getDefault().getSource();
+        String style = CitationStyle.getDefault().getSource().orElseThrow();
         CitationStyleOutputFormat format = CitationStyleOutputFormat.TEXT;
 
         String actualCitation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style, format, context, bibEntryTypesManager).getFirst();
         assertEquals(expectedCitation, actualCitation);
     }
 
+    @Test
+    void largeBibliographyIsRenderedInEntryOrder() {
+        List<BibEntry> entries = IntStream.range(0, 250)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withCitationKey("key%03d".formatted(i))
+                                                  .withField(StandardField.TITLE, "Title %03d".formatted(i)))
+                                          .toList();
+
+        List<String> bibliography = CitationStyleGenerator.generateBibliographies(entries, TITLE_ONLY_STYLE, CitationStyleOutputFormat.TEXT, context, bibEntryTypesManager);
+
+        List<String> expected = IntStream.range(0, 250).mapToObj("Title %03d"::formatted).toList();
+        assertEquals(expected, bibliography.stream().map(String::strip).toList());
+    }
+
+    @Test
+    void changedEntryIsRenderedAgain() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.TITLE, "Old title");
+        CitationStyleGenerator.generateBibliographies(List.of(entry), TITLE_ONLY_STYLE, CitationStyleOutputFormat.TEXT, context, bibEntryTypesManager);
+
+        entry.setField(StandardField.TITLE, "New title");
+        List<String> bibliography = CitationStyleGenerator.generateBibliographies(List.of(entry), TITLE_ONLY_STYLE, CitationStyleOutputFormat.TEXT, context, bibEntryTypesManager);
+
+        assertEquals(List.of("New title"), bibliography.stream().map(String::strip).toList());
+    }
+
     @Test
     void handleCrossRefFields() {
         BibEntry firstEntry = new BibEntry(StandardEntryType.InCollection)
@@ -176,7 +222,7 @@ class CitationStyleGeneratorTest {
 
         String expectedCitation = "[1]B. Smith, “An article,” J. Jones, Ed., Somewhere: Great Publisher, 2021, pp. 1–10.\n";
         BibDatabaseContext bibDatabaseContext = new BibDatabaseContext(new BibDatabase(List.of(firstEntry, secondEntry)));
-        String style = CitationStyle.getDefault().getSource();
+        String style = CitationStyle.getDefault().getSource().orElseThrow();
 
         String actualCitation = CitationStyleGenerator.generateBibliography(List.of(firstEntry), style, CitationStyleOutputFormat.TEXT, bibDatabaseContext, bibEntryTypesManager).getFirst();
         assertEquals(expectedCitation, actualCitation);
@@ -593,7 +639,7 @@ class CitationStyleGeneratorTest {
 
         String citation = CitationStyleGenerator.generateBibliography(
                 List.of(entry),
-                CitationStyle.createCitationStyleFromFile(cslFileName).orElseThrow().getSource(),
+                CitationStyle.createCitationStyleFromFile(cslFileName).orElseThrow().getSource().orElseThrow(),
                 CitationStyleOutputFormat.TEXT,
                 context,
                 bibEntryTypesManager).getFirst();
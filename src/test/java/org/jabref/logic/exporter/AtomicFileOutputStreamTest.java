@@ -37,6 +37,19 @@ class AtomicFileOutputStreamTest {
         assertEquals(FIVE_THOUSAND_CHARS, Files.readString(out));
     }
 
+    @Test
+    void saveLargerThanBufferWorks(@TempDir Path tempDir) throws Exception {
+        Path out = tempDir.resolve("large-save.txt");
+        String content = Strings.repeat(FIVE_THOUSAND_CHARS + "\n", 500);
+
+        try (AtomicFileOutputStream atomicFileOutputStream = new AtomicFileOutputStream(out)) {
+            atomicFileOutputStream.write('B');
+            atomicFileOutputStream.write(content.getBytes());
+        }
+
+        assertEquals("B" + content, Files.readString(out));
+    }
+
     @Test
     void originalContentExistsAtWriteError(@TempDir Path tempDir) throws Exception {
         Path pathToTestFile = tempDir.resolve("error-during-save.txt");
@@ -194,6 +194,36 @@ class BibtexDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void changesAfterPreparingAreNotWritten() throws Exception {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.TITLE, "Before");
+        database.insertEntry(entry);
+
+        LibrarySnapshot library = databaseWriter.prepare(bibtexContext);
+        entry.setField(StandardField.TITLE, "After");
+        database.setPreamble("Test preamble");
+        databaseWriter.write(library);
+
+        assertEquals("@Article{," + OS.NEWLINE
+                        + "  title = {Before}," + OS.NEWLINE
+                        + "}" + OS.NEWLINE,
+                stringWriter.toString());
+    }
+
+    @Test
+    void roundtripOfSnapshotWithArticleMonths() throws Exception {
+        Path testBibtexFile = Path.of("src/test/resources/testbib/articleWithMonths.bib");
+        ParserResult result = new BibtexParser(importFormatPreferences).parse(Importer.getReader(testBibtexFile));
+        BibDatabaseContext context = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+
+        bibWriter = new BibWriter(stringWriter, "\n");
+        initializeDatabaseWriter();
+        databaseWriter.write(databaseWriter.prepare(context));
+
+        assertEquals(Files.readString(testBibtexFile, StandardCharsets.UTF_8), stringWriter.toString());
+    }
+
     @Test
     void writeEncodingAndEntry() throws Exception {
         BibEntry entry = new BibEntry();
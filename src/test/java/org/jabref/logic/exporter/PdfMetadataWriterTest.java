@@ -0,0 +1,130 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.PdfEmbeddedBibFileImporter;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilReader;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PdfMetadataWriterTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Smith2000")
+            .withField(StandardField.AUTHOR, "Smith, John")
+            .withField(StandardField.TITLE, "A Title")
+            .withField(StandardField.YEAR, "2000");
+
+    private XmpPreferences xmpPreferences;
+    private PdfMetadataWriter metadataWriter;
+    private PdfEmbeddedBibFileImporter embeddedBibFileImporter;
+    private BibDatabaseContext databaseContext;
+
+    @BeforeEach
+    void setUp() {
+        xmpPreferences = mock(XmpPreferences.class);
+        when(xmpPreferences.getKeywordSeparator()).thenReturn(',');
+        when(xmpPreferences.shouldUseXmpPrivacyFilter()).thenReturn(false);
+
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(StandardField.MONTH), Collections.emptyList());
+        metadataWriter = new PdfMetadataWriter(xmpPreferences, BibDatabaseMode.BIBTEX, new BibEntryTypesManager(), fieldPreferences, true, true);
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences().getNonWrappableFields()).thenReturn(FXCollections.emptyObservableList());
+        embeddedBibFileImporter = new PdfEmbeddedBibFileImporter(importFormatPreferences);
+
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntry(entry);
+    }
+
+    private Path createPdf(String fileName) throws Exception {
+        Path file = tempDir.resolve(fileName);
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage());
+            document.save(file.toFile());
+        }
+        return file;
+    }
+
+    @Test
+    void writesXmpAndEmbeddedBibFile() throws Exception {
+        Path file = createPdf("paper.pdf");
+
+        assertEquals(PdfMetadataWriter.Result.WRITTEN, metadataWriter.write(file, List.of(entry), databaseContext));
+
+        List<BibEntry> xmpEntries = new XmpUtilReader().readXmp(file, xmpPreferences);
+        assertEquals(List.of("Smith2000"), xmpEntries.stream().map(read -> read.getCitationKey().orElse("")).toList());
+        List<BibEntry> embeddedEntries = embeddedBibFileImporter.importDatabase(file).getDatabase().getEntries();
+        assertEquals(List.of("Smith2000"), embeddedEntries.stream().map(read -> read.getCitationKey().orElse("")).toList());
+    }
+
+    @Test
+    void skipsFileWithCurrentMetadata() throws Exception {
+        Path file = createPdf("paper.pdf");
+        metadataWriter.write(file, List.of(entry), databaseContext);
+        long sizeAfterFirstWrite = Files.size(file);
+
+        assertEquals(PdfMetadataWriter.Result.UP_TO_DATE, metadataWriter.write(file, List.of(entry), databaseContext));
+        assertEquals(sizeAfterFirstWrite, Files.size(file));
+    }
+
+    @Test
+    void writesAgainAfterEntryChanged() throws Exception {
+        Path file = createPdf("paper.pdf");
+        metadataWriter.write(file, List.of(entry), databaseContext);
+
+        entry.setField(StandardField.YEAR, "2001");
+
+        assertEquals(PdfMetadataWriter.Result.WRITTEN, metadataWriter.write(file, List.of(entry), databaseContext));
+    }
+
+    @Test
+    void writeAllReportsWrittenUpToDateAndFailedFiles() throws Exception {
+        Path upToDate = createPdf("upToDate.pdf");
+        metadataWriter.write(upToDate, List.of(entry), databaseContext);
+        Path fresh = createPdf("fresh.pdf");
+        Path broken = tempDir.resolve("broken.pdf");
+        Files.writeString(broken, "no pdf");
+
+        PdfMetadataWriter.Summary summary = metadataWriter.writeAll(
+                Map.of(upToDate, List.of(entry), fresh, List.of(entry), broken, List.of(entry)),
+                databaseContext,
+                2,
+                processed -> {
+                },
+                () -> false);
+
+        assertEquals(1, summary.written());
+        assertEquals(1, summary.upToDate());
+        assertEquals(Set.of(broken), summary.failed().keySet());
+        assertEquals("no pdf", Files.readString(broken));
+    }
+}
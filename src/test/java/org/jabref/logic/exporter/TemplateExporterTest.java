@@ -0,0 +1,76 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path layoutFile;
+    private TemplateExporter exporter;
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private final JournalAbbreviationRepository abbreviationRepository = mock(JournalAbbreviationRepository.class);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        layoutFile = tempDir.resolve("numbered.layout");
+        Files.writeString(layoutFile, "\\format[Number]{\\citationkey} \\citationkey\n");
+        exporter = new TemplateExporter("Numbered",
+                "numbered",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        exporter.setCustomExport(true);
+    }
+
+    @Test
+    void manyEntriesAreWrittenInOrderWithTheirNumber() throws Exception {
+        List<BibEntry> entries = IntStream.range(0, 2000)
+                                          .mapToObj(i -> new BibEntry().withCitationKey("key%04d".formatted(i)))
+                                          .toList();
+        Path outputFile = tempDir.resolve("output.txt");
+
+        exporter.export(databaseContext, outputFile, entries, List.of(), abbreviationRepository);
+
+        List<String> expected = IntStream.range(0, 2000)
+                                         .mapToObj(i -> "%d key%04d".formatted(i + 1, i))
+                                         .toList();
+        assertEquals(expected, Files.readAllLines(outputFile));
+    }
+
+    @Test
+    void changedLayoutFileIsCompiledAgain() throws Exception {
+        List<BibEntry> entries = List.of(new BibEntry().withCitationKey("key"));
+        Path outputFile = tempDir.resolve("output.txt");
+        exporter.export(databaseContext, outputFile, entries, List.of(), abbreviationRepository);
+
+        Files.writeString(layoutFile, "changed \\citationkey\n");
+        Files.setLastModifiedTime(layoutFile, FileTime.fromMillis(Files.getLastModifiedTime(layoutFile).toMillis() + 1000));
+        exporter.export(databaseContext, outputFile, entries, List.of(), abbreviationRepository);
+
+        assertEquals(List.of("changed key"), Files.readAllLines(outputFile));
+    }
+}
@@ -4,14 +4,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
@@ -58,6 +64,28 @@ class ImportFormatReaderIntegrationTest {
         assertEquals(count, reader.importUnknownFormat(data).parserResult().getDatabase().getEntries().size());
     }
 
+    @Test
+    void importUnknownFormatOfFileLongerThanItsSniffedBeginning(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("large.ris");
+        Files.writeString(file, "TY  - JOUR\nTI  - A title of an article about something\nER  - \n\n".repeat(25_000));
+
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(file, new DummyFileUpdateMonitor());
+
+        assertEquals("RIS", unknownFormat.format());
+        assertEquals(25_000, unknownFormat.parserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void importUnknownFormatOfPdfWithXmpMetadata() throws Exception {
+        Path file = Path.of(ImportFormatReaderIntegrationTest.class.getResource("fileformat/annotated.pdf").toURI());
+
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(file, new DummyFileUpdateMonitor());
+
+        List<BibEntry> entries = unknownFormat.parserResult().getDatabase().getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(Optional.of("The best Pdf ever"), entries.getFirst().getField(StandardField.TITLE));
+    }
+
     private static Stream<Object[]> importFormats() {
         Collection<Object[]> result = new ArrayList<>();
         result.add(new Object[]{"fileformat/RisImporterTest1.ris", "ris", 1});
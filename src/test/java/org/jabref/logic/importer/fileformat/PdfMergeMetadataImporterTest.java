@@ -3,10 +3,14 @@ package org.jabref.logic.importer.fileformat;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.collections.FXCollections;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.GrobidPreferences;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
@@ -28,6 +32,7 @@ import static org.mockito.Mockito.when;
 @FetcherTest
 class PdfMergeMetadataImporterTest {
 
+    private ImportFormatPreferences importFormatPreferences;
     private PdfMergeMetadataImporter importer;
 
     @BeforeEach
@@ -36,7 +41,7 @@ class PdfMergeMetadataImporterTest {
         when(grobidPreferences.isGrobidEnabled()).thenReturn(true);
         when(grobidPreferences.getGrobidURL()).thenReturn("http://grobid.jabref.org:8070");
 
-        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
         when(importFormatPreferences.fieldPreferences().getNonWrappableFields()).thenReturn(FXCollections.emptyObservableList());
         when(importFormatPreferences.grobidPreferences()).thenReturn(grobidPreferences);
 
@@ -50,6 +55,27 @@ class PdfMergeMetadataImporterTest {
         assertEquals(Collections.emptyList(), result);
     }
 
+    @Test
+    void importDatabasesReportsEveryFile() throws Exception {
+        Path file = Path.of(PdfMergeMetadataImporter.class.getResource("/pdfs/encrypted.pdf").toURI());
+        Map<Path, ParserResult> results = new ConcurrentHashMap<>();
+
+        PdfMergeMetadataImporter.importDatabases(List.of(file), importFormatPreferences, 2, results::put, () -> false);
+
+        assertEquals(Set.of(file), results.keySet());
+        assertEquals(Collections.emptyList(), results.get(file).getDatabase().getEntries());
+    }
+
+    @Test
+    void importDatabasesStopsWhenCancelled() throws Exception {
+        Path file = Path.of(PdfMergeMetadataImporter.class.getResource("/pdfs/encrypted.pdf").toURI());
+        Map<Path, ParserResult> results = new ConcurrentHashMap<>();
+
+        PdfMergeMetadataImporter.importDatabases(List.of(file), importFormatPreferences, 2, results::put, () -> true);
+
+        assertEquals(Map.of(), results);
+    }
+
     @Test
     @Disabled("Switch from ottobib to OpenLibraryFetcher changed the results")
     void importWorksAsExpected() throws Exception {
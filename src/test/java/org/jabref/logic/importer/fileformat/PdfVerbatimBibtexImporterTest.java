@@ -57,4 +57,14 @@ class PdfVerbatimBibtexImporterTest {
         assertEquals(Collections.singletonList(expected), result);
         assertEquals(Collections.singletonList(expected), resultSecondImport);
     }
+
+    @Test
+    void importFromLoadedPdfYieldsSameEntriesAsImportFromPath() throws Exception {
+        Path file = Path.of(PdfVerbatimBibtexImporterTest.class.getResource("mixedMetadata.pdf").toURI());
+        List<BibEntry> fromPath = importer.importDatabase(file).getDatabase().getEntries();
+
+        try (LoadedPdf pdf = LoadedPdf.load(file)) {
+            assertEquals(fromPath, importer.importDatabase(pdf).getDatabase().getEntries());
+        }
+    }
 }
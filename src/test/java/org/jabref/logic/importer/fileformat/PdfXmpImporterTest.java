@@ -65,6 +65,12 @@ class PdfXmpImporterTest {
         assertTrue(importer.isRecognizedFormat(file));
     }
 
+    @Test
+    void isRecognizedFormatGivenBeginningOfFile() throws IOException, URISyntaxException {
+        Path file = Path.of(PdfXmpImporterTest.class.getResource("annotated.pdf").toURI());
+        assertTrue(importer.isRecognizedFormat(file, "%PDF-1.4"));
+    }
+
     @ParameterizedTest
     @MethodSource("invalidFileNames")
     void isRecognizedFormatReject(String fileName) throws IOException, URISyntaxException {
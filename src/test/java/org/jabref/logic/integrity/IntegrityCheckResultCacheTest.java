@@ -0,0 +1,69 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IntegrityCheckResultCacheTest {
+
+    private final IntegrityCheckResultCache cache = new IntegrityCheckResultCache();
+    private final AtomicInteger checkedEntries = new AtomicInteger();
+
+    private List<IntegrityMessage> check(BibEntry entry) {
+        checkedEntries.incrementAndGet();
+        return List.of(new IntegrityMessage("message", entry, StandardField.TITLE));
+    }
+
+    @Test
+    void unchangedEntryIsNotCheckedAgain() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "title");
+
+        cache.getMessages(entry, "configuration", this::check);
+        List<IntegrityMessage> messages = cache.getMessages(entry, "configuration", this::check);
+
+        assertEquals(1, checkedEntries.get());
+        assertEquals(List.of(new IntegrityMessage("message", entry, StandardField.TITLE)), messages);
+    }
+
+    @Test
+    void changedEntryIsCheckedAgain() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "title");
+
+        cache.getMessages(entry, "configuration", this::check);
+        entry.setField(StandardField.TITLE, "other title");
+        cache.getMessages(entry, "configuration", this::check);
+
+        assertEquals(2, checkedEntries.get());
+    }
+
+    @Test
+    void messagesOfEqualEntryReferToTheRequestedEntry() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "title")
+                                       .withField(StandardField.YEAR, "2024");
+        BibEntry equalEntry = new BibEntry().withField(StandardField.YEAR, "2024")
+                                            .withField(StandardField.TITLE, "title");
+
+        cache.getMessages(entry, "configuration", this::check);
+        List<IntegrityMessage> messages = cache.getMessages(equalEntry, "configuration", this::check);
+
+        assertEquals(1, checkedEntries.get());
+        assertSame(equalEntry, messages.getFirst().entry());
+    }
+
+    @Test
+    void entryIsCheckedAgainWithOtherConfiguration() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "title");
+
+        cache.getMessages(entry, "configuration", this::check);
+        cache.getMessages(entry, "other configuration", this::check);
+
+        assertEquals(2, checkedEntries.get());
+    }
+}
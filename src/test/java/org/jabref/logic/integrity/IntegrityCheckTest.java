@@ -12,7 +12,9 @@ import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -145,6 +147,32 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void cachedResultsAreNotUsedAfterAbbreviationsChanged() {
+        BibDatabaseContext context = createContext(StandardField.JOURNAL, "Some Unknown Journal");
+        JournalAbbreviationRepository repository = JournalAbbreviationLoader.loadBuiltInRepository();
+        IntegrityCheckResultCache resultCache = new IntegrityCheckResultCache();
+        IntegrityMessage journalNotFound = new IntegrityMessage("journal not found in abbreviation list", context.getEntries().getFirst(), StandardField.JOURNAL);
+
+        assertEquals(List.of(journalNotFound), checkJournal(context, repository, resultCache));
+
+        repository.addCustomAbbreviation(new Abbreviation("Some Unknown Journal", "S. U. J."));
+
+        assertEquals(List.of(), checkJournal(context, repository, resultCache));
+    }
+
+    private List<IntegrityMessage> checkJournal(BibDatabaseContext context, JournalAbbreviationRepository repository, IntegrityCheckResultCache resultCache) {
+        return new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                repository,
+                false,
+                resultCache)
+                .check().stream()
+                .filter(message -> message.field() == StandardField.JOURNAL)
+                .toList();
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
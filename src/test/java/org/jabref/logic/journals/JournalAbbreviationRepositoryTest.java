@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @AllowedToUseSwing("UndoableUnabbreviator and UndoableAbbreviator requires Swing Compound Edit in order test the abbreviation and unabbreviation of journal titles")
@@ -40,6 +41,20 @@ class JournalAbbreviationRepositoryTest {
         assertTrue(repository.getCustomAbbreviations().isEmpty());
     }
 
+    @Test
+    void versionChangesWithCustomAbbreviations() {
+        JournalAbbreviationRepository.Version initialVersion = repository.getVersion();
+        assertNotEquals(JournalAbbreviationLoader.loadBuiltInRepository().getVersion(), initialVersion);
+
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+        JournalAbbreviationRepository.Version changedVersion = repository.getVersion();
+        assertNotEquals(initialVersion, changedVersion);
+
+        // a duplicate does not change the abbreviations
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+        assertEquals(changedVersion, repository.getVersion());
+    }
+
     @Test
     void oneElement() {
         repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
@@ -149,7 +149,7 @@ class CSLFormatUtilsTest {
     @ParameterizedTest
     @MethodSource
     void ooHTMLTransformFromRawBibliography(String expected, CitationStyle style) {
-        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager).getFirst();
+        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource().orElseThrow(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager).getFirst();
         String actual = CSLFormatUtils.transformHTML(citation);
         assertEquals(expected, actual);
     }
@@ -281,7 +281,7 @@ class CSLFormatUtilsTest {
     @ParameterizedTest
     @MethodSource
     void ooHTMLTransformFromCitationWithSingleEntry(String expected, CitationStyle style) throws IOException {
-        Citation citation = CitationStyleGenerator.generateCitation(List.of(testEntry), style.getSource(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager);
+        Citation citation = CitationStyleGenerator.generateCitation(List.of(testEntry), style.getSource().orElseThrow(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager);
         String inTextCitationText = citation.getText();
         String actual = CSLFormatUtils.transformHTML(inTextCitationText);
         OOText ooText = OOText.fromString(actual);
@@ -408,7 +408,7 @@ class CSLFormatUtilsTest {
         List<BibEntry> entries = List.of(entry1, entry2);
         BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(entries));
         context.setMode(BibDatabaseMode.BIBLATEX);
-        Citation citation = CitationStyleGenerator.generateCitation(entries, style.getSource(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager);
+        Citation citation = CitationStyleGenerator.generateCitation(entries, style.getSource().orElseThrow(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager);
         String inTextCitationText = citation.getText();
         String actual = CSLFormatUtils.transformHTML(inTextCitationText);
         assertEquals(expected, actual);
@@ -510,7 +510,7 @@ class CSLFormatUtilsTest {
     @ParameterizedTest
     @MethodSource
     void updateSingleNumericCitation(String expected, CitationStyle style) {
-        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager).getFirst();
+        String citation = CitationStyleGenerator.generateBibliography(List.of(testEntry), style.getSource().orElseThrow(), CSLFormatUtils.OUTPUT_FORMAT, context, bibEntryTypesManager).getFirst();
         String transformedCitation = CSLFormatUtils.transformHTML(citation);
         String actual = CSLFormatUtils.updateSingleBibliographyNumber(transformedCitation, 3);
         assertEquals(expected, actual);
@@ -947,4 +947,41 @@ class JStyleTest {
                             NonUniqueCitationMarker.THROWS).toString());
         }
     }
+
+    @Test
+    void citationMarkerFollowsChangedEntry() throws IOException {
+        JStyle style = new JStyle(StyleLoader.DEFAULT_NUMERICAL_STYLE_PATH, layoutFormatterPreferences, abbreviationRepository);
+        BibEntry entry = new BibEntry()
+                .withCitationKey("Smith2000")
+                .withField(StandardField.AUTHOR, "John Smith")
+                .withField(StandardField.YEAR, "2000");
+        BibDatabase database = new BibDatabase(List.of(entry));
+        List<CitationMarkerEntry> citationMarkerEntries = List.of(makeCitationMarkerEntry(entry, database, null, null, false));
+
+        assertEquals("[Smith, 2000]", style.createCitationMarker(citationMarkerEntries, true, NonUniqueCitationMarker.THROWS).toString());
+
+        entry.setField(StandardField.YEAR, "2001");
+
+        assertEquals("[Smith, 2001]", style.createCitationMarker(citationMarkerEntries, true, NonUniqueCitationMarker.THROWS).toString());
+    }
+
+    @Test
+    void citationMarkerFollowsChangedCrossrefEntry() throws IOException {
+        JStyle style = new JStyle(StyleLoader.DEFAULT_NUMERICAL_STYLE_PATH, layoutFormatterPreferences, abbreviationRepository);
+        BibEntry parent = new BibEntry(StandardEntryType.Proceedings)
+                .withCitationKey("Proceedings2000")
+                .withField(StandardField.YEAR, "2000");
+        BibEntry entry = new BibEntry(StandardEntryType.InProceedings)
+                .withCitationKey("Smith2000")
+                .withField(StandardField.AUTHOR, "John Smith")
+                .withField(StandardField.CROSSREF, "Proceedings2000");
+        BibDatabase database = new BibDatabase(List.of(parent, entry));
+        List<CitationMarkerEntry> citationMarkerEntries = List.of(makeCitationMarkerEntry(entry, database, null, null, false));
+
+        assertEquals("[Smith, 2000]", style.createCitationMarker(citationMarkerEntries, true, NonUniqueCitationMarker.THROWS).toString());
+
+        parent.setField(StandardField.YEAR, "2001");
+
+        assertEquals("[Smith, 2001]", style.createCitationMarker(citationMarkerEntries, true, NonUniqueCitationMarker.THROWS).toString());
+    }
 }
@@ -0,0 +1,72 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingAnnotationImporterTest {
+
+    private final FileAnnotation annotation = new FileAnnotation("Alice", LocalDateTime.of(2024, 1, 1, 12, 0), 1, "Important", FileAnnotationType.TEXT, Optional.empty());
+
+    @TempDir
+    Path tempDir;
+
+    private AnnotationImporter pdfImporter;
+    private Path pdfFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pdfImporter = mock(AnnotationImporter.class);
+        when(pdfImporter.importAnnotationsOrFail(any())).thenReturn(List.of(annotation));
+        pdfFile = Files.createFile(tempDir.resolve("paper.pdf"));
+    }
+
+    @Test
+    void unchangedFileIsImportedOnlyOnce() throws IOException {
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(pdfImporter);
+
+        importer.importAnnotations(pdfFile);
+
+        assertEquals(List.of(annotation), importer.importAnnotations(pdfFile));
+        verify(pdfImporter, times(1)).importAnnotationsOrFail(pdfFile);
+    }
+
+    @Test
+    void changedFileIsImportedAgain() throws IOException {
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(pdfImporter);
+
+        importer.importAnnotations(pdfFile);
+        Files.setLastModifiedTime(pdfFile, FileTime.fromMillis(Files.getLastModifiedTime(pdfFile).toMillis() + 1000));
+        importer.importAnnotations(pdfFile);
+
+        verify(pdfImporter, times(2)).importAnnotationsOrFail(pdfFile);
+    }
+
+    @Test
+    void failedImportIsNotCached() throws IOException {
+        when(pdfImporter.importAnnotationsOrFail(any())).thenThrow(new IOException("truncated")).thenReturn(List.of(annotation));
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(pdfImporter);
+
+        assertEquals(List.of(), importer.importAnnotations(pdfFile));
+        assertEquals(List.of(annotation), importer.importAnnotations(pdfFile));
+        verify(pdfImporter, times(2)).importAnnotationsOrFail(pdfFile);
+    }
+}
@@ -0,0 +1,96 @@
+package org.jabref.logic.search;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.property.BooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchQuery;
+import org.jabref.model.search.SearchResults;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class CrossLibrarySearcherTest {
+
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private final CrossLibrarySearcher crossLibrarySearcher = new CrossLibrarySearcher();
+    private final Map<BibDatabaseContext, LuceneManager> libraries = new LinkedHashMap<>();
+
+    private final BibEntry firstHarrer = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Harrer");
+    private final BibEntry firstTonho = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Tonho");
+    private final BibEntry secondHarrer = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "Harrer");
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(false);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(mock(BooleanProperty.class));
+        addLibrary(tempDir.resolve("first"), List.of(firstHarrer, firstTonho));
+        addLibrary(tempDir.resolve("second"), List.of(secondHarrer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        libraries.values().forEach(LuceneManager::closeAndWait);
+    }
+
+    private void addLibrary(Path indexDir, List<BibEntry> entries) {
+        BibDatabaseContext databaseContext = spy(new BibDatabaseContext());
+        when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
+        databaseContext.getDatabase().insertEntries(entries);
+        libraries.put(databaseContext, new LuceneManager(databaseContext, new CurrentThreadTaskExecutor(), filePreferences));
+    }
+
+    @Test
+    void searchHandsOverResultsOfEachLibrary() {
+        SearchQuery query = new SearchQuery("harrer", EnumSet.noneOf(SearchFlags.class));
+        List<CrossLibrarySearcher.LibrarySearchResults> librarySearchResults = new ArrayList<>();
+
+        SearchResults searchResults = crossLibrarySearcher.search(libraries, query, librarySearchResults::add, () -> false);
+
+        assertEquals(Set.of(firstHarrer.getId(), secondHarrer.getId()), searchResults.getMatchedEntries());
+        assertEquals(Set.copyOf(libraries.keySet()), Set.copyOf(librarySearchResults.stream().map(CrossLibrarySearcher.LibrarySearchResults::databaseContext).toList()));
+        assertSame(searchResults, query.getSearchResults());
+    }
+
+    @Test
+    void cancelledSearchHandsOverNoResults() {
+        SearchQuery query = new SearchQuery("harrer", EnumSet.noneOf(SearchFlags.class));
+        List<CrossLibrarySearcher.LibrarySearchResults> librarySearchResults = new ArrayList<>();
+
+        crossLibrarySearcher.search(libraries, query, librarySearchResults::add, () -> true);
+
+        assertEquals(List.of(), librarySearchResults);
+        assertNull(query.getSearchResults());
+    }
+
+    @Test
+    void cancelledSearchOfSingleLibraryDoesNotStoreResults() {
+        SearchQuery query = new SearchQuery("harrer", EnumSet.noneOf(SearchFlags.class));
+
+        libraries.values().iterator().next().search(query, () -> true);
+
+        assertNull(query.getSearchResults());
+    }
+}
@@ -22,9 +22,12 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.SearchQuery;
+import org.jabref.model.search.SearchResult;
+import org.jabref.model.search.SearchResults;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -32,6 +35,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -137,4 +142,31 @@ class DatabaseSearcherWithBibFilesTest {
         List<BibEntry> matches = new DatabaseSearcher(new SearchQuery(query, searchFlags), databaseContext, TASK_EXECUTOR, filePreferences).getMatches();
         assertThat(expected, Matchers.containsInAnyOrder(matches.toArray()));
     }
+
+    @Test
+    void highlightsMatchesOnPagesOfLinkedFiles() throws Exception {
+        BibDatabaseContext databaseContext = initializeDatabaseFromPath("test-library-with-attached-files.bib");
+        LuceneManager luceneManager = new LuceneManager(databaseContext, TASK_EXECUTOR, filePreferences);
+        try {
+            SearchResults contentResults = luceneManager.search(new SearchQuery("comma", EnumSet.of(SearchFlags.FULLTEXT)));
+            SearchResult contentResult = getFileSearchResult(contentResults, databaseContext, "minimal-sentence-case");
+            assertEquals(1, contentResult.getPageNumber());
+            assertTrue(contentResult.getContentResultStringsHtml().getFirst().contains("<b>comma</b>"), contentResult.getContentResultStringsHtml().toString());
+            assertEquals(List.of(), contentResult.getAnnotationsResultStringsHtml());
+
+            SearchResults annotationResults = luceneManager.search(new SearchQuery("world", EnumSet.of(SearchFlags.FULLTEXT)));
+            SearchResult annotationResult = getFileSearchResult(annotationResults, databaseContext, "minimal-note-sentence-case");
+            assertTrue(annotationResult.getAnnotationsResultStringsHtml().getFirst().toLowerCase().contains("<b>world</b>"), annotationResult.getAnnotationsResultStringsHtml().toString());
+        } finally {
+            luceneManager.closeAndWait();
+        }
+    }
+
+    private static SearchResult getFileSearchResult(SearchResults searchResults, BibDatabaseContext databaseContext, String citationKey) {
+        BibEntry entry = databaseContext.getDatabase().getEntryByCitationKey(citationKey).orElseThrow();
+        return searchResults.getFileSearchResultsForEntry(entry).values().stream()
+                            .flatMap(List::stream)
+                            .findFirst()
+                            .orElseThrow();
+    }
 }
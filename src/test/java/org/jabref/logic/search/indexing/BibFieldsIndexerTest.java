@@ -0,0 +1,130 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFieldConstants;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchQuery;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class BibFieldsIndexerTest {
+
+    private BibFieldsIndexer indexer;
+
+    private void createIndexer(BibFieldsIndexSchema schema) {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article)
+                .withCitationKey("Smith2020")
+                .withField(StandardField.AUTHOR, "Smith, John")
+                .withField(StandardField.TITLE, "Machine Learning")
+                .withField(StandardField.YEAR, "2020")
+                .withField(StandardField.DOI, "10.1000/ML.2020"));
+        indexer = new BibFieldsIndexer(databaseContext, schema);
+        indexer.updateOnStart(mock(BackgroundTask.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.closeAndWait();
+    }
+
+    private int countMatches(String query) throws IOException {
+        Query luceneQuery = indexer.getQuery(new SearchQuery(query, EnumSet.noneOf(SearchFlags.class)));
+        SearcherManager searcherManager = indexer.getSearcherManager();
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher indexSearcher = searcherManager.acquire();
+        try {
+            return indexSearcher.count(luceneQuery);
+        } finally {
+            searcherManager.release(indexSearcher);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "smi, 1",
+            "mach, 1",
+            "title:learn, 1",
+            "article, 1",
+            "2020, 1",
+            "202, 1",
+            "smith2020, 1",
+            "smith20, 1",
+            "jones, 0"
+    })
+    void defaultSchemaFindsAllPrefixes(String query, int expectedMatches) throws IOException {
+        createIndexer(BibFieldsIndexSchema.DEFAULT);
+
+        assertEquals(expectedMatches, countMatches(query));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "smi, 1",
+            "mach, 1",
+            "title:learn, 1",
+            "article, 1",
+            "2020, 1",
+            "202, 0",
+            "smith2020, 1",
+            "smith20, 0",
+            "jones, 0"
+    })
+    void compactSchemaFindsPrefixesOfPersonsAndTextOnly(String query, int expectedMatches) throws IOException {
+        createIndexer(BibFieldsIndexSchema.COMPACT);
+
+        assertEquals(expectedMatches, countMatches(query));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'doi:"10.1000/ml.2020"', 1",
+            "'doi:"10.1000/ML.2020"', 1",
+            "'doi:"10.1000"', 0"
+    })
+    void compactSchemaFindsWholeValueOfIdentifiers(String query, int expectedMatches) throws IOException {
+        createIndexer(BibFieldsIndexSchema.COMPACT);
+
+        assertEquals(expectedMatches, countMatches(query));
+    }
+
+    @Test
+    void statisticsOfCompactSchemaContainNoAllFieldsCopy() throws IOException {
+        createIndexer(BibFieldsIndexSchema.COMPACT);
+
+        BibFieldsIndexStatistics statistics = indexer.getStatistics();
+
+        assertEquals(1, statistics.documents());
+        assertTrue(statistics.sizeInBytes() > 0);
+        assertTrue(statistics.buildTimeMillis() >= 0);
+        assertFalse(statistics.fields().stream().anyMatch(field -> field.field().equals(SearchFieldConstants.DEFAULT_FIELD.toString())));
+        assertTrue(statistics.fields().stream().anyMatch(field -> field.field().equals(StandardField.TITLE.getName()) && field.hasDocValues()));
+    }
+
+    @Test
+    void statisticsOfDefaultSchemaContainAllFieldsCopy() throws IOException {
+        createIndexer(BibFieldsIndexSchema.DEFAULT);
+
+        BibFieldsIndexStatistics statistics = indexer.getStatistics();
+
+        assertTrue(statistics.fields().stream().anyMatch(field -> field.field().equals(SearchFieldConstants.DEFAULT_FIELD.toString())));
+    }
+}
@@ -1,10 +1,19 @@
 package org.jabref.logic.search.indexing;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.preferences.CliPreferences;
@@ -17,19 +26,28 @@ import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import org.apache.lucene.index.IndexReader;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 public class LinkedFilesIndexerTest {
     private final CliPreferences preferences = mock(CliPreferences.class);
     private final FilePreferences filePreferences = mock(FilePreferences.class);
 
+    private final ExecutorService extractors = Executors.newFixedThreadPool(4);
+    private final CountDownLatch releaseExtractions = new CountDownLatch(1);
+    private final AtomicInteger startedExtractions = new AtomicInteger();
+
     private LuceneIndexer indexer;
 
     @BeforeEach
@@ -45,6 +63,12 @@ public class LinkedFilesIndexerTest {
         this.indexer = new DefaultLinkedFilesIndexer(context, filePreferences);
     }
 
+    @AfterEach
+    void shutdown() {
+        releaseExtractions.countDown();
+        extractors.shutdownNow();
+    }
+
     @Test
     void exampleThesisIndex() throws IOException {
         // given
@@ -177,4 +201,77 @@ public class LinkedFilesIndexerTest {
             assertEquals(0, reader.numDocs());
         }
     }
+
+    @Test
+    void extractionsWaitForInFlightBudget(@TempDir Path fileDir, @TempDir Path indexDir) throws Exception {
+        // each of the small files takes one of the two kilobytes of the budget
+        DefaultLinkedFilesIndexer blockingIndexer = createIndexerWithBlockingExtraction(fileDir, indexDir, 2);
+        List<BibEntry> entries = createEntriesWithFiles(fileDir, 5);
+
+        CompletableFuture<Void> indexing = CompletableFuture.runAsync(() -> blockingIndexer.addToIndex(entries, mock(BackgroundTask.class)));
+        Thread.sleep(500);
+
+        assertEquals(2, startedExtractions.get());
+
+        releaseExtractions.countDown();
+        indexing.get(10, TimeUnit.SECONDS);
+
+        assertEquals(5, startedExtractions.get());
+        blockingIndexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = blockingIndexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(5, reader.numDocs());
+        }
+    }
+
+    @Test
+    void cancelledIndexingStopsWithoutWaitingForExtractions(@TempDir Path fileDir, @TempDir Path indexDir) throws Exception {
+        DefaultLinkedFilesIndexer blockingIndexer = createIndexerWithBlockingExtraction(fileDir, indexDir, 2);
+        List<BibEntry> entries = createEntriesWithFiles(fileDir, 5);
+        BackgroundTask<Void> task = BackgroundTask.wrap(() -> { });
+
+        CompletableFuture<Void> indexing = CompletableFuture.runAsync(() -> blockingIndexer.addToIndex(entries, task));
+        Thread.sleep(500);
+        task.cancel();
+
+        // returns although the started extractions are still blocked
+        indexing.get(10, TimeUnit.SECONDS);
+        releaseExtractions.countDown();
+        extractors.shutdown();
+        assertTrue(extractors.awaitTermination(10, TimeUnit.SECONDS));
+
+        // the files queued behind the budget are not extracted anymore
+        assertEquals(2, startedExtractions.get());
+        blockingIndexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = blockingIndexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(0, reader.numDocs());
+        }
+    }
+
+    private DefaultLinkedFilesIndexer createIndexerWithBlockingExtraction(Path fileDir, Path indexDir, int inFlightBudgetInKilobytes) throws IOException {
+        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        when(context.getDatabasePath()).thenReturn(Optional.of(fileDir.resolve("library.bib")));
+        when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(fileDir));
+        when(context.getFulltextIndexPath()).thenReturn(indexDir);
+
+        DocumentReader documentReader = spy(new DocumentReader());
+        doAnswer(invocation -> {
+            startedExtractions.incrementAndGet();
+            releaseExtractions.await();
+            return List.of(new DocumentReader.PageText(1, "text", ""));
+        }).when(documentReader).extractPages(any(byte[].class), any(Path.class));
+
+        return new DefaultLinkedFilesIndexer(context, filePreferences, documentReader, extractors, inFlightBudgetInKilobytes);
+    }
+
+    private static List<BibEntry> createEntriesWithFiles(Path fileDir, int numberOfFiles) throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < numberOfFiles; i++) {
+            // distinct content, so that the text of the files is not taken from the page text cache
+            Path file = Files.writeString(fileDir.resolve("file" + i + ".pdf"), UUID.randomUUID().toString());
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setFiles(List.of(new LinkedFile("", file.getFileName().toString(), StandardFileType.PDF.getName())));
+            entries.add(entry);
+        }
+        return entries;
+    }
 }
@@ -0,0 +1,59 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+
+import org.jabref.logic.search.indexing.DocumentReader.PageText;
+import org.jabref.logic.util.PersistentCacheStore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PageTextCacheTest {
+
+    private final Path thesis = Path.of("src/test/resources/pdfs/thesis-example.pdf");
+
+    @Test
+    void movedFileIsNotExtractedAgain(@TempDir Path tempDir) throws IOException {
+        PageTextCache cache = new PageTextCache();
+        Path original = Files.copy(thesis, tempDir.resolve("original.pdf"));
+        List<PageText> pages = cache.getPages(original, new DocumentReader());
+
+        Path moved = Files.move(original, Files.createDirectory(tempDir.resolve("moved")).resolve("renamed.pdf"));
+
+        assertSame(pages, cache.getPages(moved, new DocumentReader()));
+    }
+
+    @Test
+    void extractsAllPages() throws IOException {
+        PageTextCache cache = new PageTextCache();
+
+        assertEquals(33, cache.getPages(thesis, new DocumentReader()).size());
+    }
+
+    @Test
+    void pagesAreKeptAcrossSessions(@TempDir Path cacheDir) throws IOException {
+        PersistentCacheStore store = new PersistentCacheStore("page-text-cache", "pages");
+        store.open(cacheDir);
+        List<PageText> pages = new PageTextCache(store, Clock.systemUTC()).getPages(thesis, new DocumentReader());
+        store.close();
+
+        PersistentCacheStore reopenedStore = new PersistentCacheStore("page-text-cache", "pages");
+        reopenedStore.open(cacheDir);
+        DocumentReader documentReader = mock(DocumentReader.class);
+
+        assertEquals(pages, new PageTextCache(reopenedStore, Clock.systemUTC()).getPages(thesis, documentReader));
+        verify(documentReader, never()).extractPages(any(byte[].class), any(Path.class));
+        reopenedStore.close();
+    }
+}
@@ -0,0 +1,63 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.LuceneIndexer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LuceneSearcherTest {
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Einstein on relativity");
+    private final BibEntry book = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Einstein, a biography");
+    private BibFieldsIndexer bibFieldsIndexer;
+    private LuceneSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(article, book);
+        bibFieldsIndexer = new BibFieldsIndexer(databaseContext);
+        bibFieldsIndexer.updateOnStart(mock(BackgroundTask.class));
+        searcher = new LuceneSearcher(databaseContext, bibFieldsIndexer, mock(LuceneIndexer.class), mock(FilePreferences.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bibFieldsIndexer.closeAndWait();
+    }
+
+    @Test
+    void filterIsCachedForNextSearch() {
+        SearchQuery query = new SearchQuery("entrytype:article AND einstein", EnumSet.noneOf(SearchFlags.class));
+
+        assertEquals(1, searcher.search(query, () -> false).getMatchedEntries().size());
+        assertEquals(1, searcher.search(query, () -> false).getMatchedEntries().size());
+
+        assertTrue(searcher.getFilterCache().getHitCount() > 0);
+    }
+
+    @Test
+    void searchWithinEntriesOnlyMatchesGivenEntries() {
+        SearchQuery query = new SearchQuery("einstein", EnumSet.noneOf(SearchFlags.class));
+
+        assertEquals(Set.of(book.getId()), searcher.search(query, List.of(book.getId()), () -> false).getMatchedEntries());
+    }
+}
@@ -0,0 +1,87 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jabref.logic.auxparser.AuxParserResult;
+import org.jabref.logic.auxparser.DefaultAuxParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.texparser.LatexParserResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatexParserCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LatexParserCache cache;
+    private Path texFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new LatexParserCache();
+        texFile = tempDir.resolve("paper.tex");
+        Files.writeString(texFile, "Some text \\cite{Einstein1920}.");
+    }
+
+    @Test
+    void unchangedFileIsTakenFromCache() {
+        LatexParserResult parsed = new DefaultLatexParser(cache).parse(texFile).get();
+
+        assertEquals(Optional.of(parsed), cache.getTexFile(texFile));
+    }
+
+    @Test
+    void changedFileIsNotTakenFromCache() throws IOException {
+        new DefaultLatexParser(cache).parse(texFile);
+
+        Files.writeString(texFile, "Some other text \\cite{Newton1999}.");
+        Files.setLastModifiedTime(texFile, FileTime.fromMillis(Files.getLastModifiedTime(texFile).toMillis() + 1000));
+
+        assertEquals(Optional.empty(), cache.getTexFile(texFile));
+        assertEquals(Set.of("Newton1999"), new DefaultLatexParser(cache).parse(texFile).get().getCitations().keySet());
+    }
+
+    @Test
+    void auxKeysAreComputedOnlyOnce() throws IOException {
+        Path auxFile = tempDir.resolve("paper.aux");
+        Files.writeString(auxFile, "\\citation{Einstein1920}");
+        AtomicInteger parseCount = new AtomicInteger();
+        Supplier<AuxParserResult> auxParser = () -> {
+            parseCount.incrementAndGet();
+            return new DefaultAuxParser(new BibDatabase()).parse(auxFile);
+        };
+
+        cache.getAuxKeys(auxFile, auxParser);
+        Set<String> keys = cache.getAuxKeys(auxFile, auxParser);
+
+        assertEquals(1, parseCount.get());
+        assertEquals(Set.of("Einstein1920"), keys);
+    }
+
+    @Test
+    void changedNestedAuxFileIsParsedAgain() throws IOException {
+        Path auxFile = tempDir.resolve("paper.aux");
+        Path chapterAuxFile = tempDir.resolve("chapter.aux");
+        Files.writeString(auxFile, "\\@input{chapter.aux}");
+        Files.writeString(chapterAuxFile, "\\citation{Einstein1920}");
+        Supplier<AuxParserResult> auxParser = () -> new DefaultAuxParser(new BibDatabase()).parse(auxFile);
+        cache.getAuxKeys(auxFile, auxParser);
+
+        Files.writeString(chapterAuxFile, "\\citation{Newton1999}");
+        Files.setLastModifiedTime(chapterAuxFile, FileTime.fromMillis(Files.getLastModifiedTime(chapterAuxFile).toMillis() + 1000));
+
+        assertEquals(Set.of("Newton1999"), cache.getAuxKeys(auxFile, auxParser));
+    }
+}
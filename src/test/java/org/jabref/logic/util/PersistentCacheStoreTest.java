@@ -0,0 +1,38 @@
+package org.jabref.logic.util;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PersistentCacheStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mapIsAbsentAsLongAsStoreIsNotOpen() {
+        PersistentCacheStore store = new PersistentCacheStore("cache", "values");
+
+        assertNull(store.getMap("values"));
+    }
+
+    @Test
+    void contentSurvivesReopeningStore() {
+        PersistentCacheStore store = new PersistentCacheStore("cache", "values");
+        store.open(tempDir);
+        store.<String>getMap("values").put("key", "value");
+        store.close();
+
+        PersistentCacheStore reopenedStore = new PersistentCacheStore("cache", "values");
+        reopenedStore.open(tempDir);
+
+        Map<String, String> values = reopenedStore.getMap("values");
+        assertEquals("value", values.get("key"));
+        reopenedStore.close();
+    }
+}
@@ -0,0 +1,164 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupStoreTest {
+
+    private Path backupDir;
+    private Path library;
+    private BackupStore backupStore;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        backupDir = tempDir.resolve("backup");
+        library = tempDir.resolve("library.bib");
+        backupStore = new BackupStore(backupDir, library);
+    }
+
+    private static String createLibrary(int numberOfEntries, String changedTitle) {
+        StringBuilder content = new StringBuilder("% Encoding: UTF-8\n\n");
+        for (int i = 0; i < numberOfEntries; i++) {
+            content.append("@Article{key").append(i).append(",\n")
+                   .append("  title = {").append(i == numberOfEntries / 2 ? changedTitle : "Title " + i).append("},\n")
+                   .append("}\n\n");
+        }
+        return content.toString();
+    }
+
+    private Path getSnapshotPath(int day) {
+        return backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(library) + "--library.bib--2020-01-%02d--00.00.00.bak".formatted(day));
+    }
+
+    private Path storeSnapshot(int day, String content, Charset encoding) throws IOException {
+        Files.createDirectories(backupDir);
+        Path snapshot = getSnapshotPath(day);
+        try (BackupStore.SnapshotWriter writer = backupStore.newSnapshot(snapshot, encoding)) {
+            writer.write(content);
+            writer.commit();
+        }
+        return snapshot;
+    }
+
+    private long countBlocks() throws IOException {
+        try (Stream<Path> files = Files.walk(backupDir.resolve(BackupStore.BLOCKS_DIRECTORY))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void restoreReassemblesLibrary() throws IOException {
+        String content = createLibrary(1000, "Straße");
+        Path snapshot = storeSnapshot(1, content, StandardCharsets.ISO_8859_1);
+
+        BackupStore.restore(snapshot, library);
+
+        assertTrue(BackupStore.isSnapshot(snapshot));
+        assertEquals(content, Files.readString(library, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void snapshotsShareUnchangedBlocks() throws IOException {
+        storeSnapshot(1, createLibrary(1000, "First title"), StandardCharsets.UTF_8);
+        long blocksOfFirstSnapshot = countBlocks();
+        Path secondSnapshot = storeSnapshot(2, createLibrary(1000, "Second title"), StandardCharsets.UTF_8);
+
+        assertTrue(blocksOfFirstSnapshot > 1);
+        assertEquals(blocksOfFirstSnapshot + 1, countBlocks());
+        assertEquals(blocksOfFirstSnapshot, BackupStore.readSnapshot(secondSnapshot).blocks().size());
+    }
+
+    @Test
+    void differsComparesWithStoredHash() throws IOException {
+        String content = createLibrary(10, "Title");
+        Path snapshot = storeSnapshot(1, content, StandardCharsets.UTF_8);
+
+        Files.writeString(library, content);
+        assertFalse(BackupStore.differs(snapshot, library));
+
+        Files.writeString(library, content.replace("Title", "Tilte"));
+        assertTrue(BackupStore.differs(snapshot, library));
+    }
+
+    @Test
+    void plainBackupIsNoSnapshot() throws IOException {
+        Files.writeString(library, createLibrary(10, "Title"));
+
+        assertFalse(BackupStore.isSnapshot(library));
+        assertEquals(library, BackupStore.toLibraryFile(library));
+    }
+
+    @Test
+    void retentionKeepsLatestBackupsAndTheirBlocks() throws IOException {
+        for (int day = 1; day <= 3; day++) {
+            storeSnapshot(day, createLibrary(1000, "Title of day " + day), StandardCharsets.UTF_8);
+        }
+        // Blocks written recently are never deleted, as they might belong to a snapshot being written
+        try (Stream<Path> files = Files.walk(backupDir.resolve(BackupStore.BLOCKS_DIRECTORY))) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+            }
+        }
+        long blocksOfAllSnapshots = countBlocks();
+
+        backupStore.applyRetention(2, Duration.ofDays(30));
+
+        assertFalse(Files.exists(getSnapshotPath(1)));
+        assertEquals(blocksOfAllSnapshots - 1, countBlocks());
+        BackupStore.restore(getSnapshotPath(2), library);
+        assertEquals(createLibrary(1000, "Title of day 2"), Files.readString(library));
+    }
+
+    @Test
+    void retentionKeepsOldBlocksReusedBySnapshotBeingWritten() throws IOException {
+        String content = createLibrary(1000, "Title");
+        Path oldSnapshot = storeSnapshot(1, content, StandardCharsets.UTF_8);
+        try (Stream<Path> files = Files.walk(backupDir.resolve(BackupStore.BLOCKS_DIRECTORY))) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+            }
+        }
+
+        Path newSnapshot = getSnapshotPath(2);
+        try (BackupStore.SnapshotWriter writer = backupStore.newSnapshot(newSnapshot, StandardCharsets.UTF_8)) {
+            writer.write(content);
+            // The blocks are referenced by no committed snapshot while the new one is written
+            Files.delete(oldSnapshot);
+            backupStore.applyRetention(10, Duration.ofDays(30));
+            writer.commit();
+        }
+
+        BackupStore.restore(newSnapshot, library);
+        assertEquals(content, Files.readString(library));
+    }
+
+    @Test
+    void retentionKeepsLatestBackupEvenIfOld() throws IOException {
+        List<Path> snapshots = List.of(
+                storeSnapshot(1, createLibrary(10, "First"), StandardCharsets.UTF_8),
+                storeSnapshot(2, createLibrary(10, "Second"), StandardCharsets.UTF_8));
+        for (Path snapshot : snapshots) {
+            Files.setLastModifiedTime(snapshot, FileTime.fromMillis(0));
+        }
+
+        backupStore.applyRetention(10, Duration.ofDays(30));
+
+        assertFalse(Files.exists(snapshots.getFirst()));
+        assertTrue(Files.exists(snapshots.getLast()));
+    }
+}
@@ -0,0 +1,40 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MultiStringReplacerTest {
+
+    private final MultiStringReplacer replacer = new MultiStringReplacer(Map.of(
+            "&amp;", "\\&",
+            "&lt;", "<",
+            "ab", "x",
+            "abc", "y",
+            "ä", "{\\\"{a}}"));
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "Tom &amp; Jerry|Tom \\& Jerry",
+            "&amp;lt;|\\&lt;",
+            "abcab|yx",
+            "aab|ax",
+            "Mäh|M{\\\"{a}}h",
+            "&amp|&amp",
+            "&|&"
+    })
+    void replacesLongestMatchAtEachPosition(String text, String expected) {
+        assertEquals(expected, replacer.replace(text));
+    }
+
+    @Test
+    void returnsSameStringIfNothingIsReplaced() {
+        String text = "nothing to replace";
+        assertSame(text, replacer.replace(text));
+    }
+}
@@ -7,16 +7,22 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import javafx.collections.ListChangeListener;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.EventListenerTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -314,6 +320,77 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void bulkChangeMergesFieldChangesPerEntryAndField() {
+        BibEntry firstEntry = new BibEntry().withField(StandardField.TITLE, "first");
+        BibEntry secondEntry = new BibEntry();
+        database.insertEntries(firstEntry, secondEntry);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        try (BibDatabase.BulkChange bulkChange = database.startBulkChange()) {
+            firstEntry.setField(StandardField.TITLE, "second");
+            secondEntry.setField(StandardField.AUTHOR, "Alice");
+            firstEntry.setField(StandardField.TITLE, "third");
+
+            assertEquals(List.of(), collector.fieldChangedEvents);
+        }
+
+        assertEquals(List.of("first -> third", "null -> Alice"),
+                collector.fieldChangedEvents.stream().map(event -> event.getOldValue() + " -> " + event.getNewValue()).toList());
+        assertTrue(collector.fieldChangedEvents.stream().allMatch(FieldChangedEvent::isPartOfBulkChange));
+        assertEquals(1, collector.entriesChangedEvents.size());
+        assertEquals(List.of(firstEntry, secondEntry), collector.entriesChangedEvents.getFirst().getBibEntries());
+    }
+
+    @Test
+    void bulkChangeDropsFieldChangedBack() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "first");
+        database.insertEntry(entry);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        try (BibDatabase.BulkChange bulkChange = database.startBulkChange()) {
+            entry.setField(StandardField.TITLE, "second");
+            entry.setField(StandardField.TITLE, "first");
+        }
+
+        assertEquals(List.of(), collector.fieldChangedEvents);
+        assertEquals(List.of(), collector.entriesChangedEvents);
+    }
+
+    @Test
+    void nestedBulkChangePostsWhenOutermostIsClosed() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        try (BibDatabase.BulkChange outerBulkChange = database.startBulkChange()) {
+            try (BibDatabase.BulkChange innerBulkChange = database.startBulkChange()) {
+                entry.setField(StandardField.TITLE, "title");
+            }
+            assertEquals(List.of(), collector.fieldChangedEvents);
+        }
+
+        assertEquals(1, collector.fieldChangedEvents.size());
+        assertEquals(1, collector.entriesChangedEvents.size());
+    }
+
+    @Test
+    void fieldChangesAfterBulkChangeArePostedImmediately() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+        database.startBulkChange().close();
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(1, collector.fieldChangedEvents.size());
+        assertFalse(collector.fieldChangedEvents.getFirst().isPartOfBulkChange());
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -345,6 +422,16 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void citationKeyCountsContainAllKeys() {
+        database.insertEntries(
+                new BibEntry().withCitationKey("AAA"),
+                new BibEntry().withCitationKey("AAA"),
+                new BibEntry().withCitationKey("BBB"),
+                new BibEntry());
+        assertEquals(Map.of("AAA", 2L, "BBB", 1L), database.getCitationKeyCounts());
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -487,4 +574,40 @@ class BibDatabaseTest {
         assertEquals(1, database.indexOf(entryD));
         assertEquals(-1, database.indexOf(entryA));
     }
+
+    @Test
+    void changedEntriesAreReportedAsUpdatedInEntriesList() {
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        List<Integer> updatedIndices = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedIndices.add(change.getFrom());
+                }
+            }
+        });
+
+        second.setField(StandardField.TITLE, "title");
+        first.setType(StandardEntryType.Book);
+        second.typeProperty().set(StandardEntryType.Thesis);
+
+        assertEquals(List.of(1, 0, 1), updatedIndices);
+    }
+
+    private static class ChangeEventCollector {
+        private final List<FieldChangedEvent> fieldChangedEvents = new ArrayList<>();
+        private final List<EntriesChangedEvent> entriesChangedEvents = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            fieldChangedEvents.add(event);
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent event) {
+            entriesChangedEvents.add(event);
+        }
+    }
 }
@@ -11,6 +11,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javafx.collections.MapChangeListener;
+
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.BibField;
@@ -846,4 +848,55 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void observableFieldsAreNotifiedAboutChangesAfterBinding() {
+        entry.setField(StandardField.AUTHOR, "before");
+        List<Field> changedFields = new ArrayList<>();
+        entry.getFieldsObservable().addListener((MapChangeListener<Field, String>) change -> changedFields.add(change.getKey()));
+
+        entry.setField(StandardField.TITLE, "title");
+        entry.clearField(StandardField.AUTHOR);
+
+        assertEquals(List.of(StandardField.TITLE, StandardField.AUTHOR), changedFields);
+        assertEquals(Map.of(StandardField.TITLE, "title"), entry.getFieldsObservable());
+    }
+
+    @Test
+    void typePropertyFollowsType() {
+        entry.setType(StandardEntryType.Book);
+        assertEquals(StandardEntryType.Book, entry.typeProperty().get());
+
+        entry.setType(StandardEntryType.Article);
+        assertEquals(StandardEntryType.Article, entry.typeProperty().get());
+
+        entry.typeProperty().set(StandardEntryType.Thesis);
+        assertEquals(StandardEntryType.Thesis, entry.getType());
+    }
+
+    @Test
+    void derivedValuesFollowChangedField() {
+        entry.setField(StandardField.TITLE, "\\'{E}t\\'{e}");
+        entry.setField(StandardField.KEYWORDS, "one, two");
+        assertEquals(Optional.of("Été"), entry.getFieldLatexFree(StandardField.TITLE));
+        assertEquals(Set.of("one", "two"), entry.getFieldAsWords(StandardField.KEYWORDS));
+        assertEquals(new KeywordList("one", "two"), entry.getFieldAsKeywords(StandardField.KEYWORDS, ','));
+
+        entry.setField(StandardField.TITLE, "Summer");
+        entry.setField(StandardField.KEYWORDS, "three");
+
+        assertEquals(Optional.of("Summer"), entry.getFieldLatexFree(StandardField.TITLE));
+        assertEquals(Set.of("three"), entry.getFieldAsWords(StandardField.KEYWORDS));
+        assertEquals(new KeywordList("three"), entry.getFieldAsKeywords(StandardField.KEYWORDS, ','));
+    }
+
+    @Test
+    void cloneDoesNotShareFields() {
+        entry.setField(StandardField.AUTHOR, "author");
+        BibEntry clone = (BibEntry) entry.clone();
+
+        clone.setField(StandardField.AUTHOR, "other");
+
+        assertEquals(Optional.of("author"), entry.getField(StandardField.AUTHOR));
+    }
 }
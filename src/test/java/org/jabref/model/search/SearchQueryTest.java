@@ -0,0 +1,67 @@
+package org.jabref.model.search;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SearchQueryTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "ein, einstein, true",
+            "einstein, einstein, true",
+            "einstein, ein, false",
+            "ein, stein, false",
+            "ein, 'ein stein', false",
+            "author:ein, author:einstein, false",
+            "the, theory, false"
+    })
+    void isNarrowingOf(String previousExpression, String expression, boolean expected) {
+        SearchQuery previous = new SearchQuery(previousExpression, EnumSet.noneOf(SearchFlags.class));
+        SearchQuery query = new SearchQuery(expression, EnumSet.noneOf(SearchFlags.class));
+
+        assertEquals(expected, query.isNarrowingOf(previous));
+    }
+
+    @Test
+    void queryWithDifferentFlagsIsNotNarrowing() {
+        SearchQuery previous = new SearchQuery("ein", EnumSet.noneOf(SearchFlags.class));
+        SearchQuery query = new SearchQuery("einstein", EnumSet.of(SearchFlags.CASE_SENSITIVE));
+
+        assertFalse(query.isNarrowingOf(previous));
+    }
+
+    @Test
+    void sameExpressionSharesParsedQuery() {
+        SearchQuery first = new SearchQuery("author:einstein AND relativity", EnumSet.noneOf(SearchFlags.class));
+        SearchQuery second = new SearchQuery("author:einstein AND relativity", EnumSet.noneOf(SearchFlags.class));
+
+        assertSame(first.getParsedQuery(), second.getParsedQuery());
+    }
+
+    @Test
+    void invalidExpressionStaysInvalidWhenParsedAgain() {
+        new SearchQuery("author:", EnumSet.noneOf(SearchFlags.class));
+
+        assertFalse(new SearchQuery("author:", EnumSet.noneOf(SearchFlags.class)).isValid());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "entrytype:article AND einstein, #entrytype:article +any:einstein",
+            "year:1905 AND einstein, #year:1905 +any:einstein",
+            "entrytype:article AND year:1905, +entrytype:article +year:1905",
+            "entrytype:article einstein, entrytype:article any:einstein"
+    })
+    void restrictingClausesBecomeFilters(String expression, String expectedQuery) {
+        SearchQuery query = new SearchQuery(expression, EnumSet.noneOf(SearchFlags.class));
+
+        assertEquals(expectedQuery, query.getParsedQuery().toString());
+    }
+}
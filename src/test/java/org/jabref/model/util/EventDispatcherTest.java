@@ -0,0 +1,130 @@
+package org.jabref.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventDispatcherTest {
+
+    private final EventDispatcher dispatcher = new EventDispatcher();
+    private final List<String> received = new ArrayList<>();
+
+    private class StringListener {
+        @Subscribe
+        public void listen(String event) {
+            received.add("string " + event);
+            if ("first".equals(event)) {
+                dispatcher.post("nested");
+            }
+        }
+    }
+
+    private class CharSequenceListener {
+        @Subscribe
+        public void listen(CharSequence event) {
+            received.add("sequence " + event);
+        }
+    }
+
+    private class FailingListener {
+        @Subscribe
+        public void listen(Integer event) {
+            throw new IllegalStateException("Listener failed");
+        }
+    }
+
+    @Test
+    void eventIsDeliveredToSubscribersOfItsSuperTypes() {
+        dispatcher.register(new StringListener());
+        dispatcher.register(new CharSequenceListener());
+
+        dispatcher.post("event");
+
+        assertEquals(List.of("string event", "sequence event"), received);
+    }
+
+    @Test
+    void eventPostedBySubscriberIsDeliveredAfterTheCurrentEvent() {
+        dispatcher.register(new StringListener());
+        dispatcher.register(new CharSequenceListener());
+
+        dispatcher.post("first");
+
+        assertEquals(List.of("string first", "sequence first", "string nested", "sequence nested"), received);
+    }
+
+    @Test
+    void listenerRegisteredTwiceReceivesEventOnce() {
+        StringListener listener = new StringListener();
+        dispatcher.register(listener);
+        dispatcher.register(listener);
+
+        dispatcher.post("event");
+
+        assertEquals(List.of("string event"), received);
+    }
+
+    @Test
+    void unregisteredListenerDoesNotReceiveEvents() {
+        StringListener listener = new StringListener();
+        dispatcher.register(listener);
+        dispatcher.post("before");
+
+        dispatcher.unregister(listener);
+        dispatcher.post("after");
+
+        assertEquals(List.of("string before"), received);
+        assertFalse(dispatcher.hasListeners());
+    }
+
+    @Test
+    void unregisteringUnknownListenerFails() {
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.unregister(new StringListener()));
+    }
+
+    @Test
+    void failingSubscriberDoesNotStopDelivery() {
+        List<Integer> numbers = new ArrayList<>();
+        dispatcher.register(new FailingListener());
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void listen(Integer event) {
+                numbers.add(event);
+            }
+        });
+
+        dispatcher.post(42);
+
+        assertEquals(List.of(42), numbers);
+    }
+
+    @Test
+    void asynchronousListenerReceivesEventsInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Integer> numbers = new CopyOnWriteArrayList<>();
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void listen(Integer event) {
+                numbers.add(event);
+            }
+        }, executor);
+
+        IntStream.range(0, 10_000).forEach(dispatcher::post);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(IntStream.range(0, 10_000).boxed().toList(), numbers);
+    }
+}